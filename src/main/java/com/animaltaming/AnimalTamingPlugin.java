@@ -13,7 +13,14 @@ import com.animaltaming.system.*;
 import com.animaltaming.util.EventBus;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Animal Taming Plugin - Main entry point.
@@ -25,6 +32,15 @@ import java.util.Objects;
  */
 public class AnimalTamingPlugin {
 
+    /** Default interval between background writes of changed tamed animals. */
+    public static final Duration DEFAULT_SAVE_INTERVAL = Duration.ofSeconds(5);
+
+    /** Maximum time onDisable() waits for pending saves to reach disk. */
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Disconnected owners whose animals stay in memory before the coldest are evicted. */
+    public static final int MAX_OFFLINE_RESIDENT_OWNERS = 64;
+
     private final Path pluginFolder;
 
     // Core infrastructure
@@ -33,6 +49,7 @@ public class AnimalTamingPlugin {
     private final TamedAnimalRegistry animalRegistry;
     private final PlayerLookupService playerLookup;
     private final TamingRepository repository;
+    private final TamingWriteAheadLog writeAheadLog;
 
     // Handlers
     private final CalmingHandler calmingHandler;
@@ -44,8 +61,14 @@ public class AnimalTamingPlugin {
     private final DefaultTamingService tamingService;
 
     // System
+    private final TickEventCoalescer eventCoalescer;
     private final TamingTickSystem tickSystem;
 
+    // Owner residency: animals are loaded, faulted in and evicted off the tick thread
+    private final ExecutorService ownerLoader;
+    private Set<UUID> onlinePlayers = new HashSet<>();
+    private Set<UUID> seenPlayers = new HashSet<>();
+
     private boolean enabled = false;
 
     /**
@@ -55,14 +78,32 @@ public class AnimalTamingPlugin {
      * @param pluginFolder the plugin's data folder
      */
     public AnimalTamingPlugin(Path pluginFolder) {
+        this(pluginFolder, DEFAULT_SAVE_INTERVAL);
+    }
+
+    /**
+     * Create a new Animal Taming Plugin instance.
+     *
+     * @param pluginFolder the plugin's data folder
+     * @param saveInterval how often changed animals are written in the background;
+     *                     zero to write every change immediately
+     */
+    public AnimalTamingPlugin(Path pluginFolder, Duration saveInterval) {
         this.pluginFolder = Objects.requireNonNull(pluginFolder, "pluginFolder required");
+        Objects.requireNonNull(saveInterval, "saveInterval required");
 
         // Create core infrastructure
         this.eventBus = new EventBus();
         this.configRegistry = new TamingConfigRegistry();
-        this.animalRegistry = new TamedAnimalRegistry();
+        this.repository = createRepository(pluginFolder, saveInterval);
+        this.writeAheadLog = new TamingWriteAheadLog(pluginFolder, repository);
+        this.ownerLoader = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "AnimalTaming-OwnerLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.animalRegistry = new TamedAnimalRegistry(repository, MAX_OFFLINE_RESIDENT_OWNERS, ownerLoader);
         this.playerLookup = new CachedPlayerLookupService();
-        this.repository = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
 
         // Create handlers (with dependencies injected)
         this.calmingHandler = new CalmingHandler(playerLookup, configRegistry, eventBus);
@@ -81,6 +122,9 @@ public class AnimalTamingPlugin {
                 behaviorHandler
         );
 
+        // Merge per-animal trust and teleport events into per-tick batches
+        this.eventCoalescer = new TickEventCoalescer(eventBus);
+
         // Create tick system (thin orchestrator)
         this.tickSystem = new TamingTickSystem(
                 playerLookup,
@@ -88,7 +132,8 @@ public class AnimalTamingPlugin {
                 feedingHandler,
                 mountingHandler,
                 behaviorHandler,
-                tamingService
+                tamingService,
+                eventCoalescer
         );
     }
 
@@ -102,8 +147,13 @@ public class AnimalTamingPlugin {
         // Load species configurations
         loadConfigurations();
 
-        // Load persisted tamed animals
-        loadPersistedAnimals();
+        // Tamed animals are not loaded here; each owner's are loaded when they connect.
+        // Changes logged but not yet in the repository when the server stopped are replayed.
+        int replayed = writeAheadLog.recover(animalRegistry);
+        if (replayed > 0) {
+            System.out.println("[AnimalTaming] Recovered " + replayed + " tamed animal changes from the write-ahead log.");
+        }
+        writeAheadLog.start();
 
         // Subscribe to events for logging
         subscribeToEvents();
@@ -112,7 +162,6 @@ public class AnimalTamingPlugin {
 
         System.out.println("[AnimalTaming] Animal Taming Plugin enabled!");
         System.out.println("[AnimalTaming] Loaded " + configRegistry.size() + " tameable species.");
-        System.out.println("[AnimalTaming] Loaded " + animalRegistry.size() + " tamed animals.");
     }
 
     /**
@@ -122,10 +171,18 @@ public class AnimalTamingPlugin {
     public void onDisable() {
         System.out.println("[AnimalTaming] Disabling Animal Taming Plugin...");
 
-        // Save all tamed animals
+        // Let in-flight owner loads finish, then save all resident tamed animals
+        ownerLoader.shutdown();
+        try {
+            ownerLoader.awaitTermination(SHUTDOWN_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeAheadLog.shutdown(SHUTDOWN_FLUSH_TIMEOUT);
         savePersistedAnimals();
 
-        // Clear event handlers
+        // Deliver queued async events, then clear event handlers
+        eventBus.shutdown(SHUTDOWN_FLUSH_TIMEOUT);
         eventBus.clear();
 
         enabled = false;
@@ -144,9 +201,54 @@ public class AnimalTamingPlugin {
             return;
         }
 
+        updateOwnerResidency(context);
         tickSystem.update(context, deltaTime);
     }
 
+    /**
+     * Pin and load the animals of players who connected since the last tick, and unpin
+     * those of players who left.
+     */
+    private void updateOwnerResidency(SystemContext context) {
+        Set<UUID> seen = seenPlayers;
+        seen.clear();
+        for (SystemContext.PlayerInfo player : context.getAllPlayers()) {
+            UUID playerId = player.uuid();
+            seen.add(playerId);
+            if (!onlinePlayers.contains(playerId)) {
+                animalRegistry.ownerConnected(playerId);
+                ownerLoader.execute(() -> loadOwnerQuietly(playerId));
+            }
+        }
+        for (UUID playerId : onlinePlayers) {
+            if (!seen.contains(playerId)) {
+                animalRegistry.ownerDisconnected(playerId);
+            }
+        }
+        seenPlayers = onlinePlayers;
+        onlinePlayers = seen;
+    }
+
+    private void loadOwnerQuietly(UUID ownerId) {
+        try {
+            animalRegistry.loadOwner(ownerId);
+        } catch (RuntimeException e) {
+            System.err.println("[AnimalTaming] Failed to load tamed animals of " + ownerId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Use the memory-mapped segment store once it has been created (see SegmentMigration),
+     * otherwise the JSON file layout.
+     */
+    private static TamingRepository createRepository(Path pluginFolder, Duration saveInterval) {
+        if (SegmentTamingRepository.exists(pluginFolder)) {
+            System.out.println("[AnimalTaming] Using segment store " + SegmentTamingRepository.segmentPath(pluginFolder));
+            return new SegmentTamingRepository(pluginFolder);
+        }
+        return new JsonTamingRepository(pluginFolder, new TamedAnimalCodec(), saveInterval);
+    }
+
     private void loadConfigurations() {
         ConfigLoader loader = new ConfigLoader();
 
@@ -164,40 +266,59 @@ public class AnimalTamingPlugin {
         }
     }
 
-    private void loadPersistedAnimals() {
-        var animals = repository.loadAll();
-        for (TamedAnimal animal : animals) {
-            // Register with entity ID 0 - will be updated when entity spawns
-            animalRegistry.register(animal, 0);
-        }
-    }
-
     private void savePersistedAnimals() {
         for (TamedAnimal animal : animalRegistry.getAll()) {
             repository.save(animal);
         }
+        if (repository.shutdown(SHUTDOWN_FLUSH_TIMEOUT)) {
+            writeAheadLog.discard();
+        } else {
+            System.err.println("[AnimalTaming] Not all tamed animals were written before shutdown;"
+                    + " the write-ahead log is kept for the next start.");
+        }
         System.out.println("[AnimalTaming] Saved " + animalRegistry.size() + " tamed animals.");
     }
 
     private void subscribeToEvents() {
-        // Log taming events
-        eventBus.subscribe(AnimalTamedEvent.class, event ->
-                System.out.println("[AnimalTaming] " + event.ownerName() + " tamed a " + event.speciesId() + "!")
+        eventCoalescer.attach();
+
+        // Log taming events off the tick thread
+        eventBus.subscribeAsync(AnimalTamedEvent.class, event ->
+                System.out.println("[AnimalTaming] " + event.ownerName() + " tamed a " + event.speciesId() + "!"),
+                EventBus.Backpressure.DROP
         );
 
-        eventBus.subscribe(TamedAnimalLostEvent.class, event ->
-                System.out.println("[AnimalTaming] Tamed animal lost: " + event.speciesId() + " (" + event.reason() + ")")
+        eventBus.subscribeAsync(TamedAnimalLostEvent.class, event ->
+                System.out.println("[AnimalTaming] Tamed animal lost: " + event.speciesId() + " (" + event.reason() + ")"),
+                EventBus.Backpressure.DROP
         );
 
-        // Save animal on tame
-        eventBus.subscribe(AnimalTamedEvent.class, event -> {
-            animalRegistry.getByAnimalId(event.animalId()).ifPresent(repository::save);
-        });
+        // Persistence stays synchronous: a lost event must never overtake the tamed event
+        // for the same animal, and the log must see each change after the repository.
 
-        // Save animal on mode change
-        eventBus.subscribe(BehaviorModeChangedEvent.class, event -> {
-            animalRegistry.getByAnimalId(event.animalId()).ifPresent(repository::save);
+        // Persist lifecycle changes: hand them to the repository (buffered), then log them
+        // so they survive a crash before the repository's next flush. Logging must come
+        // second; see TamingWriteAheadLog.
+        eventBus.subscribe(AnimalTamedEvent.class, event ->
+                animalRegistry.getByAnimalId(event.animalId())
+                        .ifPresent(animal -> persist(TamingWriteAheadLog.Op.TAMED, animal))
+        );
+
+        // Released or lost animals must not be faulted back in from disk
+        eventBus.subscribe(TamedAnimalLostEvent.class, event -> {
+            repository.delete(event.animalId());
+            writeAheadLog.appendLost(event.animalId());
         });
+
+        eventBus.subscribe(BehaviorModeChangedEvent.class, event ->
+                animalRegistry.getByAnimalId(event.animalId())
+                        .ifPresent(animal -> persist(TamingWriteAheadLog.Op.MODE_CHANGED, animal))
+        );
+    }
+
+    private void persist(TamingWriteAheadLog.Op op, TamedAnimal animal) {
+        repository.save(animal);
+        writeAheadLog.append(op, animal);
     }
 
     // ==================== ACCESSORS ====================
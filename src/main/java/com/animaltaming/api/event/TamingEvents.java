@@ -3,6 +3,7 @@ package com.animaltaming.api.event;
 import com.animaltaming.api.model.BehaviorMode;
 import com.animaltaming.api.model.TamingState;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -101,6 +102,43 @@ public final class TamingEvents {
             double toX, double toY, double toZ
     ) {}
 
+    /**
+     * Net trust change of one animal over a tick.
+     * Reason is that of the last change in the tick.
+     */
+    public record TrustDelta(
+            long animalEntityId,
+            UUID animalId,
+            String speciesId,
+            int oldTrust,
+            int newTrust,
+            String reason,
+            int changes
+    ) {
+        public int delta() {
+            return newTrust - oldTrust;
+        }
+    }
+
+    /**
+     * Fired once per tick with every TrustChangedEvent of that tick merged per animal.
+     * Published by TickEventCoalescer only while someone subscribes to it.
+     */
+    public record TrustChangedBatchEvent(
+            long tick,
+            List<TrustDelta> changes
+    ) {}
+
+    /**
+     * Fired once per tick with every AnimalTeleportedEvent of that tick merged per animal
+     * (first origin, last destination).
+     * Published by TickEventCoalescer only while someone subscribes to it.
+     */
+    public record AnimalTeleportedBatchEvent(
+            long tick,
+            List<AnimalTeleportedEvent> teleports
+    ) {}
+
     /**
      * Fired when a tamed animal is lost (died, released, or despawned).
      */
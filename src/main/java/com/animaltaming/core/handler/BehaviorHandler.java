@@ -5,6 +5,7 @@ import com.animaltaming.api.model.BehaviorMode;
 import com.animaltaming.api.model.TamedAnimal;
 import com.animaltaming.core.registry.TamedAnimalRegistry;
 import com.animaltaming.core.service.PlayerLookupService;
+import com.animaltaming.system.PositionSnapshot;
 import com.animaltaming.system.SystemContext;
 import com.animaltaming.util.EventBus;
 
@@ -77,19 +78,23 @@ public class BehaviorHandler {
 
         long animalEntityId = animalEntityOpt.get();
 
-        double animalX = context.getEntityX(animalEntityId);
-        double animalY = context.getEntityY(animalEntityId);
-        double animalZ = context.getEntityZ(animalEntityId);
+        // Positions as of the start of the tick; live lookups for anything not captured
+        PositionSnapshot positions = context.getPositionSnapshot();
+        int animalSlot = positions.slotOf(animalEntityId);
+        int ownerSlot = positions.slotOf(ownerEntityId);
 
-        double ownerX = context.getEntityX(ownerEntityId);
-        double ownerY = context.getEntityY(ownerEntityId);
-        double ownerZ = context.getEntityZ(ownerEntityId);
+        double animalX = animalSlot >= 0 ? positions.x(animalSlot) : context.getEntityX(animalEntityId);
+        double animalY = animalSlot >= 0 ? positions.y(animalSlot) : context.getEntityY(animalEntityId);
+        double animalZ = animalSlot >= 0 ? positions.z(animalSlot) : context.getEntityZ(animalEntityId);
 
-        double distance = Math.sqrt(
-                Math.pow(animalX - ownerX, 2) +
-                Math.pow(animalY - ownerY, 2) +
-                Math.pow(animalZ - ownerZ, 2)
-        );
+        double ownerX = ownerSlot >= 0 ? positions.x(ownerSlot) : context.getEntityX(ownerEntityId);
+        double ownerY = ownerSlot >= 0 ? positions.y(ownerSlot) : context.getEntityY(ownerEntityId);
+        double ownerZ = ownerSlot >= 0 ? positions.z(ownerSlot) : context.getEntityZ(ownerEntityId);
+
+        double dx = animalX - ownerX;
+        double dy = animalY - ownerY;
+        double dz = animalZ - ownerZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
 
         // Teleport if too far
         if (distance > animal.maxFollowDistance()) {
@@ -99,13 +104,15 @@ public class BehaviorHandler {
 
             context.teleport(animalEntityId, teleX, teleY, teleZ);
 
-            eventBus.publish(new AnimalTeleportedEvent(
-                    animalEntityId,
-                    animal.id(),
-                    animal.ownerId(),
-                    animalX, animalY, animalZ,
-                    teleX, teleY, teleZ
-            ));
+            if (eventBus.hasHandlers(AnimalTeleportedEvent.class)) {
+                eventBus.publish(new AnimalTeleportedEvent(
+                        animalEntityId,
+                        animal.id(),
+                        animal.ownerId(),
+                        animalX, animalY, animalZ,
+                        teleX, teleY, teleZ
+                ));
+            }
 
             context.spawnParticle(teleX, teleY + 0.5, teleZ, "portal");
             return;
@@ -135,9 +142,11 @@ public class BehaviorHandler {
             return;
         }
 
-        double animalX = context.getEntityX(animalEntityId);
-        double animalY = context.getEntityY(animalEntityId);
-        double animalZ = context.getEntityZ(animalEntityId);
+        PositionSnapshot positions = context.getPositionSnapshot();
+        int animalSlot = positions.slotOf(animalEntityId);
+        double animalX = animalSlot >= 0 ? positions.x(animalSlot) : context.getEntityX(animalEntityId);
+        double animalY = animalSlot >= 0 ? positions.y(animalSlot) : context.getEntityY(animalEntityId);
+        double animalZ = animalSlot >= 0 ? positions.z(animalSlot) : context.getEntityZ(animalEntityId);
 
         double dx = animalX - animal.homeX();
         double dy = animalY - animal.homeY();
@@ -6,6 +6,7 @@ import com.animaltaming.api.model.TamingProgress;
 import com.animaltaming.api.model.TamingState;
 import com.animaltaming.core.registry.TamingConfigRegistry;
 import com.animaltaming.core.service.PlayerLookupService;
+import com.animaltaming.system.PositionSnapshot;
 import com.animaltaming.system.SystemContext;
 import com.animaltaming.util.EventBus;
 
@@ -108,7 +109,7 @@ public class CalmingHandler {
         }
 
         TamingConfig config = configOpt.get();
-        double distance = context.getDistance(playerId, entityId);
+        double distance = context.getPositionSnapshot().distance(playerId, entityId, context);
         if (distance > config.calmingDistance()) {
             interruptCalming(context, entityId, progress, "Player too far", iter);
             return;
@@ -152,68 +153,64 @@ public class CalmingHandler {
     }
 
     private void checkForNewCalmingAttempts(SystemContext context, long currentTick) {
-        // Get all tameable animals that don't have progress
-        for (SystemContext.TameableAnimalInfo animal : context.getTameableAnimals()) {
-            if (progressByEntityId.containsKey(animal.entityId())) {
-                continue; // Already has progress
+        // Only sneaking players can start calming, so look around them rather than
+        // checking every tameable animal for nearby players
+        PositionSnapshot positions = context.getPositionSnapshot();
+        for (long playerId : playerLookup.getOnlineEntityIds()) {
+            if (!context.isPlayerSneaking(playerId)) {
+                continue;
             }
 
-            Optional<TamingConfig> configOpt = configRegistry.get(animal.speciesId());
-            if (configOpt.isEmpty()) {
+            Optional<UUID> playerUuidOpt = playerLookup.getPlayerUUID(playerId);
+            if (playerUuidOpt.isEmpty()) {
                 continue;
             }
 
-            TamingConfig config = configOpt.get();
-            checkForSneakingPlayers(context, animal, config, currentTick);
+            int playerSlot = positions.slotOf(playerId);
+            double playerX = playerSlot >= 0 ? positions.x(playerSlot) : context.getEntityX(playerId);
+            double playerY = playerSlot >= 0 ? positions.y(playerSlot) : context.getEntityY(playerId);
+            double playerZ = playerSlot >= 0 ? positions.z(playerSlot) : context.getEntityZ(playerId);
+
+            for (TamingConfig config : configRegistry.getAllConfigs()) {
+                List<SystemContext.TameableAnimalInfo> nearbyAnimals = context.getTameableAnimalsInRadius(
+                        config.speciesId(), playerX, playerY, playerZ, config.calmingDistance());
+
+                for (SystemContext.TameableAnimalInfo animal : nearbyAnimals) {
+                    // Only one player can calm an animal at a time
+                    if (!progressByEntityId.containsKey(animal.entityId())) {
+                        startCalming(context, playerId, playerUuidOpt.get(), animal, config, currentTick);
+                    }
+                }
+            }
         }
     }
 
-    private void checkForSneakingPlayers(
+    private void startCalming(
             SystemContext context,
+            long playerId,
+            UUID playerUuid,
             SystemContext.TameableAnimalInfo animal,
             TamingConfig config,
             long currentTick
     ) {
-        double animalX = context.getEntityX(animal.entityId());
-        double animalY = context.getEntityY(animal.entityId());
-        double animalZ = context.getEntityZ(animal.entityId());
-
-        List<Long> nearbyPlayers = context.getPlayersInRadius(animalX, animalY, animalZ, config.calmingDistance());
-
-        for (long playerId : nearbyPlayers) {
-            if (!context.isPlayerSneaking(playerId)) {
-                continue;
-            }
-
-            // Start calming
-            Optional<UUID> playerUuidOpt = playerLookup.getPlayerUUID(playerId);
-            if (playerUuidOpt.isEmpty()) {
-                continue;
-            }
-
-            UUID playerUuid = playerUuidOpt.get();
-            TamingProgress progress = TamingProgress.startCalming(
-                    animal.animalId(),
-                    animal.speciesId(),
-                    playerUuid,
-                    currentTick
-            );
-
-            progressByEntityId.put(animal.entityId(), progress);
-
-            eventBus.publish(new TamingStartedEvent(
-                    playerId,
-                    playerUuid,
-                    animal.entityId(),
-                    animal.animalId(),
-                    animal.speciesId()
-            ));
-
-            context.sendMessage(playerId, "You begin calming the " + config.speciesId() + "...");
+        TamingProgress progress = TamingProgress.startCalming(
+                animal.animalId(),
+                animal.speciesId(),
+                playerUuid,
+                currentTick
+        );
+
+        progressByEntityId.put(animal.entityId(), progress);
+
+        eventBus.publish(new TamingStartedEvent(
+                playerId,
+                playerUuid,
+                animal.entityId(),
+                animal.animalId(),
+                animal.speciesId()
+        ));
 
-            // Only one player can calm at a time
-            break;
-        }
+        context.sendMessage(playerId, "You begin calming the " + config.speciesId() + "...");
     }
 
     private void cleanupExpiredCalm(SystemContext context, long currentTick) {
@@ -118,14 +118,16 @@ public class FeedingHandler {
         calmingHandler.setProgress(targetId, updated);
 
         // Publish trust change event
-        eventBus.publish(new TrustChangedEvent(
-                targetId,
-                progress.animalId(),
-                progress.speciesId(),
-                oldTrust,
-                updated.trustLevel(),
-                "feeding"
-        ));
+        if (eventBus.hasHandlers(TrustChangedEvent.class)) {
+            eventBus.publish(new TrustChangedEvent(
+                    targetId,
+                    progress.animalId(),
+                    progress.speciesId(),
+                    oldTrust,
+                    updated.trustLevel(),
+                    "feeding"
+            ));
+        }
 
         // Visual feedback
         double x = context.getEntityX(targetId);
@@ -189,14 +191,16 @@ public class FeedingHandler {
 
         calmingHandler.setProgress(animalEntityId, updated);
 
-        eventBus.publish(new TrustChangedEvent(
-                animalEntityId,
-                progress.animalId(),
-                progress.speciesId(),
-                oldTrust,
-                updated.trustLevel(),
-                "feeding"
-        ));
+        if (eventBus.hasHandlers(TrustChangedEvent.class)) {
+            eventBus.publish(new TrustChangedEvent(
+                    animalEntityId,
+                    progress.animalId(),
+                    progress.speciesId(),
+                    oldTrust,
+                    updated.trustLevel(),
+                    "feeding"
+            ));
+        }
 
         return Optional.of(updated);
     }
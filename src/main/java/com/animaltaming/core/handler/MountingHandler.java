@@ -182,14 +182,16 @@ public class MountingHandler {
                 calmingHandler.setProgress(entityId, updated);
                 lastProcessedSecond.put(entityId, wholeSeconds);
 
-                eventBus.publish(new TrustChangedEvent(
-                        entityId,
-                        progress.animalId(),
-                        progress.speciesId(),
-                        oldTrust,
-                        updated.trustLevel(),
-                        "mounting"
-                ));
+                if (eventBus.hasHandlers(TrustChangedEvent.class)) {
+                    eventBus.publish(new TrustChangedEvent(
+                            entityId,
+                            progress.animalId(),
+                            progress.speciesId(),
+                            oldTrust,
+                            updated.trustLevel(),
+                            "mounting"
+                    ));
+                }
 
                 // Periodic feedback
                 if (wholeSeconds % 5 == 0) {
@@ -1,17 +1,49 @@
 package com.animaltaming.core.registry;
 
 import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.TamingRepository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Registry for active tamed animals.
  * Provides O(1) lookup by animalId and by ownerId.
  * Thread-safe for concurrent access.
+ *
+ * With a backing repository, residency is owner-scoped: an owner's animals are loaded
+ * when they connect ({@link #loadOwner}) and stay pinned while they are online. After
+ * they disconnect the owner joins an LRU of offline owners; once more than the configured
+ * number are held, the coldest owner's animals are dropped from memory and saved on the
+ * loader executor, never under the residency lock or on the calling thread.
+ *
+ * Lookups never touch the repository on the calling thread, which is usually the tick
+ * thread. Lookups by animal or owner ID answer from memory and, on a miss, queue a
+ * fault-in on the loader executor, so a later lookup finds the animal. Animals whose
+ * eviction save is still pending are made resident again straight from memory.
+ * Lookups by entity ID and {@link #getAll()} only see resident animals.
  */
 public class TamedAnimalRegistry {
 
+    // Backing store for owner-scoped residency (null: everything stays resident)
+    private final TamingRepository store;
+    private final int maxOfflineOwners;
+    private final Executor loader;
+
+    // Residency state, guarded by residencyLock
+    private final Object residencyLock = new Object();
+    private final Set<UUID> onlineOwners = new HashSet<>();
+    private final Set<UUID> fullyLoadedOwners = new HashSet<>();
+    private final LinkedHashMap<UUID, Boolean> offlineOwners = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Evicted animals whose save hasn't run yet; the newest copy until it has
+    private final Map<UUID, TamedAnimal> evicting = new ConcurrentHashMap<>();
+    // Fault-ins queued on the loader, so repeated misses queue one load
+    private final Set<UUID> animalLoadsQueued = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> ownerLoadsQueued = ConcurrentHashMap.newKeySet();
+
     // Primary index: animalId -> TamedAnimal
     private final Map<UUID, TamedAnimal> byAnimalId = new ConcurrentHashMap<>();
 
@@ -21,6 +53,32 @@ public class TamedAnimalRegistry {
     // Entity ID mapping: entityId -> animalId (for in-world lookups)
     private final Map<Long, UUID> entityToAnimalId = new ConcurrentHashMap<>();
 
+    /**
+     * Create a registry that keeps every registered animal in memory.
+     */
+    public TamedAnimalRegistry() {
+        this.store = null;
+        this.maxOfflineOwners = Integer.MAX_VALUE;
+        this.loader = null;
+    }
+
+    /**
+     * Create a registry with owner-scoped residency.
+     *
+     * @param store repository that animals are faulted in from and evicted to
+     * @param maxOfflineOwners how many disconnected owners keep their animals in memory
+     * @param loader executor for repository reads and eviction saves (a single background thread)
+     */
+    public TamedAnimalRegistry(TamingRepository store, int maxOfflineOwners, Executor loader) {
+        this.store = Objects.requireNonNull(store, "store is required");
+        this.loader = Objects.requireNonNull(loader, "loader is required");
+        if (maxOfflineOwners < 1) {
+            // The owner being touched must survive its own eviction pass
+            throw new IllegalArgumentException("maxOfflineOwners must be >= 1");
+        }
+        this.maxOfflineOwners = maxOfflineOwners;
+    }
+
     /**
      * Register a tamed animal.
      *
@@ -30,11 +88,13 @@ public class TamedAnimalRegistry {
     public void register(TamedAnimal animal, long entityId) {
         Objects.requireNonNull(animal, "animal is required");
 
+        evicting.remove(animal.id());  // Superseded; waits out a save already running
         byAnimalId.put(animal.id(), animal);
         entityToAnimalId.put(entityId, animal.id());
 
         byOwnerId.computeIfAbsent(animal.ownerId(), k -> ConcurrentHashMap.newKeySet())
                  .add(animal.id());
+        touchOwner(animal.ownerId());
     }
 
     /**
@@ -64,12 +124,36 @@ public class TamedAnimalRegistry {
         byAnimalId.put(animal.id(), animal);
     }
 
+    /**
+     * Make a recovered animal resident, replacing any older in-memory copy.
+     * Unlike {@link #register} there is no entity mapping until the animal's entity is seen again.
+     *
+     * @param animal the recovered animal data
+     */
+    public void restore(TamedAnimal animal) {
+        Objects.requireNonNull(animal, "animal is required");
+
+        evicting.remove(animal.id());
+        TamedAnimal existing = byAnimalId.put(animal.id(), animal);
+        if (existing != null && !existing.ownerId().equals(animal.ownerId())) {
+            Set<UUID> oldOwnerAnimals = byOwnerId.get(existing.ownerId());
+            if (oldOwnerAnimals != null) {
+                oldOwnerAnimals.remove(animal.id());
+            }
+        }
+        byOwnerId.computeIfAbsent(animal.ownerId(), k -> ConcurrentHashMap.newKeySet())
+                 .add(animal.id());
+        touchOwner(animal.ownerId());
+    }
+
     /**
      * Unregister a tamed animal.
      *
      * @param animalId the animal ID to remove
      */
     public void unregister(UUID animalId) {
+        // A pending eviction save must not bring a released animal back into the repository
+        evicting.remove(animalId);
         TamedAnimal animal = byAnimalId.remove(animalId);
         if (animal != null) {
             Set<UUID> ownerAnimals = byOwnerId.get(animal.ownerId());
@@ -97,12 +181,35 @@ public class TamedAnimalRegistry {
 
     /**
      * Get a tamed animal by its unique ID.
+     * Never reads the repository on the calling thread: a stored animal that isn't
+     * resident is queued for loading and reported as not found until it is.
      *
      * @param animalId the animal ID
-     * @return the animal, or empty if not found
+     * @return the animal, or empty if not found or not yet loaded
      */
     public Optional<TamedAnimal> getByAnimalId(UUID animalId) {
-        return Optional.ofNullable(byAnimalId.get(animalId));
+        TamedAnimal animal = byAnimalId.get(animalId);
+        if (animal != null || store == null) {
+            return Optional.ofNullable(animal);
+        }
+        TamedAnimal evicted = evicting.remove(animalId);
+        if (evicted != null) {
+            synchronized (residencyLock) {
+                addResident(evicted);
+                touchOwner(evicted.ownerId());
+            }
+            return Optional.ofNullable(byAnimalId.get(animalId));
+        }
+        if (store.exists(animalId) && animalLoadsQueued.add(animalId)) {
+            submit(() -> {
+                try {
+                    faultIn(animalId);
+                } finally {
+                    animalLoadsQueued.remove(animalId);
+                }
+            });
+        }
+        return Optional.empty();
     }
 
     /**
@@ -130,12 +237,23 @@ public class TamedAnimalRegistry {
     }
 
     /**
-     * Get all tamed animals owned by a player.
+     * Get all resident tamed animals owned by a player.
+     * If the owner's animals aren't all in memory, loading them is queued on the loader
+     * and the animals resident so far are returned.
      *
      * @param ownerId the owner's UUID
      * @return set of tamed animals (never null, may be empty)
      */
     public Set<TamedAnimal> getByOwnerId(UUID ownerId) {
+        if (store != null && !isOwnerResident(ownerId) && ownerLoadsQueued.add(ownerId)) {
+            submit(() -> {
+                try {
+                    loadOwner(ownerId);
+                } finally {
+                    ownerLoadsQueued.remove(ownerId);
+                }
+            });
+        }
         Set<UUID> animalIds = byOwnerId.get(ownerId);
         if (animalIds == null || animalIds.isEmpty()) {
             return Set.of();
@@ -162,7 +280,7 @@ public class TamedAnimalRegistry {
     }
 
     /**
-     * Get all registered tamed animals.
+     * Get all resident tamed animals.
      *
      * @return unmodifiable collection
      */
@@ -171,7 +289,7 @@ public class TamedAnimalRegistry {
     }
 
     /**
-     * Get the total number of tamed animals.
+     * Get the number of resident tamed animals.
      *
      * @return count
      */
@@ -183,8 +301,215 @@ public class TamedAnimalRegistry {
      * Clear all registrations.
      */
     public void clear() {
-        byAnimalId.clear();
-        byOwnerId.clear();
-        entityToAnimalId.clear();
+        synchronized (residencyLock) {
+            byAnimalId.clear();
+            byOwnerId.clear();
+            entityToAnimalId.clear();
+            onlineOwners.clear();
+            fullyLoadedOwners.clear();
+            offlineOwners.clear();
+            evicting.clear();
+        }
+    }
+
+    // ==================== Owner residency ====================
+
+    /**
+     * Pin an owner's animals in memory while they are online.
+     * Does not load anything; call {@link #loadOwner} (typically off the tick thread).
+     *
+     * @param ownerId the connecting player
+     */
+    public void ownerConnected(UUID ownerId) {
+        synchronized (residencyLock) {
+            onlineOwners.add(ownerId);
+            offlineOwners.remove(ownerId);
+        }
+    }
+
+    /**
+     * Unpin an owner. Their animals stay resident until the owner is the coldest of
+     * more than maxOfflineOwners disconnected owners.
+     *
+     * @param ownerId the disconnecting player
+     */
+    public void ownerDisconnected(UUID ownerId) {
+        synchronized (residencyLock) {
+            if (onlineOwners.remove(ownerId)) {
+                touchOwner(ownerId);
+            }
+        }
+    }
+
+    /**
+     * Load all of an owner's animals from the repository if they are not already resident.
+     * Blocks on repository reads, so call it on the loader executor; the repository is
+     * read outside the residency lock.
+     *
+     * @param ownerId the owner
+     * @return number of animals newly made resident
+     */
+    public int loadOwner(UUID ownerId) {
+        if (store == null || isOwnerResident(ownerId)) {
+            return 0;
+        }
+
+        List<TamedAnimal> loaded = new ArrayList<>();
+        for (UUID animalId : store.findByOwner(ownerId)) {
+            if (!byAnimalId.containsKey(animalId) && !evicting.containsKey(animalId)) {
+                store.load(animalId).ifPresent(loaded::add);
+            }
+        }
+        // Evicted but not yet saved, so possibly unknown to the repository
+        for (TamedAnimal pending : evicting.values()) {
+            if (pending.ownerId().equals(ownerId) && evicting.remove(pending.id(), pending)) {
+                loaded.add(pending);
+            }
+        }
+
+        int added = 0;
+        synchronized (residencyLock) {
+            for (TamedAnimal animal : loaded) {
+                if (addResident(animal)) {
+                    added++;
+                }
+            }
+            fullyLoadedOwners.add(ownerId);
+            touchOwner(ownerId);
+        }
+        return added;
+    }
+
+    /**
+     * Check if all of an owner's animals are in memory.
+     */
+    public boolean isOwnerResident(UUID ownerId) {
+        if (store == null) {
+            return true;
+        }
+        synchronized (residencyLock) {
+            return fullyLoadedOwners.contains(ownerId);
+        }
+    }
+
+    /**
+     * Number of disconnected owners whose animals are still in memory.
+     */
+    public int getOfflineResidentOwnerCount() {
+        synchronized (residencyLock) {
+            return offlineOwners.size();
+        }
+    }
+
+    /**
+     * Load one animal from the repository and make it resident. Runs on the loader.
+     */
+    private void faultIn(UUID animalId) {
+        if (byAnimalId.containsKey(animalId)) {
+            return;
+        }
+        TamedAnimal pending = evicting.remove(animalId);
+        Optional<TamedAnimal> loaded = pending != null ? Optional.of(pending) : store.load(animalId);
+        if (loaded.isEmpty()) {
+            return;
+        }
+        synchronized (residencyLock) {
+            addResident(loaded.get());
+            touchOwner(loaded.get().ownerId());
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            loader.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the lookup simply misses
+        }
+    }
+
+    /**
+     * Add a loaded animal unless a newer in-memory copy exists. Has no entity mapping
+     * until the animal's entity is seen again.
+     */
+    private boolean addResident(TamedAnimal animal) {
+        if (byAnimalId.putIfAbsent(animal.id(), animal) != null) {
+            return false;
+        }
+        byOwnerId.computeIfAbsent(animal.ownerId(), k -> ConcurrentHashMap.newKeySet())
+                 .add(animal.id());
+        return true;
+    }
+
+    /**
+     * Mark an offline owner as most recently used and evict beyond capacity.
+     */
+    private void touchOwner(UUID ownerId) {
+        if (store == null) {
+            return;
+        }
+        synchronized (residencyLock) {
+            if (onlineOwners.contains(ownerId)) {
+                return;
+            }
+            offlineOwners.put(ownerId, Boolean.TRUE);
+            while (offlineOwners.size() > maxOfflineOwners) {
+                Iterator<UUID> coldest = offlineOwners.keySet().iterator();
+                UUID evicted = coldest.next();
+                coldest.remove();
+                evictOwner(evicted);
+            }
+        }
+    }
+
+    /**
+     * Drop an owner's animals from memory and queue their save on the loader.
+     * Called with the residency lock held, so it does no I/O itself.
+     */
+    private void evictOwner(UUID ownerId) {
+        fullyLoadedOwners.remove(ownerId);
+        Set<UUID> animalIds = byOwnerId.remove(ownerId);
+        if (animalIds == null) {
+            return;
+        }
+        List<TamedAnimal> evicted = new ArrayList<>(animalIds.size());
+        for (UUID animalId : animalIds) {
+            TamedAnimal animal = byAnimalId.remove(animalId);
+            if (animal != null) {
+                evicting.put(animalId, animal);
+                evicted.add(animal);
+            }
+        }
+        entityToAnimalId.values().removeAll(animalIds);
+        if (evicted.isEmpty()) {
+            return;
+        }
+        Runnable save = () -> saveEvicted(evicted);
+        try {
+            loader.execute(save);
+        } catch (RejectedExecutionException e) {
+            save.run();  // Loader already shut down: write now rather than lose them
+        }
+    }
+
+    /**
+     * Save evicted animals that are still evicted. Runs on the loader.
+     * The save happens inside the map's per-key lock, so re-registering or releasing the
+     * animal meanwhile either cancels it or waits for it to finish.
+     */
+    private void saveEvicted(List<TamedAnimal> evicted) {
+        for (TamedAnimal animal : evicted) {
+            evicting.computeIfPresent(animal.id(), (id, current) -> {
+                if (current != animal) {
+                    return current;  // Evicted again since; that eviction saves it
+                }
+                try {
+                    store.save(animal);
+                    return null;
+                } catch (RuntimeException e) {
+                    System.err.println("[AnimalTaming] Failed to save evicted animal " + id + ": " + e.getMessage());
+                    return current;  // Keep it reachable in memory
+                }
+            });
+        }
     }
 }
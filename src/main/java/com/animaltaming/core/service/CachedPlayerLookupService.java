@@ -52,6 +52,11 @@ public class CachedPlayerLookupService implements PlayerLookupService {
         return entityIdToUuid.containsKey(entityId);
     }
 
+    @Override
+    public Set<Long> getOnlineEntityIds() {
+        return Collections.unmodifiableSet(entityIdToUuid.keySet());
+    }
+
     @Override
     public int getOnlineCount() {
         return uuidToEntityId.size();
@@ -3,6 +3,7 @@ package com.animaltaming.core.service;
 import com.animaltaming.system.SystemContext;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -57,6 +58,13 @@ public interface PlayerLookupService {
      */
     boolean isPlayer(long entityId);
 
+    /**
+     * Get the entity IDs of all online players, as of the last refresh.
+     *
+     * @return unmodifiable view of player entity IDs
+     */
+    Set<Long> getOnlineEntityIds();
+
     /**
      * Get the number of online players.
      *
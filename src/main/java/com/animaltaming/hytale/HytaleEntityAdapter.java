@@ -12,6 +12,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 /**
  * Manages bidirectional mapping between plugin's long entityId
@@ -164,6 +165,7 @@ public class HytaleEntityAdapter {
     /**
      * Get all registered entity mappings for iteration.
      * Used by RefUtils to find entityId by Ref.
+     * Copies every mapping; per-tick callers should use {@link #forEachEntity} instead.
      *
      * @return iterable of all entity ID to entity mappings
      */
@@ -171,6 +173,16 @@ public class HytaleEntityAdapter {
         return Set.copyOf(entityMap.entrySet());
     }
 
+    /**
+     * Visit every registered entity without copying the mappings.
+     * Entities registered or unregistered during the visit may or may not be seen.
+     *
+     * @param action called with each plugin entity ID and its entity
+     */
+    public void forEachEntity(BiConsumer<Long, Entity> action) {
+        entityMap.forEach(action);
+    }
+
     /**
      * Find the plugin entity ID for a given Ref by scanning all registered entities.
      * Used when converting MountedByComponent passengers back to plugin IDs.
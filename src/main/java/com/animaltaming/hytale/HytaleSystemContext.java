@@ -1,5 +1,7 @@
 package com.animaltaming.hytale;
 
+import com.animaltaming.system.EntitySpatialGrid;
+import com.animaltaming.system.PositionSnapshot;
 import com.animaltaming.system.SystemContext;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -19,6 +21,7 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.builtin.mounts.MountedByComponent;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.Iterator;
 
@@ -36,6 +39,18 @@ import java.util.Iterator;
  */
 public class HytaleSystemContext implements SystemContext {
 
+    /** Hytale runs at 30 TPS. */
+    private static final int TICK_RATE = 30;
+    /** Tameable index cell size in blocks, about the largest calming distance. */
+    private static final double TAMEABLE_GRID_CELL_SIZE = 16.0;
+    /** Ticks between refreshes of the tameable index from the position snapshot. */
+    private static final int TAMEABLE_GRID_REFRESH_TICKS = 1;
+    /** Fastest a tameable is expected to move, in blocks per second (a galloping mount). */
+    private static final double TAMEABLE_MAX_SPEED = 20.0;
+    /** How far a tameable may move between index refreshes and still be found. */
+    private static final double TAMEABLE_POSITION_SLACK =
+            TAMEABLE_MAX_SPEED * TAMEABLE_GRID_REFRESH_TICKS / TICK_RATE;
+
     private final HytaleEntityAdapter entityAdapter;
     private World currentWorld;
     private long currentTick = 0;
@@ -44,6 +59,20 @@ public class HytaleSystemContext implements SystemContext {
     private final Map<String, Set<Long>> tameablesBySpecies = new HashMap<>();
     private final Map<Long, String> entitySpecies = new HashMap<>();
 
+    // Spatial index of tameable animals by species; positions refreshed from the snapshot
+    // every TAMEABLE_GRID_REFRESH_TICKS, and only when something queries it
+    private final EntitySpatialGrid tameableGrid = new EntitySpatialGrid(TAMEABLE_GRID_CELL_SIZE);
+    private long tameableGridRefreshTick = Long.MIN_VALUE;
+
+    // Positions of every mapped entity, captured at the start of each tick
+    private final PositionSnapshot positions = new PositionSnapshot(256);
+    private final BiConsumer<Long, Entity> positionCapture = (entityId, entity) -> {
+        Vector3d pos = positionOf(entity);
+        if (pos != null) {
+            positions.put(entityId, pos.getX(), pos.getY(), pos.getZ());
+        }
+    };
+
     // Pending interactions for this tick
     private final List<InteractionEvent> pendingInteractions = new ArrayList<>();
 
@@ -64,11 +93,27 @@ public class HytaleSystemContext implements SystemContext {
     }
 
     /**
-     * Called each tick to update the current tick counter.
+     * Called each tick to update the current tick counter and capture entity positions.
      */
     public void tick() {
         currentTick++;
         pendingInteractions.clear();
+        capturePositions();
+    }
+
+    /**
+     * Read every mapped entity's transform once, so handlers can read positions from
+     * the snapshot instead of looking each entity up per coordinate. Walks the adapter's
+     * map in place rather than copying it.
+     */
+    private void capturePositions() {
+        positions.begin(currentTick);
+        entityAdapter.forEachEntity(positionCapture);
+    }
+
+    @Override
+    public PositionSnapshot getPositionSnapshot() {
+        return positions;
     }
 
     // ==================== TIME ====================
@@ -80,7 +125,7 @@ public class HytaleSystemContext implements SystemContext {
 
     @Override
     public int getTickRate() {
-        return 30; // Hytale runs at 30 TPS
+        return TICK_RATE;
     }
 
     // ==================== ENTITY EXISTENCE ====================
@@ -138,16 +183,15 @@ public class HytaleSystemContext implements SystemContext {
     @Override
     public List<PlayerInfo> getAllPlayers() {
         List<PlayerInfo> players = new ArrayList<>();
-        for (Map.Entry<Long, Entity> entry : entityAdapter.getAllMappings()) {
-            Entity entity = entry.getValue();
+        entityAdapter.forEachEntity((entityId, entity) -> {
             if (entity instanceof Player player) {
                 players.add(new PlayerInfo(
-                        entry.getKey(),
+                        entityId,
                         player.getUuid(),
                         player.getDisplayName()
                 ));
             }
-        }
+        });
         return players;
     }
 
@@ -156,15 +200,14 @@ public class HytaleSystemContext implements SystemContext {
         double radiusSquared = radius * radius;
         List<Long> result = new ArrayList<>();
 
-        for (Map.Entry<Long, Entity> entry : entityAdapter.getAllMappings()) {
-            Entity entity = entry.getValue();
-            if (!(entity instanceof Player)) continue;
+        entityAdapter.forEachEntity((entityId, entity) -> {
+            if (!(entity instanceof Player)) return;
 
             TransformComponent tc = entity.getTransformComponent();
-            if (tc == null) continue;
+            if (tc == null) return;
 
             Vector3d pos = tc.getPosition();
-            if (pos == null) continue;
+            if (pos == null) return;
 
             double dx = pos.getX() - x;
             double dy = pos.getY() - y;
@@ -172,9 +215,9 @@ public class HytaleSystemContext implements SystemContext {
             double distSquared = dx * dx + dy * dy + dz * dz;
 
             if (distSquared <= radiusSquared) {
-                result.add(entry.getKey());
+                result.add(entityId);
             }
-        }
+        });
         return result;
     }
 
@@ -309,12 +352,18 @@ public class HytaleSystemContext implements SystemContext {
                 .computeIfAbsent(speciesId, k -> new HashSet<>())
                 .add(entityId);
         entitySpecies.put(entityId, speciesId);
+
+        Vector3d pos = entityAdapter.getEntity(entityId).map(HytaleSystemContext::positionOf).orElse(null);
+        if (pos != null) {
+            tameableGrid.put(entityId, speciesId, pos.getX(), pos.getZ());
+        }
     }
 
     /**
      * Unregister a tameable animal.
      */
     public void unregisterTameableAnimal(long entityId) {
+        tameableGrid.remove(entityId);
         String speciesId = entitySpecies.remove(entityId);
         if (speciesId != null) {
             Set<Long> species = tameablesBySpecies.get(speciesId);
@@ -341,6 +390,7 @@ public class HytaleSystemContext implements SystemContext {
             if (!entityExists(entityId)) {
                 String speciesId = entry.getValue();
                 it.remove();
+                tameableGrid.remove(entityId);
                 removed++;
 
                 Set<Long> species = tameablesBySpecies.get(speciesId);
@@ -361,6 +411,7 @@ public class HytaleSystemContext implements SystemContext {
     public void clearTameableAnimals() {
         tameablesBySpecies.clear();
         entitySpecies.clear();
+        tameableGrid.clear();
     }
 
     @Override
@@ -381,6 +432,56 @@ public class HytaleSystemContext implements SystemContext {
         return result;
     }
 
+    /**
+     * Find tameables through the spatial index. Candidates are looked up with the radius
+     * widened by the distance they may have moved since the last refresh, then checked
+     * against their live positions.
+     */
+    @Override
+    public List<TameableAnimalInfo> getTameableAnimalsInRadius(
+            String speciesId, double x, double y, double z, double radius) {
+        refreshTameableGridIfStale();
+
+        double radiusSquared = radius * radius;
+        List<TameableAnimalInfo> result = new ArrayList<>();
+        tameableGrid.query(speciesId, x, z, radius + TAMEABLE_POSITION_SLACK, entityId ->
+                entityAdapter.getEntity(entityId).ifPresent(entity -> {
+                    Vector3d pos = positionOf(entity);
+                    if (pos == null) {
+                        return;
+                    }
+                    double dx = pos.getX() - x;
+                    double dy = pos.getY() - y;
+                    double dz = pos.getZ() - z;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                        result.add(new TameableAnimalInfo(entityId, entity.getUuid(), speciesId));
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * Move tameables to their snapshot positions. Only entities that changed cell touch
+     * the grid, so this is a lookup per tameable when they stand still.
+     */
+    private void refreshTameableGridIfStale() {
+        if (currentTick < tameableGridRefreshTick + TAMEABLE_GRID_REFRESH_TICKS) {
+            return;
+        }
+        tameableGridRefreshTick = currentTick;
+        for (Map.Entry<Long, String> entry : entitySpecies.entrySet()) {
+            int slot = positions.slotOf(entry.getKey());
+            if (slot >= 0) {
+                tameableGrid.put(entry.getKey(), entry.getValue(), positions.x(slot), positions.z(slot));
+            }
+        }
+    }
+
+    private static Vector3d positionOf(Entity entity) {
+        TransformComponent tc = entity.getTransformComponent();
+        return tc != null ? tc.getPosition() : null;
+    }
+
     @Override
     public Optional<Long> getEntityIdForAnimal(UUID animalId) {
         return entityAdapter.getEntityIdByUuid(animalId);
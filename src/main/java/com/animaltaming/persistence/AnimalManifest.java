@@ -0,0 +1,286 @@
+package com.animaltaming.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory set of stored animal IDs (with their owners) for JsonTamingRepository,
+ * persisted as a compact sidecar so startup doesn't have to decode the animals folder.
+ *
+ * The sidecar is a {@link FramedLog} file of fixed-size records. Every file write appends
+ * one record after the file operation, carrying the owner and the file's modification
+ * time; every delete appends a removal. On startup the records up to the first torn or
+ * corrupt one are loaded and {@link #validate validated} against a listing of the
+ * animals folder: entries whose file is gone are dropped, and files that are new or whose
+ * modification time differs from the record are returned to be decoded. Only files
+ * changed behind the manifest's back (or written just before a crash) are read.
+ * The file is compacted on open, on close, and whenever it has grown well past the
+ * number of live entries.
+ *
+ * File: data/animals.manifest
+ * Header: magic "TMAN", version. Records: frames of [op][animalId][ownerId][file mtime (ms)].
+ */
+final class AnimalManifest {
+
+    private static final int MAGIC = 0x544D414E;  // "TMAN"
+    private static final int FORMAT_VERSION = 3;
+    private static final int PAYLOAD_BYTES = 1 + 16 + 16 + 8;
+    private static final int RECORD_BYTES = FramedLog.FRAME_HEADER_BYTES + PAYLOAD_BYTES;
+    private static final int COMPACT_MIN_RECORDS = 4096;
+    private static final byte OP_STORED = 1;
+    private static final byte OP_REMOVED = 2;
+
+    private final Path file;
+    private final Map<UUID, UUID> owners = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> modified = new ConcurrentHashMap<>();
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private FileChannel channel;
+    private int records;
+
+    AnimalManifest(Path file) {
+        this.file = Objects.requireNonNull(file, "file required");
+    }
+
+    /**
+     * Load the sidecar, keeping every record before the first torn or corrupt one.
+     *
+     * @return the number of records read; 0 if the sidecar is missing or unreadable
+     */
+    synchronized int load() {
+        owners.clear();
+        modified.clear();
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int read = 0;
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (bytes.remaining() < FramedLog.FILE_HEADER_BYTES || bytes.getInt() != MAGIC
+                    || bytes.getInt() != FORMAT_VERSION) {
+                return 0;
+            }
+            ByteBuffer payload;
+            while ((payload = FramedLog.nextFrame(bytes, PAYLOAD_BYTES, crc)) != null) {
+                byte op = payload.get();
+                UUID animalId = new UUID(payload.getLong(), payload.getLong());
+                UUID ownerId = new UUID(payload.getLong(), payload.getLong());
+                long fileModified = payload.getLong();
+                if (op == OP_STORED) {
+                    owners.put(animalId, ownerId);
+                    modified.put(animalId, fileModified);
+                } else {
+                    owners.remove(animalId);
+                    modified.remove(animalId);
+                }
+                read++;
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[TamingRepository] Ignoring unreadable manifest " + file + ": " + e.getMessage());
+        }
+        return read;
+    }
+
+    /**
+     * Check the loaded entries against the animals folder. Entries whose file is gone are
+     * dropped; entries whose file changed are dropped until {@link #reconcile} re-adds them.
+     * Reads only the listing and each file's attributes.
+     *
+     * @return files that are new or changed since their record, by animal ID
+     */
+    synchronized Map<UUID, Path> validate(Path animalsFolder) throws IOException {
+        Set<UUID> listed = new HashSet<>();
+        Map<UUID, Path> changed = new HashMap<>();
+        Files.walkFileTree(animalsFolder, EnumSet.noneOf(FileVisitOption.class), 1,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+                        String filename = path.getFileName().toString();
+                        if (!attributes.isRegularFile() || !filename.endsWith(".json")) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        UUID animalId;
+                        try {
+                            animalId = UUID.fromString(filename.substring(0, filename.length() - 5));
+                        } catch (IllegalArgumentException e) {
+                            System.err.println("[TamingRepository] Invalid animal file: " + filename);
+                            return FileVisitResult.CONTINUE;
+                        }
+                        listed.add(animalId);
+                        long fileModified = attributes.lastModifiedTime().toMillis();
+                        Long recorded = modified.get(animalId);
+                        if (recorded == null || recorded != fileModified || !owners.containsKey(animalId)) {
+                            changed.put(animalId, path);
+                            modified.put(animalId, fileModified);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        owners.keySet().retainAll(listed);
+        owners.keySet().removeAll(changed.keySet());
+        modified.keySet().retainAll(listed);
+        return changed;
+    }
+
+    /**
+     * Add the owners of the changed files returned by {@link #validate} that could be decoded.
+     * Changed files that couldn't be decoded are left out.
+     *
+     * @param found owners of decoded animals, by animal ID
+     */
+    synchronized void reconcile(Map<UUID, UUID> found) {
+        owners.putAll(found);
+        modified.keySet().retainAll(owners.keySet());
+    }
+
+    /**
+     * Rewrite the sidecar from memory and open it for appending.
+     */
+    synchronized void open() {
+        closeChannel();
+        try {
+            channel = rewrite();
+        } catch (IOException e) {
+            System.err.println("[TamingRepository] Failed to write manifest " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrite the sidecar compacted. Call after the last file write of the session.
+     */
+    synchronized void close() {
+        closeChannel();
+        try {
+            rewrite().close();
+        } catch (IOException e) {
+            System.err.println("[TamingRepository] Failed to write manifest " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Record that an animal's file was written.
+     *
+     * @param fileModified the file's modification time after the write (ms)
+     */
+    void stored(UUID animalId, UUID ownerId, long fileModified) {
+        owners.put(animalId, ownerId);
+        modified.put(animalId, fileModified);
+        append(OP_STORED, animalId, ownerId, fileModified);
+    }
+
+    /**
+     * Record that an animal's file was deleted.
+     */
+    void removed(UUID animalId) {
+        UUID ownerId = owners.remove(animalId);
+        modified.remove(animalId);
+        if (ownerId != null) {
+            append(OP_REMOVED, animalId, ownerId, 0);
+        }
+    }
+
+    boolean contains(UUID animalId) {
+        return owners.containsKey(animalId);
+    }
+
+    int size() {
+        return owners.size();
+    }
+
+    /**
+     * Live view of stored animal ID to owner ID.
+     */
+    Map<UUID, UUID> owners() {
+        return Collections.unmodifiableMap(owners);
+    }
+
+    private synchronized void append(byte op, UUID animalId, UUID ownerId, long fileModified) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            fillRecord(op, animalId, ownerId, fileModified);
+            FramedLog.writeFully(channel, record);
+            if (++records > Math.max(COMPACT_MIN_RECORDS, 2 * owners.size())) {
+                channel.close();
+                channel = rewrite();
+            }
+        } catch (IOException e) {
+            // A missed record only means the file is decoded again at the next start
+            System.err.println("[TamingRepository] Failed to append to manifest " + file + ": " + e.getMessage());
+            closeChannel();
+        }
+    }
+
+    private void fillRecord(byte op, UUID animalId, UUID ownerId, long fileModified) {
+        record.clear();
+        int start = FramedLog.beginFrame(record);
+        record.put(op);
+        record.putLong(animalId.getMostSignificantBits()).putLong(animalId.getLeastSignificantBits());
+        record.putLong(ownerId.getMostSignificantBits()).putLong(ownerId.getLeastSignificantBits());
+        record.putLong(fileModified);
+        FramedLog.endFrame(record, start, crc);
+        record.flip();
+    }
+
+    /**
+     * Write the current contents to a temp file, move it into place and return it open for appending.
+     */
+    private FileChannel rewrite() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        int written = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+            for (Map.Entry<UUID, UUID> entry : owners.entrySet()) {
+                Long fileModified = modified.get(entry.getKey());
+                if (fileModified == null) {
+                    continue;  // Re-added by the next validate()
+                }
+                if (buffer.remaining() < RECORD_BYTES) {
+                    FramedLog.writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+                fillRecord(OP_STORED, entry.getKey(), entry.getValue(), fileModified);
+                buffer.put(record);
+                written++;
+            }
+            FramedLog.writeFully(out, buffer.flip());
+            out.force(false);
+        }
+        FramedLog.replace(temp, file);
+        records = written;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.animaltaming.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * The length + CRC32 framed file format of the write-ahead log and the animal manifest.
+ *
+ * A file starts with an 8-byte header (magic, format version) and is followed by frames of
+ * [length][crc32][payload]. Frames are only ever appended, so a crash can leave at most a
+ * torn frame at the end; readers stop at the first torn or corrupt frame and keep
+ * everything before it.
+ *
+ * Frames are built in place in a buffer ({@link #beginFrame}/{@link #endFrame}) and read
+ * back from one ({@link #nextFrame}).
+ */
+final class FramedLog {
+
+    /** Bytes of the file header: magic, format version. */
+    static final int FILE_HEADER_BYTES = 8;
+    /** Bytes in front of each payload: length, CRC32. */
+    static final int FRAME_HEADER_BYTES = 8;
+
+    private FramedLog() {
+    }
+
+    // ==================== Files ====================
+
+    /**
+     * Write the header at the channel's position.
+     */
+    static void writeHeader(FileChannel channel, int magic, int version) throws IOException {
+        writeFully(channel, ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(magic).putInt(version).flip());
+    }
+
+    /**
+     * Move a fully written temp file over the target, atomically where the file system allows.
+     */
+    static void replace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ==================== Frames ====================
+
+    /**
+     * Reserve a frame header at the buffer's position; the payload is put after it.
+     *
+     * @return the frame's start, for {@link #endFrame}
+     */
+    static int beginFrame(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + FRAME_HEADER_BYTES);
+        return start;
+    }
+
+    /**
+     * Fill in the header of a frame whose payload runs from after the header to the
+     * buffer's position.
+     *
+     * @return the payload length
+     */
+    static int endFrame(ByteBuffer buffer, int start, CRC32 crc) {
+        int length = buffer.position() - start - FRAME_HEADER_BYTES;
+        crc.reset();
+        crc.update(buffer.slice(start + FRAME_HEADER_BYTES, length));
+        buffer.putInt(start, length);
+        buffer.putInt(start + 4, (int) crc.getValue());
+        return length;
+    }
+
+    /**
+     * Read the next intact frame from a buffer.
+     *
+     * @return the payload, or null at the end or at a torn or corrupt frame; in that case the
+     *         buffer's position is left at the frame, so remaining bytes mean it was not the end
+     */
+    static ByteBuffer nextFrame(ByteBuffer log, int maxFrameBytes, CRC32 crc) {
+        if (log.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int start = log.position();
+        int length = log.getInt(start);
+        int expectedCrc = log.getInt(start + 4);
+        if (length <= 0 || length > maxFrameBytes || length > log.remaining() - FRAME_HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = log.slice(start + FRAME_HEADER_BYTES, length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        log.position(start + FRAME_HEADER_BYTES + length);
+        return payload;
+    }
+}
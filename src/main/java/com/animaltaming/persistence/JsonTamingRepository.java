@@ -2,13 +2,19 @@ package com.animaltaming.persistence;
 
 import com.animaltaming.api.model.TamedAnimal;
 import com.animaltaming.persistence.codec.TamedAnimalCodec;
-import com.google.gson.*;
-
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * JSON file-based implementation of TamingRepository.
@@ -16,44 +22,182 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * Storage structure:
  * - data/animals/{uuid}.json - Individual animal files
- * - data/owners/{uuid}.json - Owner index files
+ * - data/animals.manifest - Stored animal IDs and owners (see {@link AnimalManifest})
+ *
+ * The manifest is loaded at startup and kept current as files are written and deleted,
+ * so exists(), count(), findByOwner() and the file list for loadAll() never touch the
+ * disk. At startup it is checked against a listing of the animals folder, and only
+ * files that are new or whose modification time differs from the manifest are decoded.
+ * Owner indexes are built in memory from the manifest.
+ *
+ * Write-behind mode (non-zero flush interval): save() and delete() only update the
+ * in-memory cache and owner index and mark the animal dirty. A background thread writes
+ * dirty animals once per interval, so any number of updates to the same animal within
+ * an interval coalesce into one file write.
+ * Reads see pending changes immediately. Call {@link #shutdown(Duration)} to flush on exit.
  */
-public class JsonTamingRepository implements TamingRepository {
+public final class JsonTamingRepository implements TamingRepository {
+
+    /** Upper bound on threads decoding files in loadAll(). */
+    private static final int LOAD_THREADS = Math.min(8, Runtime.getRuntime().availableProcessors());
+    /** Files each load thread must have before loadAll() goes parallel. */
+    private static final int PARALLEL_LOAD_MIN_FILES_PER_THREAD = 256;
 
     private final Path dataFolder;
     private final Path animalsFolder;
-    private final Path ownersFolder;
     private final TamedAnimalCodec codec;
-    private final Gson gson;
 
     // Cache for loaded animals
     private final Map<UUID, TamedAnimal> cache = new ConcurrentHashMap<>();
-    // Cache for owner indexes
+    // Owner indexes, built from the manifest and kept current by save() and delete()
     private final Map<UUID, Set<UUID>> ownerIndex = new ConcurrentHashMap<>();
+    // Animals whose files are on disk
+    private final AnimalManifest manifest;
+
+    // Write-behind state (unused in write-through mode)
+    private final Duration flushInterval;
+    private final boolean writeBehind;
+    private final ScheduledExecutorService flusher;
+    private final Map<UUID, TamedAnimal> dirtyAnimals = new ConcurrentHashMap<>();
+    private final Set<UUID> deletedAnimals = ConcurrentHashMap.newKeySet();
+    private final Object flushLock = new Object();
 
+    /**
+     * Create a write-through repository: every save and delete touches disk immediately.
+     */
     public JsonTamingRepository(Path pluginFolder, TamedAnimalCodec codec) {
+        this(pluginFolder, codec, Duration.ZERO);
+    }
+
+    /**
+     * @param flushInterval how often dirty animals are written;
+     *                      zero for write-through
+     */
+    public JsonTamingRepository(Path pluginFolder, TamedAnimalCodec codec, Duration flushInterval) {
         this.dataFolder = pluginFolder.resolve("data");
         this.animalsFolder = dataFolder.resolve("animals");
-        this.ownersFolder = dataFolder.resolve("owners");
         this.codec = Objects.requireNonNull(codec, "codec required");
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.flushInterval = Objects.requireNonNull(flushInterval, "flushInterval required");
+        this.writeBehind = !flushInterval.isZero() && !flushInterval.isNegative();
+
+        this.manifest = new AnimalManifest(dataFolder.resolve("animals.manifest"));
 
         initializeFolders();
+        openManifest();
+
+        if (writeBehind) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "AnimalTaming-RepositoryFlush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = Math.max(1, flushInterval.toMillis());
+            flusher.scheduleWithFixedDelay(this::flushQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Check if saves are buffered and flushed in the background.
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
     }
 
     private void initializeFolders() {
         try {
             Files.createDirectories(animalsFolder);
-            Files.createDirectories(ownersFolder);
         } catch (IOException e) {
             throw new RuntimeException("Failed to create data folders", e);
         }
     }
 
+    /**
+     * Load the manifest, check it against the animals folder, decode only the files
+     * that are new or changed since their manifest record, and build the owner index.
+     * With no manifest that is every file.
+     */
+    private void openManifest() {
+        long start = System.nanoTime();
+        int records = manifest.load();
+        Map<UUID, Path> changed;
+        try {
+            changed = manifest.validate(animalsFolder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list animals", e);
+        }
+
+        Map<UUID, UUID> found = new HashMap<>();
+        for (TamedAnimal animal : decodeAll(new ArrayList<>(changed.values()))) {
+            if (changed.containsKey(animal.id())) {
+                found.put(animal.id(), animal.ownerId());
+            } else {
+                System.err.println("[TamingRepository] Animal file does not match its id: " + animal.id());
+            }
+        }
+        manifest.reconcile(found);
+        manifest.open();
+        System.out.println("[TamingRepository] Opened manifest of " + manifest.size() + " animals ("
+                + records + " records, " + changed.size() + " files decoded) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+
+        for (Map.Entry<UUID, UUID> entry : manifest.owners().entrySet()) {
+            ownerAnimals(entry.getValue()).add(entry.getKey());
+        }
+    }
+
     @Override
     public void save(TamedAnimal animal) {
         Objects.requireNonNull(animal, "animal required");
 
+        if (isWriteBehind()) {
+            UUID previousOwner = ownerOf(animal.id());
+            cache.put(animal.id(), animal);
+            ownerAnimals(animal.ownerId()).add(animal.id());
+            deletedAnimals.remove(animal.id());
+            dirtyAnimals.put(animal.id(), animal);
+            if (previousOwner != null && !previousOwner.equals(animal.ownerId())) {
+                ownerAnimals(previousOwner).remove(animal.id());
+            }
+            return;
+        }
+
+        UUID previousOwner = ownerOf(animal.id());
+        long modified = writeAnimal(animal);
+        manifest.stored(animal.id(), animal.ownerId(), modified);
+
+        // Update cache
+        cache.put(animal.id(), animal);
+
+        // Update owner index
+        ownerAnimals(animal.ownerId()).add(animal.id());
+        if (previousOwner != null && !previousOwner.equals(animal.ownerId())) {
+            ownerAnimals(previousOwner).remove(animal.id());
+        }
+    }
+
+    /**
+     * Current owner of a stored or pending animal, or null if there is none.
+     */
+    private UUID ownerOf(UUID animalId) {
+        TamedAnimal cached = cache.get(animalId);
+        if (cached != null) {
+            return cached.ownerId();
+        }
+        TamedAnimal pending = dirtyAnimals.get(animalId);
+        if (pending != null) {
+            return pending.ownerId();
+        }
+        return deletedAnimals.contains(animalId) ? null : manifest.owners().get(animalId);
+    }
+
+    /**
+     * Write an animal's file atomically.
+     *
+     * @return the file's modification time, for the manifest
+     */
+    private long writeAnimal(TamedAnimal animal) {
         Path targetFile = animalsFolder.resolve(animal.id() + ".json");
         Path tempFile = animalsFolder.resolve(animal.id() + ".json.tmp");
 
@@ -66,13 +210,7 @@ public class JsonTamingRepository implements TamingRepository {
             Files.move(tempFile, targetFile,
                     StandardCopyOption.ATOMIC_MOVE,
                     StandardCopyOption.REPLACE_EXISTING);
-
-            // Update cache
-            cache.put(animal.id(), animal);
-
-            // Update owner index
-            updateOwnerIndex(animal.ownerId(), animal.id(), true);
-
+            return Files.getLastModifiedTime(targetFile).toMillis();
         } catch (IOException e) {
             // Cleanup temp file on failure
             try {
@@ -88,21 +226,28 @@ public class JsonTamingRepository implements TamingRepository {
         Objects.requireNonNull(animalId, "animalId required");
 
         // Check cache first
-        if (cache.containsKey(animalId)) {
-            return Optional.of(cache.get(animalId));
+        TamedAnimal cached = cache.get(animalId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        TamedAnimal pending = dirtyAnimals.get(animalId);
+        if (pending != null) {
+            return Optional.of(pending);
+        }
+        if (deletedAnimals.contains(animalId) || !manifest.contains(animalId)) {
+            return Optional.empty();  // Never stored, or deleted with file removal still pending
         }
 
         // Load from file
         Path animalFile = animalsFolder.resolve(animalId + ".json");
-        if (!Files.exists(animalFile)) {
-            return Optional.empty();
-        }
 
         try {
             String json = Files.readString(animalFile, StandardCharsets.UTF_8);
             TamedAnimal animal = codec.decode(json);
             cache.put(animalId, animal);
             return Optional.of(animal);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();  // Removed outside the repository
         } catch (IOException | IllegalArgumentException e) {
             System.err.println("[TamingRepository] Failed to load animal " + animalId + ": " + e.getMessage());
             return Optional.empty();
@@ -113,15 +258,25 @@ public class JsonTamingRepository implements TamingRepository {
     public boolean delete(UUID animalId) {
         Objects.requireNonNull(animalId, "animalId required");
 
-        TamedAnimal animal = cache.remove(animalId);
+        UUID ownerId = ownerOf(animalId);
+        cache.remove(animalId);
         Path animalFile = animalsFolder.resolve(animalId + ".json");
 
+        if (isWriteBehind()) {
+            dirtyAnimals.remove(animalId);
+            deletedAnimals.add(animalId);
+            if (ownerId != null) {
+                ownerAnimals(ownerId).remove(animalId);
+            }
+            return ownerId != null;
+        }
+
         try {
             boolean deleted = Files.deleteIfExists(animalFile);
+            manifest.removed(animalId);
 
-            // Update owner index if we had the animal cached
-            if (animal != null) {
-                updateOwnerIndex(animal.ownerId(), animalId, false);
+            if (ownerId != null) {
+                ownerAnimals(ownerId).remove(animalId);
             }
 
             return deleted;
@@ -134,130 +289,235 @@ public class JsonTamingRepository implements TamingRepository {
     @Override
     public Set<UUID> findByOwner(UUID ownerId) {
         Objects.requireNonNull(ownerId, "ownerId required");
+        return new HashSet<>(ownerAnimals(ownerId));
+    }
 
-        // Check cache
-        if (ownerIndex.containsKey(ownerId)) {
-            return new HashSet<>(ownerIndex.get(ownerId));
-        }
+    /**
+     * Get the live owner index for an owner.
+     */
+    private Set<UUID> ownerAnimals(UUID ownerId) {
+        return ownerIndex.computeIfAbsent(ownerId, k -> ConcurrentHashMap.newKeySet());
+    }
 
-        // Load from file
-        Path ownerFile = ownersFolder.resolve(ownerId + ".json");
-        if (!Files.exists(ownerFile)) {
-            return Set.of();
-        }
+    /**
+     * Load every stored animal in one bulk pass.
+     *
+     * The files to read come from the manifest and are decoded on a bounded worker
+     * pool with the streaming codec. Animals with pending writes or deletes are
+     * returned as they are in memory.
+     */
+    @Override
+    public Collection<TamedAnimal> loadAll() {
+        List<Path> files = new ArrayList<>();
+        List<TamedAnimal> animals = new ArrayList<>();
+        Set<UUID> listed = new HashSet<>(manifest.owners().keySet());
 
-        try {
-            String json = Files.readString(ownerFile, StandardCharsets.UTF_8);
-            JsonObject obj = JsonParser.parseString(json).getAsJsonObject();
-            JsonArray animalsArray = obj.getAsJsonArray("animals");
+        for (UUID animalId : listed) {
+            if (deletedAnimals.contains(animalId)) {
+                continue;
+            }
+            TamedAnimal cached = cache.get(animalId);
+            if (cached == null) {
+                cached = dirtyAnimals.get(animalId);
+            }
+            if (cached != null) {
+                animals.add(cached);
+            } else {
+                files.add(animalsFolder.resolve(animalId + ".json"));
+            }
+        }
 
-            Set<UUID> animals = ConcurrentHashMap.newKeySet();
-            for (JsonElement element : animalsArray) {
-                try {
-                    animals.add(UUID.fromString(element.getAsString()));
-                } catch (IllegalArgumentException ignored) {
-                }
+        // Saved but not yet written (write-behind)
+        for (TamedAnimal pending : dirtyAnimals.values()) {
+            if (!listed.contains(pending.id())) {
+                animals.add(pending);
             }
+        }
 
-            ownerIndex.put(ownerId, animals);
-            return new HashSet<>(animals);
-        } catch (IOException | JsonSyntaxException e) {
-            System.err.println("[TamingRepository] Failed to load owner index " + ownerId + ": " + e.getMessage());
-            return Set.of();
+        for (TamedAnimal animal : decodeAll(files)) {
+            TamedAnimal existing = cache.putIfAbsent(animal.id(), animal);
+            animals.add(existing != null ? existing : animal);
         }
+        return animals;
     }
 
-    @Override
-    public Collection<TamedAnimal> loadAll() {
-        List<TamedAnimal> animals = new ArrayList<>();
+    /**
+     * Decode animal files, in parallel once there are enough of them to pay for the pool.
+     * Unreadable files are logged and skipped.
+     */
+    private List<TamedAnimal> decodeAll(List<Path> files) {
+        int threads = Math.min(LOAD_THREADS, files.size() / PARALLEL_LOAD_MIN_FILES_PER_THREAD);
+        if (threads <= 1) {
+            return decodeRange(files, 0, files.size());
+        }
 
-        try (var stream = Files.list(animalsFolder)) {
-            stream.filter(p -> p.toString().endsWith(".json"))
-                  .filter(p -> !p.toString().endsWith(".tmp"))
-                  .forEach(path -> {
-                      String filename = path.getFileName().toString();
-                      String uuidStr = filename.substring(0, filename.length() - 5);
-                      try {
-                          UUID animalId = UUID.fromString(uuidStr);
-                          load(animalId).ifPresent(animals::add);
-                      } catch (IllegalArgumentException e) {
-                          System.err.println("[TamingRepository] Invalid animal file: " + filename);
-                      }
-                  });
-        } catch (IOException e) {
-            System.err.println("[TamingRepository] Failed to list animals: " + e.getMessage());
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "AnimalTaming-RepositoryLoad");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<TamedAnimal>>> chunks = new ArrayList<>(threads);
+            int chunkSize = (files.size() + threads - 1) / threads;
+            for (int from = 0; from < files.size(); from += chunkSize) {
+                int begin = from;
+                int end = Math.min(files.size(), from + chunkSize);
+                chunks.add(pool.submit(() -> decodeRange(files, begin, end)));
+            }
+
+            List<TamedAnimal> animals = new ArrayList<>(files.size());
+            for (Future<List<TamedAnimal>> chunk : chunks) {
+                animals.addAll(chunk.get());
+            }
+            return animals;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading animals", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to load animals", e.getCause());
+        } finally {
+            pool.shutdownNow();
         }
+    }
 
+    private List<TamedAnimal> decodeRange(List<Path> files, int from, int to) {
+        List<TamedAnimal> animals = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Path file = files.get(i);
+            try {
+                // One read per file; small files decode faster from a string than a buffered reader
+                animals.add(codec.decode(Files.readString(file, StandardCharsets.UTF_8)));
+            } catch (NoSuchFileException e) {
+                // Deleted since the listing
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("[TamingRepository] Failed to load animal " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
         return animals;
     }
 
     @Override
     public boolean exists(UUID animalId) {
-        if (cache.containsKey(animalId)) {
-            return true;
-        }
-        return Files.exists(animalsFolder.resolve(animalId + ".json"));
+        return ownerOf(animalId) != null;
     }
 
+    /**
+     * Number of stored animals, counting pending writes and deletes as done.
+     * Never waits for a flush in progress: flush() updates the manifest before it
+     * clears an animal's pending write or delete, so nothing is counted twice or missed.
+     */
     @Override
     public int count() {
-        try (var stream = Files.list(animalsFolder)) {
-            return (int) stream
-                    .filter(p -> p.toString().endsWith(".json"))
-                    .filter(p -> !p.toString().endsWith(".tmp"))
-                    .count();
-        } catch (IOException e) {
-            return cache.size();
+        int count = manifest.size();
+        for (UUID animalId : dirtyAnimals.keySet()) {
+            if (!manifest.contains(animalId)) {
+                count++;
+            }
+        }
+        for (UUID animalId : deletedAnimals) {
+            if (manifest.contains(animalId)) {
+                count--;
+            }
         }
+        return count;
     }
 
-    private void updateOwnerIndex(UUID ownerId, UUID animalId, boolean add) {
-        Set<UUID> animals = ownerIndex.computeIfAbsent(ownerId, k -> ConcurrentHashMap.newKeySet());
+    // ==================== Write-behind ====================
 
-        if (add) {
-            animals.add(animalId);
-        } else {
-            animals.remove(animalId);
-        }
-
-        saveOwnerIndex(ownerId);
-    }
+    /**
+     * Write all dirty animals and pending deletes now.
+     * No-op in write-through mode. Failed writes stay dirty for the next flush.
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            for (UUID animalId : new ArrayList<>(dirtyAnimals.keySet())) {
+                TamedAnimal animal = dirtyAnimals.get(animalId);
+                if (animal == null) {
+                    continue;
+                }
+                try {
+                    long modified = writeAnimal(animal);
+                    manifest.stored(animalId, animal.ownerId(), modified);
+                    // Keep it dirty if it was saved again during the write
+                    dirtyAnimals.remove(animalId, animal);
+                } catch (RuntimeException e) {
+                    System.err.println("[TamingRepository] " + e.getMessage() + ": " + e.getCause());
+                }
+            }
 
-    private void saveOwnerIndex(UUID ownerId) {
-        Set<UUID> animals = ownerIndex.get(ownerId);
-        if (animals == null) {
-            return;
+            for (UUID animalId : new ArrayList<>(deletedAnimals)) {
+                if (!deletedAnimals.contains(animalId)) {
+                    continue;  // Saved again since
+                }
+                try {
+                    Files.deleteIfExists(animalsFolder.resolve(animalId + ".json"));
+                    manifest.removed(animalId);
+                    deletedAnimals.remove(animalId);
+                } catch (IOException e) {
+                    System.err.println("[TamingRepository] Failed to delete animal " + animalId + ": " + e.getMessage());
+                }
+            }
         }
+    }
 
-        JsonObject obj = new JsonObject();
-        JsonArray animalsArray = new JsonArray();
-        for (UUID animalId : animals) {
-            animalsArray.add(animalId.toString());
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("[TamingRepository] Background flush failed: " + e.getMessage());
         }
-        obj.add("animals", animalsArray);
+    }
 
-        Path targetFile = ownersFolder.resolve(ownerId + ".json");
-        Path tempFile = ownersFolder.resolve(ownerId + ".json.tmp");
+    /**
+     * Number of animals and deletes waiting to be written.
+     */
+    public int getPendingWriteCount() {
+        return dirtyAnimals.size() + deletedAnimals.size();
+    }
 
+    /**
+     * Stop the background flusher after a final flush and close the manifest.
+     * Waits at most the given time so shutdown cannot hang on slow storage.
+     * If anything is left unwritten the manifest is left as appended so far; the
+     * next start validates it against the animals folder either way.
+     *
+     * @return true if everything pending was written
+     */
+    @Override
+    public boolean shutdown(Duration timeout) {
+        if (flusher == null) {
+            manifest.close();
+            return true;
+        }
+        Future<?> finalFlush = flusher.submit(this::flushQuietly);
+        flusher.shutdown();
         try {
-            Files.writeString(tempFile, gson.toJson(obj), StandardCharsets.UTF_8);
-            Files.move(tempFile, targetFile,
-                    StandardCopyOption.ATOMIC_MOVE,
-                    StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            try {
-                Files.deleteIfExists(tempFile);
-            } catch (IOException ignored) {
+            finalFlush.get(Math.max(1, timeout.toMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("[TamingRepository] Shutdown flush timed out with "
+                    + getPendingWriteCount() + " writes pending");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+        synchronized (flushLock) {
+            if (getPendingWriteCount() != 0) {
+                return false;
             }
-            System.err.println("[TamingRepository] Failed to save owner index " + ownerId + ": " + e.getMessage());
+            manifest.close();
+            return true;
         }
     }
 
     /**
-     * Clear all caches.
+     * Clear the animal cache. The owner index and manifest are kept, since they
+     * are the only record of what is stored.
      */
     public void clearCache() {
         cache.clear();
-        ownerIndex.clear();
     }
 }
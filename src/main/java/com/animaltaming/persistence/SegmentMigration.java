@@ -0,0 +1,116 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.codec.TamedAnimalCodec;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * One-shot conversion of the JSON layout (data/animals) into a
+ * {@link SegmentTamingRepository}.
+ *
+ * The JSON files are left untouched so the migration can be rolled back by deleting
+ * data/tamed.seg. Once the segment file exists, AnimalTamingPlugin uses it instead
+ * of the JSON repository, so it only appears once every animal is in it: all animals
+ * are checked against the record format first, then written to a temporary file that
+ * is renamed into place on success. On any failure the temporary file is deleted and
+ * the plugin stays on JSON.
+ *
+ * Run offline with the server stopped:
+ * {@code java -cp <plugin jar>:<gson jar> com.animaltaming.persistence.SegmentMigration <pluginFolder>}
+ */
+public final class SegmentMigration {
+
+    private SegmentMigration() {
+    }
+
+    /**
+     * Copy every animal from the JSON layout into the segment store.
+     *
+     * @param pluginFolder the plugin's data folder
+     * @return the number of animals migrated
+     * @throws IllegalStateException if a segment file already exists
+     * @throws IllegalArgumentException if an animal does not fit the record format
+     *         (nothing is written)
+     */
+    public static int migrate(Path pluginFolder) {
+        Objects.requireNonNull(pluginFolder, "pluginFolder required");
+        if (SegmentTamingRepository.exists(pluginFolder)) {
+            throw new IllegalStateException("Segment store already exists: "
+                    + SegmentTamingRepository.segmentPath(pluginFolder));
+        }
+
+        JsonTamingRepository json = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
+        Collection<TamedAnimal> animals = json.loadAll();
+        json.shutdown(Duration.ZERO);
+
+        int invalid = 0;
+        IllegalArgumentException first = null;
+        for (TamedAnimal animal : animals) {
+            try {
+                SegmentTamingRepository.validate(animal);
+            } catch (IllegalArgumentException e) {
+                System.err.println("[SegmentMigration] Animal " + animal.id() + ": " + e.getMessage());
+                invalid++;
+                if (first == null) {
+                    first = e;
+                }
+            }
+        }
+        if (first != null) {
+            throw new IllegalArgumentException(invalid + " of " + animals.size()
+                    + " animals do not fit the segment format; nothing was migrated", first);
+        }
+
+        Path target = SegmentTamingRepository.segmentPath(pluginFolder);
+        Path temp = target.resolveSibling(SegmentTamingRepository.SEGMENT_FILE + ".tmp");
+        try {
+            Files.deleteIfExists(temp);  // Left by an earlier failed run
+            SegmentTamingRepository segment = new SegmentTamingRepository(temp, animals.size());
+            boolean closed;
+            try {
+                for (TamedAnimal animal : animals) {
+                    segment.save(animal);
+                }
+            } finally {
+                closed = segment.shutdown(Duration.ZERO);
+            }
+            if (!closed) {
+                throw new IOException("Failed to close " + temp);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Failed to write segment store " + target, e);
+        }
+        return animals.size();
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: SegmentMigration <pluginFolder>");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        int migrated = migrate(Paths.get(args[0]));
+        System.out.printf("Migrated %d tamed animals in %.1f ms%n", migrated, (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,536 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped binary implementation of TamingRepository.
+ *
+ * All animals live in one segment file (data/tamed.seg) of fixed-size records, so there
+ * is no per-animal file, directory listing or JSON parsing. The file is memory-mapped
+ * and loadAll() is a single sequential pass.
+ *
+ * Layout: a 64-byte header followed by {@link #RECORD_SIZE}-byte slots. Each slot starts
+ * with a status byte and a CRC32 of the record body; the status byte is written last.
+ * Saves never overwrite a live record: the new version is written to a free slot, marked
+ * live, and only then is the old slot freed. A torn write therefore leaves the old record
+ * intact next to a checksum mismatch, which is skipped (and its slot reused) on open. If
+ * both versions survive, the one with the higher per-animal sequence number wins. Deleted
+ * and superseded slots go on a free list and are reused before the file grows.
+ *
+ * In memory it keeps only a UUID-to-slot index and an owner secondary index, both rebuilt
+ * on open in the same pass that validates checksums. Changes reach the OS page cache
+ * immediately; {@link #flush()} forces them to disk.
+ *
+ * Strings are stored in fixed-width UTF-8 fields. A string too long for its field is
+ * moved to an overflow area in continuation slots directly after the record's first slot,
+ * and the field points at it; such records are always appended at the end of the file so
+ * their slots are contiguous. Use {@link SegmentMigration} to convert an existing JSON layout.
+ */
+public class SegmentTamingRepository implements TamingRepository {
+
+    /** Segment file name under the data folder. */
+    public static final String SEGMENT_FILE = "tamed.seg";
+
+    /** Bytes per animal record. */
+    public static final int RECORD_SIZE = 256;
+
+    private static final int MAGIC = 0x54534547;  // "TSEG"
+    private static final int FORMAT_VERSION = 2;
+    private static final int OLDEST_READABLE_VERSION = 1;  // Same layout, without overflow slots
+    private static final int HEADER_SIZE = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private static final byte STATUS_FREE = 0;
+    private static final byte STATUS_LIVE = 1;
+
+    // Record field offsets
+    private static final int OFF_STATUS = 0;
+    private static final int OFF_CRC = 4;
+    private static final int OFF_BODY = 8;
+    private static final int OFF_ID = 8;
+    private static final int OFF_OWNER = 24;
+    private static final int OFF_MODE = 40;
+    private static final int OFF_SPAN = 41;  // Slots the record occupies; 0 (one slot) in version 1
+    private static final int OFF_SEQUENCE = 44;  // Bumped on every save; breaks ties between copies
+    private static final int OFF_HOME = 48;
+    private static final int OFF_MAX_FOLLOW = 72;
+    private static final int OFF_TAMED = 80;
+    private static final int OFF_OWNER_NAME = 88;
+    private static final int OFF_SPECIES = 136;
+    private static final int OFF_CUSTOM_NAME = 200;
+    private static final int OFF_OVERFLOW = RECORD_SIZE;  // Start of the continuation slots
+
+    private static final int OWNER_NAME_BYTES = 47;
+    private static final int SPECIES_BYTES = 63;
+    private static final int CUSTOM_NAME_BYTES = 55;
+    private static final int NULL_STRING = 0xFF;
+    private static final int OVERFLOW_STRING = 0xFE;  // Followed by the string's offset in the overflow area
+    private static final int MAX_SPAN = 255;
+
+    private static final BehaviorMode[] MODES = BehaviorMode.values();
+
+    private final Path segmentFile;
+    private final FileChannel channel;
+    private MappedByteBuffer map;
+    private int capacity;
+
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final Map<UUID, Set<UUID>> ownerIndex = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int highWater;  // Slots [0, highWater) have been used at least once
+
+    private byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32 crc = new CRC32();
+
+    public SegmentTamingRepository(Path pluginFolder) {
+        this(segmentPath(pluginFolder), INITIAL_CAPACITY);
+    }
+
+    /**
+     * Open or create a segment file at an explicit path.
+     *
+     * @param initialCapacity slots to size a new file for
+     */
+    SegmentTamingRepository(Path segmentFile, int initialCapacity) {
+        this.segmentFile = segmentFile;
+        try {
+            Files.createDirectories(segmentFile.getParent());
+            this.channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            open(Math.max(INITIAL_CAPACITY, Math.min(MAX_CAPACITY, initialCapacity)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open segment store " + segmentFile, e);
+        }
+    }
+
+    /**
+     * Location of the segment file for a plugin folder.
+     */
+    public static Path segmentPath(Path pluginFolder) {
+        return pluginFolder.resolve("data").resolve(SEGMENT_FILE);
+    }
+
+    /**
+     * Check if a plugin folder already has a segment store.
+     */
+    public static boolean exists(Path pluginFolder) {
+        return Files.isRegularFile(segmentPath(pluginFolder));
+    }
+
+    /**
+     * Check that an animal fits a record, without writing anything.
+     *
+     * @throws IllegalArgumentException if its strings need more than {@value #MAX_SPAN} slots
+     */
+    public static void validate(TamedAnimal animal) {
+        Objects.requireNonNull(animal, "animal required");
+        checkSpan(animal, utf8(animal.ownerName()), utf8(animal.speciesId()), utf8(animal.customName()));
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Number of slots a record with these strings occupies.
+     */
+    private static int checkSpan(TamedAnimal animal, byte[] ownerName, byte[] species, byte[] customName) {
+        long overflow = overflowBytes(ownerName, OWNER_NAME_BYTES)
+                + overflowBytes(species, SPECIES_BYTES)
+                + overflowBytes(customName, CUSTOM_NAME_BYTES);
+        long span = 1 + (overflow + RECORD_SIZE - 1) / RECORD_SIZE;
+        if (span > MAX_SPAN) {
+            throw new IllegalArgumentException("Names of animal " + animal.id() + " need " + overflow
+                    + " overflow bytes; at most " + (MAX_SPAN - 1) * RECORD_SIZE + " fit");
+        }
+        return (int) span;
+    }
+
+    private static long overflowBytes(byte[] bytes, int fieldBytes) {
+        return bytes != null && bytes.length > fieldBytes ? 4L + bytes.length : 0;
+    }
+
+    private void open(int initialCapacity) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            remap(initialCapacity);
+            map.putInt(0, MAGIC);
+            map.putInt(4, FORMAT_VERSION);
+            map.putInt(8, RECORD_SIZE);
+            return;
+        }
+
+        int storedCapacity = (int) Math.min(MAX_CAPACITY, (size - HEADER_SIZE) / RECORD_SIZE);
+        remap(Math.max(INITIAL_CAPACITY, storedCapacity));
+        int version = map.getInt(4);
+        if (map.getInt(0) != MAGIC || version < OLDEST_READABLE_VERSION || version > FORMAT_VERSION
+                || map.getInt(8) != RECORD_SIZE) {
+            throw new IOException("Not a version " + FORMAT_VERSION + " segment file: " + segmentFile);
+        }
+        // Version 1 records read as they are; the bump keeps older builds away from overflow records
+        map.putInt(4, FORMAT_VERSION);
+
+        // One pass: validate checksums, build both indexes and the free list
+        BitSet used = new BitSet(storedCapacity);
+        int corrupt = 0;
+        for (int slot = 0; slot < storedCapacity; ) {
+            int base = offset(slot);
+            byte status = map.get(base + OFF_STATUS);
+            if (status == STATUS_FREE) {
+                slot++;
+                continue;
+            }
+            int span = spanAt(base);
+            if (status != STATUS_LIVE || slot + span > storedCapacity || !checksumMatches(base, span)) {
+                map.put(base + OFF_STATUS, STATUS_FREE);
+                corrupt++;
+                slot++;
+                continue;
+            }
+            UUID id = new UUID(map.getLong(base + OFF_ID), map.getLong(base + OFF_ID + 8));
+            UUID owner = new UUID(map.getLong(base + OFF_OWNER), map.getLong(base + OFF_OWNER + 8));
+            highWater = slot + span;
+            Integer previous = slotById.get(id);
+            if (previous != null) {
+                // Both copies of an interrupted save survived; keep the newer one
+                int previousBase = offset(previous);
+                if (map.getInt(base + OFF_SEQUENCE) - map.getInt(previousBase + OFF_SEQUENCE) <= 0) {
+                    clearSlots(slot, span);
+                    slot += span;
+                    continue;
+                }
+                UUID previousOwner = new UUID(map.getLong(previousBase + OFF_OWNER), map.getLong(previousBase + OFF_OWNER + 8));
+                int previousSpan = spanAt(previousBase);
+                clearSlots(previous, previousSpan);
+                used.clear(previous, previous + previousSpan);
+                removeFromOwner(previousOwner, id);
+            }
+            used.set(slot, slot + span);
+            slotById.put(id, slot);
+            ownerIndex.computeIfAbsent(owner, k -> new HashSet<>()).add(id);
+            slot += span;
+        }
+        for (int slot = highWater - 1; slot >= 0; slot--) {
+            if (!used.get(slot)) {
+                freeSlots.push(slot);
+            }
+        }
+        if (corrupt > 0) {
+            System.err.println("[TamingRepository] Dropped " + corrupt + " corrupt records from " + segmentFile);
+        }
+    }
+
+    // ==================== TamingRepository ====================
+
+    @Override
+    public synchronized void save(TamedAnimal animal) {
+        Objects.requireNonNull(animal, "animal required");
+
+        Integer existing = slotById.get(animal.id());
+        int sequence = existing != null ? map.getInt(offset(existing) + OFF_SEQUENCE) + 1 : 0;
+        int span = encodeRecord(animal, sequence);  // Rejects oversized names before any slot is touched
+
+        // Copy-on-write: the new version goes live in other slots before the old ones are freed
+        int slot = allocateSlots(span);
+        writeRecord(slot, span);
+        if (existing != null) {
+            int oldBase = offset(existing);
+            UUID previousOwner = new UUID(map.getLong(oldBase + OFF_OWNER), map.getLong(oldBase + OFF_OWNER + 8));
+            freeRecord(existing);
+            if (!previousOwner.equals(animal.ownerId())) {
+                removeFromOwner(previousOwner, animal.id());
+            }
+        }
+        slotById.put(animal.id(), slot);
+        ownerIndex.computeIfAbsent(animal.ownerId(), k -> new HashSet<>()).add(animal.id());
+    }
+
+    @Override
+    public synchronized Optional<TamedAnimal> load(UUID animalId) {
+        Objects.requireNonNull(animalId, "animalId required");
+        Integer slot = slotById.get(animalId);
+        return slot != null ? Optional.of(readRecord(offset(slot))) : Optional.empty();
+    }
+
+    @Override
+    public synchronized boolean delete(UUID animalId) {
+        Objects.requireNonNull(animalId, "animalId required");
+        Integer slot = slotById.remove(animalId);
+        if (slot == null) {
+            return false;
+        }
+        int base = offset(slot);
+        UUID owner = new UUID(map.getLong(base + OFF_OWNER), map.getLong(base + OFF_OWNER + 8));
+        freeRecord(slot);
+        removeFromOwner(owner, animalId);
+        return true;
+    }
+
+    @Override
+    public synchronized Set<UUID> findByOwner(UUID ownerId) {
+        Objects.requireNonNull(ownerId, "ownerId required");
+        Set<UUID> animals = ownerIndex.get(ownerId);
+        return animals != null ? new HashSet<>(animals) : Set.of();
+    }
+
+    /**
+     * Decode every live record in one sequential pass over the mapped region.
+     */
+    @Override
+    public synchronized Collection<TamedAnimal> loadAll() {
+        List<TamedAnimal> animals = new ArrayList<>(slotById.size());
+        for (int slot = 0; slot < highWater; ) {
+            int base = offset(slot);
+            if (map.get(base + OFF_STATUS) == STATUS_LIVE) {
+                animals.add(readRecord(base));
+                slot += spanAt(base);  // Continuation slots hold string bytes, not status
+            } else {
+                slot++;
+            }
+        }
+        return animals;
+    }
+
+    @Override
+    public synchronized boolean exists(UUID animalId) {
+        return slotById.containsKey(animalId);
+    }
+
+    @Override
+    public synchronized int count() {
+        return slotById.size();
+    }
+
+    /**
+     * Force written records to disk.
+     */
+    @Override
+    public synchronized void flush() {
+        map.force();
+    }
+
+    @Override
+    public synchronized boolean shutdown(Duration timeout) {
+        try {
+            map.force();
+            channel.close();
+            return true;
+        } catch (IOException e) {
+            System.err.println("[TamingRepository] Failed to close segment store: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Number of record slots in the file (live plus free).
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    // ==================== Records ====================
+
+    /**
+     * Encode an animal into the scratch record, checksum and status included.
+     *
+     * @return the number of slots the record occupies
+     */
+    private int encodeRecord(TamedAnimal animal, int sequence) {
+        byte[] ownerName = utf8(animal.ownerName());
+        byte[] species = utf8(animal.speciesId());
+        byte[] customName = utf8(animal.customName());
+        int span = checkSpan(animal, ownerName, species, customName);
+        int length = span * RECORD_SIZE;
+
+        ensureScratch(span);
+        ByteBuffer record = ByteBuffer.wrap(scratch);
+        Arrays.fill(scratch, 0, length, (byte) 0);
+        record.putLong(OFF_ID, animal.id().getMostSignificantBits());
+        record.putLong(OFF_ID + 8, animal.id().getLeastSignificantBits());
+        record.putLong(OFF_OWNER, animal.ownerId().getMostSignificantBits());
+        record.putLong(OFF_OWNER + 8, animal.ownerId().getLeastSignificantBits());
+        record.put(OFF_MODE, (byte) animal.mode().ordinal());
+        record.put(OFF_SPAN, (byte) span);
+        record.putInt(OFF_SEQUENCE, sequence);
+        record.putDouble(OFF_HOME, animal.homeX());
+        record.putDouble(OFF_HOME + 8, animal.homeY());
+        record.putDouble(OFF_HOME + 16, animal.homeZ());
+        record.putDouble(OFF_MAX_FOLLOW, animal.maxFollowDistance());
+        record.putLong(OFF_TAMED, animal.tamedTimestamp());
+        int overflow = OFF_OVERFLOW;
+        overflow = putString(record, OFF_OWNER_NAME, OWNER_NAME_BYTES, ownerName, overflow);
+        overflow = putString(record, OFF_SPECIES, SPECIES_BYTES, species, overflow);
+        putString(record, OFF_CUSTOM_NAME, CUSTOM_NAME_BYTES, customName, overflow);
+
+        crc.reset();
+        crc.update(scratch, OFF_BODY, length - OFF_BODY);
+        record.putInt(OFF_CRC, (int) crc.getValue());
+        record.put(OFF_STATUS, STATUS_LIVE);
+        return span;
+    }
+
+    /**
+     * Copy the scratch record into free slots: body first, status byte last.
+     */
+    private void writeRecord(int slot, int span) {
+        int base = offset(slot);
+        map.put(base + 1, scratch, 1, span * RECORD_SIZE - 1);
+        map.put(base + OFF_STATUS, STATUS_LIVE);
+    }
+
+    private TamedAnimal readRecord(int base) {
+        int span = spanAt(base);
+        ensureScratch(span);
+        map.get(base, scratch, 0, span * RECORD_SIZE);
+        ByteBuffer record = ByteBuffer.wrap(scratch);
+        int modeOrdinal = record.get(OFF_MODE);
+        return new TamedAnimal(
+                new UUID(record.getLong(OFF_ID), record.getLong(OFF_ID + 8)),
+                new UUID(record.getLong(OFF_OWNER), record.getLong(OFF_OWNER + 8)),
+                getString(OFF_OWNER_NAME),
+                getString(OFF_SPECIES),
+                modeOrdinal >= 0 && modeOrdinal < MODES.length ? MODES[modeOrdinal] : BehaviorMode.FOLLOW,
+                record.getDouble(OFF_HOME),
+                record.getDouble(OFF_HOME + 8),
+                record.getDouble(OFF_HOME + 16),
+                record.getDouble(OFF_MAX_FOLLOW),
+                record.getLong(OFF_TAMED),
+                getString(OFF_CUSTOM_NAME)
+        );
+    }
+
+    /**
+     * Put a string in its field, or in the overflow area if it is longer than the field.
+     *
+     * @return the overflow position after the string
+     */
+    private int putString(ByteBuffer record, int offset, int fieldBytes, byte[] bytes, int overflow) {
+        if (bytes == null) {
+            scratch[offset] = (byte) NULL_STRING;
+            return overflow;
+        }
+        if (bytes.length <= fieldBytes) {
+            scratch[offset] = (byte) bytes.length;
+            System.arraycopy(bytes, 0, scratch, offset + 1, bytes.length);
+            return overflow;
+        }
+        scratch[offset] = (byte) OVERFLOW_STRING;
+        record.putInt(offset + 1, overflow);
+        record.putInt(overflow, bytes.length);
+        System.arraycopy(bytes, 0, scratch, overflow + 4, bytes.length);
+        return overflow + 4 + bytes.length;
+    }
+
+    private String getString(int offset) {
+        int length = scratch[offset] & 0xFF;
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length == OVERFLOW_STRING) {
+            ByteBuffer record = ByteBuffer.wrap(scratch);
+            int overflow = record.getInt(offset + 1);
+            return new String(scratch, overflow + 4, record.getInt(overflow), StandardCharsets.UTF_8);
+        }
+        return new String(scratch, offset + 1, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean checksumMatches(int base, int span) {
+        ensureScratch(span);
+        int length = span * RECORD_SIZE;
+        map.get(base, scratch, 0, length);
+        crc.reset();
+        crc.update(scratch, OFF_BODY, length - OFF_BODY);
+        return ByteBuffer.wrap(scratch).getInt(OFF_CRC) == (int) crc.getValue();
+    }
+
+    private int spanAt(int base) {
+        return Math.max(1, map.get(base + OFF_SPAN) & 0xFF);
+    }
+
+    private void ensureScratch(int span) {
+        if (scratch.length < span * RECORD_SIZE) {
+            scratch = new byte[span * RECORD_SIZE];
+        }
+    }
+
+    // ==================== Slots ====================
+
+    /**
+     * Find slots for a record. Records with overflow slots need a contiguous run, so they
+     * always go at the end rather than into free slots.
+     */
+    private int allocateSlots(int span) {
+        if (span == 1 && !freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        while (capacity - highWater < span) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalStateException("Segment store is full (" + capacity + " slots)");
+            }
+            try {
+                remap((int) Math.min(MAX_CAPACITY, (long) capacity * 2));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to grow segment store " + segmentFile, e);
+            }
+        }
+        int slot = highWater;
+        highWater += span;
+        return slot;
+    }
+
+    /**
+     * Free a record's slots, first slot first so the record is gone before its overflow.
+     */
+    private void freeRecord(int slot) {
+        int span = spanAt(offset(slot));
+        clearSlots(slot, span);
+        for (int i = span - 1; i >= 0; i--) {
+            freeSlots.push(slot + i);
+        }
+    }
+
+    /**
+     * Mark slots free, including continuation slots whose first byte holds string data.
+     */
+    private void clearSlots(int slot, int span) {
+        for (int i = 0; i < span; i++) {
+            map.put(offset(slot + i) + OFF_STATUS, STATUS_FREE);
+        }
+    }
+
+    private void remap(int newCapacity) throws IOException {
+        if (map != null) {
+            map.force();
+        }
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * RECORD_SIZE);
+        capacity = newCapacity;
+    }
+
+    private void removeFromOwner(UUID ownerId, UUID animalId) {
+        Set<UUID> animals = ownerIndex.get(ownerId);
+        if (animals != null) {
+            animals.remove(animalId);
+            if (animals.isEmpty()) {
+                ownerIndex.remove(ownerId);
+            }
+        }
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
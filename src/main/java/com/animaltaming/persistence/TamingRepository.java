@@ -2,6 +2,7 @@ package com.animaltaming.persistence;
 
 import com.animaltaming.api.model.TamedAnimal;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
@@ -76,4 +77,22 @@ public interface TamingRepository {
      * @return animal count
      */
     int count();
+
+    /**
+     * Write any buffered changes to storage.
+     * Implementations that persist on every call need not override this.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flush buffered changes and release background resources.
+     *
+     * @param timeout maximum time to wait for the final flush
+     * @return true if everything buffered was written
+     */
+    default boolean shutdown(Duration timeout) {
+        flush();
+        return true;
+    }
 }
@@ -0,0 +1,484 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.core.registry.TamedAnimalRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Group-commit write-ahead log of taming lifecycle changes.
+ *
+ * The event handlers call {@link #append} on the tick thread after handing the change to
+ * the repository. Appending only serialises the animal into a preallocated buffer; a
+ * background thread swaps buffers and writes and fsyncs the batch once the configured
+ * number of records is waiting or the commit interval has passed, whichever is first.
+ * Disk latency therefore never reaches the tick, and a crash loses at most one commit
+ * interval instead of everything the repository had not yet flushed.
+ *
+ * Once the log passes its checkpoint size, the commit thread flushes the repository and
+ * truncates the log. Every record in the log was appended after its repository save, so
+ * the flush covers all of them. On startup {@link #recover} replays the log onto the
+ * registry and the repository, then truncates it.
+ *
+ * File: data/taming.wal
+ * A {@link FramedLog} file: magic "TWAL", format version, then frames of [op][animal], where
+ * the animal is omitted for {@link Op#LOST}. A torn or corrupt tail is ignored.
+ */
+public class TamingWriteAheadLog {
+
+    /** Default maximum time between a record being appended and being on disk. */
+    public static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofMillis(50);
+    /** Default number of waiting records that triggers a commit before the interval ends. */
+    public static final int DEFAULT_COMMIT_RECORDS = 256;
+    /** Default capacity of each of the two append buffers. */
+    public static final int DEFAULT_BUFFER_BYTES = 256 * 1024;
+    /** Default log size that triggers a repository flush and truncation. */
+    public static final long DEFAULT_CHECKPOINT_BYTES = 16L * 1024 * 1024;
+
+    private static final int MAGIC = 0x5457414C;  // "TWAL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = FramedLog.FILE_HEADER_BYTES;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    private static final int MAX_STRING_BYTES = 8 * 1024;  // Four strings always fit in one record
+
+    /**
+     * Logged lifecycle change.
+     */
+    public enum Op {
+        TAMED,
+        MODE_CHANGED,
+        LOST;
+
+        private static final Op[] VALUES = values();
+    }
+
+    private final Path logPath;
+    private final TamingRepository repository;
+    private final long commitIntervalNanos;
+    private final int commitRecords;
+    private final long checkpointBytes;
+
+    // Append state, guarded by lock
+    private final Object lock = new Object();
+    private ByteBuffer active;
+    private ByteBuffer standby;
+    private int pendingRecords;
+    private boolean running;
+    private boolean started;
+
+    // Commit thread state
+    private FileChannel channel;
+    private Thread committer;
+    private final CRC32 crc = new CRC32();
+
+    // Stats
+    private volatile long committedRecords;
+    private volatile long commits;
+    private volatile long checkpoints;
+
+    /**
+     * Create a log with the default commit policy.
+     *
+     * @param pluginFolder the plugin's data folder
+     * @param repository repository flushed before the log is truncated
+     */
+    public TamingWriteAheadLog(Path pluginFolder, TamingRepository repository) {
+        this(pluginFolder, repository, DEFAULT_COMMIT_INTERVAL, DEFAULT_COMMIT_RECORDS,
+                DEFAULT_BUFFER_BYTES, DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    /**
+     * @param pluginFolder the plugin's data folder
+     * @param repository repository flushed before the log is truncated
+     * @param commitInterval maximum time a record waits before being fsynced
+     * @param commitRecords number of waiting records that forces an early commit
+     * @param bufferBytes initial capacity of each append buffer
+     * @param checkpointBytes log size that triggers a repository flush and truncation
+     */
+    public TamingWriteAheadLog(Path pluginFolder, TamingRepository repository, Duration commitInterval,
+                               int commitRecords, int bufferBytes, long checkpointBytes) {
+        Objects.requireNonNull(pluginFolder, "pluginFolder required");
+        this.repository = Objects.requireNonNull(repository, "repository required");
+        Objects.requireNonNull(commitInterval, "commitInterval required");
+        this.logPath = logPath(pluginFolder);
+        this.commitIntervalNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), commitInterval.toNanos());
+        this.commitRecords = Math.max(1, commitRecords);
+        this.checkpointBytes = Math.max(HEADER_BYTES, checkpointBytes);
+        int capacity = Math.max(MAX_RECORD_BYTES, bufferBytes);
+        this.active = ByteBuffer.allocateDirect(capacity);
+        this.standby = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Get the log file location for a plugin folder.
+     */
+    public static Path logPath(Path pluginFolder) {
+        return pluginFolder.resolve("data").resolve("taming.wal");
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * Replay the log onto the registry and the repository, then truncate it.
+     * Call once at startup, before {@link #start()} and before any events are published.
+     *
+     * @param registry registry the recovered animals are made resident in
+     * @return number of animals whose latest logged change was replayed
+     */
+    public int recover(TamedAnimalRegistry registry) {
+        Objects.requireNonNull(registry, "registry required");
+        if (!Files.exists(logPath)) {
+            return 0;
+        }
+
+        // Latest change per animal, in log order
+        Map<UUID, TamedAnimal> latest = new LinkedHashMap<>();
+        try {
+            ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(logPath));
+            if (log.remaining() < HEADER_BYTES || log.getInt() != MAGIC || log.getInt() != FORMAT_VERSION) {
+                System.err.println("[TamingRepository] Ignoring " + logPath + ": unknown format");
+                return 0;
+            }
+            ByteBuffer payload;
+            while ((payload = FramedLog.nextFrame(log, MAX_RECORD_BYTES, crc)) != null) {
+                Op op = Op.VALUES[payload.get()];
+                UUID animalId = new UUID(payload.getLong(), payload.getLong());
+                latest.remove(animalId);
+                TamedAnimal animal = null;
+                if (op != Op.LOST) {
+                    animal = readAnimal(animalId, payload);
+                    if (animal == null) {
+                        // Neither this change nor an older one is replayed; the repository keeps what it has
+                        System.err.println("[TamingRepository] Skipping write-ahead log record of animal "
+                                + animalId + ": unknown behavior mode");
+                        continue;
+                    }
+                }
+                latest.put(animalId, animal);
+            }
+            if (log.remaining() >= FramedLog.FRAME_HEADER_BYTES) {
+                System.err.println("[TamingRepository] Write-ahead log ends in a torn or corrupt record; ignoring the rest of " + logPath);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Failed to read write-ahead log " + logPath, e);
+        }
+
+        for (Map.Entry<UUID, TamedAnimal> change : latest.entrySet()) {
+            TamedAnimal animal = change.getValue();
+            if (animal == null) {
+                registry.unregister(change.getKey());
+                repository.delete(change.getKey());
+            } else {
+                registry.restore(animal);
+                repository.save(animal);
+            }
+        }
+        repository.flush();
+
+        try {
+            Files.delete(logPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to truncate write-ahead log " + logPath, e);
+        }
+        return latest.size();
+    }
+
+    // ==================== Appending ====================
+
+    /**
+     * Open the log for appending and start the commit thread.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (running) {
+                return;
+            }
+            try {
+                Files.createDirectories(logPath.getParent());
+                channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                writeHeader();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open write-ahead log " + logPath, e);
+            }
+            running = true;
+            started = true;
+        }
+        committer = new Thread(this::commitLoop, "AnimalTaming-WriteAheadLog");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Log a change to an animal whose new state has already been handed to the repository.
+     * Only copies the record into memory; it reaches disk with the next group commit.
+     *
+     * @param op the change
+     * @param animal the animal's state after the change
+     */
+    public void append(Op op, TamedAnimal animal) {
+        Objects.requireNonNull(op, "op required");
+        Objects.requireNonNull(animal, "animal required");
+        if (op == Op.LOST) {
+            appendLost(animal.id());
+            return;
+        }
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            int start = beginRecord(op, animal.id());
+            try {
+                writeAnimal(active, animal);
+            } catch (IllegalArgumentException e) {
+                active.position(start);
+                throw e;
+            }
+            endRecord(start);
+        }
+    }
+
+    /**
+     * Log that an animal was released or lost and has been deleted from the repository.
+     *
+     * @param animalId the lost animal
+     */
+    public void appendLost(UUID animalId) {
+        Objects.requireNonNull(animalId, "animalId required");
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            endRecord(beginRecord(Op.LOST, animalId));
+        }
+    }
+
+    private int beginRecord(Op op, UUID animalId) {
+        if (active.remaining() < MAX_RECORD_BYTES) {
+            growActive();
+        }
+        int start = FramedLog.beginFrame(active);
+        active.put((byte) op.ordinal());
+        active.putLong(animalId.getMostSignificantBits());
+        active.putLong(animalId.getLeastSignificantBits());
+        return start;
+    }
+
+    private void endRecord(int start) {
+        FramedLog.endFrame(active, start, crc);
+        if (++pendingRecords >= commitRecords) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Double the active buffer when a burst outruns the commit thread, so appends never wait.
+     * Rare; the steady state stays within the two preallocated buffers.
+     */
+    private void growActive() {
+        ByteBuffer grown = ByteBuffer.allocateDirect(active.capacity() * 2);
+        active.flip();
+        grown.put(active);
+        active = grown;
+    }
+
+    // ==================== Group commit ====================
+
+    private void commitLoop() {
+        while (true) {
+            ByteBuffer batch;
+            int records;
+            boolean stopping;
+            synchronized (lock) {
+                long deadline = System.nanoTime() + commitIntervalNanos;
+                while (running && pendingRecords < commitRecords) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    } catch (InterruptedException e) {
+                        running = false;
+                    }
+                }
+                stopping = !running;
+                batch = active;
+                records = pendingRecords;
+                active = standby;
+                active.clear();
+                standby = batch;
+                pendingRecords = 0;
+            }
+
+            if (records > 0) {
+                try {
+                    FramedLog.writeFully(channel, batch.flip());
+                    channel.force(false);
+                    committedRecords += records;
+                    commits++;
+                    if (channel.size() >= checkpointBytes) {
+                        checkpoint();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("[TamingRepository] Write-ahead log commit failed: " + e.getMessage());
+                }
+            }
+
+            if (stopping) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Flush the repository, then truncate the log. Runs on the commit thread; records
+     * appended meanwhile wait in the active buffer and land after the new header.
+     */
+    private void checkpoint() throws IOException {
+        repository.flush();
+        channel.truncate(0);
+        channel.position(0);
+        writeHeader();
+        checkpoints++;
+    }
+
+    private void writeHeader() throws IOException {
+        FramedLog.writeHeader(channel, MAGIC, FORMAT_VERSION);
+        channel.force(false);
+    }
+
+    /**
+     * Commit everything appended so far and stop the commit thread.
+     * The log file is kept; call {@link #discard()} once the repository has been flushed.
+     *
+     * @param timeout maximum time to wait for the final commit
+     * @return true if the final commit finished in time
+     */
+    public boolean shutdown(Duration timeout) {
+        synchronized (lock) {
+            if (!running) {
+                return true;
+            }
+            running = false;
+            lock.notifyAll();
+        }
+        try {
+            committer.join(Math.max(1, timeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (committer.isAlive()) {
+            System.err.println("[TamingRepository] Write-ahead log did not finish its final commit in time");
+            return false;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[TamingRepository] Failed to close write-ahead log: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Delete the log after a clean shutdown in which the repository wrote everything.
+     * Does nothing if the log was never started, so unrecovered records are not lost.
+     */
+    public void discard() {
+        synchronized (lock) {
+            if (!started || running) {
+                return;
+            }
+        }
+        try {
+            Files.deleteIfExists(logPath);
+        } catch (IOException e) {
+            System.err.println("[TamingRepository] Failed to delete write-ahead log: " + e.getMessage());
+        }
+    }
+
+    public long getCommittedRecords() {
+        return committedRecords;
+    }
+
+    public long getCommitCount() {
+        return commits;
+    }
+
+    public long getCheckpointCount() {
+        return checkpoints;
+    }
+
+    // ==================== Encoding ====================
+
+    private static void writeAnimal(ByteBuffer out, TamedAnimal animal) {
+        out.putLong(animal.ownerId().getMostSignificantBits());
+        out.putLong(animal.ownerId().getLeastSignificantBits());
+        putString(out, animal.ownerName());
+        putString(out, animal.speciesId());
+        putString(out, animal.mode().name());
+        out.putDouble(animal.homeX());
+        out.putDouble(animal.homeY());
+        out.putDouble(animal.homeZ());
+        out.putDouble(animal.maxFollowDistance());
+        out.putLong(animal.tamedTimestamp());
+        if (animal.customName() == null) {
+            out.put((byte) 0);
+        } else {
+            out.put((byte) 1);
+            putString(out, animal.customName());
+        }
+    }
+
+    /**
+     * @return the animal, or null if its behavior mode no longer exists
+     */
+    private static TamedAnimal readAnimal(UUID animalId, ByteBuffer in) {
+        UUID ownerId = new UUID(in.getLong(), in.getLong());
+        String ownerName = getString(in);
+        String speciesId = getString(in);
+        BehaviorMode mode;
+        try {
+            mode = BehaviorMode.valueOf(getString(in));
+        } catch (IllegalArgumentException e) {
+            return null;  // Renamed or removed since the record was written
+        }
+        double homeX = in.getDouble();
+        double homeY = in.getDouble();
+        double homeZ = in.getDouble();
+        double maxFollowDistance = in.getDouble();
+        long tamedTimestamp = in.getLong();
+        String customName = in.get() == 0 ? null : getString(in);
+        return new TamedAnimal(animalId, ownerId, ownerName, speciesId, mode,
+                homeX, homeY, homeZ, maxFollowDistance, tamedTimestamp, customName);
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String too long for write-ahead log: " + bytes.length + " bytes");
+        }
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
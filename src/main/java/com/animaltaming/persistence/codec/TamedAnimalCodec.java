@@ -3,16 +3,74 @@ package com.animaltaming.persistence.codec;
 import com.animaltaming.api.model.BehaviorMode;
 import com.animaltaming.api.model.TamedAnimal;
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.UUID;
 
 /**
  * JSON codec for TamedAnimal serialization/deserialization.
  * Provides bidirectional conversion with validation.
+ *
+ * Encoding and decoding stream directly through Gson's JsonWriter/JsonReader, so no
+ * intermediate JSON tree is built. {@link #write(JsonWriter, TamedAnimal)} and
+ * {@link #read(JsonReader)} can be used to embed records in a larger stream; the
+ * JsonElement forms go through the same pair.
+ *
+ * Every record carries a {@value #SCHEMA_VERSION_FIELD} field. Records without one are
+ * version 0 (written before the field existed; same fields as version 1). Records from a
+ * newer schema than {@link #SCHEMA_VERSION} are rejected rather than misread.
  */
 public class TamedAnimalCodec {
 
-    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    /** Schema version written by this codec. */
+    public static final int SCHEMA_VERSION = 1;
+
+    /** Name of the schema version field. */
+    public static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+
+    private final boolean compact;
+
+    /** Tree form of the streaming pair, for {@link #encodeToElement} and {@link #decodeFromElement}. */
+    private final TypeAdapter<TamedAnimal> adapter = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, TamedAnimal animal) throws IOException {
+            TamedAnimalCodec.this.write(out, animal);
+        }
+
+        @Override
+        public TamedAnimal read(JsonReader in) throws IOException {
+            return TamedAnimalCodec.this.read(in);
+        }
+    };
+
+    /**
+     * Create a codec that writes pretty-printed JSON.
+     */
+    public TamedAnimalCodec() {
+        this(false);
+    }
+
+    /**
+     * @param compact true to write JSON without whitespace, false to pretty-print
+     */
+    public TamedAnimalCodec(boolean compact) {
+        this.compact = compact;
+    }
+
+    /**
+     * Check if this codec writes compact JSON.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
 
     /**
      * Encode a TamedAnimal to JSON string.
@@ -21,31 +79,68 @@ public class TamedAnimalCodec {
      * @return JSON string
      */
     public String encode(TamedAnimal animal) {
-        JsonObject obj = new JsonObject();
-        obj.addProperty("id", animal.id().toString());
-        obj.addProperty("ownerId", animal.ownerId().toString());
-        obj.addProperty("ownerName", animal.ownerName());
-        obj.addProperty("speciesId", animal.speciesId());
-        obj.addProperty("mode", animal.mode().name());
-        obj.addProperty("homeX", animal.homeX());
-        obj.addProperty("homeY", animal.homeY());
-        obj.addProperty("homeZ", animal.homeZ());
-        obj.addProperty("maxFollowDistance", animal.maxFollowDistance());
-        obj.addProperty("tamedTimestamp", animal.tamedTimestamp());
+        StringWriter out = new StringWriter(compact ? 320 : 400);
+        encode(animal, out);
+        return out.toString();
+    }
+
+    /**
+     * Encode a TamedAnimal as one JSON document. The writer is flushed but not closed.
+     *
+     * @param animal the animal to encode
+     * @param out the destination
+     */
+    public void encode(TamedAnimal animal, Writer out) {
+        try {
+            JsonWriter writer = new JsonWriter(out);
+            // Escape <, >, &, = and ' like Gson's default writer did
+            writer.setHtmlSafe(true);
+            if (!compact) {
+                writer.setIndent("  ");
+            }
+            write(writer, animal);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode animal " + animal.id(), e);
+        }
+    }
+
+    /**
+     * Write a TamedAnimal as a JSON object at the writer's current position.
+     *
+     * @param writer the JSON stream
+     * @param animal the animal to write
+     * @throws IOException if the underlying writer fails
+     */
+    public void write(JsonWriter writer, TamedAnimal animal) throws IOException {
+        writer.beginObject();
+        writer.name(SCHEMA_VERSION_FIELD).value(SCHEMA_VERSION);
+        writer.name("id").value(animal.id().toString());
+        writer.name("ownerId").value(animal.ownerId().toString());
+        writer.name("ownerName").value(animal.ownerName());
+        writer.name("speciesId").value(animal.speciesId());
+        writer.name("mode").value(animal.mode().name());
+        writer.name("homeX").value(animal.homeX());
+        writer.name("homeY").value(animal.homeY());
+        writer.name("homeZ").value(animal.homeZ());
+        writer.name("maxFollowDistance").value(animal.maxFollowDistance());
+        writer.name("tamedTimestamp").value(animal.tamedTimestamp());
         if (animal.customName() != null) {
-            obj.addProperty("customName", animal.customName());
+            writer.name("customName").value(animal.customName());
         }
-        return gson.toJson(obj);
+        writer.endObject();
     }
 
     /**
      * Encode a TamedAnimal to JsonElement.
+     * Writes through {@link #write(JsonWriter, TamedAnimal)} into a tree; use {@link #encode}
+     * when a string is wanted.
      *
      * @param animal the animal to encode
      * @return JsonElement
      */
     public JsonElement encodeToElement(TamedAnimal animal) {
-        return JsonParser.parseString(encode(animal));
+        return adapter.toJsonTree(animal);
     }
 
     /**
@@ -56,82 +151,136 @@ public class TamedAnimalCodec {
      * @throws IllegalArgumentException if JSON is invalid or missing required fields
      */
     public TamedAnimal decode(String json) {
-        JsonObject obj = JsonParser.parseString(json).getAsJsonObject();
-        return decodeFromElement(obj);
+        return decode(new StringReader(json));
     }
 
     /**
-     * Decode a TamedAnimal from JsonElement.
+     * Decode a TamedAnimal by streaming over a reader, without building a JSON tree.
+     * Unknown fields are skipped. The reader is not closed.
      *
-     * @param element the JSON element
+     * @param in the JSON source
      * @return decoded TamedAnimal
      * @throws IllegalArgumentException if JSON is invalid or missing required fields
      */
-    public TamedAnimal decodeFromElement(JsonElement element) {
-        if (!element.isJsonObject()) {
-            throw new IllegalArgumentException("Expected JSON object");
+    public TamedAnimal decode(Reader in) {
+        try {
+            JsonReader reader = new JsonReader(in);
+            TamedAnimal animal = read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new IllegalArgumentException("Unexpected content after JSON object");
+            }
+            return animal;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
         }
+    }
+
+    /**
+     * Read one TamedAnimal object at the reader's current position.
+     *
+     * @param reader the JSON stream
+     * @return decoded TamedAnimal
+     * @throws IOException if the JSON is malformed or the underlying reader fails
+     * @throws IllegalArgumentException if fields are missing or invalid
+     */
+    public TamedAnimal read(JsonReader reader) throws IOException {
+        int schemaVersion = 0;
+        UUID id = null;
+        UUID ownerId = null;
+        String ownerName = null;
+        String speciesId = null;
+        String mode = null;
+        Double homeX = null;
+        Double homeY = null;
+        Double homeZ = null;
+        Double maxFollowDistance = null;
+        Long tamedTimestamp = null;
+        String customName = null;
 
-        JsonObject obj = element.getAsJsonObject();
-
-        // Required fields
-        UUID id = getRequiredUUID(obj, "id");
-        UUID ownerId = getRequiredUUID(obj, "ownerId");
-        String ownerName = getRequiredString(obj, "ownerName");
-        String speciesId = getRequiredString(obj, "speciesId");
-        BehaviorMode mode = getRequiredEnum(obj, "mode", BehaviorMode.class);
-        double homeX = getRequiredDouble(obj, "homeX");
-        double homeY = getRequiredDouble(obj, "homeY");
-        double homeZ = getRequiredDouble(obj, "homeZ");
-        double maxFollowDistance = getRequiredDouble(obj, "maxFollowDistance");
-        long tamedTimestamp = getRequiredLong(obj, "tamedTimestamp");
-
-        // Optional fields
-        String customName = obj.has("customName") && !obj.get("customName").isJsonNull()
-                ? obj.get("customName").getAsString()
-                : null;
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw new IllegalArgumentException("Expected JSON object");
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (field) {
+                case SCHEMA_VERSION_FIELD -> schemaVersion = checkSchemaVersion(reader.nextInt());
+                case "id" -> id = parseUUID(reader.nextString(), field);
+                case "ownerId" -> ownerId = parseUUID(reader.nextString(), field);
+                case "ownerName" -> ownerName = reader.nextString();
+                case "speciesId" -> speciesId = reader.nextString();
+                case "mode" -> mode = reader.nextString();
+                case "homeX" -> homeX = reader.nextDouble();
+                case "homeY" -> homeY = reader.nextDouble();
+                case "homeZ" -> homeZ = reader.nextDouble();
+                case "maxFollowDistance" -> maxFollowDistance = reader.nextDouble();
+                case "tamedTimestamp" -> tamedTimestamp = reader.nextLong();
+                case "customName" -> customName = reader.nextString();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
 
+        // Versions 0 and 1 share a field set; later migrations branch on schemaVersion here
         return new TamedAnimal(
-                id, ownerId, ownerName, speciesId, mode,
-                homeX, homeY, homeZ, maxFollowDistance,
-                tamedTimestamp, customName
+                required(id, "id"),
+                required(ownerId, "ownerId"),
+                required(ownerName, "ownerName"),
+                required(speciesId, "speciesId"),
+                parseEnum(required(mode, "mode"), "mode", BehaviorMode.class),
+                required(homeX, "homeX"),
+                required(homeY, "homeY"),
+                required(homeZ, "homeZ"),
+                required(maxFollowDistance, "maxFollowDistance"),
+                required(tamedTimestamp, "tamedTimestamp"),
+                customName
         );
     }
 
-    private UUID getRequiredUUID(JsonObject obj, String field) {
-        if (!obj.has(field) || obj.get(field).isJsonNull()) {
-            throw new IllegalArgumentException("Missing required field: " + field);
-        }
+    /**
+     * Decode a TamedAnimal from JsonElement.
+     * Reads the tree through {@link #read(JsonReader)}, so both forms share one decoder.
+     *
+     * @param element the JSON element
+     * @return decoded TamedAnimal
+     * @throws IllegalArgumentException if JSON is invalid or missing required fields
+     */
+    public TamedAnimal decodeFromElement(JsonElement element) {
         try {
-            return UUID.fromString(obj.get(field).getAsString());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid UUID for field: " + field);
+            return adapter.fromJsonTree(element);
+        } catch (JsonIOException | IllegalStateException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
         }
     }
 
-    private String getRequiredString(JsonObject obj, String field) {
-        if (!obj.has(field) || obj.get(field).isJsonNull()) {
-            throw new IllegalArgumentException("Missing required field: " + field);
+    private static int checkSchemaVersion(int version) {
+        if (version < 0 || version > SCHEMA_VERSION) {
+            throw new IllegalArgumentException("Unsupported schema version " + version
+                    + " (this codec reads up to " + SCHEMA_VERSION + ")");
         }
-        return obj.get(field).getAsString();
+        return version;
     }
 
-    private double getRequiredDouble(JsonObject obj, String field) {
-        if (!obj.has(field) || obj.get(field).isJsonNull()) {
+    private static <T> T required(T value, String field) {
+        if (value == null) {
             throw new IllegalArgumentException("Missing required field: " + field);
         }
-        return obj.get(field).getAsDouble();
+        return value;
     }
 
-    private long getRequiredLong(JsonObject obj, String field) {
-        if (!obj.has(field) || obj.get(field).isJsonNull()) {
-            throw new IllegalArgumentException("Missing required field: " + field);
+    private static UUID parseUUID(String value, String field) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid UUID for field: " + field);
         }
-        return obj.get(field).getAsLong();
     }
 
-    private <T extends Enum<T>> T getRequiredEnum(JsonObject obj, String field, Class<T> enumClass) {
-        String value = getRequiredString(obj, field);
+    private static <T extends Enum<T>> T parseEnum(String value, String field, Class<T> enumClass) {
         try {
             return Enum.valueOf(enumClass, value);
         } catch (IllegalArgumentException e) {
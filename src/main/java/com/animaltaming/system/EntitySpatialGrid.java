@@ -0,0 +1,131 @@
+package com.animaltaming.system;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * Uniform grid over the horizontal plane for finding entities near a point, with a
+ * separate grid per group (e.g. species).
+ *
+ * Stores the last position given for each entity; callers refresh positions as often
+ * as their accuracy needs and check exact distances on the candidates a query returns.
+ * Not thread-safe; use from the world thread.
+ */
+public class EntitySpatialGrid {
+
+    private final double cellSize;
+
+    // Group -> cell key -> entity IDs
+    private final Map<String, Map<Long, Set<Long>>> cellsByGroup = new HashMap<>();
+    // Entity ID -> where it is filed
+    private final Map<Long, Slot> slots = new HashMap<>();
+
+    /**
+     * @param cellSize cell edge length in blocks; about the typical query radius works well
+     */
+    public EntitySpatialGrid(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("cellSize must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add an entity or move it to a new position or group. A no-op when it stays in its cell.
+     */
+    public void put(long entityId, String group, double x, double z) {
+        Objects.requireNonNull(group, "group required");
+        long cell = cellKey(cellIndex(x), cellIndex(z));
+        Slot slot = slots.get(entityId);
+        if (slot != null) {
+            if (slot.cell == cell && slot.group.equals(group)) {
+                return;
+            }
+            removeFromCell(entityId, slot);
+        }
+        slots.put(entityId, new Slot(group, cell));
+        cellsByGroup.computeIfAbsent(group, k -> new HashMap<>())
+                .computeIfAbsent(cell, k -> new HashSet<>())
+                .add(entityId);
+    }
+
+    /**
+     * Remove an entity.
+     *
+     * @return true if it was in the grid
+     */
+    public boolean remove(long entityId) {
+        Slot slot = slots.remove(entityId);
+        if (slot == null) {
+            return false;
+        }
+        removeFromCell(entityId, slot);
+        return true;
+    }
+
+    private void removeFromCell(long entityId, Slot slot) {
+        Map<Long, Set<Long>> cells = cellsByGroup.get(slot.group);
+        if (cells == null) {
+            return;
+        }
+        Set<Long> ids = cells.get(slot.cell);
+        if (ids != null && ids.remove(entityId) && ids.isEmpty()) {
+            cells.remove(slot.cell);
+            if (cells.isEmpty()) {
+                cellsByGroup.remove(slot.group);
+            }
+        }
+    }
+
+    /**
+     * Visit every entity of a group in a cell overlapping the square of the given
+     * radius around a point. Candidates may lie outside the radius.
+     */
+    public void query(String group, double x, double z, double radius, LongConsumer visitor) {
+        Map<Long, Set<Long>> cells = cellsByGroup.get(group);
+        if (cells == null) {
+            return;
+        }
+        int minX = cellIndex(x - radius);
+        int maxX = cellIndex(x + radius);
+        int minZ = cellIndex(z - radius);
+        int maxZ = cellIndex(z + radius);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                Set<Long> ids = cells.get(cellKey(cx, cz));
+                if (ids != null) {
+                    for (long id : ids) {
+                        visitor.accept(id);
+                    }
+                }
+            }
+        }
+    }
+
+    public boolean contains(long entityId) {
+        return slots.containsKey(entityId);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public void clear() {
+        cellsByGroup.clear();
+        slots.clear();
+    }
+
+    private int cellIndex(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private record Slot(String group, long cell) {}
+}
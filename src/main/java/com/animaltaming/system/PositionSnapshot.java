@@ -0,0 +1,201 @@
+package com.animaltaming.system;
+
+import java.util.Arrays;
+
+/**
+ * Positions of entities captured once per tick, stored densely by slot.
+ *
+ * The context fills it in one pass at the start of the tick; handlers resolve an entity
+ * ID to a slot once and then read coordinates as array reads, with no map lookups,
+ * boxing or Optional chains. Values are as of the capture, so they don't reflect
+ * teleports or moves made later in the same tick. Entities not captured have slot -1;
+ * callers fall back to the SystemContext getters for those.
+ *
+ * Storage is reused across ticks. Not thread-safe; read on the thread that ticks.
+ */
+public final class PositionSnapshot {
+
+    /** Snapshot with nothing in it, for contexts that don't capture positions. */
+    public static final PositionSnapshot EMPTY = new PositionSnapshot(0);
+
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long tick = -1;
+    private int size;
+    // x, y, z per slot
+    private double[] coords;
+    private long[] entityIds;
+
+    // Open-addressed entity ID -> slot index
+    private long[] keys;
+    private int[] values;
+    private int mask;
+
+    public PositionSnapshot(int expectedEntities) {
+        int capacity = Math.max(4, expectedEntities);
+        coords = new double[capacity * 3];
+        entityIds = new long[capacity];
+        resizeTable(tableSizeFor(capacity));
+    }
+
+    // ==================== Capture ====================
+
+    /**
+     * Start a new capture, dropping every slot.
+     */
+    public void begin(long tick) {
+        checkWritable();
+        this.tick = tick;
+        size = 0;
+        Arrays.fill(keys, FREE);
+    }
+
+    /**
+     * Record an entity's position.
+     *
+     * @return the entity's slot
+     */
+    public int put(long entityId, double x, double y, double z) {
+        checkWritable();
+        int slot = slotOf(entityId);
+        if (slot < 0) {
+            slot = size++;
+            if (slot == entityIds.length) {
+                entityIds = Arrays.copyOf(entityIds, slot * 2);
+                coords = Arrays.copyOf(coords, slot * 6);
+            }
+            if (size * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            entityIds[slot] = entityId;
+            insert(entityId, slot);
+        }
+        int base = slot * 3;
+        coords[base] = x;
+        coords[base + 1] = y;
+        coords[base + 2] = z;
+        return slot;
+    }
+
+    // ==================== Reads ====================
+
+    /**
+     * Get the slot of an entity, or -1 if it wasn't captured.
+     */
+    public int slotOf(long entityId) {
+        if (entityId == FREE) {
+            return -1;
+        }
+        for (int i = mix(entityId) & mask; ; i = (i + 1) & mask) {
+            long key = keys[i];
+            if (key == entityId) {
+                return values[i];
+            }
+            if (key == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    public boolean contains(long entityId) {
+        return slotOf(entityId) >= 0;
+    }
+
+    public double x(int slot) {
+        return coords[slot * 3];
+    }
+
+    public double y(int slot) {
+        return coords[slot * 3 + 1];
+    }
+
+    public double z(int slot) {
+        return coords[slot * 3 + 2];
+    }
+
+    /**
+     * Squared distance between two captured entities.
+     */
+    public double distanceSquared(int slotA, int slotB) {
+        int a = slotA * 3;
+        int b = slotB * 3;
+        double dx = coords[a] - coords[b];
+        double dy = coords[a + 1] - coords[b + 1];
+        double dz = coords[a + 2] - coords[b + 2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Distance between two entities, from the snapshot when both were captured and
+     * from the context's live getters otherwise.
+     */
+    public double distance(long entityA, long entityB, SystemContext context) {
+        int slotA = slotOf(entityA);
+        int slotB = slotOf(entityB);
+        if (slotA < 0 || slotB < 0) {
+            return context.getDistance(entityA, entityB);
+        }
+        return Math.sqrt(distanceSquared(slotA, slotB));
+    }
+
+    /**
+     * Entity ID held in a slot.
+     */
+    public long entityId(int slot) {
+        return entityIds[slot];
+    }
+
+    /**
+     * Number of captured entities; slots run from 0 to size - 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tick the snapshot was captured on, or -1 if never.
+     */
+    public long tick() {
+        return tick;
+    }
+
+    private void checkWritable() {
+        if (this == EMPTY) {
+            throw new UnsupportedOperationException("EMPTY snapshot is read-only");
+        }
+    }
+
+    // ==================== Index ====================
+
+    private void insert(long entityId, int slot) {
+        int i = mix(entityId) & mask;
+        while (keys[i] != FREE) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = entityId;
+        values[i] = slot;
+    }
+
+    private void rehash(int tableSize) {
+        resizeTable(tableSize);
+        for (int slot = 0; slot < size - 1; slot++) {
+            insert(entityIds[slot], slot);
+        }
+    }
+
+    private void resizeTable(int tableSize) {
+        keys = new long[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        Arrays.fill(keys, FREE);
+    }
+
+    private static int tableSizeFor(int entries) {
+        return Integer.highestOneBit(Math.max(4, entries * 2) - 1) << 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
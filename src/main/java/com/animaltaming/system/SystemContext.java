@@ -1,5 +1,6 @@
 package com.animaltaming.system;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -48,6 +49,15 @@ public interface SystemContext {
      */
     double getEntityZ(long entityId);
 
+    /**
+     * Get the positions captured at the start of this tick.
+     * Contexts that don't capture positions return an empty snapshot,
+     * so callers fall back to the getters above.
+     */
+    default PositionSnapshot getPositionSnapshot() {
+        return PositionSnapshot.EMPTY;
+    }
+
     /**
      * Get the distance between two entities.
      */
@@ -112,6 +122,28 @@ public interface SystemContext {
      */
     List<TameableAnimalInfo> getTameableAnimals();
 
+    /**
+     * Get tameable animals of one species within a radius of a point.
+     * The default scans every tameable animal; platform contexts should use a spatial index.
+     */
+    default List<TameableAnimalInfo> getTameableAnimalsInRadius(
+            String speciesId, double x, double y, double z, double radius) {
+        double radiusSquared = radius * radius;
+        List<TameableAnimalInfo> result = new ArrayList<>();
+        for (TameableAnimalInfo animal : getTameableAnimals()) {
+            if (!animal.speciesId().equals(speciesId)) {
+                continue;
+            }
+            double dx = getEntityX(animal.entityId()) - x;
+            double dy = getEntityY(animal.entityId()) - y;
+            double dz = getEntityZ(animal.entityId()) - z;
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                result.add(animal);
+            }
+        }
+        return result;
+    }
+
     /**
      * Get entity ID for a tamed animal by its UUID.
      */
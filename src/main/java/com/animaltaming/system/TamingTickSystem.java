@@ -18,6 +18,7 @@ public class TamingTickSystem implements GameSystem {
     private final MountingHandler mountingHandler;
     private final BehaviorHandler behaviorHandler;
     private final DefaultTamingService tamingService;
+    private final TickEventCoalescer eventCoalescer;
 
     private boolean enabled = true;
 
@@ -27,7 +28,8 @@ public class TamingTickSystem implements GameSystem {
             FeedingHandler feedingHandler,
             MountingHandler mountingHandler,
             BehaviorHandler behaviorHandler,
-            DefaultTamingService tamingService
+            DefaultTamingService tamingService,
+            TickEventCoalescer eventCoalescer
     ) {
         this.playerLookup = Objects.requireNonNull(playerLookup, "playerLookup required");
         this.calmingHandler = Objects.requireNonNull(calmingHandler, "calmingHandler required");
@@ -35,6 +37,7 @@ public class TamingTickSystem implements GameSystem {
         this.mountingHandler = Objects.requireNonNull(mountingHandler, "mountingHandler required");
         this.behaviorHandler = Objects.requireNonNull(behaviorHandler, "behaviorHandler required");
         this.tamingService = Objects.requireNonNull(tamingService, "tamingService required");
+        this.eventCoalescer = Objects.requireNonNull(eventCoalescer, "eventCoalescer required");
     }
 
     @Override
@@ -62,6 +65,9 @@ public class TamingTickSystem implements GameSystem {
 
         // Step 7: Process tamed animal behavior (follow/stay)
         behaviorHandler.process(context);
+
+        // Step 8: Publish this tick's coalesced trust and teleport batches
+        eventCoalescer.flush(currentTick);
     }
 
     private void checkTamingCompletion(SystemContext context, long currentTick) {
@@ -0,0 +1,142 @@
+package com.animaltaming.system;
+
+import com.animaltaming.api.event.TamingEvents.AnimalTeleportedBatchEvent;
+import com.animaltaming.api.event.TamingEvents.AnimalTeleportedEvent;
+import com.animaltaming.api.event.TamingEvents.TrustChangedBatchEvent;
+import com.animaltaming.api.event.TamingEvents.TrustChangedEvent;
+import com.animaltaming.api.event.TamingEvents.TrustDelta;
+import com.animaltaming.util.EventBus;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Merges high-frequency per-animal events into one batch event per tick.
+ *
+ * Trust changes from feeding and mounting become one TrustDelta per animal (first old
+ * trust, last new trust) in a TrustChangedBatchEvent; teleports become one entry per
+ * animal (first origin, last destination) in an AnimalTeleportedBatchEvent. Persistence
+ * and analytics subscribers can take the batch instead of every individual event.
+ *
+ * The individual events are still published as before. The coalescer only subscribes to
+ * them while something subscribes to the matching batch event, so with no batch subscribers
+ * the handlers' hasHandlers() guards stay false and no per-animal events are built for it.
+ * Subscriptions are brought in line with the batch subscribers on {@link #attach()} and at
+ * every {@link #flush(long)}, so a batch subscriber added mid-tick is served from the next
+ * tick on. Call {@link #flush(long)} once at the end of each tick.
+ */
+public class TickEventCoalescer {
+
+    private final EventBus eventBus;
+
+    // Keyed by animal entity ID, in order of first change this tick
+    private final Map<Long, TrustDelta> trust = new LinkedHashMap<>();
+    private final Map<Long, AnimalTeleportedEvent> teleports = new LinkedHashMap<>();
+
+    // Held so the same instances can be unsubscribed
+    private final Consumer<TrustChangedEvent> trustCollector = this::onTrustChanged;
+    private final Consumer<AnimalTeleportedEvent> teleportCollector = this::onTeleported;
+    private boolean collectingTrust;
+    private boolean collectingTeleports;
+
+    public TickEventCoalescer(EventBus eventBus) {
+        this.eventBus = Objects.requireNonNull(eventBus, "eventBus required");
+    }
+
+    /**
+     * Start collecting from the event bus for the batch events that have subscribers.
+     */
+    public void attach() {
+        updateSubscriptions();
+    }
+
+    /**
+     * Subscribe to the per-animal events whose batch event gained a subscriber and
+     * unsubscribe from those whose batch event lost its last one.
+     */
+    private void updateSubscriptions() {
+        boolean wantTrust = eventBus.hasHandlers(TrustChangedBatchEvent.class);
+        if (wantTrust != collectingTrust) {
+            if (wantTrust) {
+                eventBus.subscribe(TrustChangedEvent.class, trustCollector);
+            } else {
+                eventBus.unsubscribe(TrustChangedEvent.class, trustCollector);
+            }
+            collectingTrust = wantTrust;
+        }
+        boolean wantTeleports = eventBus.hasHandlers(AnimalTeleportedBatchEvent.class);
+        if (wantTeleports != collectingTeleports) {
+            if (wantTeleports) {
+                eventBus.subscribe(AnimalTeleportedEvent.class, teleportCollector);
+            } else {
+                eventBus.unsubscribe(AnimalTeleportedEvent.class, teleportCollector);
+            }
+            collectingTeleports = wantTeleports;
+        }
+    }
+
+    private synchronized void onTrustChanged(TrustChangedEvent event) {
+        trust.merge(event.animalEntityId(),
+                new TrustDelta(event.animalEntityId(), event.animalId(), event.speciesId(),
+                        event.oldTrust(), event.newTrust(), event.reason(), 1),
+                (first, next) -> new TrustDelta(first.animalEntityId(), first.animalId(), first.speciesId(),
+                        first.oldTrust(), next.newTrust(), next.reason(), first.changes() + 1));
+    }
+
+    private synchronized void onTeleported(AnimalTeleportedEvent event) {
+        teleports.merge(event.animalEntityId(), event,
+                (first, next) -> new AnimalTeleportedEvent(first.animalEntityId(), first.animalId(), first.ownerId(),
+                        first.fromX(), first.fromY(), first.fromZ(),
+                        next.toX(), next.toY(), next.toZ()));
+    }
+
+    /**
+     * Publish this tick's batches, if anything was collected, and start the next tick.
+     * Call from the tick thread only.
+     */
+    public void flush(long tick) {
+        updateSubscriptions();
+        List<TrustDelta> trustBatch;
+        List<AnimalTeleportedEvent> teleportBatch;
+        synchronized (this) {
+            if (trust.isEmpty() && teleports.isEmpty()) {
+                return;
+            }
+            trustBatch = drain(trust);
+            teleportBatch = drain(teleports);
+        }
+        // Publish outside the lock; subscribers may cause further events
+        if (trustBatch != null) {
+            eventBus.publish(new TrustChangedBatchEvent(tick, trustBatch));
+        }
+        if (teleportBatch != null) {
+            eventBus.publish(new AnimalTeleportedBatchEvent(tick, teleportBatch));
+        }
+    }
+
+    private static <T> List<T> drain(Map<Long, T> pending) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        List<T> batch = List.copyOf(pending.values());
+        pending.clear();
+        return batch;
+    }
+
+    /**
+     * Check if the coalescer is subscribed to the per-animal trust and teleport events.
+     */
+    public boolean isCollecting() {
+        return collectingTrust || collectingTeleports;
+    }
+
+    /**
+     * Number of animals with changes collected this tick.
+     */
+    public synchronized int getPendingCount() {
+        return trust.size() + teleports.size();
+    }
+}
@@ -0,0 +1,293 @@
+package com.animaltaming.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Asynchronous delivery of one event type to one handler, created by
+ * {@link EventBus#subscribeAsync}.
+ *
+ * Publishing only copies the event into a bounded ring buffer; a dedicated virtual
+ * thread drains it and calls the handler in publish order. When the buffer is full the
+ * subscription's {@link EventBus.Backpressure} decides what the publisher does:
+ * - DROP: discard the new event
+ * - BLOCK: wait for space (don't use from the tick thread unless the handler is quick)
+ * - COALESCE: replace a pending event with the same key in place; events with a new key
+ *   are dropped while the buffer is full
+ *
+ * Metrics report queue depth, drops, coalesced events and the lag between publish
+ * and delivery.
+ *
+ * @param <T> the event type
+ */
+public final class AsyncSubscription<T> {
+
+    private final Class<T> eventType;
+    private final Consumer<T> handler;
+    private final EventBus.Backpressure backpressure;
+    private final Function<? super T, ?> coalesceKey;
+
+    // Ring buffer; slot = sequence % capacity
+    private final Object[] events;
+    private final long[] publishedAt;
+    private final Object[] keys;
+    private final Map<Object, Long> pendingByKey;
+    private long head;  // Next sequence to deliver
+    private long tail;  // Next sequence to fill
+    private boolean closed;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private Thread consumer;
+
+    // Metrics: written under the lock or by the consumer only
+    private volatile long published;
+    private volatile long delivered;
+    private volatile long dropped;
+    private volatile long coalesced;
+    private volatile long lastLagNanos;
+    private volatile long maxLagNanos;
+
+    AsyncSubscription(Class<T> eventType, Consumer<T> handler, int capacity,
+                      EventBus.Backpressure backpressure, Function<? super T, ?> coalesceKey) {
+        this.eventType = Objects.requireNonNull(eventType, "eventType is required");
+        this.handler = Objects.requireNonNull(handler, "handler is required");
+        this.backpressure = Objects.requireNonNull(backpressure, "backpressure is required");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (backpressure == EventBus.Backpressure.COALESCE && coalesceKey == null) {
+            throw new IllegalArgumentException("COALESCE requires a coalesce key");
+        }
+        this.coalesceKey = coalesceKey;
+        this.events = new Object[capacity];
+        this.publishedAt = new long[capacity];
+        this.keys = coalesceKey != null ? new Object[capacity] : null;
+        this.pendingByKey = coalesceKey != null ? new HashMap<>() : null;
+    }
+
+    void start() {
+        consumer = Thread.ofVirtual()
+                .name("AnimalTaming-Events-" + eventType.getSimpleName())
+                .start(this::drain);
+    }
+
+    /**
+     * Queue an event for the consumer, applying backpressure if the buffer is full.
+     */
+    void offer(T event) {
+        long now = System.nanoTime();
+        Object key = coalesceKey != null ? coalesceKey.apply(event) : null;
+
+        lock.lock();
+        try {
+            published++;
+            if (closed) {
+                dropped++;
+                return;
+            }
+            if (key != null) {
+                Long pending = pendingByKey.get(key);
+                if (pending != null) {
+                    // Keep the original publish time so lag covers the whole wait
+                    events[slot(pending)] = event;
+                    coalesced++;
+                    return;
+                }
+            }
+            while (tail - head == events.length) {
+                // The consumer can't wait on itself when a handler republishes its own type
+                if (backpressure != EventBus.Backpressure.BLOCK || Thread.currentThread() == consumer) {
+                    dropped++;
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+                if (closed) {
+                    dropped++;
+                    return;
+                }
+            }
+            int slot = slot(tail);
+            events[slot] = event;
+            publishedAt[slot] = now;
+            if (key != null) {
+                keys[slot] = key;
+                pendingByKey.put(key, tail);
+            }
+            tail++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        while (true) {
+            T event;
+            long at;
+            lock.lock();
+            try {
+                while (head == tail) {
+                    if (closed) {
+                        return;
+                    }
+                    notEmpty.awaitUninterruptibly();
+                }
+                int slot = slot(head);
+                event = (T) events[slot];
+                at = publishedAt[slot];
+                events[slot] = null;
+                if (keys != null) {
+                    pendingByKey.remove(keys[slot], head);
+                    keys[slot] = null;
+                }
+                head++;
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            long lag = System.nanoTime() - at;
+            lastLagNanos = lag;
+            if (lag > maxLagNanos) {
+                maxLagNanos = lag;
+            }
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                System.err.println("[EventBus] Async handler exception for " + eventType.getSimpleName() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+            delivered++;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % events.length);
+    }
+
+    /**
+     * Stop accepting events. Pending events are still delivered unless discard is set.
+     */
+    void close(boolean discard) {
+        lock.lock();
+        try {
+            closed = true;
+            if (discard) {
+                dropped += tail - head;
+                for (long seq = head; seq < tail; seq++) {
+                    events[slot(seq)] = null;
+                }
+                if (keys != null) {
+                    Arrays.fill(keys, null);
+                    pendingByKey.clear();
+                }
+                head = tail;
+            }
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for the consumer to deliver what was pending at close.
+     *
+     * @return true if it finished in time
+     */
+    boolean awaitTermination(Duration timeout) throws InterruptedException {
+        Thread thread = consumer;
+        return thread == null || thread.join(timeout);
+    }
+
+    Consumer<T> handler() {
+        return handler;
+    }
+
+    // ==================== Metrics ====================
+
+    public Class<T> getEventType() {
+        return eventType;
+    }
+
+    public EventBus.Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * Events waiting for the consumer.
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return (int) (tail - head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Age of the oldest undelivered event, or zero if the queue is empty.
+     */
+    public long getLagNanos() {
+        lock.lock();
+        try {
+            return head == tail ? 0 : System.nanoTime() - publishedAt[slot(head)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publish-to-delivery time of the most recently delivered event.
+     */
+    public long getLastLagNanos() {
+        return lastLagNanos;
+    }
+
+    public long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    public long getPublishedCount() {
+        return published;
+    }
+
+    public long getDeliveredCount() {
+        return delivered;
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    public long getCoalescedCount() {
+        return coalesced;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncSubscription{" + eventType.getSimpleName()
+                + ", " + backpressure
+                + ", depth=" + getQueueDepth() + "/" + events.length
+                + ", delivered=" + delivered
+                + ", dropped=" + dropped
+                + ", coalesced=" + coalesced
+                + ", maxLag=" + TimeUnit.NANOSECONDS.toMillis(maxLagNanos) + "ms}";
+    }
+}
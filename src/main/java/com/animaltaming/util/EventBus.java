@@ -1,17 +1,49 @@
 package com.animaltaming.util;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Simple thread-safe publish-subscribe event bus.
  * Supports typed event handlers with priority ordering.
+ *
+ * A handler subscribed to a class or interface receives every event assignable to it.
+ * The handlers for each concrete event class are resolved once, on its first publish,
+ * into a priority-ordered array; subscribing or unsubscribing drops those arrays so they
+ * are rebuilt. Publishing is then one map lookup and an indexed loop with no allocation.
+ *
+ * Handlers run synchronously on the publishing thread, in priority order, unless
+ * subscribed with {@link #subscribeAsync}. Async handlers get their own bounded queue and
+ * consumer thread, so they see events in publish order but not in step with the
+ * publisher or with other handlers.
  */
 public class EventBus {
 
-    private final Map<Class<?>, List<HandlerEntry<?>>> handlers = new ConcurrentHashMap<>();
+    /** Default queue size for async subscriptions. */
+    public static final int DEFAULT_ASYNC_CAPACITY = 1024;
+
+    /**
+     * What an async subscription does when its queue is full.
+     */
+    public enum Backpressure {
+        /** Discard the new event. */
+        DROP,
+        /** Block the publisher until there is space. */
+        BLOCK,
+        /** Replace a pending event with the same key; drop events with new keys. */
+        COALESCE
+    }
+
+    private static final HandlerEntry<?>[] NO_HANDLERS = new HandlerEntry<?>[0];
+
+    // Subscriptions by subscribed type; guarded by itself
+    private final Map<Class<?>, List<HandlerEntry<?>>> handlers = new HashMap<>();
+    // Resolved handlers by concrete event class; entries are replaced, never mutated
+    private final Map<Class<?>, HandlerEntry<?>[]> dispatch = new ConcurrentHashMap<>();
+    private long nextOrder;
 
     /**
      * Subscribe to events of a specific type.
@@ -37,11 +69,52 @@ public class EventBus {
         Objects.requireNonNull(eventType, "eventType is required");
         Objects.requireNonNull(handler, "handler is required");
 
-        List<HandlerEntry<?>> list = handlers.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>());
-        list.add(new HandlerEntry<>(handler, priority));
+        addEntry(eventType, handler, priority, handler, null);
+    }
+
+    /**
+     * Subscribe a handler that runs on its own consumer thread.
+     *
+     * @param eventType the event class to subscribe to
+     * @param handler the handler to call on the consumer thread
+     * @param backpressure what to do when the queue is full (DROP or BLOCK)
+     * @param <T> the event type
+     * @return the subscription, for metrics
+     */
+    public <T> AsyncSubscription<T> subscribeAsync(Class<T> eventType, Consumer<T> handler, Backpressure backpressure) {
+        return subscribeAsync(eventType, handler, DEFAULT_ASYNC_CAPACITY, backpressure, null);
+    }
+
+    /**
+     * Subscribe a handler that runs on its own consumer thread.
+     *
+     * @param eventType the event class to subscribe to
+     * @param handler the handler to call on the consumer thread
+     * @param capacity maximum number of queued events
+     * @param backpressure what to do when the queue is full
+     * @param coalesceKey key identifying events that supersede each other; required for
+     *                    COALESCE, optional otherwise (pending events are then always coalesced)
+     * @param <T> the event type
+     * @return the subscription, for metrics
+     */
+    public <T> AsyncSubscription<T> subscribeAsync(Class<T> eventType, Consumer<T> handler, int capacity,
+                                                   Backpressure backpressure, Function<? super T, ?> coalesceKey) {
+        Objects.requireNonNull(eventType, "eventType is required");
+        Objects.requireNonNull(handler, "handler is required");
+
+        AsyncSubscription<T> subscription = new AsyncSubscription<>(eventType, handler, capacity, backpressure, coalesceKey);
+        subscription.start();
+        addEntry(eventType, handler, 0, subscription::offer, subscription);
+        return subscription;
+    }
 
-        // Sort by priority (lower first)
-        list.sort(Comparator.comparingInt(e -> e.priority));
+    private <T> void addEntry(Class<T> eventType, Consumer<T> handler, int priority,
+                              Consumer<T> target, AsyncSubscription<T> async) {
+        synchronized (handlers) {
+            handlers.computeIfAbsent(eventType, k -> new ArrayList<>())
+                    .add(new HandlerEntry<>(handler, priority, nextOrder++, target, async));
+            dispatch.clear();
+        }
     }
 
     /**
@@ -52,15 +125,30 @@ public class EventBus {
      * @param <T> the event type
      */
     public <T> void unsubscribe(Class<T> eventType, Consumer<T> handler) {
-        List<HandlerEntry<?>> list = handlers.get(eventType);
-        if (list != null) {
-            list.removeIf(entry -> entry.handler.equals(handler));
+        synchronized (handlers) {
+            List<HandlerEntry<?>> list = handlers.get(eventType);
+            if (list == null) {
+                return;
+            }
+            for (Iterator<HandlerEntry<?>> it = list.iterator(); it.hasNext(); ) {
+                HandlerEntry<?> entry = it.next();
+                if (entry.handler.equals(handler)) {
+                    it.remove();
+                    if (entry.async != null) {
+                        entry.async.close(false);  // Deliver what was already queued
+                    }
+                }
+            }
+            if (list.isEmpty()) {
+                handlers.remove(eventType);
+            }
+            dispatch.clear();
         }
     }
 
     /**
-     * Publish an event to all registered handlers.
-     * Handlers are called in priority order.
+     * Publish an event to all handlers of its class and of its supertypes and interfaces.
+     * Handlers are called in priority order, then subscription order.
      * Handler exceptions are caught and logged, not propagated.
      *
      * @param event the event to publish
@@ -70,14 +158,10 @@ public class EventBus {
     public <T> void publish(T event) {
         Objects.requireNonNull(event, "event is required");
 
-        List<HandlerEntry<?>> list = handlers.get(event.getClass());
-        if (list == null || list.isEmpty()) {
-            return;
-        }
-
-        for (HandlerEntry<?> entry : list) {
+        HandlerEntry<?>[] entries = handlersFor(event.getClass());
+        for (int i = 0; i < entries.length; i++) {
             try {
-                ((Consumer<T>) entry.handler).accept(event);
+                ((Consumer<T>) entries[i].target).accept(event);
             } catch (RuntimeException e) {
                 // Log but don't propagate - one handler failure shouldn't stop others
                 System.err.println("[EventBus] Handler exception for " + event.getClass().getSimpleName() + ": " + e.getMessage());
@@ -87,32 +171,116 @@ public class EventBus {
     }
 
     /**
-     * Check if there are any handlers for an event type.
+     * Get the resolved handlers for a concrete event class, building them on first use.
+     */
+    private HandlerEntry<?>[] handlersFor(Class<?> eventClass) {
+        HandlerEntry<?>[] entries = dispatch.get(eventClass);
+        if (entries != null) {
+            return entries;
+        }
+        // Resolve under the lock so a concurrent subscribe can't be overwritten by a stale table
+        synchronized (handlers) {
+            entries = dispatch.get(eventClass);
+            if (entries == null) {
+                entries = resolve(eventClass);
+                dispatch.put(eventClass, entries);
+            }
+            return entries;
+        }
+    }
+
+    private HandlerEntry<?>[] resolve(Class<?> eventClass) {
+        List<HandlerEntry<?>> matched = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<HandlerEntry<?>>> entry : handlers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventClass)) {
+                matched.addAll(entry.getValue());
+            }
+        }
+        if (matched.isEmpty()) {
+            return NO_HANDLERS;
+        }
+        // Lower priority first; ties keep subscription order
+        matched.sort(Comparator.comparingInt((HandlerEntry<?> e) -> e.priority).thenComparingLong(e -> e.order));
+        return matched.toArray(NO_HANDLERS);
+    }
+
+    /**
+     * Check if publishing an event of this class would reach any handler.
+     * Cheap enough to guard event construction on hot paths.
      *
      * @param eventType the event class
      * @return true if handlers exist
      */
     public boolean hasHandlers(Class<?> eventType) {
-        List<HandlerEntry<?>> list = handlers.get(eventType);
-        return list != null && !list.isEmpty();
+        return handlersFor(eventType).length != 0;
     }
 
     /**
-     * Get the number of handlers for an event type.
+     * Get the number of handlers an event of this class would reach.
      *
      * @param eventType the event class
      * @return handler count
      */
     public int getHandlerCount(Class<?> eventType) {
-        List<HandlerEntry<?>> list = handlers.get(eventType);
-        return list == null ? 0 : list.size();
+        return handlersFor(eventType).length;
+    }
+
+    /**
+     * Get the async subscriptions, for metrics.
+     */
+    public List<AsyncSubscription<?>> getAsyncSubscriptions() {
+        List<AsyncSubscription<?>> subscriptions = new ArrayList<>();
+        synchronized (handlers) {
+            for (List<HandlerEntry<?>> list : handlers.values()) {
+                for (HandlerEntry<?> entry : list) {
+                    if (entry.async != null) {
+                        subscriptions.add(entry.async);
+                    }
+                }
+            }
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Stop accepting async events and wait for the consumers to deliver what is queued.
+     * Synchronous handlers are unaffected; call {@link #clear()} afterwards to remove everything.
+     *
+     * @param timeout how long to wait in total
+     * @return true if every queue was drained in time
+     */
+    public boolean shutdown(Duration timeout) {
+        List<AsyncSubscription<?>> subscriptions = getAsyncSubscriptions();
+        for (AsyncSubscription<?> subscription : subscriptions) {
+            subscription.close(false);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (AsyncSubscription<?> subscription : subscriptions) {
+                Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+                if (!subscription.awaitTermination(remaining)) {
+                    System.err.println("[EventBus] Shutdown timed out with " + subscription);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
     }
 
     /**
-     * Clear all handlers.
+     * Clear all handlers. Async subscriptions stop and discard anything still queued.
      */
     public void clear() {
-        handlers.clear();
+        synchronized (handlers) {
+            for (List<HandlerEntry<?>> list : handlers.values()) {
+                closeAsync(list);
+            }
+            handlers.clear();
+            dispatch.clear();
+        }
     }
 
     /**
@@ -121,8 +289,29 @@ public class EventBus {
      * @param eventType the event class
      */
     public void clear(Class<?> eventType) {
-        handlers.remove(eventType);
+        synchronized (handlers) {
+            List<HandlerEntry<?>> list = handlers.remove(eventType);
+            if (list != null) {
+                closeAsync(list);
+            }
+            dispatch.clear();
+        }
+    }
+
+    private static void closeAsync(List<HandlerEntry<?>> list) {
+        for (HandlerEntry<?> entry : list) {
+            if (entry.async != null) {
+                entry.async.close(true);
+            }
+        }
     }
 
-    private record HandlerEntry<T>(Consumer<T> handler, int priority) {}
+    /**
+     * @param handler the subscribed handler, for unsubscribe
+     * @param order   subscription sequence, to keep equal priorities in subscription order
+     * @param target  what publish calls: the handler itself, or the async queue
+     * @param async   the async subscription, or null for synchronous handlers
+     */
+    private record HandlerEntry<T>(Consumer<T> handler, int priority, long order,
+                                   Consumer<T> target, AsyncSubscription<T> async) {}
 }
@@ -54,8 +54,9 @@ import com.hypixel.hytale.server.npc.NPCPlugin;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
 import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 
+import com.laits.breeding.managers.BreedingCheckpoint;
 import com.laits.breeding.managers.BreedingManager;
-import com.laits.breeding.managers.GrowthManager;
+import com.laits.breeding.managers.BreedingShards;
 import com.laits.breeding.managers.TamingManager;
 import com.laits.breeding.models.TamedAnimalData;
 import com.laits.breeding.listeners.UseBlockHandler;
@@ -65,12 +66,18 @@ import com.laits.breeding.interactions.FeedAnimalInteraction;
 import com.laits.breeding.interactions.NameAnimalInteraction;
 import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.CustomAnimalConfig;
+import com.laits.breeding.models.SpeciesDescriptor;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.Interaction;
 import com.laits.breeding.models.BreedingData;
 import com.laits.breeding.models.GrowthStage;
 import com.laits.breeding.models.OriginalInteractionState;
 import com.laits.breeding.util.ConfigManager;
 import com.laits.breeding.util.AnimalFinder;
+import com.laits.breeding.util.AnimalScanner;
+import com.laits.breeding.util.EcsAccessors;
+import com.laits.breeding.util.ModelAssetIdResolver;
+import com.laits.breeding.util.MateGrid;
+import com.laits.breeding.util.WorldTaskBatcher;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -85,6 +92,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Main plugin class for Lait's Animal Breeding.
@@ -102,17 +110,35 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
     // Breeding distance - animals must be within this range to breed
     private static final double BREEDING_DISTANCE = 5.0;
-    // How long animals stay in love (milliseconds)
-    private static final long LOVE_DURATION = 30000; // 30 seconds
 
     private ConfigManager configManager;
-    private BreedingManager breedingManager;
-    private GrowthManager growthManager;
+    private BreedingShards breedingShards;
+    private BreedingCheckpoint breedingCheckpoint;
     private TamingManager tamingManager;
     private ScheduledExecutorService tickScheduler;
     private final List<ScheduledFuture<?>> scheduledTasks = new ArrayList<>();
     private NewAnimalSpawnDetector spawnDetector;
 
+    // Batches per-tick ECS work into one world.execute per world
+    private WorldTaskBatcher<World> worldTasks;
+
+    // Worlds seen so far by ID, so each breeding shard can be ticked on its own world's thread
+    private final Map<String, World> worldsById = new ConcurrentHashMap<>();
+    private java.lang.reflect.Method getWorldsMethod;
+    // Each world-lookup fallback is logged once rather than silently narrowing to the default world
+    private final AtomicBoolean worldListWarned = new AtomicBoolean();
+    private static final AtomicBoolean worldOfWarned = new AtomicBoolean();
+
+    // Remembers configured entities so scans only process new or changed animals
+    private final AnimalScanner animalScanner = new AnimalScanner();
+
+    // Animals whose love/cooldown state changed since the last tick (hint needs rewriting)
+    private final Set<UUID> interactionStateDirty = ConcurrentHashMap.newKeySet();
+
+    // Coalesces scan requests (e.g. a wave of player joins) into a single pass
+    private final AtomicBoolean animalScanPending = new AtomicBoolean(false);
+    private static final long PLAYER_JOIN_SCAN_DELAY_SECONDS = 3;
+
     // Getter for tick scheduler (used by commands)
     ScheduledExecutorService getTickScheduler() {
         return tickScheduler;
@@ -124,47 +150,6 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     private static final ComponentType<EntityStore, ModelComponent> MODEL_TYPE = ModelComponent.getComponentType();
     private static final ComponentType<EntityStore, UUIDComponent> UUID_TYPE = UUIDComponent.getComponentType();
 
-    // Cached reflection Field for ModelComponent.model (avoid per-call getDeclaredField)
-    private static java.lang.reflect.Field cachedModelField = null;
-    private static boolean modelFieldInitialized = false;
-
-    static {
-        try {
-            cachedModelField = ModelComponent.class.getDeclaredField("model");
-            cachedModelField.setAccessible(true);
-            modelFieldInitialized = true;
-        } catch (Exception e) {
-            modelFieldInitialized = false;
-        }
-    }
-
-    // These are initialized at runtime since their getComponentType() may not be
-    // public
-    private static Object INTERACTIONS_COMP_TYPE = null;
-    private static Object INTERACTABLE_COMP_TYPE = null;
-
-    private static Object getInteractionsComponentType() {
-        if (INTERACTIONS_COMP_TYPE == null) {
-            try {
-                INTERACTIONS_COMP_TYPE = Interactions.class.getMethod("getComponentType").invoke(null);
-            } catch (Exception e) {
-                System.out.println("[LaitsBreeding] ERROR: Failed to get Interactions component type: " + e.getMessage());
-            }
-        }
-        return INTERACTIONS_COMP_TYPE;
-    }
-
-    private static Object getInteractableComponentType() {
-        if (INTERACTABLE_COMP_TYPE == null) {
-            try {
-                INTERACTABLE_COMP_TYPE = Interactable.class.getMethod("getComponentType").invoke(null);
-            } catch (Exception e) {
-                System.out.println("[LaitsBreeding] ERROR: Failed to get Interactable component type: " + e.getMessage());
-            }
-        }
-        return INTERACTABLE_COMP_TYPE;
-    }
-
     // Event counters for diagnostics
     private static int playerReadyCount = 0;
     private static int mouseClickCount = 0;
@@ -274,7 +259,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             UUID entityUuid = getUuidFromRef(ref);
             if (entityUuid == null) return false;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = worldOf(ref.getStore());
             if (world == null) return false;
 
             for (Player player : world.getPlayers()) {
@@ -321,6 +306,37 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         return UUID.nameUUIDFromBytes(ref.toString().getBytes());
     }
 
+    /**
+     * Get an entity's persistent UUID (UUIDComponent), which is saved with the entity and
+     * survives restarts.
+     * @return null if the entity has none
+     */
+    private UUID getPersistentUuid(Ref<EntityStore> ref) {
+        try {
+            Store<EntityStore> store = ref.getStore();
+            if (store != null) {
+                UUIDComponent uuidComp = store.getComponent(ref, UUID_TYPE);
+                if (uuidComp != null) {
+                    return uuidComp.getUuid();
+                }
+            }
+        } catch (Exception e) {
+            // Silent - treated as having no persistent UUID
+        }
+        return null;
+    }
+
+    /**
+     * Get the key an animal's breeding data is tracked and checkpointed under.
+     * Prefers the persistent UUID. Entities without one fall back to a session-only key
+     * derived from the ref index; checkpoint entries under such a key are never claimed
+     * after a restart (reattachment only looks up persistent UUIDs) and expire instead.
+     */
+    private UUID getBreedingKey(Ref<EntityStore> ref) {
+        UUID persistent = getPersistentUuid(ref);
+        return persistent != null ? persistent : getUuidFromRef(ref);
+    }
+
     /**
      * Get UUID from a Player entity.
      * COPIED FROM FeedAnimalInteraction.getPlayerUuidFromPlayer() - known working implementation.
@@ -453,17 +469,15 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     /** Broadcast a message to all online players in chat */
     private void broadcastToChat(String message) {
         try {
-            World world = Universe.get().getDefaultWorld();
-            if (world == null)
-                return;
-
-            world.getPlayers().forEach(player -> {
-                try {
-                    player.sendMessage(Message.raw("[Breeding] " + message).color("#AAAAAA"));
-                } catch (Exception e) {
-                    // Silent
-                }
-            });
+            for (World world : getKnownWorlds()) {
+                world.getPlayers().forEach(player -> {
+                    try {
+                        player.sendMessage(Message.raw("[Breeding] " + message).color("#AAAAAA"));
+                    } catch (Exception e) {
+                        // Silent
+                    }
+                });
+            }
         } catch (Exception e) {
             // Silent
         }
@@ -492,62 +506,17 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             // Also log to server console
             getLogger().atInfo().log("[DEV] " + message);
 
-            // Broadcast to all online players
-            World world = Universe.get().getDefaultWorld();
-            if (world == null)
-                return;
-
-            // Get all players from the world
-            Object entityStore = world.getClass().getMethod("getEntityStore").invoke(world);
-            Object store = entityStore.getClass().getMethod("getStore").invoke(entityStore);
-
-            // Use forEachChunk to find all players
-            java.lang.reflect.Method forEachMethod = null;
-            for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                if (m.getName().equals("forEachChunk") && m.getParameterCount() == 1) {
-                    forEachMethod = m;
-                    break;
+            // Broadcast to online players in every known world
+            Message devMessage = Message.raw("[DEV] " + message).color("#FFAA00");
+            for (World world : getKnownWorlds()) {
+                for (Player player : world.getPlayers()) {
+                    try {
+                        player.sendMessage(devMessage);
+                    } catch (Exception e) {
+                        // Silent
+                    }
                 }
             }
-
-            if (forEachMethod == null)
-                return;
-
-            Class<?> consumerClass = forEachMethod.getParameterTypes()[0];
-            final String devMessage = "[DEV] " + message;
-
-            Object consumer = java.lang.reflect.Proxy.newProxyInstance(
-                    consumerClass.getClassLoader(),
-                    new Class<?>[] { consumerClass },
-                    (proxy, method, args) -> {
-                        if (method.getName().equals("accept") && args != null && args.length >= 2) {
-                            Object chunk = args[0];
-                            try {
-                                int size = (Integer) chunk.getClass().getMethod("size").invoke(chunk);
-                                for (int i = 0; i < size; i++) {
-                                    // Try to get player and send message
-                                    Object ref = chunk.getClass().getMethod("getReferenceTo", int.class).invoke(chunk,
-                                            i);
-                                    if (ref != null) {
-                                        // Check if this is a player by trying to call sendMessage
-                                        try {
-                                            java.lang.reflect.Method sendMsg = ref.getClass().getMethod("sendMessage",
-                                                    Message.class);
-                                            sendMsg.invoke(ref, Message.raw(devMessage).color("#FFAA00"));
-                                        } catch (NoSuchMethodException e) {
-                                            // Not a player, skip
-                                        }
-                                    }
-                                }
-                            } catch (Exception e) {
-                                // Silent
-                            }
-                        }
-                        return null;
-                    });
-
-            forEachMethod.invoke(store, consumer);
-
         } catch (Exception e) {
             // Silent - dev logging should never crash
         }
@@ -575,29 +544,36 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         java.nio.file.Path configPath = getDataDirectory().resolve("config.json");
         configManager.loadFromFile(configPath);
 
-        breedingManager = new BreedingManager(configManager);
-        growthManager = new GrowthManager(configManager, breedingManager);
+        ModelAssetIdResolver.setConfigManager(configManager);
+
+        // Breeding and growth state is kept per world; each shard gets the same callbacks
+        breedingShards = new BreedingShards(configManager);
+        breedingShards.setShardInitializer(this::initBreedingShard);
+
+        // Restore checkpointed breeding state; it is reattached as each animal loads
+        breedingCheckpoint = new BreedingCheckpoint(getDataDirectory().resolve("breeding"));
+        breedingCheckpoint.setLogger(msg -> getLogger().atInfo().log("[Breeding] " + msg));
+        try {
+            int restored = breedingCheckpoint.open();
+            breedingCheckpoint.start(BreedingCheckpoint.DEFAULT_INTERVAL_MS);
+            getLogger().atInfo().log("[Lait:AnimalBreeding] Restored breeding state of " + restored + " animals");
+        } catch (Exception e) {
+            logError("Failed to open breeding checkpoint, breeding state will not be saved: " + e.getMessage());
+            // Shards must not record into a checkpoint that never opened
+            breedingCheckpoint = null;
+        }
 
         // Initialize taming manager
         tamingManager = new TamingManager();
         tamingManager.setLogger(msg -> { if (verboseLogging) getLogger().atInfo().log("[Taming] " + msg); });
 
-        // Set up growth callback - handle growth stage changes
-        growthManager.setOnGrowthCallback(event -> {
-            if (event.usesScaling()) {
-                // Creatures without baby variants: update scale at each stage
-                updateEntityScale(event.getAnimalId(), event.getAnimalType(), event.getTargetScale());
-                if (event.getNewStage() == GrowthStage.ADULT) {
-                    // Clean up tracking data when fully grown
-                    breedingManager.removeData(event.getAnimalId());
-                }
-            } else {
-                // Animals with baby variants: replace entity when adult
-                if (event.getNewStage() == GrowthStage.ADULT) {
-                    transformBabyToAdult(event.getAnimalId(), event.getAnimalType());
-                }
-            }
-        });
+        // Restore tamed animals; later changes are journaled on a background thread
+        try {
+            int restored = tamingManager.openJournal(getDataDirectory().resolve("taming"));
+            getLogger().atInfo().log("[Lait:AnimalBreeding] Restored " + restored + " tamed animals");
+        } catch (Exception e) {
+            logError("Failed to open taming journal, tamed animals will not be saved: " + e.getMessage());
+        }
 
         // *** IMPORTANT: Register events in setup(), not start() ***
         // Per docs: "Setup Phase - Register commands, events, and initialize resources
@@ -680,14 +656,23 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         // Initialize reflection cache for performance
         initReflectionCache();
 
+        // Batch world-thread work submitted during ticks, bounded by the configured budget
+        worldTasks = new WorldTaskBatcher<>(World::execute, configManager::getWorldTaskBudgetMs);
+        worldTasks.setErrorLogger(this::logWarning);
+
         // Start tick scheduler for pregnancy and growth updates
         tickScheduler = Executors.newSingleThreadScheduledExecutor();
         scheduledTasks.add(tickScheduler.scheduleAtFixedRate(() -> {
             try {
-                breedingManager.tickPregnancies();
-                growthManager.tickGrowth();
-                tickLoveAnimals();
-                updateTrackedAnimalStates(); // Dynamic hint switching based on love/cooldown
+                // Each world's shard ticks on that world's thread, so worlds run in parallel
+                for (BreedingShards.Shard shard : breedingShards.getShards()) {
+                    World world = worldsById.get(shard.getWorldId());
+                    if (world != null) {
+                        worldTasks.submit(world, () -> tickShard(world, shard));
+                    }
+                }
+                flushInteractionStateUpdates(); // Hint switching for animals whose love/cooldown changed
+                worldTasks.flush(); // One world.execute per world for everything queued above
             } catch (Exception e) {
                 // Log tick errors for debugging
                 getLogger().atWarning().log("[Tick] Error: " + e.getMessage());
@@ -699,6 +684,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         scheduledTasks.add(tickScheduler.scheduleAtFixedRate(() -> {
             try {
                 checkAndRespawnTamedAnimals();
+                worldTasks.flush();
             } catch (Exception e) {
                 // Silent - respawn errors shouldn't crash the plugin
             }
@@ -722,8 +708,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 try {
                     if (spawnDetector != null) {
                         Set<UUID> currentPlayerUuids = ConcurrentHashMap.newKeySet();
-                        World world = Universe.get().getDefaultWorld();
-                        if (world != null) {
+                        for (World world : getKnownWorlds()) {
                             for (Player p : world.getPlayers()) {
                                 UUID pUuid = getEntityUUID(p);
                                 if (pUuid != null) {
@@ -768,7 +753,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             // Periodically clean up stale breeding data
             scheduledTasks.add(tickScheduler.scheduleAtFixedRate(() -> {
                 try {
-                    int removed = breedingManager.cleanupStaleEntries();
+                    int removed = breedingShards.cleanupStaleEntries();
                     if (removed > 0) {
                         logVerbose("Cleaned " + removed + " stale breeding entries");
                     }
@@ -803,46 +788,27 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * This method is kept for any remaining runtime initialization.
      */
     private void initReflectionCache() {
-        // Component types are now static final fields using direct imports
-        // No reflection needed - all types are initialized at class load time
-        logVerbose("ECS component types initialized via direct imports");
+        // Component types are static final fields using direct imports; the remaining
+        // private/unnamed members (model field, interactions, spawnEntity, particles)
+        // are bound to MethodHandles once here
+        EcsAccessors.bind(this::logWarning);
+        logVerbose("ECS accessors: " + EcsAccessors.getBoundSummary());
     }
 
     /**
-     * Attaching interactions to animals via periodic scanning.
+     * Attaching interactions to animals via incremental scanning.
      * Note: Event-based detection (PrefabPlaceEntityEvent, LoadedNPCEvent) was
      * tested
      * but these events don't fire for natural animal spawns in Hytale.
      */
     private void attachInteractionsToAnimals() {
-        // Scan when a player connects (entities spawn when chunks load around players)
-        // Multiple scans to catch animals as they load
-        getEventRegistry().register(PlayerConnectEvent.class, event -> {
-            // Quick scan after 1 second
-            tickScheduler.schedule(() -> {
-                try {
-                    autoSetupNearbyAnimals();
-                } catch (Exception e) {
-                }
-            }, 1, TimeUnit.SECONDS);
-            // Follow-up scan after 3 seconds (more entities loaded)
-            tickScheduler.schedule(() -> {
-                try {
-                    autoSetupNearbyAnimals();
-                } catch (Exception e) {
-                }
-            }, 3, TimeUnit.SECONDS);
-            // Final scan after 5 seconds
-            tickScheduler.schedule(() -> {
-                try {
-                    autoSetupNearbyAnimals();
-                } catch (Exception e) {
-                }
-            }, 5, TimeUnit.SECONDS);
-        });
+        // Scan when a player connects (entities spawn when chunks load around players).
+        // Joins within the delay share one pass; the scanner only touches entities it hasn't seen.
+        getEventRegistry().register(PlayerConnectEvent.class,
+                event -> requestAnimalScan(PLAYER_JOIN_SCAN_DELAY_SECONDS));
 
-        // Safety net: Periodic scan every 30 seconds (primary detection via
-        // NewAnimalSpawnDetector)
+        // Safety net: Periodic incremental scan every 30 seconds (primary detection via
+        // NewAnimalSpawnDetector). Already-configured animals are skipped.
         scheduledTasks.add(tickScheduler.scheduleAtFixedRate(() -> {
             try {
                 autoSetupNearbyAnimals();
@@ -852,6 +818,32 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         }, 30, 30, TimeUnit.SECONDS));
     }
 
+    /**
+     * Schedule an incremental scan unless one is already pending.
+     */
+    private void requestAnimalScan(long delaySeconds) {
+        if (!animalScanPending.compareAndSet(false, true)) {
+            return;
+        }
+        tickScheduler.schedule(() -> {
+            animalScanPending.set(false);
+            try {
+                autoSetupNearbyAnimals();
+            } catch (Exception e) {
+                // Silent
+            }
+        }, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Forget which animals were configured and set them all up again on the next scan.
+     * Package-private so commands can force a full re-setup (e.g. after changing the hint).
+     */
+    void rescanAllAnimals() {
+        animalScanner.reset();
+        autoSetupNearbyAnimals();
+    }
+
     /**
      * Set up interactions for a single entity if it's a breedable animal.
      * Must be called from the world thread.
@@ -863,15 +855,16 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         try {
             Store<EntityStore> store = world.getEntityStore().getStore();
 
-            // Get the model asset ID to identify the animal type
-            String modelAssetId = getEntityModelAssetId(store, entityRef);
-            if (modelAssetId == null)
+            // Resolve the species from the entity's model
+            SpeciesDescriptor species = ModelAssetIdResolver.resolve(store, entityRef);
+            if (species == null)
                 return;
 
             // Check if it's a farm animal
-            AnimalType animalType = AnimalType.fromModelAssetId(modelAssetId);
+            AnimalType animalType = species.getAnimalType();
             if (animalType == null)
                 return; // Not a recognized animal
+            String modelAssetId = species.getModelAssetId();
 
             logVerbose("Setting up animal: " + modelAssetId + " (" + animalType + ")");
 
@@ -879,19 +872,21 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             if (!configManager.isAnimalEnabled(animalType))
                 return;
 
-            boolean isBaby = AnimalType.isBabyVariant(modelAssetId);
+            boolean isBaby = species.isBaby();
 
             // Register babies for growth tracking
             if (isBaby) {
-                UUID babyId = UUID.nameUUIDFromBytes(entityRef.toString().getBytes());
-                if (breedingManager.getData(babyId) == null) {
-                    breedingManager.registerBaby(babyId, animalType, entityRef);
+                UUID babyId = getBreedingKey(entityRef);
+                BreedingManager breeding = shardFor(world).getBreeding();
+                if (!reattachBreedingState(breeding, entityRef) && breeding.getData(babyId) == null) {
+                    breeding.registerBaby(babyId, animalType, entityRef);
                     logVerbose("Registered baby for growth tracking: " + modelAssetId);
                 }
             }
 
             // Set up interactions for adults (babies can't breed)
             if (!isBaby) {
+                reattachBreedingState(shardFor(world).getBreeding(), entityRef);
                 setupEntityInteractions(store, entityRef, animalType);
             }
 
@@ -914,26 +909,24 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * NOTE: This is called from within the ECS tick, so we must defer interaction
      * setup to after the tick completes via world.execute().
      *
-     * @param store        The entity store
-     * @param entityRef    The newly spawned entity reference
-     * @param modelAssetId The model asset ID (e.g., "Cow", "Sheep")
-     * @param animalType   The detected animal type
+     * @param store     The entity store
+     * @param entityRef The newly spawned entity reference
+     * @param species   The resolved species (built-in or custom)
      */
     public void onNewAnimalDetected(Store<EntityStore> store, Ref<EntityStore> entityRef,
-            String modelAssetId, AnimalType animalType) {
+            SpeciesDescriptor species) {
         try {
             if (entityRef == null || !entityRef.isValid())
                 return;
 
-            logVerbose("NewAnimalSpawnDetector: Immediate detection of " + modelAssetId);
+            String modelAssetId = species.getModelAssetId();
+            AnimalType animalType = species.getAnimalType();
+            CustomAnimalConfig customAnimal = species.getCustomConfig();
 
-            // Check if it's a custom animal (animalType will be null for custom)
-            CustomAnimalConfig customAnimal = null;
-            if (animalType == null) {
-                customAnimal = configManager.getCustomAnimal(modelAssetId);
-            }
+            logVerbose("NewAnimalSpawnDetector: Immediate detection of " + modelAssetId);
 
-            // Skip if breeding is disabled for this animal type
+            // Skip if breeding is disabled for this animal type; left unmarked so a scan
+            // after the species is enabled still sets it up
             if (animalType != null && !configManager.isAnimalEnabled(animalType)) {
                 logVerbose("Skipping disabled animal: " + animalType);
                 return;
@@ -943,15 +936,24 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 return;
             }
 
-            boolean isBaby = AnimalType.isBabyVariant(modelAssetId);
+            // Handled here, so the next incremental scan can skip it
+            animalScanner.markKnown(store, entityRef, species);
+
+            boolean isBaby = species.isBaby();
+
+            // The detector runs in every world's store; track the animal in its own world
+            World world = worldOf(store);
 
             // Register babies for growth tracking (safe to do during tick)
             if (isBaby && animalType != null) {
-                UUID babyId = UUID.nameUUIDFromBytes(entityRef.toString().getBytes());
-                if (breedingManager.getData(babyId) == null) {
-                    breedingManager.registerBaby(babyId, animalType, entityRef);
+                UUID babyId = getBreedingKey(entityRef);
+                BreedingManager breeding = shardFor(world).getBreeding();
+                if (!reattachBreedingState(breeding, entityRef) && breeding.getData(babyId) == null) {
+                    breeding.registerBaby(babyId, animalType, entityRef);
                     logVerbose("Registered new baby for growth tracking: " + modelAssetId);
                 }
+            } else if (!isBaby && animalType != null) {
+                reattachBreedingState(shardFor(world).getBreeding(), entityRef);
             }
 
             // Set up interactions for adults - must be deferred to after the tick
@@ -962,7 +964,6 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 final CustomAnimalConfig finalCustomAnimal = customAnimal;
                 final String finalModelAssetId = modelAssetId;
 
-                World world = Universe.get().getDefaultWorld();
                 if (world != null) {
                     world.execute(() -> {
                         try {
@@ -1006,42 +1007,9 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         }
     }
 
-    /**
-     * Get the model asset ID from an entity reference.
-     */
-    private String getEntityModelAssetId(Store<EntityStore> store, Ref<EntityStore> entityRef) {
-        try {
-            ModelComponent modelComp = store.getComponent(entityRef, MODEL_TYPE);
-            if (modelComp == null)
-                return null;
-
-            // Use cached Field for performance (avoid getDeclaredField per call)
-            if (!modelFieldInitialized || cachedModelField == null)
-                return null;
-
-            Object model = cachedModelField.get(modelComp);
-            if (model == null)
-                return null;
-
-            // Extract modelAssetId from model.toString()
-            String modelStr = model.toString();
-            int start = modelStr.indexOf("modelAssetId='");
-            if (start < 0)
-                return null;
-            start += 14;
-            int end = modelStr.indexOf("'", start);
-            if (end <= start)
-                return null;
-            return modelStr.substring(start, end);
-
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     /**
      * Set up breeding interactions on a single entity.
-     * Note: Interactions methods are not public, so we must use reflection.
+     * Interactions members are reached through {@link EcsAccessors} (bound once at startup).
      */
     private void setupEntityInteractions(Store<EntityStore> store, Ref<EntityStore> entityRef, AnimalType animalType) {
         try {
@@ -1052,43 +1020,23 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
 
             // Skip babies - they can't breed
-            String modelAssetId = getEntityModelAssetId(store, entityRef);
-            if (modelAssetId != null && AnimalType.isBabyVariant(modelAssetId)) {
-                logVerbose("[SetupInteraction] Skipping baby animal: " + modelAssetId);
+            SpeciesDescriptor species = ModelAssetIdResolver.resolve(store, entityRef);
+            if (species != null && species.isBaby()) {
+                logVerbose("[SetupInteraction] Skipping baby animal: " + species.getModelAssetId());
                 return;
             }
 
-            // Get component types via reflection
-            Object interactableType = getInteractableComponentType();
-            Object interactionsType = getInteractionsComponentType();
-            if (interactionsType == null) {
-                getLogger().atWarning().log("[SetupInteraction] interactionsType is NULL for %s", animalType);
+            if (!EcsAccessors.hasInteractionAccessors()) {
+                getLogger().atWarning().log("[SetupInteraction] Interactions accessors not bound for %s", animalType);
                 return;
             }
 
             // Ensure entity has Interactable component (required for hints to display in solo mode)
-            if (interactableType != null) {
-                try {
-                    java.lang.reflect.Method ensureMethod = store.getClass().getMethod(
-                            "ensureAndGetComponent", Ref.class, ComponentType.class);
-                    ensureMethod.invoke(store, entityRef, interactableType);
-                } catch (Exception e) {
-                    // Silent - component may already exist
-                }
-            }
+            EcsAccessors.ensureInteractable(store, entityRef);
 
             // Check if entity already has Interactions component (real NPCs have this)
             // Use getComponent instead of ensureAndGetComponent to avoid adding to non-NPCs
-            java.lang.reflect.Method getCompMethod = null;
-            for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                    getCompMethod = m;
-                    break;
-                }
-            }
-            if (getCompMethod == null) return;
-
-            Object interactions = getCompMethod.invoke(store, entityRef, interactionsType);
+            Object interactions = EcsAccessors.getInteractions(store, entityRef);
             if (interactions == null) {
                 // Entity doesn't have Interactions component - not a real NPC, skip
                 logVerbose("[SetupInteraction] Skipping non-NPC entity (no Interactions component)");
@@ -1097,24 +1045,10 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
             String feedInteractionId = "Root_FeedAnimal";
 
-            // Use reflection for non-public methods - use Class.forName to avoid
-            // classloader issues
-            Class<?> interactionTypeClass = Class.forName("com.hypixel.hytale.protocol.InteractionType");
-            Object useType = null;
-            for (Object enumConst : interactionTypeClass.getEnumConstants()) {
-                if (enumConst.toString().equals("Use")) {
-                    useType = enumConst;
-                    break;
-                }
-            }
-
-            java.lang.reflect.Method getIntId = interactions.getClass().getMethod(
-                    "getInteractionId", interactionTypeClass);
-            String currentUse = (String) getIntId.invoke(interactions, useType);
+            String currentUse = EcsAccessors.getInteractionId(interactions, InteractionType.Use);
 
             // Get current hint BEFORE overwriting (for restoration later)
-            java.lang.reflect.Method getHint = interactions.getClass().getMethod("getInteractionHint");
-            String currentHint = (String) getHint.invoke(interactions);
+            String currentHint = EcsAccessors.getInteractionHint(interactions);
 
             if (currentUse == null || !currentUse.equals(feedInteractionId)) {
                 // Save original interaction ID AND hint for fallback (e.g., horse mounting)
@@ -1122,19 +1056,15 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 if (verboseLogging) getLogger().atInfo().log("[BuiltIn] %s: set interaction to %s (was: %s, hint was: %s)",
                     animalType, feedInteractionId, currentUse, currentHint);
 
-                java.lang.reflect.Method setIntId = interactions.getClass().getMethod(
-                        "setInteractionId", interactionTypeClass, String.class);
-                setIntId.invoke(interactions, useType, feedInteractionId);
+                EcsAccessors.setInteractionId(interactions, InteractionType.Use, feedInteractionId);
             }
 
             // ALWAYS set the interaction hint (even if interaction was already set)
-            java.lang.reflect.Method setHint = interactions.getClass().getMethod(
-                    "setInteractionHint", String.class);
             // Use combined hint for mountable animals (Feed / Mount)
             String hintKey = animalType.isMountable()
                     ? "animalbreeding.interactionHints.legacyFeedOrMount"
                     : "animalbreeding.interactionHints.legacyFeed";
-            setHint.invoke(interactions, hintKey);
+            EcsAccessors.setInteractionHint(interactions, hintKey);
             if (verboseLogging) getLogger().atInfo().log("[SetupInteraction] SUCCESS for %s: interactionId=%s, hint=%s", animalType, feedInteractionId, hintKey);
 
         } catch (Exception e) {
@@ -1157,42 +1087,23 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
 
             // Skip babies - they can't breed (check for known baby variant patterns)
-            String actualModelId = getEntityModelAssetId(store, entityRef);
-            if (actualModelId != null && AnimalType.isBabyVariant(actualModelId)) {
-                logVerbose("[CustomAnimal] Skipping baby animal: " + actualModelId);
+            SpeciesDescriptor species = ModelAssetIdResolver.resolve(store, entityRef);
+            if (species != null && species.isBaby()) {
+                logVerbose("[CustomAnimal] Skipping baby animal: " + species.getModelAssetId());
                 return;
             }
 
-            Object interactableType = getInteractableComponentType();
-            Object interactionsType = getInteractionsComponentType();
-            if (interactionsType == null) {
-                getLogger().atWarning().log("[CustomAnimal] %s: interactionsType is NULL, aborting", animalName);
+            if (!EcsAccessors.hasInteractionAccessors()) {
+                getLogger().atWarning().log("[CustomAnimal] %s: Interactions accessors not bound, aborting", animalName);
                 return;
             }
 
             // Ensure entity has Interactable component (required for hints to display in solo mode)
-            if (interactableType != null) {
-                try {
-                    java.lang.reflect.Method ensureMethod = store.getClass().getMethod(
-                            "ensureAndGetComponent", Ref.class, ComponentType.class);
-                    ensureMethod.invoke(store, entityRef, interactableType);
-                } catch (Exception e) {
-                    // Silent - component may already exist
-                }
-            }
+            EcsAccessors.ensureInteractable(store, entityRef);
 
             // Check if entity already has Interactions component (real NPCs have this)
             // Use getComponent instead of ensureAndGetComponent to avoid adding to non-NPCs
-            java.lang.reflect.Method getCompMethod = null;
-            for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                    getCompMethod = m;
-                    break;
-                }
-            }
-            if (getCompMethod == null) return;
-
-            Object interactions = getCompMethod.invoke(store, entityRef, interactionsType);
+            Object interactions = EcsAccessors.getInteractions(store, entityRef);
             if (interactions == null) {
                 // Entity doesn't have Interactions component - not a real NPC, skip
                 logVerbose("[CustomAnimal] Skipping non-NPC entity (no Interactions component): " + animalName);
@@ -1201,22 +1112,10 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
             String feedInteractionId = "Root_FeedAnimal";
 
-            Class<?> interactionTypeClass = Class.forName("com.hypixel.hytale.protocol.InteractionType");
-            Object useType = null;
-            for (Object enumConst : interactionTypeClass.getEnumConstants()) {
-                if (enumConst.toString().equals("Use")) {
-                    useType = enumConst;
-                    break;
-                }
-            }
-
-            java.lang.reflect.Method getIntId = interactions.getClass().getMethod(
-                    "getInteractionId", interactionTypeClass);
-            String currentUse = (String) getIntId.invoke(interactions, useType);
+            String currentUse = EcsAccessors.getInteractionId(interactions, InteractionType.Use);
 
             // Get current hint BEFORE overwriting (for restoration later)
-            java.lang.reflect.Method getHint = interactions.getClass().getMethod("getInteractionHint");
-            String currentHint = (String) getHint.invoke(interactions);
+            String currentHint = EcsAccessors.getInteractionHint(interactions);
             if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] %s: currentUse='%s', currentHint='%s', feedInteractionId='%s'",
                 animalName, currentUse, currentHint, feedInteractionId);
 
@@ -1226,25 +1125,20 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] %s: SETTING interaction to %s (was: %s, hint was: %s)",
                     animalName, feedInteractionId, currentUse, currentHint);
 
-                java.lang.reflect.Method setIntId = interactions.getClass().getMethod(
-                        "setInteractionId", interactionTypeClass, String.class);
-
                 // FIX: Clear the *UseNPC interaction first (set to null like built-in animals)
                 // Built-in animals have null as original interaction, custom NPCs have *UseNPC
                 // The NPC system may intercept *UseNPC before our override takes effect
                 if (currentUse != null && currentUse.startsWith("*")) {
-                    setIntId.invoke(interactions, useType, null);
+                    EcsAccessors.setInteractionId(interactions, InteractionType.Use, null);
                     if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] %s: cleared special interaction '%s' to null", animalName, currentUse);
                 }
 
                 // Now set our interaction
-                setIntId.invoke(interactions, useType, feedInteractionId);
+                EcsAccessors.setInteractionId(interactions, InteractionType.Use, feedInteractionId);
             }
 
             // ALWAYS set hint - custom animals use standard feed hint (not mountable)
-            java.lang.reflect.Method setHint = interactions.getClass().getMethod(
-                    "setInteractionHint", String.class);
-            setHint.invoke(interactions, "animalbreeding.interactionHints.legacyFeed");
+            EcsAccessors.setInteractionHint(interactions, "animalbreeding.interactionHints.legacyFeed");
             if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] %s: setup complete", animalName);
 
         } catch (Exception e) {
@@ -1254,7 +1148,8 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
     /**
      * Update an animal's interaction state based on whether feeding makes sense.
-     * Called periodically to switch between "feed mode" and "original mode".
+     * Called when love mode starts or ends and when the breeding cooldown expires,
+     * to switch between "feed mode" and "original mode".
      *
      * - FEED MODE: Animal can be fed (not in love, not on cooldown)
      *   Shows "Press F to Feed" or "Press F to Feed / Mount"
@@ -1295,57 +1190,31 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
 
             // Get interactions component
-            Object interactionsType = getInteractionsComponentType();
-            if (interactionsType == null) return;
-
-            java.lang.reflect.Method getCompMethod = null;
-            for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                    getCompMethod = m;
-                    break;
-                }
-            }
-            if (getCompMethod == null) return;
-
-            Object interactions = getCompMethod.invoke(store, entityRef, interactionsType);
+            if (!EcsAccessors.hasInteractionAccessors()) return;
+            Object interactions = EcsAccessors.getInteractions(store, entityRef);
             if (interactions == null) return;
 
-            // Get InteractionType.Use enum value
-            Class<?> interactionTypeClass = Class.forName("com.hypixel.hytale.protocol.InteractionType");
-            Object useType = null;
-            for (Object enumConst : interactionTypeClass.getEnumConstants()) {
-                if (enumConst.toString().equals("Use")) {
-                    useType = enumConst;
-                    break;
-                }
-            }
-
-            java.lang.reflect.Method setIntId = interactions.getClass().getMethod(
-                    "setInteractionId", interactionTypeClass, String.class);
-            java.lang.reflect.Method setHint = interactions.getClass().getMethod(
-                    "setInteractionHint", String.class);
-
             String entityKey = getStableEntityKey(entityRef);
 
             if (shouldShowFeed) {
                 // FEED MODE - show feed interaction
-                setIntId.invoke(interactions, useType, "Root_FeedAnimal");
+                EcsAccessors.setInteractionId(interactions, InteractionType.Use, "Root_FeedAnimal");
                 String hintKey = animalType.isMountable()
                         ? "animalbreeding.interactionHints.legacyFeedOrMount"
                         : "animalbreeding.interactionHints.legacyFeed";
-                setHint.invoke(interactions, hintKey);
+                EcsAccessors.setInteractionHint(interactions, hintKey);
             } else {
                 // ORIGINAL MODE - restore original interaction if we have it saved
                 OriginalInteractionState original = entityKey != null ? originalStates.get(entityKey) : null;
                 if (original != null) {
                     // Restore original interaction ID (even if null - that's the correct original state)
                     // For horses, original Use interaction is null which allows mounting to work
-                    setIntId.invoke(interactions, useType, original.getInteractionId());
+                    EcsAccessors.setInteractionId(interactions, InteractionType.Use, original.getInteractionId());
                     if (original.hasHint()) {
-                        setHint.invoke(interactions, original.getHint());
+                        EcsAccessors.setInteractionHint(interactions, original.getHint());
                     } else {
                         // Clear hint if original had none
-                        setHint.invoke(interactions, (String) null);
+                        EcsAccessors.setInteractionHint(interactions, null);
                     }
                     logVerbose(String.format("[StateUpdate] %s: restored original interaction=%s, hint=%s",
                         animalType, original.getInteractionId(), original.getHint()));
@@ -1360,35 +1229,64 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     }
 
     /**
-     * Update interaction states for all tracked animals.
-     * Called periodically from the tick loop.
+     * Queue an animal for an interaction state update on the next tick.
+     * Called by BreedingManager on love start/end and cooldown expiry.
      */
-    private void updateTrackedAnimalStates() {
-        if (!USE_ENTITY_BASED_INTERACTIONS) {
+    private void markInteractionStateDirty(BreedingData data) {
+        if (USE_ENTITY_BASED_INTERACTIONS && data.getEntityRef() != null) {
+            interactionStateDirty.add(data.getAnimalId());
+        }
+    }
+
+    /**
+     * Rewrite interaction states for animals whose love/cooldown state changed.
+     * Updates are grouped by the world that tracks each animal and run as one batched
+     * task per world on that world's thread.
+     */
+    private void flushInteractionStateUpdates() {
+        if (!USE_ENTITY_BASED_INTERACTIONS || interactionStateDirty.isEmpty()) {
             return;
         }
 
-        for (BreedingData data : breedingManager.getAllBreedingData()) {
-            Object refObj = data.getEntityRef();
-            AnimalType animalType = data.getAnimalType();
+        Map<World, List<BreedingData>> batches = new java.util.HashMap<>();
+        for (Iterator<UUID> it = interactionStateDirty.iterator(); it.hasNext(); ) {
+            UUID animalId = it.next();
+            it.remove();
 
-            if (refObj == null || animalType == null) continue;
+            BreedingShards.Shard shard = breedingShards.findShard(animalId);
+            if (shard == null) continue;
+            World world = worldsById.get(shard.getWorldId());
+            BreedingData data = shard.getBreeding().getData(animalId);
+            if (world == null || data == null) continue;
 
-            try {
-                @SuppressWarnings("unchecked")
-                Ref<EntityStore> entityRef = (Ref<EntityStore>) refObj;
+            batches.computeIfAbsent(world, w -> new ArrayList<>()).add(data);
+        }
 
-                // Skip and clean up stale refs (entity despawned)
-                if (!entityRef.isValid()) {
-                    data.setEntityRef(null);
-                    continue;
-                }
+        for (Map.Entry<World, List<BreedingData>> entry : batches.entrySet()) {
+            List<BreedingData> batch = entry.getValue();
+            worldTasks.submit(entry.getKey(), () -> {
+                for (BreedingData data : batch) {
+                    Object refObj = data.getEntityRef();
+                    AnimalType animalType = data.getAnimalType();
+                    if (refObj == null || animalType == null) continue;
 
-                updateAnimalInteractionState(entityRef, animalType, data);
-            } catch (Exception e) {
-                // Entity despawned or ref invalid - clean up and continue
-                data.setEntityRef(null);
-            }
+                    try {
+                        @SuppressWarnings("unchecked")
+                        Ref<EntityStore> entityRef = (Ref<EntityStore>) refObj;
+
+                        // Skip and clean up stale refs (entity despawned)
+                        if (!entityRef.isValid()) {
+                            data.setEntityRef(null);
+                            continue;
+                        }
+
+                        updateAnimalInteractionState(entityRef, animalType, data);
+                    } catch (Exception e) {
+                        // Entity despawned or ref invalid - clean up and continue
+                        data.setEntityRef(null);
+                    }
+                }
+            });
         }
     }
 
@@ -1399,65 +1297,27 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      */
     private void setupAbility2HintOnly(Store<EntityStore> store, Ref<EntityStore> entityRef, String hintKey) {
         try {
-            Object interactableType = getInteractableComponentType();
-            Object interactionsType = getInteractionsComponentType();
-
-            if (interactableType == null || interactionsType == null) {
+            if (!EcsAccessors.hasInteractionAccessors()) {
                 return;
             }
 
-            java.lang.reflect.Method ensureMethod = store.getClass().getMethod(
-                    "ensureAndGetComponent", Ref.class, ComponentType.class);
-
             // Ensure entity has Interactable component (enables hint display)
-            try {
-                ensureMethod.invoke(store, entityRef, interactableType);
-            } catch (Exception e) {
-                // Silent - may already have component
-            }
+            EcsAccessors.ensureInteractable(store, entityRef);
 
             // Check if entity already has Interactions component (real NPCs have this)
             // Use getComponent instead of ensureAndGetComponent to avoid adding to non-NPCs
-            java.lang.reflect.Method getCompMethod = null;
-            for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                    getCompMethod = m;
-                    break;
-                }
-            }
-            if (getCompMethod == null) return;
-
-            Object interactions = getCompMethod.invoke(store, entityRef, interactionsType);
+            Object interactions = EcsAccessors.getInteractions(store, entityRef);
             if (interactions == null) {
                 // Entity doesn't have Interactions component - not a real NPC, skip
                 logVerbose("[SetupInteraction] Skipping non-NPC entity (no Interactions component)");
                 return;
             }
 
-            // Get Ability2 enum value
-            Class<?> interactionTypeClass = Class.forName("com.hypixel.hytale.protocol.InteractionType");
-            Object ability2Type = null;
-            for (Object enumConst : interactionTypeClass.getEnumConstants()) {
-                if (enumConst.toString().equals("Ability2")) {
-                    ability2Type = enumConst;
-                    break;
-                }
-            }
-
-            if (ability2Type == null) {
-                logVerbose("Could not find Ability2 InteractionType");
-                return;
-            }
-
             // Set interaction for Ability2 (don't touch Use - it breaks other interactions)
-            java.lang.reflect.Method setIntId = interactions.getClass().getMethod(
-                    "setInteractionId", interactionTypeClass, String.class);
-            setIntId.invoke(interactions, ability2Type, "Root_FeedAnimal");
+            EcsAccessors.setInteractionId(interactions, InteractionType.Ability2, "Root_FeedAnimal");
 
             // Set the hint (API only supports simple string, no per-type hints)
-            java.lang.reflect.Method setHint = interactions.getClass().getMethod(
-                    "setInteractionHint", String.class);
-            setHint.invoke(interactions, hintKey);
+            EcsAccessors.setInteractionHint(interactions, hintKey);
             logVerbose("Set up Ability2 hint: " + hintKey);
 
         } catch (Exception e) {
@@ -1511,19 +1371,22 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         double y = pos != null ? pos.getY() : 0;
                         double z = pos != null ? pos.getZ() : 0;
 
-                        // Mark as despawned but keep data for respawn
-                        tamingManager.onTamedAnimalDespawn(entityId, x, y, z);
+                        // Mark as despawned but keep data for respawn in the world it left
+                        String worldId = null;
+                        try {
+                            worldId = worldIdOf(entity.getWorld());
+                        } catch (Exception e) {
+                            // Keep the recorded world
+                        }
+                        tamingManager.onTamedAnimalDespawn(entityId, worldId, x, y, z);
                         logVerbose("Tamed animal despawned (marked for respawn): " + entityId);
 
                         // Don't remove breeding data for tamed animals
                         return;
                     }
 
-                    // Regular animal cleanup
-                    BreedingData data = breedingManager.getData(entityId);
-                    if (data != null) {
-                        breedingManager.removeData(entityId);
-                    }
+                    // Regular animal cleanup (whichever world tracked it)
+                    breedingShards.removeData(entityId);
 
                     // Clean up originalStates map to prevent memory leak
                     try {
@@ -1552,16 +1415,26 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
     /**
      * Check for despawned tamed animals near players and respawn them.
+     * Only worlds with despawned animals are checked, each on its own thread.
      * Called every 5 seconds by the tick scheduler.
      */
     private void checkAndRespawnTamedAnimals() {
         if (tamingManager == null) return;
 
-        World world = Universe.get().getDefaultWorld();
-        if (world == null) return;
+        Set<String> pendingWorlds = tamingManager.getWorldsWithDespawned();
+        if (pendingWorlds.isEmpty()) return;
 
+        for (World world : getKnownWorlds()) {
+            String worldId = worldIdOf(world);
+            if (pendingWorlds.contains(worldId)) {
+                checkAndRespawnTamedAnimals(world, worldId);
+            }
+        }
+    }
+
+    private void checkAndRespawnTamedAnimals(World world, String worldId) {
         // Must run on world thread to access entity components
-        world.execute(() -> {
+        worldTasks.submit(world, () -> {
             double respawnRadius = 64.0; // Configurable in future
 
             try {
@@ -1573,7 +1446,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
                         // Find despawned tamed animals near this player
                         java.util.List<TamedAnimalData> toRespawn = tamingManager.getDespawnedAnimalsInRegion(
-                                playerPos.getX(), playerPos.getZ(), respawnRadius);
+                                worldId, playerPos.getX(), playerPos.getZ(), respawnRadius);
 
                         for (TamedAnimalData tamedData : toRespawn) {
                             respawnTamedAnimal(world, tamedData);
@@ -1607,7 +1480,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         final AnimalType finalAnimalType = animalType;
         final TamedAnimalData finalTamedData = tamedData;
 
-        world.execute(() -> {
+        worldTasks.submit(world, () -> {
             try {
                 Store<EntityStore> store = world.getEntityStore().getStore();
 
@@ -1631,57 +1504,38 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 Vector3f rotation = new Vector3f(0, finalTamedData.getLastRotation(), 0);
 
                 // Spawn the entity
-                for (java.lang.reflect.Method m : NPCPlugin.class.getMethods()) {
-                    if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                        Class<?> triConsumerClass = m.getParameterTypes()[5];
-                        Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                triConsumerClass.getClassLoader(),
-                                new Class<?>[] { triConsumerClass },
-                                (proxy, method, args) -> null
-                        );
-
-                        Object result = m.invoke(npcPlugin, store, roleIndex, spawnPos, rotation, null, noOpCallback);
-
-                        if (result != null) {
-                            java.lang.reflect.Method getFirst = result.getClass().getMethod("getFirst");
-                            @SuppressWarnings("unchecked")
-                            Ref<EntityStore> entityRef = (Ref<EntityStore>) getFirst.invoke(result);
-
-                            if (entityRef != null) {
-                                // Get new UUID
-                                UUID newUuid = null;
-                                try {
-                                    UUIDComponent uuidComp = store.getComponent(entityRef, UUID_TYPE);
-                                    if (uuidComp != null) {
-                                        newUuid = uuidComp.getUuid();
-                                    }
-                                } catch (Exception e) {
-                                    newUuid = UUID.randomUUID();
-                                }
+                Ref<EntityStore> entityRef = EcsAccessors.spawnNpc(store, roleIndex, spawnPos, rotation, null);
+                if (entityRef != null) {
+                    // Get new UUID
+                    UUID newUuid = null;
+                    try {
+                        UUIDComponent uuidComp = store.getComponent(entityRef, UUID_TYPE);
+                        if (uuidComp != null) {
+                            newUuid = uuidComp.getUuid();
+                        }
+                    } catch (Exception e) {
+                        newUuid = UUID.randomUUID();
+                    }
 
-                                if (newUuid == null) {
-                                    newUuid = UUID.randomUUID();
-                                }
+                    if (newUuid == null) {
+                        newUuid = UUID.randomUUID();
+                    }
 
-                                // Update taming manager with new UUID and ref
-                                tamingManager.markRespawned(oldUuid, newUuid, entityRef);
+                    // Update taming manager with new UUID and ref
+                    tamingManager.markRespawned(oldUuid, newUuid, entityRef);
 
-                                // Restore breeding data
-                                BreedingData bData = breedingManager.getOrCreateData(newUuid, finalAnimalType);
-                                finalTamedData.applyToBreedingData(bData);
-                                bData.setTamed(true, finalTamedData.getOwnerUuid());
-                                bData.setCustomName(finalTamedData.getCustomName());
-                                bData.setEntityRef(entityRef);
+                    // Restore breeding data in this world's shard
+                    BreedingData bData = shardFor(world).getBreeding().getOrCreateData(newUuid, finalAnimalType);
+                    finalTamedData.applyToBreedingData(bData);
+                    bData.setTamed(true, finalTamedData.getOwnerUuid());
+                    bData.setCustomName(finalTamedData.getCustomName());
+                    bData.setEntityRef(entityRef);
 
-                                // Note: Interaction will be set up by the periodic scan
-                                // This avoids duplicating complex reflection code
+                    // Note: Interaction will be set up by the periodic scan
+                    // This avoids duplicating complex reflection code
 
-                                logVerbose("Respawned tamed animal: " + finalTamedData.getCustomName() +
-                                        " (" + finalAnimalType + ")");
-                            }
-                        }
-                        break;
-                    }
+                    logVerbose("Respawned tamed animal: " + finalTamedData.getCustomName() +
+                            " (" + finalAnimalType + ")");
                 }
 
             } catch (Exception e) {
@@ -1691,185 +1545,131 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     }
 
     /**
-     * Automatically set up interactions on all farm animals in all worlds.
+     * Set up interactions on farm animals the scanner hasn't configured yet, in every world.
+     * Each world's store is scanned on its own thread.
      * Package-private so it can be called from the BreedingScanCommand.
      */
     void autoSetupNearbyAnimals() {
         if (verboseLogging) getLogger().atInfo().log("[AutoScan] autoSetupNearbyAnimals CALLED");
         try {
-            World world = Universe.get().getDefaultWorld();
-            if (world == null) {
-                getLogger().atWarning().log("[AutoScan] world is NULL, aborting");
+            java.util.Collection<World> worlds = getKnownWorlds();
+            if (worlds.isEmpty()) {
+                getLogger().atWarning().log("[AutoScan] no world available, aborting");
                 return;
             }
 
-            // Collect player UUIDs to exclude from animal detection
-            final Set<UUID> playerUuids = new HashSet<>();
-            for (Player p : world.getPlayers()) {
-                UUID pUuid = getEntityUUID(p);
-                if (pUuid != null) {
-                    playerUuids.add(pUuid);
+            if (verboseLogging) getLogger().atInfo().log("[AutoScan] Starting incremental scan of %d world(s) (customAnimals registered: %d)",
+                worlds.size(), configManager.getCustomAnimals().size());
+            for (World world : worlds) {
+                // Collect player UUIDs to exclude from animal detection
+                final Set<UUID> playerUuids = new HashSet<>();
+                for (Player p : world.getPlayers()) {
+                    UUID pUuid = getEntityUUID(p);
+                    if (pUuid != null) {
+                        playerUuids.add(pUuid);
+                    }
                 }
-            }
-
-            // Find all farm animals (including babies)
-            if (verboseLogging) getLogger().atInfo().log("[AutoScan] Starting animal scan (customAnimals registered: %d)",
-                configManager.getCustomAnimals().size());
-            AnimalFinder.findAnimals(world, false, animals -> {
-                try {
-                    if (verboseLogging) getLogger().atInfo().log("[AutoScan] Found %d animals total", animals.size());
-                    if (animals.isEmpty())
-                        return;
-
-                    int processedCount = 0;
-                    int skippedNull = 0;
-                    int skippedDisabled = 0;
-                    int skippedBaby = 0;
 
-                    // Log the registered custom animals for debugging
-                    if (verboseLogging) getLogger().atInfo().log("[AutoScan] Registered custom animals: %s",
-                        String.join(", ", configManager.getCustomAnimals().keySet()));
-
-                    for (AnimalFinder.FoundAnimal animal : animals) {
-                        Object entityRef = animal.getEntityRef();
-                        AnimalType animalType = animal.getAnimalType();
-                        String modelId = animal.getModelAssetId();
-
-                        // Check if this modelId matches any registered custom animal
-                        if (configManager.isCustomAnimal(modelId)) {
-                            if (verboseLogging) getLogger().atInfo().log("[AutoScan] Processing potential custom animal: '%s' (animalType=%s)", modelId, animalType);
-                        }
+                worldTasks.submit(world, () -> {
+                    try {
+                        Store<EntityStore> store = world.getEntityStore().getStore();
+                        AnimalScanner.ScanStats stats = animalScanner.scan(store,
+                                (refStore, ref, species) -> setupScannedAnimal(refStore, ref, species, playerUuids));
+                        logVerbose("Animal scan complete (" + worldIdOf(world) + "): new/changed=" + stats.newOrChanged() +
+                                ", entities=" + stats.entitiesVisited() +
+                                ", chunks=" + stats.chunksVisited() + " (skipped " + stats.chunksSkipped() + ")" +
+                                ", forgotten=" + stats.forgotten() +
+                                ", took=" + (stats.durationNanos() / 1000) + "us");
+                    } catch (Exception e) {
+                        // Log errors from animal processing
+                        logWarning("autoSetupNearbyAnimals scan error: " + e.getClass().getSimpleName() + ": "
+                                + e.getMessage());
+                    }
+                });
+            }
+            worldTasks.flush();
 
-                        // Skip if this is a player entity (prevents attaching interactions to players with animal models)
-                        if (entityRef instanceof Ref) {
-                            @SuppressWarnings("unchecked")
-                            Ref<EntityStore> ref = (Ref<EntityStore>) entityRef;
-                            // Skip UUID check if ref is stale - entity despawned, just proceed
-                            if (!ref.isValid()) {
-                                logVerbose("[AnimalScan] Skipping stale entity ref for " + animal.getModelAssetId());
-                                continue;
-                            }
-                            try {
-                                Store<EntityStore> refStore = ref.getStore();
-                                if (refStore != null) {
-                                    UUIDComponent uuidComp = refStore.getComponent(ref, UUID_TYPE);
-                                    if (uuidComp != null && uuidComp.getUuid() != null) {
-                                        if (playerUuids.contains(uuidComp.getUuid())) {
-                                            logVerbose("Skipping player entity with animal model: " + animal.getModelAssetId());
-                                            continue;
-                                        }
-                                    }
-                                }
-                            } catch (Exception e) {
-                                // UUID check failed - this happens when UUIDComponent doesn't exist
-                                // This is OK: the check is only to filter players, not to validate animals
-                                // Don't skip any animals - proceed with interaction setup
-                                if (configManager.isCustomAnimal(modelId)) {
-                                    logVerbose("[CustomAnimal] " + modelId + " has no UUID component (expected for custom NPCs), proceeding");
-                                } else {
-                                    logVerbose("[AnimalScan] UUID check failed for " + animal.getModelAssetId() + " (proceeding anyway): " + e.getMessage());
-                                }
-                                // Note: Do NOT skip - both built-in and custom animals should proceed
-                            }
-                        }
+        } catch (Exception e) {
+            // Log errors from initial setup
+            logWarning("autoSetupNearbyAnimals setup error: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
 
-                        // Check if it's a custom animal (from config)
-                        CustomAnimalConfig customAnimal = null;
-                        if (animalType == null) {
-                            customAnimal = configManager.getCustomAnimal(modelId);
-                            // Debug: log custom animal lookup attempts
-                            if (customAnimal != null) {
-                                if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] Found match for '%s' (enabled=%s)", modelId, customAnimal.isEnabled());
-                            } else if (configManager.getCustomAnimals().size() > 0) {
-                                // Only log if there are custom animals registered - ALWAYS LOG THIS
-                                if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] No match for '%s' (registered: %s)",
-                                    modelId, String.join(", ", configManager.getCustomAnimals().keySet()));
-                            }
-                        } else {
-                            // Log if a potential custom animal is being detected as built-in
-                            if (configManager.isCustomAnimal(modelId)) {
-                                getLogger().atWarning().log("[CustomAnimal] '%s' matched as built-in %s instead of custom!", modelId, animalType);
-                            }
-                        }
+    /**
+     * Set up one animal found by the scanner (world thread).
+     *
+     * @return false if the animal should be offered again next scan (breeding disabled for its species)
+     */
+    private boolean setupScannedAnimal(Store<EntityStore> store, Ref<EntityStore> ref, SpeciesDescriptor species,
+            Set<UUID> playerUuids) {
+        AnimalType animalType = species.getAnimalType();
+        CustomAnimalConfig customAnimal = species.getCustomConfig();
+        String modelId = species.getModelAssetId();
 
-                        // Skip if not a recognized farm animal OR custom animal
-                        if (animalType == null && customAnimal == null) {
-                            skippedNull++;
-                            continue;
-                        }
+        if (!ref.isValid()) {
+            logVerbose("[AnimalScan] Skipping stale entity ref for " + modelId);
+            return true;
+        }
 
-                        // Skip if breeding is disabled
-                        if (animalType != null && !configManager.isAnimalEnabled(animalType)) {
-                            skippedDisabled++;
-                            logVerbose("Skipping disabled animal: " + animalType);
-                            continue;
-                        }
-                        if (customAnimal != null && !customAnimal.isEnabled()) {
-                            skippedDisabled++;
-                            logVerbose("Skipping disabled custom animal: " + animal.getModelAssetId());
-                            continue;
-                        }
+        // Skip if this is a player entity (prevents attaching interactions to players with animal models)
+        try {
+            UUIDComponent uuidComp = store.getComponent(ref, UUID_TYPE);
+            if (uuidComp != null && uuidComp.getUuid() != null && playerUuids.contains(uuidComp.getUuid())) {
+                logVerbose("Skipping player entity with animal model: " + modelId);
+                return true;
+            }
+        } catch (Exception e) {
+            // UUID check failed - this happens when UUIDComponent doesn't exist
+            // This is OK: the check is only to filter players, not to validate animals
+            logVerbose("[AnimalScan] UUID check failed for " + modelId + " (proceeding anyway): " + e.getMessage());
+        }
 
-                        // Check if this is a baby that needs growth tracking
-                        if (animal.isBaby() && animalType != null) {
-                            UUID babyId = UUID.nameUUIDFromBytes(entityRef.toString().getBytes());
-                            if (breedingManager.getData(babyId) == null) {
-                                breedingManager.registerBaby(babyId, animalType, entityRef);
-                            }
-                        }
+        // Skip if breeding is disabled (re-checked next scan in case it gets enabled)
+        if (animalType != null && !configManager.isAnimalEnabled(animalType)) {
+            logVerbose("Skipping disabled animal: " + animalType);
+            return false;
+        }
+        if (customAnimal != null && !customAnimal.isEnabled()) {
+            logVerbose("Skipping disabled custom animal: " + modelId);
+            return false;
+        }
 
-                        // Set up interactions for adults (babies can't breed)
-                        if (!animal.isBaby()) {
-                            @SuppressWarnings("unchecked")
-                            Ref<EntityStore> ref = (Ref<EntityStore>) entityRef;
-                            Store<EntityStore> refStore = ref.getStore();
-                            if (refStore != null) {
-                                if (USE_ENTITY_BASED_INTERACTIONS) {
-                                    // Legacy: Set up entity-based interactions (Use key)
-                                    if (animalType != null) {
-                                        logVerbose("Setting up interactions for adult: " + animal.getModelAssetId() + " (type: "
-                                                + animalType + ")");
-                                        setupEntityInteractions(refStore, ref, animalType);
-                                    } else if (customAnimal != null) {
-                                        if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] ABOUT TO CALL setupCustomAnimalInteractions for: %s", animal.getModelAssetId());
-                                        setupCustomAnimalInteractions(refStore, ref, customAnimal);
-                                    }
-                                } else if (SHOW_ABILITY2_HINTS_ON_ENTITIES) {
-                                    // Item-based with hints: Show Ability2 hint on animals
-                                    String hintKey = (animalType != null && animalType.isMountable())
-                                            ? "animalbreeding.interactionHints.feed"
-                                            : "animalbreeding.interactionHints.feed";
-                                    setupAbility2HintOnly(refStore, ref, hintKey);
-                                }
-                                processedCount++;
-                            } else {
-                                getLogger().atWarning().log("[CustomAnimal] refStore is NULL for: %s", animal.getModelAssetId());
-                            }
-                        } else {
-                            if (customAnimal != null) {
-                                if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] Skipping baby custom animal: %s", animal.getModelAssetId());
-                            }
-                            skippedBaby++;
-                        }
-                    }
-                    logVerbose("Animal scan complete: processed=" + processedCount +
-                            ", skippedNull=" + skippedNull +
-                            ", skippedDisabled=" + skippedDisabled +
-                            ", skippedBaby=" + skippedBaby);
-                } catch (Exception e) {
-                    // Log errors from animal processing
-                    logWarning("autoSetupNearbyAnimals callback error: " + e.getClass().getSimpleName() + ": "
-                            + e.getMessage());
-                    if (verboseLogging && e.getCause() != null) {
-                        logWarning("  Caused by: " + e.getCause().getMessage());
-                    }
+        // Check if this is a baby that needs growth tracking
+        if (species.isBaby()) {
+            if (animalType != null) {
+                UUID babyId = getBreedingKey(ref);
+                BreedingManager breeding = getBreedingManager(store);
+                if (!reattachBreedingState(breeding, ref) && breeding.getData(babyId) == null) {
+                    breeding.registerBaby(babyId, animalType, ref);
                 }
-            });
+            } else if (verboseLogging) {
+                getLogger().atInfo().log("[CustomAnimal] Skipping baby custom animal: %s", modelId);
+            }
+            return true;
+        }
 
-        } catch (Exception e) {
-            // Log errors from initial setup
-            logWarning("autoSetupNearbyAnimals setup error: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+        if (animalType != null) {
+            reattachBreedingState(getBreedingManager(store), ref);
+        }
+
+        // Set up interactions for adults (babies can't breed)
+        if (USE_ENTITY_BASED_INTERACTIONS) {
+            // Legacy: Set up entity-based interactions (Use key)
+            if (animalType != null) {
+                logVerbose("Setting up interactions for adult: " + modelId + " (type: " + animalType + ")");
+                setupEntityInteractions(store, ref, animalType);
+            } else if (customAnimal != null) {
+                if (verboseLogging) getLogger().atInfo().log("[CustomAnimal] ABOUT TO CALL setupCustomAnimalInteractions for: %s", modelId);
+                setupCustomAnimalInteractions(store, ref, customAnimal);
+            }
+        } else if (SHOW_ABILITY2_HINTS_ON_ENTITIES) {
+            // Item-based with hints: Show Ability2 hint on animals
+            String hintKey = (animalType != null && animalType.isMountable())
+                    ? "animalbreeding.interactionHints.feed"
+                    : "animalbreeding.interactionHints.feed";
+            setupAbility2HintOnly(store, ref, hintKey);
         }
+        return true;
     }
 
     /**
@@ -1981,6 +1781,10 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         // Debug log
         if (verboseLogging) getLogger().atInfo().log("[TamingDebug] handleMouseClick triggered on entity");
 
+        // Breeding and taming state lives in the target's own world
+        World targetWorld = targetEntity.getWorld();
+        BreedingManager breeding = shardFor(targetWorld).getBreeding();
+
         // Get held item early for taming check
         Item heldItem = event.getItemInHand();
         String itemId = heldItem != null ? heldItem.getId() : null;
@@ -2026,11 +1830,12 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         }
 
                         // Tame the animal
-                        TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, pendingName, animalTypeForTaming);
+                        TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, pendingName,
+                                animalTypeForTaming, worldIdOf(targetWorld));
                         if (tamedData != null) {
                             // Update breeding data if applicable
                             if (animalTypeForTaming != null) {
-                                BreedingData bData = breedingManager.getOrCreateData(animalUuid, animalTypeForTaming);
+                                BreedingData bData = breeding.getOrCreateData(animalUuid, animalTypeForTaming);
                                 bData.setTamed(true, playerUuid);
                                 bData.setCustomName(pendingName);
                             }
@@ -2058,7 +1863,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     String entityName = getEntityModelId(targetEntity);
                     AnimalType animalTypeForUntame = AnimalType.fromEntityTypeId(entityName);
                     if (animalTypeForUntame != null) {
-                        BreedingData bData = breedingManager.getData(animalUuid);
+                        BreedingData bData = breeding.getData(animalUuid);
                         if (bData != null) {
                             bData.setTamed(false, null);
                         }
@@ -2112,20 +1917,11 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         // Get UUID for this entity (via ECS UUIDComponent)
         UUID entityId = getEntityUUID(targetEntity);
 
-        // Try to feed the animal
-        BreedingManager.FeedResult result = breedingManager.tryFeed(entityId, animalType, itemId);
-
-        // Store the entity ref for position tracking (needed for distance-based
-        // breeding)
-        if (result == BreedingManager.FeedResult.SUCCESS || result == BreedingManager.FeedResult.ALREADY_IN_LOVE) {
-            Object entityRef = getEntityRef(targetEntity);
-            if (entityRef != null) {
-                BreedingData data = breedingManager.getData(entityId);
-                if (data != null && data.getEntityRef() == null) {
-                    data.setEntityRef(entityRef);
-                }
-            }
-        }
+        // Try to feed the animal. The entity ref (for position tracking and distance-based
+        // breeding) is stored before love starts, so the love-changed callback sees it and
+        // queues the interaction hint update
+        BreedingManager.FeedResult result = breeding.tryFeed(entityId, animalType, itemId,
+                getEntityRef(targetEntity));
 
         // Send chat feedback to player
         logVerbose("Feed result for " + animalType.getId() + ": " + result);
@@ -2158,7 +1954,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                             Message.raw("[Lait:AnimalBreeding] This " + animalType.getId() + " is too young to breed"));
                     break;
                 case ON_COOLDOWN:
-                    BreedingData data = breedingManager.getData(entityId);
+                    BreedingData data = breeding.getData(entityId);
                     if (data != null) {
                         long remaining = data.getCooldownRemaining(configManager.getBreedingCooldown(animalType));
                         player.sendMessage(Message.raw("[Lait:AnimalBreeding] This " + animalType.getId()
@@ -2235,13 +2031,18 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * entities.
      */
     private void tryFindMate(UUID animalId, AnimalType type, Player player) {
-        BreedingData currentData = breedingManager.getData(animalId);
+        BreedingShards.Shard shard = breedingShards.findShard(animalId);
+        if (shard == null) {
+            return;
+        }
+        BreedingManager breeding = shard.getBreeding();
+        BreedingData currentData = breeding.getData(animalId);
         if (currentData == null || !currentData.isInLove()) {
             return;
         }
 
         // Look for another animal of same type that's in love
-        for (BreedingData data : breedingManager.getAllBreedingData()) {
+        for (BreedingData data : breeding.getAllBreedingData()) {
             if (data.getAnimalId().equals(animalId)) {
                 continue; // Skip self
             }
@@ -2253,7 +2054,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
 
             // Found a mate! Start breeding
-            boolean success = breedingManager.tryBreed(animalId, data.getAnimalId(), type);
+            boolean success = breeding.tryBreed(animalId, data.getAnimalId(), type);
             if (success && player != null) {
                 long gestationTime = configManager.getGestationPeriod(type);
                 player.sendMessage(Message.raw("[Lait:AnimalBreeding] Two " + type.getId() + "s are breeding!"));
@@ -2269,13 +2070,15 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * immediately).
      */
     private void tryFindMateInstant(UUID animalId, AnimalType type, Entity targetEntity, Player player) {
-        BreedingData currentData = breedingManager.getData(animalId);
+        World world = targetEntity.getWorld();
+        BreedingManager breeding = shardFor(world).getBreeding();
+        BreedingData currentData = breeding.getData(animalId);
         if (currentData == null || !currentData.isInLove()) {
             return;
         }
 
         // Look for another animal of same type that's in love
-        for (BreedingData data : breedingManager.getAllBreedingData()) {
+        for (BreedingData data : breeding.getAllBreedingData()) {
             if (data.getAnimalId().equals(animalId)) {
                 continue; // Skip self
             }
@@ -2300,7 +2103,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
 
             // Spawn baby
-            spawnBabyAnimal(type, spawnPos);
+            spawnBabyAnimal(world, type, spawnPos);
 
             if (player != null) {
                 player.sendMessage(Message.raw("[Lait:AnimalBreeding] Two " + type.getId() + "s have bred!"));
@@ -2324,26 +2127,12 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             double y = position.getY() + 1.5;
             double z = position.getZ();
 
-            Class<?> particleUtilClass = Class.forName("com.hypixel.hytale.server.core.universe.world.ParticleUtil");
-            World world = Universe.get().getDefaultWorld();
+            World world = entity.getWorld();
             if (world == null)
                 return;
 
-            Object store = world.getEntityStore().getStore();
-
-            for (java.lang.reflect.Method method : particleUtilClass.getMethods()) {
-                if (method.getName().equals("spawnParticleEffect") && method.getParameterCount() == 3) {
-                    Class<?>[] params = method.getParameterTypes();
-                    if (params[0] == String.class &&
-                            params[1].getSimpleName().equals("Vector3d") &&
-                            params[2].getSimpleName().equals("ComponentAccessor")) {
-
-                        Vector3d heartsPos = new Vector3d(x, y, z);
-                        method.invoke(null, HEARTS_PARTICLE, heartsPos, store);
-                        return;
-                    }
-                }
-            }
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            EcsAccessors.spawnParticles(HEARTS_PARTICLE, new Vector3d(x, y, z), store);
         } catch (Exception e) {
             // Silent
         }
@@ -2386,20 +2175,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             Vector3d heartsPos = new Vector3d(x, y, z);
 
             // Use ParticleUtil.spawnParticleEffect
-            boolean methodFound = false;
-            for (java.lang.reflect.Method method : ParticleUtil.class.getMethods()) {
-                if (method.getName().equals("spawnParticleEffect") && method.getParameterCount() == 3) {
-                    Class<?>[] params = method.getParameterTypes();
-                    if (params[0] == String.class &&
-                            params[1].getSimpleName().equals("Vector3d") &&
-                            params[2].getSimpleName().equals("ComponentAccessor")) {
-                        method.invoke(null, HEARTS_PARTICLE, heartsPos, store);
-                        methodFound = true;
-                        return;
-                    }
-                }
-            }
-            if (!methodFound) {
+            if (!EcsAccessors.spawnParticles(HEARTS_PARTICLE, heartsPos, store)) {
                 getLogger().atWarning().log("[Hearts] spawnParticleEffect method not found");
             }
         } catch (Exception e) {
@@ -2416,34 +2192,12 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             if (pos == null)
                 return;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = entity.getWorld();
             if (world == null)
                 return;
 
-            Object store = world.getEntityStore().getStore();
-
-            // Get sound ID
-            Class<?> soundEventClass = Class
-                    .forName("com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent");
-            Object assetMap = soundEventClass.getMethod("getAssetMap").invoke(null);
-            int soundId = (int) assetMap.getClass().getMethod("getIndex", Object.class).invoke(assetMap,
-                    "SFX_Consume_Bread");
-
-            if (soundId < 0)
-                return;
-
-            // Play 3D sound
-            Class<?> soundUtilClass = Class.forName("com.hypixel.hytale.server.core.universe.world.SoundUtil");
-            for (java.lang.reflect.Method m : soundUtilClass.getMethods()) {
-                if (m.getName().equals("playSoundEvent3d") && m.getParameterCount() == 6) {
-                    Class<?>[] paramTypes = m.getParameterTypes();
-                    if (paramTypes[0] == int.class && paramTypes[1] == double.class) {
-                        java.util.function.Predicate<Object> allPlayers = p -> true;
-                        m.invoke(null, soundId, pos.getX(), pos.getY(), pos.getZ(), allPlayers, store);
-                        return;
-                    }
-                }
-            }
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            EcsAccessors.playSound3d("SFX_Consume_Bread", pos, store);
         } catch (Exception e) {
             // Silent
         }
@@ -2454,65 +2208,17 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      */
     private Vector3d getEntityPosition(Entity entity) {
         try {
-            // Try to get position directly from Entity
-            java.lang.reflect.Method getPosition = entity.getClass().getMethod("getPosition");
-            Object pos = getPosition.invoke(entity);
-            if (pos instanceof Vector3d) {
-                return (Vector3d) pos;
-            }
-            // Try to convert Vector3f to Vector3d
-            if (pos != null && pos.getClass().getSimpleName().equals("Vector3f")) {
-                java.lang.reflect.Method getX = pos.getClass().getMethod("getX");
-                java.lang.reflect.Method getY = pos.getClass().getMethod("getY");
-                java.lang.reflect.Method getZ = pos.getClass().getMethod("getZ");
-                float x = (Float) getX.invoke(pos);
-                float y = (Float) getY.invoke(pos);
-                float z = (Float) getZ.invoke(pos);
-                return new Vector3d(x, y, z);
-            }
-        } catch (NoSuchMethodException e) {
-            // Try alternate method names
-            try {
-                java.lang.reflect.Method getPos = entity.getClass().getMethod("getPos");
-                Object pos = getPos.invoke(entity);
-                if (pos instanceof Vector3d) {
-                    return (Vector3d) pos;
-                }
-            } catch (Exception e2) {
-                // Continue to fallback
+            TransformComponent transform = entity.getTransformComponent();
+            if (transform != null) {
+                return transform.getPosition();
             }
-        } catch (Exception e) {
-            // Silent
-        }
-
-        // Fallback: try to get from Ref/Store if entity has getRef()
-        try {
-            java.lang.reflect.Method getRef = entity.getClass().getMethod("getRef");
-            Object ref = getRef.invoke(entity);
-            if (ref != null) {
-                java.lang.reflect.Method getStore = ref.getClass().getMethod("getStore");
-                Object store = getStore.invoke(ref);
-
-                Class<?> transformClass = Class
-                        .forName("com.hypixel.hytale.server.core.modules.entity.component.TransformComponent");
-                java.lang.reflect.Method getComponentType = transformClass.getMethod("getComponentType");
-                Object componentType = getComponentType.invoke(null);
-
-                Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
-                Class<?> componentTypeClass = Class.forName("com.hypixel.hytale.component.ComponentType");
-                java.lang.reflect.Method getComponent = store.getClass().getMethod("getComponent", refClass,
-                        componentTypeClass);
-                Object transform = getComponent.invoke(store, ref, componentType);
-
-                if (transform != null) {
-                    java.lang.reflect.Method getPosition = transform.getClass().getMethod("getPosition");
-                    return (Vector3d) getPosition.invoke(transform);
-                }
+            Ref<EntityStore> ref = entity.getReference();
+            if (ref != null && ref.getStore() != null) {
+                return EcsAccessors.getPosition(ref.getStore(), ref);
             }
         } catch (Exception e) {
-            // Silent
+            // Silent - entity may be mid-removal
         }
-
         return null;
     }
 
@@ -2521,18 +2227,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      */
     private Object getEntityRef(Entity entity) {
         try {
-            // Try Entity.getRef() method
-            java.lang.reflect.Method getRef = entity.getClass().getMethod("getRef");
-            return getRef.invoke(entity);
-        } catch (NoSuchMethodException e) {
-            // Try alternative methods
-            try {
-                // Some entities might have getEntityRef()
-                java.lang.reflect.Method getEntityRef = entity.getClass().getMethod("getEntityRef");
-                return getEntityRef.invoke(entity);
-            } catch (Exception e2) {
-                // Silent - not all entities have ref access
-            }
+            return entity.getReference();
         } catch (Exception e) {
             // Silent
         }
@@ -2620,26 +2315,9 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 World world = entity.getWorld();
                 if (world != null) {
                     Store<EntityStore> store = world.getEntityStore().getStore();
-                    ModelComponent modelComp = store.getComponent((Ref<EntityStore>) entityRef, MODEL_TYPE);
-                    if (modelComp != null) {
-                        // Use cached Field for performance (avoid getDeclaredField per call)
-                        if (!modelFieldInitialized || cachedModelField == null)
-                            return entity.toString();
-
-                        Object model = cachedModelField.get(modelComp);
-
-                        if (model != null) {
-                            // Parse modelAssetId from toString to avoid additional reflection
-                            String modelStr = model.toString();
-                            int start = modelStr.indexOf("modelAssetId='");
-                            if (start >= 0) {
-                                start += 14;
-                                int end = modelStr.indexOf("'", start);
-                                if (end > start) {
-                                    return modelStr.substring(start, end);
-                                }
-                            }
-                        }
+                    SpeciesDescriptor species = ModelAssetIdResolver.resolve(store, (Ref<EntityStore>) entityRef);
+                    if (species != null) {
+                        return species.getModelAssetId();
                     }
                 }
             }
@@ -2651,64 +2329,127 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         return entity.toString();
     }
 
+    /**
+     * One breeding tick for a world's shard: births, cooldowns, growth and love.
+     * Runs on that world's thread, so shards in different worlds tick in parallel.
+     */
+    private void tickShard(World world, BreedingShards.Shard shard) {
+        BreedingManager breeding = shard.getBreeding();
+        breeding.tickPregnancies();
+        breeding.tickCooldowns();
+        shard.getGrowth().tickGrowth();
+        tickLoveAnimals(world, breeding);
+    }
+
+    /**
+     * Reattach checkpointed breeding state to an animal whose entity just loaded.
+     * Only animals with a persistent UUID can have saved state.
+     * @return true if saved state was restored
+     */
+    private boolean reattachBreedingState(BreedingManager breeding, Ref<EntityStore> entityRef) {
+        if (breedingCheckpoint == null) {
+            return false;
+        }
+        UUID animalId = getPersistentUuid(entityRef);
+        if (animalId == null || breeding.getData(animalId) != null) {
+            return false;
+        }
+        BreedingCheckpoint.Entry entry = breedingCheckpoint.claim(animalId);
+        if (entry == null) {
+            return false;
+        }
+        breeding.restoreData(entry, entityRef);
+        logVerbose("Restored breeding state for " + entry.animalType() + " " + animalId);
+        return true;
+    }
+
+    /**
+     * Wire a new world shard's managers to the plugin (called once per shard).
+     */
+    private void initBreedingShard(BreedingShards.Shard shard) {
+        BreedingManager breeding = shard.getBreeding();
+        breeding.setEntityRefValidator(ref -> ref instanceof Ref<?> r && r.isValid() && r.getStore() != null);
+        breeding.setOnLoveChangedCallback(this::markInteractionStateDirty);
+        breeding.setOnCooldownEndCallback(this::markInteractionStateDirty);
+        breeding.setOnRemovedCallback(data -> interactionStateDirty.remove(data.getAnimalId()));
+        if (breedingCheckpoint != null) {
+            breeding.setStateRecorder(breedingCheckpoint::record);
+        }
+
+        // Growth stage changes; fired from tickShard on the shard's world thread
+        shard.getGrowth().setOnGrowthCallback(event -> {
+            World world = worldsById.get(shard.getWorldId());
+            if (event.usesScaling()) {
+                // Creatures without baby variants: update scale at each stage
+                updateEntityScale(world, breeding, event.getAnimalId(), event.getAnimalType(), event.getTargetScale());
+                if (event.getNewStage() == GrowthStage.ADULT) {
+                    // Clean up tracking data when fully grown
+                    breeding.removeData(event.getAnimalId());
+                }
+            } else {
+                // Animals with baby variants: replace entity when adult
+                if (event.getNewStage() == GrowthStage.ADULT) {
+                    transformBabyToAdult(world, breeding, event.getAnimalId(), event.getAnimalType());
+                }
+            }
+        });
+    }
+
     /**
      * Tick method to handle animals in love (optimized):
      * - Check if two animals of same type are in love and nearby
      * - If close enough, breed them
      * - If too far apart, wait for player to herd them together
-     * - Love expires after LOVE_DURATION (30 seconds)
+     * - Love expires after BreedingManager.LOVE_DURATION_MS (30 seconds)
+     * Runs on the world thread as part of tickShard.
      */
-    private void tickLoveAnimals() {
+    private void tickLoveAnimals(World world, BreedingManager breeding) {
         // Early exit if nothing tracked
-        int trackedCount = breedingManager.getTrackedCount();
-        int inLoveTotal = breedingManager.getInLoveCount();
+        int trackedCount = breeding.getTrackedCount();
+        int inLoveTotal = breeding.getInLoveCount();
 
         // Always log status when any animal is in love (for debugging)
         if (inLoveTotal > 0) {
-            if (verboseLogging) getLogger().atInfo().log("[TickLove] Running: tracked=" + trackedCount + ", inLove=" + inLoveTotal);
+            if (verboseLogging) getLogger().atInfo().log("[TickLove] Running: world=" + worldIdOf(world) +
+                    ", tracked=" + trackedCount + ", inLove=" + inLoveTotal);
         }
 
         if (trackedCount == 0)
             return;
 
-        long now = System.currentTimeMillis();
+        // Expire due love windows (deadline-driven, only visits animals that are due)
+        breeding.tickLoveExpiry();
 
-        // Single pass: expire love AND collect eligible animals AND group by type
-        java.util.Map<AnimalType, java.util.List<BreedingData>> byType = new java.util.HashMap<>();
+        // Single pass over in-love animals: collect heart refs AND breeding candidates
+        java.util.List<BreedingData> candidates = new java.util.ArrayList<>();
+        java.util.List<BreedingManager.CustomAnimalLoveData> customCandidates = new java.util.ArrayList<>();
         java.util.List<Object> inLoveEntityRefs = new java.util.ArrayList<>();
         int inLoveCount = 0;
         int inLoveWithRef = 0;
         int inLoveNoRef = 0;
 
-        for (BreedingData data : breedingManager.getAllBreedingData()) {
-            if (data.isInLove()) {
-                // Check expiration
-                if (now - data.getLoveStartTime() > LOVE_DURATION) {
-                    data.resetLove();
-                    continue;
-                }
-
-                // Collect entity ref for heart particles (all in-love animals)
-                if (data.getEntityRef() != null) {
-                    inLoveEntityRefs.add(data.getEntityRef());
-                    inLoveWithRef++;
-                } else {
-                    inLoveNoRef++;
-                }
+        for (BreedingData data : breeding.getAnimalsInLove()) {
+            // Collect entity ref for heart particles (all in-love animals)
+            if (data.getEntityRef() != null) {
+                inLoveEntityRefs.add(data.getEntityRef());
+                inLoveWithRef++;
+            } else {
+                inLoveNoRef++;
+            }
 
-                // Collect if eligible for breeding
-                if (!data.isPregnant() && data.getGrowthStage().canBreed()) {
-                    byType.computeIfAbsent(data.getAnimalType(), k -> new java.util.ArrayList<>()).add(data);
-                    inLoveCount++;
-                }
+            // Collect if eligible for breeding
+            if (!data.isPregnant() && data.getGrowthStage().canBreed() && data.getEntityRef() != null) {
+                candidates.add(data);
+                inLoveCount++;
             }
         }
 
         // Also process custom animals in love mode
-        breedingManager.tickCustomAnimalLove(); // Expire old love modes
-        for (BreedingManager.CustomAnimalLoveData customData : breedingManager.getCustomAnimalsInLove()) {
+        breeding.tickCustomAnimalLove(); // Expire old love modes
+        for (BreedingManager.CustomAnimalLoveData customData : breeding.getCustomAnimalsInLove()) {
             if (customData.getEntityRef() != null) {
                 inLoveEntityRefs.add(customData.getEntityRef());
+                customCandidates.add(customData);
                 inLoveWithRef++;
             } else {
                 inLoveNoRef++;
@@ -2722,146 +2463,98 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     ", InLove no ref: " + inLoveNoRef);
         }
 
-        // Spawn heart particles for all animals in love (runs every 1 second)
-        if (!inLoveEntityRefs.isEmpty()) {
-            World world = Universe.get().getDefaultWorld();
-            if (world != null) {
-                final int refCount = inLoveEntityRefs.size();
-                world.execute(() -> {
-                    try {
-                        Store<EntityStore> store = world.getEntityStore().getStore();
-                        int spawned = 0;
-                        for (Object entityRef : inLoveEntityRefs) {
-                            spawnHeartParticlesAtRef(store, entityRef);
-                            spawned++;
-                        }
-                        if (verboseLogging) getLogger().atInfo()
-                                .log("[Hearts] Spawned particles for " + spawned + "/" + refCount + " entities");
-                    } catch (Exception e) {
-                        getLogger().atWarning().log("[Hearts] Error spawning: " + e.getMessage());
-                    }
-                });
-            }
-        }
-
-        // Early exit if less than 2 animals in love
-        if (inLoveCount < 2)
-            return;
-
-        // Must execute ECS operations on world thread
-        World world = Universe.get().getDefaultWorld();
-        if (world == null)
+        Store<EntityStore> store;
+        try {
+            store = world.getEntityStore().getStore();
+        } catch (Exception e) {
             return;
-
-        // For each type with 2+ animals in love, check distance and breed if close
-        for (java.util.Map.Entry<AnimalType, java.util.List<BreedingData>> entry : byType.entrySet()) {
-            java.util.List<BreedingData> animalsOfType = entry.getValue();
-            if (animalsOfType.size() < 2)
-                continue;
-
-            BreedingData animal1 = animalsOfType.get(0);
-            BreedingData animal2 = animalsOfType.get(1);
-
-            if (animal1.getEntityRef() == null || animal2.getEntityRef() == null) {
-                continue;
-            }
-
-            final BreedingData finalAnimal1 = animal1;
-            final BreedingData finalAnimal2 = animal2;
-            final AnimalType finalType = entry.getKey();
-
-            // Execute on world thread for ECS access
-            world.execute(() -> {
-                try {
-                    Store<EntityStore> store = world.getEntityStore().getStore();
-
-                    Vector3d pos1 = getPositionOnWorldThread(store, finalAnimal1.getEntityRef());
-                    Vector3d pos2 = getPositionOnWorldThread(store, finalAnimal2.getEntityRef());
-
-                    if (pos1 == null || pos2 == null)
-                        return;
-
-                    double distance = calculateDistance(pos1, pos2);
-
-                    if (distance <= BREEDING_DISTANCE) {
-                        finalAnimal1.completeBreeding();
-                        finalAnimal2.completeBreeding();
-                        // Spawn baby at midpoint between the two parents
-                        Vector3d midpoint = new Vector3d(
-                                (pos1.getX() + pos2.getX()) / 2.0,
-                                (pos1.getY() + pos2.getY()) / 2.0,
-                                (pos1.getZ() + pos2.getZ()) / 2.0);
-                        spawnBabyAnimal(finalType, midpoint);
-                    }
-                } catch (Exception e) {
-                    // Silent
+        }
+
+        // Spawn heart particles for all animals in love (runs every 1 second)
+        if (!inLoveEntityRefs.isEmpty()) {
+            try {
+                int spawned = 0;
+                for (Object entityRef : inLoveEntityRefs) {
+                    spawnHeartParticlesAtRef(store, entityRef);
+                    spawned++;
                 }
-            });
+                if (verboseLogging) getLogger().atInfo()
+                        .log("[Hearts] Spawned particles for " + spawned + "/" + inLoveEntityRefs.size() + " entities");
+            } catch (Exception e) {
+                getLogger().atWarning().log("[Hearts] Error spawning: " + e.getMessage());
+            }
+        }
+
+        // Early exit if no animal could breed (a single one is still indexed so
+        // FeedAnimalInteraction can pair a newly fed mate with it instantly)
+        if (inLoveCount + customCandidates.size() == 0) {
+            breeding.clearMateGrids();
+            return;
         }
 
-        // Also check custom animal breeding (same logic, different data source)
-        checkCustomAnimalBreeding(world);
+        try {
+            MateGrid<Object> grid = buildMateGrid(store, candidates, customCandidates);
+            breeding.publishMateGrid(store, grid);
+            breedMatchedPairs(world, grid);
+        } catch (Exception e) {
+            // Silent
+        }
     }
 
     /**
-     * Check for custom animals in love that are close enough to breed.
-     * Similar to built-in animal breeding, but uses CustomAnimalLoveData.
+     * Index in-love animals by species and position for mate matching.
+     * Built-in animals are keyed by AnimalType, custom animals by modelAssetId.
+     * Must run on the world thread.
      */
-    private void checkCustomAnimalBreeding(World world) {
-        // Group custom animals in love by modelAssetId
-        java.util.Map<String, java.util.List<BreedingManager.CustomAnimalLoveData>> byType = new java.util.HashMap<>();
-        for (BreedingManager.CustomAnimalLoveData data : breedingManager.getCustomAnimalsInLove()) {
-            if (data.isInLove() && data.getEntityRef() != null) {
-                byType.computeIfAbsent(data.getModelAssetId(), k -> new java.util.ArrayList<>()).add(data);
+    private MateGrid<Object> buildMateGrid(Store<EntityStore> store,
+                                           java.util.List<BreedingData> candidates,
+                                           java.util.List<BreedingManager.CustomAnimalLoveData> customCandidates) {
+        MateGrid<Object> grid = new MateGrid<>(BREEDING_DISTANCE);
+        for (BreedingData data : candidates) {
+            Vector3d pos = getPositionOnWorldThread(store, data.getEntityRef());
+            if (pos != null) {
+                grid.add(data.getAnimalType(), data, pos.getX(), pos.getY(), pos.getZ());
             }
         }
+        for (BreedingManager.CustomAnimalLoveData data : customCandidates) {
+            Vector3d pos = getPositionOnWorldThread(store, data.getEntityRef());
+            if (pos != null) {
+                grid.add(data.getModelAssetId(), data, pos.getX(), pos.getY(), pos.getZ());
+            }
+        }
+        return grid;
+    }
 
-        // For each type with 2+ animals in love, check distance
-        for (java.util.Map.Entry<String, java.util.List<BreedingManager.CustomAnimalLoveData>> entry : byType.entrySet()) {
-            java.util.List<BreedingManager.CustomAnimalLoveData> animalsOfType = entry.getValue();
-            if (animalsOfType.size() < 2) continue;
-
-            BreedingManager.CustomAnimalLoveData animal1 = animalsOfType.get(0);
-            BreedingManager.CustomAnimalLoveData animal2 = animalsOfType.get(1);
-
-            if (animal1.getEntityRef() == null || animal2.getEntityRef() == null) continue;
-
-            final BreedingManager.CustomAnimalLoveData finalAnimal1 = animal1;
-            final BreedingManager.CustomAnimalLoveData finalAnimal2 = animal2;
-            final String modelAssetId = entry.getKey();
-
-            // Execute on world thread for ECS access
-            world.execute(() -> {
-                try {
-                    Store<EntityStore> store = world.getEntityStore().getStore();
-
-                    Vector3d pos1 = getPositionOnWorldThread(store, finalAnimal1.getEntityRef());
-                    Vector3d pos2 = getPositionOnWorldThread(store, finalAnimal2.getEntityRef());
-
-                    if (pos1 == null || pos2 == null) return;
+    /**
+     * Breed every couple the grid could pair within BREEDING_DISTANCE.
+     * Each baby spawns at the midpoint between its parents. Must run on the world thread.
+     */
+    private void breedMatchedPairs(World world, MateGrid<Object> grid) {
+        for (MateGrid.Pair<Object> pair : grid.pairAll(BREEDING_DISTANCE)) {
+            Vector3d midpoint = new Vector3d(pair.midX(), pair.midY(), pair.midZ());
 
-                    double distance = calculateDistance(pos1, pos2);
+            if (pair.first().animal() instanceof BreedingData animal1
+                    && pair.second().animal() instanceof BreedingData animal2) {
+                // An interaction may have bred one of them since the grid was built
+                if (!animal1.isInLove() || !animal2.isInLove()) continue;
 
-                    if (distance <= BREEDING_DISTANCE) {
-                        if (verboseLogging) getLogger().atInfo().log("[CustomBreed] Breeding %s at distance %.1f", modelAssetId, distance);
+                animal1.completeBreeding();
+                animal2.completeBreeding();
+                spawnBabyAnimal(world, animal1.getAnimalType(), midpoint);
+            } else if (pair.first().animal() instanceof BreedingManager.CustomAnimalLoveData animal1
+                    && pair.second().animal() instanceof BreedingManager.CustomAnimalLoveData animal2) {
+                if (!animal1.isInLove() || !animal2.isInLove()) continue;
 
-                        finalAnimal1.completeBreeding();
-                        finalAnimal2.completeBreeding();
+                String modelAssetId = animal1.getModelAssetId();
+                if (verboseLogging) getLogger().atInfo().log("[CustomBreed] Breeding %s at distance %.1f", modelAssetId, pair.distance());
 
-                        // Spawn baby at midpoint between the two parents
-                        Vector3d midpoint = new Vector3d(
-                            (pos1.getX() + pos2.getX()) / 2.0,
-                            (pos1.getY() + pos2.getY()) / 2.0,
-                            (pos1.getZ() + pos2.getZ()) / 2.0);
+                animal1.completeBreeding();
+                animal2.completeBreeding();
 
-                        // Get custom animal config for baby spawning
-                        CustomAnimalConfig customConfig = configManager.getCustomAnimal(modelAssetId);
-                        spawnCustomAnimalBaby(modelAssetId, customConfig, midpoint);
-                    }
-                } catch (Exception e) {
-                    // Silent
-                }
-            });
+                // Get custom animal config for baby spawning
+                CustomAnimalConfig customConfig = configManager.getCustomAnimal(modelAssetId);
+                spawnCustomAnimalBaby(world, modelAssetId, customConfig, midpoint);
+            }
         }
     }
 
@@ -2870,98 +2563,57 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * If babyNpcRoleId is set, spawn using that role at full scale.
      * Otherwise, use scaling fallback: spawn adult NPC at 40% scale.
      */
-    private void spawnCustomAnimalBaby(String modelAssetId, CustomAnimalConfig customConfig, Vector3d position) {
+    private void spawnCustomAnimalBaby(World world, String modelAssetId, CustomAnimalConfig customConfig, Vector3d position) {
         try {
-            World world = Universe.get().getDefaultWorld();
             if (world == null) return;
 
             final String finalModelAssetId = modelAssetId;
             final CustomAnimalConfig finalConfig = customConfig;
             final Vector3d spawnPos = position;
 
-            world.execute(() -> {
+            worldTasks.submit(world, () -> {
                 try {
                     Store<EntityStore> store = world.getEntityStore().getStore();
 
-                    // Use reflection to access NPCPlugin
-                    Class<?> npcPluginClass = Class.forName("com.hypixel.hytale.server.npc.NPCPlugin");
-                    java.lang.reflect.Method getInstance = npcPluginClass.getMethod("get");
-                    Object npcPlugin = getInstance.invoke(null);
-
                     String usedRoleName = null;
                     boolean usingBabyRole = false;
-                    boolean roleExists = false;
 
                     // 1. First, check if we have a dedicated baby NPC role
-                    if (finalConfig != null && finalConfig.getBabyNpcRoleId() != null) {
-                        java.lang.reflect.Method hasRoleName = npcPluginClass.getMethod("hasRoleName", String.class);
-                        roleExists = (boolean) hasRoleName.invoke(npcPlugin, finalConfig.getBabyNpcRoleId());
-                        if (roleExists) {
-                            usedRoleName = finalConfig.getBabyNpcRoleId();
-                            usingBabyRole = true;
-                            logVerbose("Using dedicated baby NPC role: " + usedRoleName);
-                        }
+                    if (finalConfig != null && EcsAccessors.hasNpcRole(finalConfig.getBabyNpcRoleId())) {
+                        usedRoleName = finalConfig.getBabyNpcRoleId();
+                        usingBabyRole = true;
+                        logVerbose("Using dedicated baby NPC role: " + usedRoleName);
                     }
 
                     // 2. If no baby role, use adult role with scaling fallback
-                    if (!roleExists) {
+                    if (usedRoleName == null) {
                         String adultRole = finalConfig != null ? finalConfig.getAdultNpcRoleId() : null;
                         if (adultRole == null) adultRole = finalModelAssetId;
 
-                        java.lang.reflect.Method hasRoleName = npcPluginClass.getMethod("hasRoleName", String.class);
-                        roleExists = (boolean) hasRoleName.invoke(npcPlugin, adultRole);
-                        if (roleExists) {
+                        if (EcsAccessors.hasNpcRole(adultRole)) {
                             usedRoleName = adultRole;
                             logVerbose("Using adult NPC role with scaling: " + usedRoleName);
                         }
                     }
 
-                    if (!roleExists || usedRoleName == null) {
+                    if (usedRoleName == null) {
                         getLogger().atWarning().log("[CustomBreed] No valid NPC role found for: " + finalModelAssetId);
                         return;
                     }
 
-                    // Find spawnNPC method via reflection
-                    java.lang.reflect.Method spawnNPC = null;
-                    for (java.lang.reflect.Method m : npcPluginClass.getMethods()) {
-                        if (m.getName().equals("spawnNPC")) {
-                            spawnNPC = m;
-                            break;
-                        }
-                    }
-
-                    if (spawnNPC == null) {
-                        getLogger().atWarning().log("[CustomBreed] Could not find spawnNPC method");
-                        return;
-                    }
-
                     // Spawn the entity
-                    Vector3f rotation = new Vector3f(0, 0, 0);
-                    Object result = spawnNPC.invoke(npcPlugin, usedRoleName, spawnPos, rotation, null);
-
-                    if (result == null) {
+                    Ref<EntityStore> babyRef = EcsAccessors.spawnNpc(store, usedRoleName, spawnPos, new Vector3f(0, 0, 0));
+                    if (babyRef == null) {
                         getLogger().atWarning().log("[CustomBreed] Failed to spawn baby: " + usedRoleName);
                         return;
                     }
 
-                    // Get the entity reference from the result
-                    @SuppressWarnings("unchecked")
-                    Ref<EntityStore> babyRef = null;
-                    try {
-                        java.lang.reflect.Method getFirst = result.getClass().getMethod("getFirst");
-                        babyRef = (Ref<EntityStore>) getFirst.invoke(result);
-                    } catch (Exception e) {
-                        logVerbose("Could not get entity ref from spawn result: " + e.getMessage());
-                    }
-
                     // Apply scaling if not using baby role (40% size)
-                    if (!usingBabyRole && babyRef != null) {
+                    if (!usingBabyRole) {
                         float babyScale = 0.4f;
                         try {
-                            ModelComponent modelComp = store.getComponent(babyRef, ModelComponent.getComponentType());
-                            if (modelComp != null) {
-                                java.lang.reflect.Method setScale = modelComp.getClass().getMethod("setScale", float.class);
-                                setScale.invoke(modelComp, babyScale);
+                            ModelComponent modelComp = EcsAccessors.getModelComponent(store, babyRef);
+                            if (EcsAccessors.setModelScale(modelComp, babyScale)) {
                                 logVerbose("Applied baby scale " + babyScale + " to custom animal");
                             }
                         } catch (Exception e) {
@@ -2984,7 +2636,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     }
 
     /**
-     * Get position on world thread using full reflection for robustness.
+     * Get position on world thread (typed TransformComponent read).
      */
     @SuppressWarnings("unchecked")
     private Vector3d getPositionOnWorldThread(Store<EntityStore> store, Object entityRef) {
@@ -2992,41 +2644,9 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             if (entityRef == null)
                 return null;
 
-            // Get the store from the ref
-            java.lang.reflect.Method getStoreMethod = entityRef.getClass().getMethod("getStore");
-            Object refStore = getStoreMethod.invoke(entityRef);
-            if (refStore == null)
-                refStore = store;
-
-            // Use full reflection to get TransformComponent
-            Class<?> transformClass = Class.forName(
-                    "com.hypixel.hytale.server.core.modules.entity.component.TransformComponent");
-            java.lang.reflect.Method getComponentType = transformClass.getMethod("getComponentType");
-            Object componentType = getComponentType.invoke(null);
-
-            if (componentType == null) {
-                getLogger().atWarning().log("[Hearts] TransformComponent.getComponentType() returned null");
-                return null;
-            }
-
-            // Use reflection to call store.getComponent(ref, componentType)
-            Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
-            Class<?> componentTypeClass = Class.forName("com.hypixel.hytale.component.ComponentType");
-            java.lang.reflect.Method getComponent = refStore.getClass().getMethod("getComponent", refClass,
-                    componentTypeClass);
-            Object transform = getComponent.invoke(refStore, entityRef, componentType);
-
-            if (transform == null) {
-                return null;
-            }
-
-            // Get position via getPosition() method
-            java.lang.reflect.Method getPosition = transform.getClass().getMethod("getPosition");
-            Object pos = getPosition.invoke(transform);
-
-            if (pos instanceof Vector3d) {
-                return (Vector3d) pos;
-            }
+            Ref<EntityStore> ref = (Ref<EntityStore>) entityRef;
+            Store<EntityStore> refStore = ref.getStore();
+            return EcsAccessors.getPosition(refStore != null ? refStore : store, ref);
         } catch (Exception e) {
             getLogger().atWarning().log("[Hearts] getPositionOnWorldThread error: " + e.getMessage());
         }
@@ -3043,11 +2663,10 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             return null;
 
         try {
-            World world = Universe.get().getDefaultWorld();
-            if (world == null)
+            Store<EntityStore> store = ((Ref<EntityStore>) entityRef).getStore();
+            if (store == null)
                 return null;
 
-            Store<EntityStore> store = world.getEntityStore().getStore();
             TransformComponent transform = store.getComponent((Ref<EntityStore>) entityRef, TRANSFORM_TYPE);
 
             if (transform != null) {
@@ -3060,24 +2679,14 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         return null;
     }
 
-    /**
-     * Calculate distance between two positions.
-     */
-    private double calculateDistance(Vector3d pos1, Vector3d pos2) {
-        double dx = pos2.getX() - pos1.getX();
-        double dy = pos2.getY() - pos1.getY();
-        double dz = pos2.getZ() - pos1.getZ();
-        return Math.sqrt(dx * dx + dy * dy + dz * dz);
-    }
-
     /**
      * Perform instant breeding between two animals.
      */
-    private void performInstantBreeding(BreedingData animal1, BreedingData animal2, AnimalType type,
+    private void performInstantBreeding(World world, BreedingData animal1, BreedingData animal2, AnimalType type,
             Vector3d spawnPos) {
         animal1.completeBreeding();
         animal2.completeBreeding();
-        spawnBabyAnimal(type, spawnPos);
+        spawnBabyAnimal(world, type, spawnPos);
     }
 
     /**
@@ -3085,7 +2694,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
      * For animals WITH baby variants: spawns baby NPC
      * For animals WITHOUT baby variants: spawns adult NPC at small scale (0.4)
      */
-    private void spawnBabyAnimal(AnimalType animalType, Vector3d position) {
+    private void spawnBabyAnimal(World world, AnimalType animalType, Vector3d position) {
         try {
             boolean hasBabyVariant = animalType.hasBabyVariant();
             // For baby variants, use baby role; for others, use adult role
@@ -3095,7 +2704,6 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             logVerbose("Attempting to spawn " + (hasBabyVariant ? "baby" : "scaled adult") + ": " + roleId +
                     (hasBabyVariant ? "" : " at scale " + initialScale));
 
-            World world = Universe.get().getDefaultWorld();
             if (world == null) {
                 logWarning("Cannot spawn baby - world is null");
                 return;
@@ -3107,18 +2715,13 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             final boolean finalHasBabyVariant = hasBabyVariant;
             final float finalInitialScale = initialScale;
 
-            world.execute(() -> {
+            worldTasks.submit(world, () -> {
                 try {
                     Store<EntityStore> store = world.getEntityStore().getStore();
 
-                    Class<?> npcPluginClass = Class.forName("com.hypixel.hytale.server.npc.NPCPlugin");
-                    java.lang.reflect.Method getInstance = npcPluginClass.getMethod("get");
-                    Object npcPlugin = getInstance.invoke(null);
-
-                    java.lang.reflect.Method hasRoleName = npcPluginClass.getMethod("hasRoleName", String.class);
-                    boolean roleExists = (boolean) hasRoleName.invoke(npcPlugin, finalRoleId);
-
-                    if (!roleExists) {
+                    NPCPlugin npcPlugin = NPCPlugin.get();
+                    int roleIndex = npcPlugin.getIndex(finalRoleId);
+                    if (roleIndex < 0) {
                         logWarning("NPC role not found: " + finalRoleId);
                         return;
                     }
@@ -3126,90 +2729,26 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     Vector3f rotation = new Vector3f(0, 0, 0);
 
                     // Create scaled model if needed (for creatures without baby variants)
-                    Object scaledModel = null;
+                    Model scaledModel = null;
                     if (!finalHasBabyVariant) {
                         try {
-                            Class<?> modelAssetClass = Class
-                                    .forName("com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset");
-                            Object assetMap = modelAssetClass.getMethod("getAssetMap").invoke(null);
-                            Object modelAsset = assetMap.getClass().getMethod("getAsset", Object.class).invoke(assetMap,
-                                    finalAnimalType.getModelAssetId());
-
+                            ModelAsset modelAsset = ModelAsset.getAssetMap().getAsset(finalAnimalType.getModelAssetId());
                             if (modelAsset != null) {
-                                Class<?> modelClass = Class
-                                        .forName("com.hypixel.hytale.server.core.asset.type.model.config.Model");
-                                java.lang.reflect.Method createScaledModel = modelClass.getMethod("createScaledModel",
-                                        modelAssetClass, float.class);
-                                scaledModel = createScaledModel.invoke(null, modelAsset, finalInitialScale);
+                                scaledModel = Model.createScaledModel(modelAsset, finalInitialScale);
                             }
                         } catch (Exception e) {
                             logWarning("Failed to create scaled model: " + e.getMessage());
                         }
                     }
 
-                    java.lang.reflect.Method spawnNPC = null;
-                    for (java.lang.reflect.Method m : npcPluginClass.getMethods()) {
-                        if (m.getName().equals("spawnNPC")) {
-                            spawnNPC = m;
-                            break;
-                        }
-                    }
-
-                    Object result = null;
-                    if (spawnNPC != null) {
-                        try {
-                            result = spawnNPC.invoke(npcPlugin, store, finalRoleId, null, spawnPos, rotation);
-                        } catch (Exception e1) {
-                            try {
-                                result = spawnNPC.invoke(npcPlugin, store, finalRoleId, "", spawnPos, rotation);
-                            } catch (Exception e2) {
-                                // Silent
-                            }
-                        }
-                    }
-
-                    if (result == null) {
-                        java.lang.reflect.Method getIndex = npcPluginClass.getMethod("getIndex", String.class);
-                        int roleIndex = (int) getIndex.invoke(npcPlugin, finalRoleId);
-
-                        if (roleIndex >= 0) {
-                            try {
-                                java.lang.reflect.Method validateRole = npcPluginClass
-                                        .getMethod("validateSpawnableRole", String.class);
-                                validateRole.invoke(npcPlugin, finalRoleId);
-                            } catch (Exception e) {
-                            }
-
-                            try {
-                                java.lang.reflect.Method prepareRole = npcPluginClass
-                                        .getMethod("prepareRoleBuilderInfo", int.class);
-                                prepareRole.invoke(npcPlugin, roleIndex);
-                            } catch (Exception e) {
-                            }
-
-                            for (java.lang.reflect.Method m : npcPluginClass.getMethods()) {
-                                if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                                    Class<?>[] paramTypes = m.getParameterTypes();
-                                    Class<?> triConsumerClass = paramTypes[5];
-                                    Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                            triConsumerClass.getClassLoader(),
-                                            new Class<?>[] { triConsumerClass },
-                                            (proxy, method, args) -> null);
-
-                                    try {
-                                        // Pass scaled model for creatures without baby variants
-                                        result = m.invoke(npcPlugin, store, roleIndex, spawnPos, rotation, scaledModel,
-                                                noOpCallback);
-                                    } catch (Exception e) {
-                                        // Silent
-                                    }
-                                    break;
-                                }
-                            }
-                        }
+                    // Prefer spawnNPC, which runs the role's spawn setup; fall back to spawnEntity,
+                    // passing the scaled model for creatures without baby variants
+                    Ref<EntityStore> entityRef = EcsAccessors.spawnNpc(store, finalRoleId, spawnPos, rotation);
+                    if (entityRef == null) {
+                        entityRef = EcsAccessors.spawnNpc(store, roleIndex, spawnPos, rotation, scaledModel);
                     }
 
-                    if (result != null) {
+                    if (entityRef != null) {
                         String logMessage = finalHasBabyVariant
                                 ? "Baby " + finalAnimalType.getId() + " born"
                                 : "Young " + finalAnimalType.getId() + " born (scale "
@@ -3217,135 +2756,21 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         if (verboseLogging) getLogger().atInfo().log("[Lait:AnimalBreeding] " + logMessage + " at " +
                                 String.format("%.0f, %.0f, %.0f", spawnPos.getX(), spawnPos.getY(), spawnPos.getZ()));
 
-                        Object entityRef = null;
-                        try {
-                            java.lang.reflect.Method getFirst = result.getClass().getMethod("getFirst");
-                            entityRef = getFirst.invoke(result);
-                        } catch (Exception e) {
-                            entityRef = result;
-                        }
+                        UUID babyId = getBreedingKey(entityRef);
+                        shardFor(world).getBreeding().registerBaby(babyId, finalAnimalType, entityRef);
 
-                        if (entityRef != null) {
-                            UUID babyId = UUID.randomUUID();
-                            breedingManager.registerBaby(babyId, finalAnimalType, entityRef);
-
-                            // For creatures without baby variants, always apply initial scale after spawn
-                            // (spawnNPC doesn't accept a model parameter, so we must scale afterwards)
-                            if (!finalHasBabyVariant) {
-                                try {
-                                    Class<?> modelCompClass = Class.forName(
-                                            "com.hypixel.hytale.server.core.modules.entity.component.ModelComponent");
-                                    java.lang.reflect.Method getModelType = modelCompClass
-                                            .getMethod("getComponentType");
-                                    Object modelType = getModelType.invoke(null);
-
-                                    java.lang.reflect.Method getComponent = null;
-                                    for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                                        if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                                            Class<?>[] params = m.getParameterTypes();
-                                            if (params[0].isAssignableFrom(entityRef.getClass())) {
-                                                getComponent = m;
-                                                break;
-                                            }
-                                        }
-                                    }
-
-                                    if (getComponent != null) {
-                                        Object modelComp = getComponent.invoke(store, entityRef, modelType);
-                                        if (modelComp != null && modelFieldInitialized && cachedModelField != null) {
-                                            // Use cached Field for performance
-                                            Object currentModel = cachedModelField.get(modelComp);
-
-                                            if (currentModel != null) {
-                                                java.lang.reflect.Field assetIdField = currentModel.getClass()
-                                                        .getDeclaredField("modelAssetId");
-                                                assetIdField.setAccessible(true);
-                                                String modelAssetId = (String) assetIdField.get(currentModel);
-
-                                                Class<?> modelAssetClass = Class.forName(
-                                                        "com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset");
-                                                Object assetMap = modelAssetClass.getMethod("getAssetMap").invoke(null);
-                                                Object modelAsset = assetMap.getClass()
-                                                        .getMethod("getAsset", Object.class)
-                                                        .invoke(assetMap, modelAssetId);
-
-                                                if (modelAsset != null) {
-                                                    Class<?> modelClass = Class.forName(
-                                                            "com.hypixel.hytale.server.core.asset.type.model.config.Model");
-                                                    java.lang.reflect.Method createScaledModel = modelClass.getMethod(
-                                                            "createScaledModel", modelAssetClass, float.class);
-                                                    Object newModel = createScaledModel.invoke(null, modelAsset,
-                                                            finalInitialScale);
-
-                                                    // Try to convert to ModelReference if needed
-                                                    Object modelToSet = newModel;
-                                                    try {
-                                                        java.lang.reflect.Method toReference = newModel.getClass()
-                                                                .getMethod("toReference");
-                                                        Object modelRef = toReference.invoke(newModel);
-                                                        if (modelRef != null) {
-                                                            modelToSet = modelRef;
-                                                        }
-                                                    } catch (NoSuchMethodException e) {
-                                                        // No toReference method, use the model directly
-                                                    }
-
-                                                    cachedModelField.set(modelComp, modelToSet);
-
-                                                    // Try to trigger ECS sync via setComponent
-                                                    try {
-                                                        java.lang.reflect.Method setComponent = null;
-                                                        for (java.lang.reflect.Method m : store.getClass()
-                                                                .getMethods()) {
-                                                            if (m.getName().equals("setComponent")
-                                                                    && m.getParameterCount() == 3) {
-                                                                Class<?>[] params = m.getParameterTypes();
-                                                                if (params[0].isAssignableFrom(entityRef.getClass())) {
-                                                                    setComponent = m;
-                                                                    break;
-                                                                }
-                                                            }
-                                                        }
-                                                        if (setComponent != null) {
-                                                            setComponent.invoke(store, entityRef, modelType, modelComp);
-                                                        }
-                                                    } catch (Exception syncEx) {
-                                                        // Silent - sync method may not exist
-                                                    }
-
-                                                    // Try CommandBuffer for proper sync
-                                                    try {
-                                                        Object commandBuffer = world.getClass()
-                                                                .getMethod("getCommandBuffer").invoke(world);
-                                                        if (commandBuffer != null) {
-                                                            for (java.lang.reflect.Method m : commandBuffer.getClass()
-                                                                    .getMethods()) {
-                                                                if (m.getName().equals("setComponent")
-                                                                        && m.getParameterCount() == 3) {
-                                                                    Class<?>[] params = m.getParameterTypes();
-                                                                    if (params[0]
-                                                                            .isAssignableFrom(entityRef.getClass())) {
-                                                                        m.invoke(commandBuffer, entityRef, modelType,
-                                                                                modelComp);
-                                                                        break;
-                                                                    }
-                                                                }
-                                                            }
-                                                        }
-                                                    } catch (Exception cbEx) {
-                                                        // Silent
-                                                    }
-
-                                                    logVerbose("Applied initial scale " + finalInitialScale + " to "
-                                                            + finalAnimalType.getId());
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (Exception scaleEx) {
-                                    logWarning("Failed to apply initial scale: " + scaleEx.getMessage());
-                                    scaleEx.printStackTrace();
+                        // For creatures without baby variants, apply the initial scale after spawn
+                        // (spawnNPC takes no model, and the role's model may override spawnEntity's)
+                        if (!finalHasBabyVariant) {
+                            try {
+                                ModelComponent modelComp = EcsAccessors.getModelComponent(store, entityRef);
+                                if (modelComp != null
+                                        && applyModelScale(world, store, entityRef, modelComp, finalInitialScale)) {
+                                    logVerbose("Applied initial scale " + finalInitialScale + " to "
+                                            + finalAnimalType.getId());
                                 }
+                            } catch (Exception scaleEx) {
+                                logWarning("Failed to apply initial scale: " + scaleEx.getMessage());
                             }
                         }
                     } else {
@@ -3366,16 +2791,19 @@ public class LaitsBreedingPlugin extends JavaPlugin {
     /**
      * Update an entity's model scale (for creatures without baby variants).
      * 
+     * @param world      The world the animal lives in
+     * @param breeding   The breeding manager of that world's shard
      * @param animalId   The animal's UUID
      * @param animalType The type of animal
      * @param scale      The target scale (0.4 for baby, 0.7 for juvenile, 1.0 for
      *                   adult)
      */
-    private void updateEntityScale(UUID animalId, AnimalType animalType, float scale) {
+    @SuppressWarnings("unchecked")
+    private void updateEntityScale(World world, BreedingManager breeding, UUID animalId, AnimalType animalType, float scale) {
         try {
             logVerbose("Updating scale for " + animalType.getId() + " to " + scale);
 
-            BreedingData data = breedingManager.getData(animalId);
+            BreedingData data = breeding.getData(animalId);
             if (data == null) {
                 logWarning("Cannot update scale - no breeding data for animal");
                 return;
@@ -3387,53 +2815,26 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 return;
             }
 
-            World world = Universe.get().getDefaultWorld();
             if (world == null) {
                 logWarning("Cannot update scale - world is null");
                 return;
             }
 
-            final Object finalEntityRef = entityRef;
+            final Ref<EntityStore> finalEntityRef = (Ref<EntityStore>) entityRef;
             final float targetScale = scale;
 
-            world.execute(() -> {
+            worldTasks.submit(world, () -> {
                 try {
                     Store<EntityStore> store = world.getEntityStore().getStore();
 
-                    // Get ModelComponent
-                    Class<?> modelCompClass = Class
-                            .forName("com.hypixel.hytale.server.core.modules.entity.component.ModelComponent");
-                    java.lang.reflect.Method getModelType = modelCompClass.getMethod("getComponentType");
-                    Object modelType = getModelType.invoke(null);
-
-                    java.lang.reflect.Method getComponent = null;
-                    for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                        if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                            Class<?>[] params = m.getParameterTypes();
-                            if (params[0].isAssignableFrom(finalEntityRef.getClass())) {
-                                getComponent = m;
-                                break;
-                            }
-                        }
-                    }
-
-                    if (getComponent == null)
-                        return;
-
-                    // Try to get model component - may throw if entity ref is stale
-                    Object modelComp = null;
+                    // Get ModelComponent - throws if the entity ref is stale
+                    ModelComponent modelComp;
                     try {
-                        modelComp = getComponent.invoke(store, finalEntityRef, modelType);
-                    } catch (Exception refEx) {
-                        Throwable cause = refEx;
-                        if (refEx instanceof java.lang.reflect.InvocationTargetException) {
-                            cause = ((java.lang.reflect.InvocationTargetException) refEx).getTargetException();
-                        }
-                        if (cause instanceof IllegalStateException &&
-                                cause.getMessage() != null &&
-                                cause.getMessage().contains("Invalid entity")) {
+                        modelComp = EcsAccessors.getModelComponent(store, finalEntityRef);
+                    } catch (IllegalStateException refEx) {
+                        if (refEx.getMessage() != null && refEx.getMessage().contains("Invalid entity")) {
                             logVerbose("Entity ref is stale - removing tracking data");
-                            breedingManager.removeData(animalId);
+                            breeding.removeData(animalId);
                             return;
                         }
                         throw refEx;
@@ -3441,138 +2842,24 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
                     if (modelComp == null) {
                         logVerbose("Entity has no ModelComponent - removing stale data");
-                        breedingManager.removeData(animalId);
-                        return;
-                    }
-
-                    // Use cached Field for performance (avoid getDeclaredField per call)
-                    if (!modelFieldInitialized || cachedModelField == null) {
-                        logWarning("Model field cache not initialized");
+                        breeding.removeData(animalId);
                         return;
                     }
-                    Object currentModel = cachedModelField.get(modelComp);
-
-                    if (currentModel == null) {
-                        logWarning("Entity has no model - cannot scale");
-                        return;
-                    }
-
-                    // Get the modelAssetId from current model
-                    java.lang.reflect.Field assetIdField = currentModel.getClass().getDeclaredField("modelAssetId");
-                    assetIdField.setAccessible(true);
-                    String modelAssetId = (String) assetIdField.get(currentModel);
 
-                    // Get the ModelAsset
-                    Class<?> modelAssetClass = Class
-                            .forName("com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset");
-                    Object assetMap = modelAssetClass.getMethod("getAssetMap").invoke(null);
-                    Object modelAsset = assetMap.getClass().getMethod("getAsset", Object.class).invoke(assetMap,
-                            modelAssetId);
-
-                    if (modelAsset == null) {
-                        logWarning("ModelAsset not found: " + modelAssetId);
+                    if (!applyModelScale(world, store, finalEntityRef, modelComp, targetScale)) {
                         return;
                     }
 
-                    // Create new scaled model
-                    Class<?> modelClass = Class.forName("com.hypixel.hytale.server.core.asset.type.model.config.Model");
-                    java.lang.reflect.Method createScaledModel = modelClass.getMethod("createScaledModel",
-                            modelAssetClass, float.class);
-                    Object newModel = createScaledModel.invoke(null, modelAsset, targetScale);
-
-                    // Try to convert to ModelReference if needed
-                    Object modelToSet = newModel;
-                    try {
-                        java.lang.reflect.Method toReference = newModel.getClass().getMethod("toReference");
-                        Object modelRef = toReference.invoke(newModel);
-                        if (modelRef != null) {
-                            modelToSet = modelRef;
-                            logVerbose("Converted Model to ModelReference for setting");
-                        }
-                    } catch (NoSuchMethodException e) {
-                        // No toReference method, use the model directly
-                        logVerbose("No toReference method, using Model directly");
-                    }
-
-                    // Set the new model on the ModelComponent using cached field
-                    cachedModelField.set(modelComp, modelToSet);
-
-                    // Log what we set
-                    logVerbose("Set model field to: " + modelToSet.toString());
-
-                    // Try to trigger ECS sync by using setComponent
-                    try {
-                        java.lang.reflect.Method setComponent = null;
-                        for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                            if (m.getName().equals("setComponent") && m.getParameterCount() == 3) {
-                                Class<?>[] params = m.getParameterTypes();
-                                if (params[0].isAssignableFrom(finalEntityRef.getClass())) {
-                                    setComponent = m;
-                                    break;
-                                }
-                            }
-                        }
-                        if (setComponent != null) {
-                            setComponent.invoke(store, finalEntityRef, modelType, modelComp);
-                            logVerbose("Set component via store.setComponent for scale sync");
-                        }
-                    } catch (Exception syncEx) {
-                        logVerbose("Could not use setComponent for sync: " + syncEx.getMessage());
-                    }
-
-                    // Also try marking the entity as dirty/changed if possible
-                    try {
-                        java.lang.reflect.Method markDirty = modelComp.getClass().getMethod("markDirty");
-                        markDirty.invoke(modelComp);
-                        logVerbose("Marked ModelComponent as dirty");
-                    } catch (NoSuchMethodException nsme) {
-                        // Method doesn't exist, try alternatives
-                        try {
-                            java.lang.reflect.Method setChanged = modelComp.getClass().getMethod("setChanged",
-                                    boolean.class);
-                            setChanged.invoke(modelComp, true);
-                            logVerbose("Set ModelComponent as changed");
-                        } catch (NoSuchMethodException nsme2) {
-                            // No dirty/changed method available
-                        }
-                    }
-
-                    // Try using CommandBuffer for proper ECS sync
-                    try {
-                        Object commandBuffer = world.getClass().getMethod("getCommandBuffer").invoke(world);
-                        if (commandBuffer != null) {
-                            // Look for setComponent method on CommandBuffer
-                            for (java.lang.reflect.Method m : commandBuffer.getClass().getMethods()) {
-                                if (m.getName().equals("setComponent") && m.getParameterCount() == 3) {
-                                    Class<?>[] params = m.getParameterTypes();
-                                    if (params[0].isAssignableFrom(finalEntityRef.getClass())) {
-                                        m.invoke(commandBuffer, finalEntityRef, modelType, modelComp);
-                                        logVerbose("Queued component update via CommandBuffer");
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                    } catch (Exception cbEx) {
-                        logVerbose("CommandBuffer approach failed: " + cbEx.getMessage());
-                    }
-
                     if (verboseLogging) getLogger().atInfo().log("[Lait:AnimalBreeding] " + capitalize(animalType.getId()) +
                             " grew to scale " + String.format("%.1f", targetScale));
 
                 } catch (Exception e) {
-                    Throwable cause = e;
-                    if (e instanceof java.lang.reflect.InvocationTargetException) {
-                        cause = ((java.lang.reflect.InvocationTargetException) e).getTargetException();
-                        if (cause == null)
-                            cause = e;
-                    }
-                    String errorMsg = cause.getMessage();
+                    String errorMsg = e.getMessage();
                     if (errorMsg == null) {
-                        errorMsg = cause.getClass().getSimpleName() + " (no message)";
+                        errorMsg = e.getClass().getSimpleName() + " (no message)";
                     }
                     logError("Error updating entity scale: " + errorMsg);
-                    cause.printStackTrace();
+                    e.printStackTrace();
                 }
             });
 
@@ -3581,16 +2868,50 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         }
     }
 
+    /**
+     * Replace an entity's model with its model asset at a new scale and sync it.
+     * Must be called on the world thread.
+     *
+     * @return false if the model or its asset could not be resolved
+     */
+    private boolean applyModelScale(World world, Store<EntityStore> store, Ref<EntityStore> entityRef,
+                                    ModelComponent modelComp, float scale) {
+        Object currentModel = EcsAccessors.getModel(modelComp);
+        if (!(currentModel instanceof Model model)) {
+            logWarning("Entity has no model - cannot scale");
+            return false;
+        }
+
+        String modelAssetId = EcsAccessors.getModelAssetId(model);
+        ModelAsset modelAsset = modelAssetId != null ? ModelAsset.getAssetMap().getAsset(modelAssetId) : null;
+        if (modelAsset == null) {
+            logWarning("ModelAsset not found: " + modelAssetId);
+            return false;
+        }
+
+        Model newModel = Model.createScaledModel(modelAsset, scale);
+        if (!EcsAccessors.setModel(modelComp, newModel)) {
+            logWarning("Model field accessor not bound");
+            return false;
+        }
+        logVerbose("Set model field to: " + newModel);
+
+        // Push the replaced component through the store and command buffer so clients see the new scale
+        EcsAccessors.syncModel(world, store, entityRef, modelComp);
+        return true;
+    }
+
     /**
      * Transform a baby animal into an adult by removing the baby and spawning an
      * adult NPC.
      * Used for animals WITH baby variants (livestock).
      */
-    private void transformBabyToAdult(UUID animalId, AnimalType animalType) {
+    @SuppressWarnings("unchecked")
+    private void transformBabyToAdult(World world, BreedingManager breeding, UUID animalId, AnimalType animalType) {
         try {
             logVerbose("Transforming baby " + animalType.getId() + " to adult");
 
-            BreedingData data = breedingManager.getData(animalId);
+            BreedingData data = breeding.getData(animalId);
             if (data == null) {
                 logWarning("Cannot transform - no breeding data for animal");
                 return;
@@ -3602,168 +2923,81 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 return;
             }
 
-            World world = Universe.get().getDefaultWorld();
             if (world == null) {
                 logWarning("Cannot transform - world is null");
                 return;
             }
 
             String adultRoleId = animalType.getModelAssetId();
-            final Object finalEntityRef = entityRef;
+            final Ref<EntityStore> finalEntityRef = (Ref<EntityStore>) entityRef;
 
-            world.execute(() -> {
+            worldTasks.submit(world, () -> {
                 try {
                     Store<EntityStore> store = world.getEntityStore().getStore();
 
-                    Class<?> transformCompClass = Class
-                            .forName("com.hypixel.hytale.server.core.modules.entity.component.TransformComponent");
-                    java.lang.reflect.Method getTransformType = transformCompClass.getMethod("getComponentType");
-                    Object transformType = getTransformType.invoke(null);
-
-                    java.lang.reflect.Method getComponent = null;
-                    for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                        if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
-                            Class<?>[] params = m.getParameterTypes();
-                            if (params[0].isAssignableFrom(finalEntityRef.getClass())) {
-                                getComponent = m;
-                                break;
-                            }
-                        }
-                    }
-
-                    if (getComponent == null)
-                        return;
-
-                    // Try to get transform component - may throw if entity ref is stale
-                    Object transformComp = null;
+                    // Get transform component - throws if the entity ref is stale
+                    Vector3d babyPosition;
                     try {
-                        transformComp = getComponent.invoke(store, finalEntityRef, transformType);
-                    } catch (Exception refEx) {
+                        babyPosition = EcsAccessors.getPosition(store, finalEntityRef);
+                    } catch (IllegalStateException refEx) {
                         // Entity reference is invalid (entity was despawned)
-                        Throwable cause = refEx;
-                        if (refEx instanceof java.lang.reflect.InvocationTargetException) {
-                            cause = ((java.lang.reflect.InvocationTargetException) refEx).getTargetException();
-                        }
-                        if (cause instanceof IllegalStateException &&
-                                cause.getMessage() != null &&
-                                cause.getMessage().contains("Invalid entity")) {
+                        if (refEx.getMessage() != null && refEx.getMessage().contains("Invalid entity")) {
                             logVerbose("Baby entity ref is stale - removing tracking data");
-                            breedingManager.removeData(animalId);
+                            breeding.removeData(animalId);
                             return;
                         }
                         throw refEx; // Re-throw if it's a different error
                     }
 
-                    if (transformComp == null) {
-                        // Entity no longer exists - remove stale tracking data
-                        logVerbose("Baby entity no longer exists - removing stale data");
-                        breedingManager.removeData(animalId);
-                        return;
-                    }
-
-                    java.lang.reflect.Method getPosition = transformComp.getClass().getMethod("getPosition");
-                    Vector3d babyPosition = (Vector3d) getPosition.invoke(transformComp);
-
                     // Check if position is valid (entity might have been removed)
                     if (babyPosition == null) {
-                        logVerbose("Baby entity no longer has valid position - removing stale data");
-                        breedingManager.removeData(animalId);
+                        logVerbose("Baby entity no longer exists - removing stale data");
+                        breeding.removeData(animalId);
                         return;
                     }
+                    // Copy before the baby (and its transform) is removed
+                    babyPosition = new Vector3d(babyPosition.getX(), babyPosition.getY(), babyPosition.getZ());
 
                     // Remove the baby entity
                     try {
-                        Class<?> removeReasonClass = Class.forName("com.hypixel.hytale.component.RemoveReason");
-                        Object despawnReason = null;
-                        for (Object constant : removeReasonClass.getEnumConstants()) {
-                            if (constant.toString().contains("DESPAWN") || constant.toString().contains("REMOVE")) {
-                                despawnReason = constant;
-                                break;
-                            }
-                        }
-                        if (despawnReason == null) {
-                            despawnReason = removeReasonClass.getEnumConstants()[0];
-                        }
-
-                        java.lang.reflect.Method removeEntity = null;
-                        for (java.lang.reflect.Method m : store.getClass().getMethods()) {
-                            if (m.getName().equals("removeEntity") && m.getParameterCount() == 2) {
-                                Class<?>[] params = m.getParameterTypes();
-                                if (params[0].isAssignableFrom(finalEntityRef.getClass())) {
-                                    removeEntity = m;
-                                    break;
-                                }
-                            }
-                        }
-
-                        if (removeEntity != null) {
-                            removeEntity.invoke(store, finalEntityRef, despawnReason);
-                        }
+                        EcsAccessors.removeEntity(store, finalEntityRef);
                     } catch (Exception e) {
                         // Silent
                     }
 
                     // Spawn adult NPC at the same position
-                    Class<?> npcPluginClass = Class.forName("com.hypixel.hytale.server.npc.NPCPlugin");
-                    java.lang.reflect.Method getInstance = npcPluginClass.getMethod("get");
-                    Object npcPlugin = getInstance.invoke(null);
-
-                    java.lang.reflect.Method getIndex = npcPluginClass.getMethod("getIndex", String.class);
-                    int roleIndex = (int) getIndex.invoke(npcPlugin, adultRoleId);
-
+                    int roleIndex = NPCPlugin.get().getIndex(adultRoleId);
                     if (roleIndex < 0) {
                         logWarning("Adult NPC role not found: " + adultRoleId);
                         return;
                     }
 
                     Vector3f rotation = new Vector3f(0, 0, 0);
-                    boolean spawned = false;
-                    for (java.lang.reflect.Method m : npcPluginClass.getMethods()) {
-                        if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                            Class<?>[] paramTypes = m.getParameterTypes();
-                            Class<?> triConsumerClass = paramTypes[5];
-                            Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                    triConsumerClass.getClassLoader(),
-                                    new Class<?>[] { triConsumerClass },
-                                    (proxy, method, args) -> null);
-
-                            Object result = m.invoke(npcPlugin, store, roleIndex, babyPosition, rotation, null,
-                                    noOpCallback);
-                            if (result != null) {
-                                getLogger().atInfo()
-                                        .log("[Lait:AnimalBreeding] " + capitalize(animalType.getId())
-                                                + " grew into an adult at " +
-                                                String.format("%.0f, %.0f, %.0f", babyPosition.getX(),
-                                                        babyPosition.getY(), babyPosition.getZ()));
-                                spawned = true;
-                            }
-                            break;
-                        }
+                    boolean spawned = EcsAccessors.spawnNpc(store, roleIndex, babyPosition, rotation, null) != null;
+                    if (spawned) {
+                        getLogger().atInfo()
+                                .log("[Lait:AnimalBreeding] " + capitalize(animalType.getId())
+                                        + " grew into an adult at " +
+                                        String.format("%.0f, %.0f, %.0f", babyPosition.getX(),
+                                                babyPosition.getY(), babyPosition.getZ()));
                     }
 
                     if (!spawned) {
                         logWarning("Failed to spawn adult " + animalType.getId());
                     }
 
-                    breedingManager.removeData(animalId);
+                    breeding.removeData(animalId);
 
                 } catch (Exception e) {
-                    // Unwrap InvocationTargetException to get real cause
-                    Throwable cause = e;
-                    if (e instanceof java.lang.reflect.InvocationTargetException) {
-                        cause = ((java.lang.reflect.InvocationTargetException) e).getTargetException();
-                        if (cause == null)
-                            cause = e;
-                    }
-                    String errorMsg = cause.getMessage();
+                    String errorMsg = e.getMessage();
                     if (errorMsg == null) {
-                        errorMsg = cause.getClass().getSimpleName() + " (no message)";
+                        errorMsg = e.getClass().getSimpleName() + " (no message)";
                     }
                     logError("Error transforming to adult: " + errorMsg);
                     // Print stack trace for debugging
-                    cause.printStackTrace();
+                    e.printStackTrace();
                     // Clean up stale data to prevent repeated errors
-                    breedingManager.removeData(animalId);
+                    breeding.removeData(animalId);
                 }
             });
 
@@ -3794,10 +3028,26 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             }
         }
 
-        // Clear breeding data
-        if (breedingManager != null) {
-            breedingManager.clearAll();
+        // Write out pending taming changes (bounded so shutdown can't hang on disk I/O)
+        if (tamingManager != null) {
+            tamingManager.closeJournal(5000);
+        }
+
+        // Drop world-thread work that never ran
+        if (worldTasks != null) {
+            worldTasks.clear();
+        }
+
+        // Write the final breeding checkpoint before the in-memory state is dropped
+        if (breedingCheckpoint != null) {
+            breedingCheckpoint.close(5000);
+        }
+
+        // Clear breeding data in every world
+        if (breedingShards != null) {
+            breedingShards.clearAll();
         }
+        worldsById.clear();
 
         // Clear static instance
         instance = null;
@@ -3811,16 +3061,111 @@ public class LaitsBreedingPlugin extends JavaPlugin {
         return configManager;
     }
 
-    public BreedingManager getBreedingManager() {
-        return breedingManager;
+    /**
+     * Get breeding state across all worlds (for commands and UUID-only lookups).
+     */
+    public BreedingShards getBreedingShards() {
+        return breedingShards;
+    }
+
+    /**
+     * Get the breeding manager for a world, creating its shard on first use.
+     */
+    public BreedingManager getBreedingManager(World world) {
+        return breedingShards != null ? shardFor(world).getBreeding() : null;
+    }
+
+    /**
+     * Get the breeding manager for the world that owns an entity store.
+     */
+    public BreedingManager getBreedingManager(Store<EntityStore> store) {
+        return getBreedingManager(worldOf(store));
     }
 
     public TamingManager getTamingManager() {
         return tamingManager;
     }
 
-    public GrowthManager getGrowthManager() {
-        return growthManager;
+    // ===========================================
+    // WORLDS
+    // ===========================================
+
+    /**
+     * Get the stable ID of a world (its name), used to key shards and saved tamed animals.
+     */
+    public static String worldIdOf(World world) {
+        String name = world != null ? world.getName() : null;
+        return name != null ? name : TamedAnimalData.DEFAULT_WORLD_ID;
+    }
+
+    /**
+     * Get the world that owns an entity store, falling back to the default world.
+     */
+    public static World worldOf(Store<EntityStore> store) {
+        if (store != null) {
+            try {
+                World world = store.getExternalData().getWorld();
+                if (world != null) {
+                    return world;
+                }
+            } catch (Exception e) {
+                if (worldOfWarned.compareAndSet(false, true) && instance != null) {
+                    instance.logWarning("Could not resolve an entity store's world, using the default world: " + e);
+                }
+            }
+        }
+        return Universe.get().getDefaultWorld();
+    }
+
+    /**
+     * Get the shard for a world and remember the world so the shard can be ticked on its thread.
+     */
+    BreedingShards.Shard shardFor(World world) {
+        if (world == null) {
+            world = Universe.get().getDefaultWorld();
+        }
+        String worldId = worldIdOf(world);
+        if (world != null) {
+            worldsById.put(worldId, world);
+        }
+        return breedingShards.forWorld(worldId);
+    }
+
+    /**
+     * Get all loaded worlds (plus any world an animal has been tracked in).
+     * Universe.getWorlds is read reflectively since its return type differs between
+     * server builds (map of worlds by name, or a plain collection).
+     */
+    private java.util.Collection<World> getKnownWorlds() {
+        Universe universe = Universe.get();
+        World defaultWorld = universe.getDefaultWorld();
+        if (defaultWorld != null) {
+            worldsById.putIfAbsent(worldIdOf(defaultWorld), defaultWorld);
+        }
+
+        try {
+            if (getWorldsMethod == null) {
+                getWorldsMethod = Universe.class.getMethod("getWorlds");
+            }
+            Object worlds = getWorldsMethod.invoke(universe);
+            if (worlds instanceof Map<?, ?> map) {
+                worlds = map.values();
+            }
+            if (worlds instanceof Iterable<?> iterable) {
+                for (Object world : iterable) {
+                    if (world instanceof World w) {
+                        worldsById.putIfAbsent(worldIdOf(w), w);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Only the default world and worlds seen through entities are known
+            if (worldListWarned.compareAndSet(false, true)) {
+                logWarning("Universe.getWorlds() unavailable, only worlds seen through entities will be"
+                        + " ticked and respawned: " + e);
+            }
+        }
+        return worldsById.values();
     }
 
     // ===========================================
@@ -3912,7 +3257,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     return CompletableFuture.completedFuture(null);
                 }
 
-                BreedingManager breeding = plugin.getBreedingManager();
+                BreedingShards breeding = plugin.getBreedingShards();
                 TamingManager taming = plugin.getTamingManager();
 
                 ctx.sendMessage(Message.raw("=== Breeding Status ===").color("#FF9900"));
@@ -4032,8 +3377,8 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     return CompletableFuture.completedFuture(null);
                 }
 
-                // Schedule UUID lookup on world thread
-                World world = Universe.get().getDefaultWorld();
+                // Schedule UUID lookup on the player's world thread
+                World world = player.getWorld();
                 if (world != null) {
                     final String pendingName = name;
                     final Player finalPlayer = player;
@@ -4230,8 +3575,8 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 return CompletableFuture.completedFuture(null);
             }
 
-            // Schedule UUID lookup on world thread and store pending name tag
-            World world = Universe.get().getDefaultWorld();
+            // Schedule UUID lookup on the player's world thread and store pending name tag
+            World world = player.getWorld();
             if (LaitsBreedingPlugin.isVerboseLogging()) plugin.getLogger().atInfo().log("[Taming] /nametag command: world=%s, player=%s", world, player.getDisplayName());
 
             if (world != null) {
@@ -4459,8 +3804,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 return CompletableFuture.completedFuture(null);
             }
 
-            BreedingManager breeding = plugin.getBreedingManager();
-            GrowthManager growth = plugin.getGrowthManager();
+            BreedingShards breeding = plugin.getBreedingShards();
             ConfigManager config = plugin.getConfigManager();
 
             ctx.sendMessage(Message.raw("=== Breeding Status ===").color("#FF9900"));
@@ -4470,9 +3814,11 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     .insert(Message.raw(String.valueOf(breeding.getPregnantCount())).color("#FFFFFF")));
             ctx.sendMessage(Message.raw("In love: ").color("#AAAAAA")
                     .insert(Message.raw(String.valueOf(breeding.getInLoveCount())).color("#FF55FF")));
+            ctx.sendMessage(Message.raw("Worlds: ").color("#AAAAAA")
+                    .insert(Message.raw(String.valueOf(breeding.getShardCount())).color("#FFFFFF")));
             ctx.sendMessage(Message.raw(""));
 
-            Map<GrowthStage, Integer> stageCounts = growth.getGrowthStageCounts();
+            Map<GrowthStage, Integer> stageCounts = breeding.getGrowthStageCounts();
             ctx.sendMessage(Message.raw("Growth stages:").color("#FFFF55"));
             ctx.sendMessage(Message.raw("  Babies: ").color("#AAAAAA")
                     .insert(Message.raw(String.valueOf(stageCounts.get(GrowthStage.BABY))).color("#55FFFF")));
@@ -4670,7 +4016,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             ctx.sendMessage(Message.raw("Check server logs for details (verbose logging enabled)").color("#AAAAAA"));
 
             try {
-                plugin.autoSetupNearbyAnimals();
+                plugin.rescanAllAnimals();
                 ctx.sendMessage(Message.raw("Scan triggered successfully").color("#55FF55"));
             } catch (Exception e) {
                 ctx.sendMessage(Message.raw("Scan error: " + e.getMessage()).color("#FF5555"));
@@ -4781,7 +4127,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             // Force re-setup of interactions with new hint
             LaitsBreedingPlugin plugin = getInstance();
             if (plugin != null) {
-                plugin.attachInteractionsToAnimals();
+                plugin.rescanAllAnimals();
             }
 
             return CompletableFuture.completedFuture(null);
@@ -4824,10 +4170,11 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     .insert(Message.raw(String.valueOf(interactionsCacheSize)).color("#FFFFFF")));
 
             // Breeding data cache
-            if (plugin.breedingManager != null) {
-                int breedingCacheSize = plugin.breedingManager.getTrackedCount();
+            if (plugin.breedingShards != null) {
+                int breedingCacheSize = plugin.breedingShards.getTrackedCount();
                 ctx.sendMessage(Message.raw("  breedingDataMap: ").color("#AAAAAA")
-                        .insert(Message.raw(String.valueOf(breedingCacheSize)).color("#FFFFFF")));
+                        .insert(Message.raw(breedingCacheSize + " (" + plugin.breedingShards.getShardCount()
+                                + " world shards)").color("#FFFFFF")));
             } else {
                 ctx.sendMessage(Message.raw("  breedingDataMap: ").color("#AAAAAA")
                         .insert(Message.raw("N/A").color("#FF5555")));
@@ -4846,6 +4193,33 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         .insert(Message.raw("N/A").color("#FF5555")));
             }
 
+            // World task batcher
+            if (plugin.worldTasks != null) {
+                ctx.sendMessage(Message.raw("  worldTasks pending: ").color("#AAAAAA")
+                        .insert(Message.raw(String.valueOf(plugin.worldTasks.getPendingCount())).color("#FFFFFF"))
+                        .insert(Message.raw(" (batches: " + plugin.worldTasks.getDispatchedBatches()
+                                + ", tasks: " + plugin.worldTasks.getExecutedTasks()
+                                + ", carried over: " + plugin.worldTasks.getCarriedOverTasks() + ")").color("#AAAAAA")));
+            }
+
+            // Incremental animal scanner
+            AnimalScanner.ScanStats scanStats = plugin.animalScanner.getLastStats();
+            ctx.sendMessage(Message.raw("  animalScanner known: ").color("#AAAAAA")
+                    .insert(Message.raw(String.valueOf(plugin.animalScanner.getKnownCount())).color("#FFFFFF"))
+                    .insert(Message.raw(scanStats == null ? " (no scan yet)"
+                            : " (last: " + scanStats.newOrChanged() + " new/changed of " + scanStats.entitiesVisited()
+                                    + ", " + (scanStats.durationNanos() / 1000) + "us)").color("#AAAAAA")));
+
+            // ECS accessor handles
+            ctx.sendMessage(Message.raw("  ecsAccessors: ").color("#AAAAAA")
+                    .insert(Message.raw(EcsAccessors.getBoundSummary()).color("#FFFFFF")));
+
+            // Species resolver caches
+            ctx.sendMessage(Message.raw("  speciesResolver: ").color("#AAAAAA")
+                    .insert(Message.raw(ModelAssetIdResolver.getIdCacheSize() + " ids").color("#FFFFFF"))
+                    .insert(Message.raw(" (model hits: " + ModelAssetIdResolver.getModelCacheHits()
+                            + ", misses: " + ModelAssetIdResolver.getModelCacheMisses() + ")").color("#AAAAAA")));
+
             ctx.sendMessage(Message.raw("Caches are cleaned periodically (every 5-10 min).").color("#AAAAAA"));
 
             return CompletableFuture.completedFuture(null);
@@ -4920,6 +4294,14 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             return plugin != null ? plugin.getConfigManager() : null;
         }
 
+        /** Recompute scheduled births, growth and cooldown ends after durations change. */
+        private static void rescheduleDeadlines() {
+            LaitsBreedingPlugin plugin = getInstance();
+            if (plugin != null && plugin.getBreedingShards() != null) {
+                plugin.getBreedingShards().rescheduleAll();
+            }
+        }
+
         private static void showConfigSummary(CommandContext ctx, ConfigManager config) {
             // Test different color formats to find what works
             ctx.sendMessage(Message.raw("=== Breeding Config ===").color("#FF9900")); // Hex color
@@ -4969,6 +4351,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     return CompletableFuture.completedFuture(null);
                 }
                 config.loadFromFile(getInstance().getDataDirectory().resolve("config.json"));
+                rescheduleDeadlines();
                 ctx.sendMessage(Message.raw("Config reloaded from file.").color("#55FF55"));
                 return CompletableFuture.completedFuture(null);
             }
@@ -5295,6 +4678,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         try {
                             double minutes = Double.parseDouble(value);
                             config.setAnyAnimalGrowthTime(animalId, minutes);
+                            rescheduleDeadlines();
                             ctx.sendMessage(Message.raw("Set ").color("#55FF55")
                                     .insert(Message.raw(displayName).color("#FFFFFF"))
                                     .insert(Message.raw(" growth time to: ").color("#55FF55"))
@@ -5309,6 +4693,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         try {
                             double minutes = Double.parseDouble(value);
                             config.setAnyAnimalCooldown(animalId, minutes);
+                            rescheduleDeadlines();
                             ctx.sendMessage(Message.raw("Set ").color("#55FF55")
                                     .insert(Message.raw(displayName).color("#FFFFFF"))
                                     .insert(Message.raw(" cooldown to: ").color("#55FF55"))
@@ -5533,6 +4918,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
                 String presetName = ctx.get(presetArg).toLowerCase();
                 if (config.applyPreset(presetName)) {
+                    rescheduleDeadlines();
                     ctx.sendMessage(Message.raw("Applied preset: ").color("#55FF55")
                             .insert(Message.raw(presetName).color("#FFFFFF")));
                     ctx.sendMessage(Message.raw("Use ").color("#AAAAAA")
@@ -5792,7 +5178,8 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                 // 2. Discover model by spawning temp entity
                 ctx.sendMessage(Message.raw("Discovering model for role: " + roleName + "...").color("#AAAAAA"));
 
-                String modelAssetId = discoverModelFromRole(plugin, roleName, roleIndex);
+                World senderWorld = ctx.sender() instanceof Player p ? p.getWorld() : null;
+                String modelAssetId = discoverModelFromRole(plugin, senderWorld, roleName, roleIndex);
                 if (modelAssetId == null) {
                     ctx.sendMessage(Message.raw("Could not determine model for role: " + roleName).color("#FF5555"));
                     ctx.sendMessage(Message.raw("The role exists but model discovery failed.").color("#AAAAAA"));
@@ -5835,25 +5222,16 @@ public class LaitsBreedingPlugin extends JavaPlugin {
             /**
              * Discover the model asset ID by spawning a temp entity and reading its ModelComponent.
              */
-            private String discoverModelFromRole(LaitsBreedingPlugin plugin, String roleName, int roleIndex) {
+            private String discoverModelFromRole(LaitsBreedingPlugin plugin, World senderWorld, String roleName,
+                                                 int roleIndex) {
                 try {
-                    World world = Universe.get().getDefaultWorld();
-
-                    // If getDefaultWorld fails, try to get the world from plugin's stored entities
+                    // Spawn the probe in the sender's world; from the console use the default
+                    // world, or any loaded world if there is none
+                    World world = senderWorld != null ? senderWorld : Universe.get().getDefaultWorld();
                     if (world == null) {
-                        if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] getDefaultWorld returned null, trying alternative methods...");
-
-                        // Try getting world via reflection on Universe
-                        try {
-                            java.lang.reflect.Method getWorlds = Universe.class.getMethod("getWorlds");
-                            @SuppressWarnings("unchecked")
-                            java.util.Collection<World> worlds = (java.util.Collection<World>) getWorlds.invoke(Universe.get());
-                            if (worlds != null && !worlds.isEmpty()) {
-                                world = worlds.iterator().next();
-                                if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Got world from getWorlds()");
-                            }
-                        } catch (Exception e) {
-                            if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] getWorlds() not available: %s", e.getMessage());
+                        java.util.Iterator<World> known = plugin.getKnownWorlds().iterator();
+                        if (known.hasNext()) {
+                            world = known.next();
                         }
                     }
 
@@ -5873,7 +5251,6 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                     finalWorld.execute(() -> {
                         try {
                             Store<EntityStore> store = finalWorld.getEntityStore().getStore();
-                            NPCPlugin npcPlugin = NPCPlugin.get();
 
                             // Spawn at high Y location (above world) - negative Y may not work
                             Vector3d tempPos = new Vector3d(0, 500, 0);
@@ -5881,90 +5258,25 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
                             if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Spawning temp entity at %s", tempPos);
 
-                            // Use reflection for spawnEntity
-                            boolean foundMethod = false;
-                            for (java.lang.reflect.Method m : NPCPlugin.class.getMethods()) {
-                                if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                                    foundMethod = true;
-                                    Class<?> triConsumerClass = m.getParameterTypes()[5];
-                                    Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                        triConsumerClass.getClassLoader(),
-                                        new Class<?>[] { triConsumerClass },
-                                        (proxy, method, args) -> null
-                                    );
-
-                                    Object result = m.invoke(npcPlugin, store, roleIndex, tempPos, rotation, null, noOpCallback);
-
-                                    if (result != null) {
-                                        if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Spawn succeeded, extracting model...");
-
-                                        // Result is Pair<Ref<EntityStore>, NPCEntity> - fastutil uses left()/right()
-                                        // Try multiple method names for compatibility
-                                        Object entityRef = null;
-                                        Object npcEntity = null;
-
-                                        // Try left()/right() first (fastutil ObjectObjectImmutablePair)
-                                        try {
-                                            java.lang.reflect.Method leftMethod = result.getClass().getMethod("left");
-                                            entityRef = leftMethod.invoke(result);
-                                            java.lang.reflect.Method rightMethod = result.getClass().getMethod("right");
-                                            npcEntity = rightMethod.invoke(result);
-                                        } catch (NoSuchMethodException e1) {
-                                            // Try first()/second()
-                                            try {
-                                                java.lang.reflect.Method firstMethod = result.getClass().getMethod("first");
-                                                entityRef = firstMethod.invoke(result);
-                                                java.lang.reflect.Method secondMethod = result.getClass().getMethod("second");
-                                                npcEntity = secondMethod.invoke(result);
-                                            } catch (NoSuchMethodException e2) {
-                                                // Try getFirst()/getSecond()
-                                                java.lang.reflect.Method getFirst = result.getClass().getMethod("getFirst");
-                                                entityRef = getFirst.invoke(result);
-                                                java.lang.reflect.Method getSecond = result.getClass().getMethod("getSecond");
-                                                npcEntity = getSecond.invoke(result);
-                                            }
-                                        }
-
-                                        if (entityRef != null) {
-                                            @SuppressWarnings("unchecked")
-                                            Ref<EntityStore> ref = (Ref<EntityStore>) entityRef;
-                                            String modelId = extractModelFromRef(plugin, store, ref);
-
-                                            if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Extracted model: %s", modelId);
-
-                                            // Despawn the temp entity - try multiple method names
-                                            if (npcEntity != null) {
-                                                boolean despawned = false;
-                                                String[] despawnMethods = {"despawn", "remove", "kill", "delete", "destroy"};
-                                                for (String methodName : despawnMethods) {
-                                                    try {
-                                                        java.lang.reflect.Method despawnMethod = npcEntity.getClass().getMethod(methodName);
-                                                        despawnMethod.invoke(npcEntity);
-                                                        despawned = true;
-                                                        break;
-                                                    } catch (NoSuchMethodException ignored) {}
-                                                }
-                                                if (!despawned) {
-                                                    // Entity at y=500 will likely despawn naturally
-                                                    if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Note: temp entity at y=500 will timeout");
-                                                }
-                                            }
-
-                                            future.complete(modelId);
-                                            return;
-                                        } else {
-                                            plugin.getLogger().atWarning().log("[ModelDiscovery] entityRef is null");
-                                        }
-                                    } else {
-                                        plugin.getLogger().atWarning().log("[ModelDiscovery] spawnEntity returned null");
-                                    }
-                                    break;
-                                }
+                            Ref<EntityStore> ref = EcsAccessors.spawnNpc(store, roleIndex, tempPos, rotation, null);
+                            if (ref == null) {
+                                plugin.getLogger().atWarning().log("[ModelDiscovery] spawnEntity returned no entity");
+                                future.complete(null);
+                                return;
                             }
-                            if (!foundMethod) {
-                                plugin.getLogger().atWarning().log("[ModelDiscovery] Could not find spawnEntity method");
+
+                            String modelId = extractModelFromRef(plugin, store, ref);
+                            if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Extracted model: %s", modelId);
+
+                            // Despawn the temp entity
+                            try {
+                                EcsAccessors.removeEntity(store, ref);
+                            } catch (Exception e) {
+                                // Entity at y=500 will likely despawn naturally
+                                if (verboseLogging) plugin.getLogger().atInfo().log("[ModelDiscovery] Note: temp entity at y=500 will timeout");
                             }
-                            future.complete(null);
+
+                            future.complete(modelId);
                         } catch (Exception e) {
                             plugin.getLogger().atWarning().log("[ModelDiscovery] Error: %s", e.getMessage());
                             e.printStackTrace();
@@ -5992,9 +5304,7 @@ public class LaitsBreedingPlugin extends JavaPlugin {
                         return null;
                     }
 
-                    java.lang.reflect.Field modelField = ModelComponent.class.getDeclaredField("model");
-                    modelField.setAccessible(true);
-                    Object model = modelField.get(modelComp);
+                    Object model = EcsAccessors.getModel(modelComp);
                     if (model == null) {
                         plugin.getLogger().atWarning().log("[ModelDiscovery] model field is null");
                         return null;
@@ -6287,7 +5597,8 @@ public class LaitsBreedingPlugin extends JavaPlugin {
 
                 ctx.sendMessage(Message.raw("Scanning world for creatures...").color("#FFFF55"));
 
-                World world = Universe.get().getDefaultWorld();
+                // Scan the sender's world when run by a player
+                World world = ctx.sender() instanceof Player p ? p.getWorld() : Universe.get().getDefaultWorld();
                 if (world == null) {
                     ctx.sendMessage(Message.raw("No world available!").color("#FF5555"));
                     return CompletableFuture.completedFuture(null);
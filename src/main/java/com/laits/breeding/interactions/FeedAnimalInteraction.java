@@ -7,21 +7,17 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.protocol.InteractionType;
-import com.hypixel.hytale.protocol.SoundCategory;
 import com.hypixel.hytale.server.core.asset.type.model.config.Model;
 import com.hypixel.hytale.server.core.asset.type.model.config.ModelAsset;
 import com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent;
 import com.hypixel.hytale.server.core.entity.InteractionContext;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.CooldownHandler;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.RootInteraction;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.SimpleInteraction;
 import com.hypixel.hytale.server.core.universe.Universe;
-import com.hypixel.hytale.server.core.universe.world.ParticleUtil;
-import com.hypixel.hytale.server.core.universe.world.SoundUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.NPCPlugin;
@@ -33,11 +29,13 @@ import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.BreedingData;
 import com.laits.breeding.models.CustomAnimalConfig;
 import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.models.SpeciesDescriptor;
 import com.laits.breeding.models.TamedAnimalData;
+import com.laits.breeding.util.EcsAccessors;
+import com.laits.breeding.util.MateGrid;
+import com.laits.breeding.util.ModelAssetIdResolver;
 
-import java.lang.reflect.Field;
 import java.util.UUID;
-import java.util.function.Predicate;
 
 /**
  * Custom interaction that fires when player feeds an animal.
@@ -57,25 +55,13 @@ public class FeedAnimalInteraction extends SimpleInteraction {
     // Breeding distance - animals must be within this range to breed
     private static final double BREEDING_DISTANCE = 5.0;
 
+    // Mate grid positions can be one love tick old, so search wider and re-check live positions
+    private static final double MATE_SEARCH_RADIUS = BREEDING_DISTANCE * 2;
+
     // Cached component types for performance
     private static final ComponentType<EntityStore, TransformComponent> TRANSFORM_TYPE = TransformComponent.getComponentType();
-    private static final ComponentType<EntityStore, ModelComponent> MODEL_TYPE = ModelComponent.getComponentType();
     private static final ComponentType<EntityStore, UUIDComponent> UUID_TYPE = UUIDComponent.getComponentType();
 
-    // Cached reflection Field for model extraction (avoid per-call reflection)
-    private static Field cachedModelField = null;
-    private static boolean modelFieldInitialized = false;
-
-    static {
-        try {
-            cachedModelField = ModelComponent.class.getDeclaredField("model");
-            cachedModelField.setAccessible(true);
-            modelFieldInitialized = true;
-        } catch (Exception e) {
-            modelFieldInitialized = false;
-        }
-    }
-
     public FeedAnimalInteraction() {
         super();
     }
@@ -112,15 +98,16 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                     return;
                 }
 
-                BreedingManager breeding = plugin.getBreedingManager();
-                if (breeding == null) {
+                Ref<EntityStore> targetRef = context.getTargetEntity();
+                if (targetRef == null) {
+                    log("targetRef is null");
                     shouldFail = true;
                     return;
                 }
 
-                Ref<EntityStore> targetRef = context.getTargetEntity();
-                if (targetRef == null) {
-                    log("targetRef is null");
+                // Breeding state is kept per world; use the target's own world
+                BreedingManager breeding = plugin.getBreedingManager(targetRef.getStore());
+                if (breeding == null) {
                     shouldFail = true;
                     return;
                 }
@@ -137,20 +124,16 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                 String itemId = heldItem != null ? heldItem.getItemId() : null;
                 log("Held item: " + (heldItem != null ? heldItem.getClass().getSimpleName() : "null") + ", itemId: " + itemId);
 
-                // Get model asset ID and check for both enum animals and custom animals
-                String modelAssetId = getModelAssetIdFromEntity(targetRef);
-                AnimalType animalType = modelAssetId != null ? AnimalType.fromModelAssetId(modelAssetId) : null;
-                CustomAnimalConfig customAnimal = null;
+                // Resolve species: built-in enum animal or custom animal
+                SpeciesDescriptor species = getSpeciesFromEntity(targetRef);
+                String modelAssetId = species != null ? species.getModelAssetId() : null;
+                AnimalType animalType = species != null ? species.getAnimalType() : null;
+                CustomAnimalConfig customAnimal = species != null ? species.getCustomConfig() : null;
 
                 log("Model asset ID: " + modelAssetId);
                 log("Animal type: " + (animalType != null ? animalType.name() : "null"));
-
-                // If not a known animal type, check for custom animal
-                if (animalType == null && modelAssetId != null && plugin.getConfigManager() != null) {
-                    customAnimal = plugin.getConfigManager().getCustomAnimal(modelAssetId);
-                    if (customAnimal != null) {
-                        log("Found custom animal: " + customAnimal.getDisplayName());
-                    }
+                if (customAnimal != null) {
+                    log("Found custom animal: " + customAnimal.getDisplayName());
                 }
 
                 if (animalType == null && customAnimal == null) {
@@ -162,7 +145,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                 }
 
                 // Skip babies - they can't breed
-                if (modelAssetId != null && AnimalType.isBabyVariant(modelAssetId)) {
+                if (species.isBaby()) {
                     log("Target is a baby animal, skipping feed interaction");
                     shouldFail = true;
                     return;
@@ -234,7 +217,8 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                         }
 
                         // Tame the animal (use animalType if available, otherwise null for custom animals)
-                        TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, pendingName, animalType);
+                        TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, pendingName, animalType,
+                                LaitsBreedingPlugin.worldIdOf(LaitsBreedingPlugin.worldOf(targetRef.getStore())));
                         if (tamedData != null) {
                             // Update breeding data too (only for known animal types)
                             if (animalType != null) {
@@ -244,12 +228,12 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                                 bData.setEntityRef(targetRef);
                             }
 
-                            // Update position in tamed data
+                            // Update position in tamed data (journaled, under the manager's lock)
                             Vector3d pos = getEntityPosition(targetRef);
                             if (pos != null) {
-                                tamedData.setLastPosition(pos.getX(), pos.getY(), pos.getZ());
+                                tamingManager.updatePosition(animalUuid, pos.getX(), pos.getY(), pos.getZ());
                             }
-                            tamedData.setEntityRef(targetRef);
+                            tamingManager.updateEntityRef(animalUuid, targetRef);
 
                             // Consume name tag item
                             consumePlayerHeldItem(context);
@@ -422,38 +406,27 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                 return;
             }
 
-            // Try startChain via reflection (method signature varies)
-            for (java.lang.reflect.Method m : interactionManager.getClass().getMethods()) {
-                if (m.getName().equals("startChain") && m.getParameterCount() == 5) {
-                    try {
-                        Ref<EntityStore> entityRef = context.getEntity();
-                        Object commandBuffer = context.getCommandBuffer();
-
-                        World world = Universe.get().getDefaultWorld();
-                        if (world != null) {
-                            final java.lang.reflect.Method startChainMethod = m;
-                            final Object finalInteractionManager = interactionManager;
-                            final Object finalCommandBuffer = commandBuffer;
-
-                            world.execute(() -> {
-                                try {
-                                    startChainMethod.invoke(finalInteractionManager, entityRef, finalCommandBuffer,
-                                        InteractionType.Use, context, rootInteraction);
-                                    log("Successfully triggered fallback via startChain!");
-                                } catch (Exception ex) {
-                                    log("Scheduled startChain failed: " + ex.getMessage());
-                                }
-                            });
-                            log("Scheduled fallback interaction for next tick");
-                            return;
-                        }
-                    } catch (Exception e) {
-                        log("startChain failed: " + e.getMessage());
-                    }
-                }
+            Ref<EntityStore> entityRef = context.getEntity();
+            Object commandBuffer = context.getCommandBuffer();
+            World world = LaitsBreedingPlugin.worldOf(entityRef != null ? entityRef.getStore() : null);
+            if (world == null) {
+                log("Could not find world to trigger fallback interaction");
+                return;
             }
 
-            log("Could not find working method to trigger fallback interaction");
+            world.execute(() -> {
+                try {
+                    if (EcsAccessors.startChain(interactionManager, entityRef, commandBuffer,
+                            InteractionType.Use, context, rootInteraction)) {
+                        log("Successfully triggered fallback via startChain!");
+                    } else {
+                        log("Could not find working method to trigger fallback interaction");
+                    }
+                } catch (Exception ex) {
+                    log("Scheduled startChain failed: " + ex.getMessage());
+                }
+            });
+            log("Scheduled fallback interaction for next tick");
 
         } catch (Exception e) {
             log("triggerFallbackInteraction error: " + e.getMessage());
@@ -491,7 +464,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             }
             log("playFeedingSoundAtPosition: pos=" + pos.getX() + "," + pos.getY() + "," + pos.getZ());
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(targetRef.getStore());
             if (world == null) {
                 log("playFeedingSoundAtPosition: world is null");
                 return;
@@ -503,29 +476,8 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                 return;
             }
 
-            int soundId = SoundEvent.getAssetMap().getIndex("SFX_Consume_Bread");
-            log("playFeedingSoundAtPosition: soundId=" + soundId);
-            if (soundId < 0) {
-                log("playFeedingSoundAtPosition: soundId < 0, aborting");
-                return;
-            }
-
-            // Play 3D sound - use reflection for the exact method signature
-            try {
-                for (java.lang.reflect.Method m : SoundUtil.class.getMethods()) {
-                    if (m.getName().equals("playSoundEvent3d") && m.getParameterCount() == 6) {
-                        Class<?>[] paramTypes = m.getParameterTypes();
-                        if (paramTypes[0] == int.class && paramTypes[1] == double.class) {
-                            Predicate<Object> allPlayers = p -> true;
-                            m.invoke(null, soundId, pos.getX(), pos.getY(), pos.getZ(), allPlayers, store);
-                            log("playFeedingSoundAtPosition: sound played successfully");
-                            return;
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log("playFeedingSoundAtPosition: playSoundEvent3d failed: " + e.getMessage());
-            }
+            EcsAccessors.playSound3d("SFX_Consume_Bread", pos, store);
+            log("playFeedingSoundAtPosition: sound played");
 
         } catch (Exception e) {
             log("playFeedingSoundAtPosition error: " + e.getMessage());
@@ -542,46 +494,21 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                 short slot = context.getHeldItemSlot();
                 log("consumePlayerHeldItem: slot=" + slot);
 
-                // Try removeItemStackFromSlot
-                try {
-                    java.lang.reflect.Method removeItem = container.getClass().getMethod(
-                        "removeItemStackFromSlot", short.class, int.class);
-                    removeItem.invoke(container, slot, 1);
-                    log("consumePlayerHeldItem: removed 1 item via removeItemStackFromSlot");
+                if (EcsAccessors.removeFromSlot(container, slot, 1)) {
+                    log("consumePlayerHeldItem: removed 1 item from slot");
                     return;
-                } catch (NoSuchMethodException ex) {
-                    log("consumePlayerHeldItem: removeItemStackFromSlot not found");
                 }
-
-                // Try other methods...
-                try {
-                    java.lang.reflect.Method removeItem = container.getClass().getMethod(
-                        "removeItem", short.class, int.class);
-                    removeItem.invoke(container, slot, 1);
-                    log("consumePlayerHeldItem: removed 1 item via removeItem");
-                    return;
-                } catch (NoSuchMethodException ignored) {}
+                log("consumePlayerHeldItem: container has no slot removal method");
             }
 
             // Fallback to ItemStack modification
             ItemStack heldItem = context.getHeldItem();
             if (heldItem != null) {
                 log("consumePlayerHeldItem: trying direct ItemStack modification");
-                int currentQty = heldItem.getQuantity();
-
-                try {
-                    java.lang.reflect.Method m = heldItem.getClass().getMethod("adjustQuantity", int.class);
-                    m.invoke(heldItem, -1);
-                    log("consumePlayerHeldItem: called adjustQuantity(-1)");
-                    return;
-                } catch (NoSuchMethodException ignored) {}
-
-                try {
-                    java.lang.reflect.Method m = heldItem.getClass().getMethod("setQuantity", int.class);
-                    m.invoke(heldItem, currentQty - 1);
-                    log("consumePlayerHeldItem: called setQuantity(" + (currentQty - 1) + ")");
+                if (EcsAccessors.adjustQuantity(heldItem, -1)) {
+                    log("consumePlayerHeldItem: adjusted quantity by -1");
                     return;
-                } catch (NoSuchMethodException ignored) {}
+                }
             }
 
             log("consumePlayerHeldItem: could not consume item");
@@ -603,16 +530,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             Store<EntityStore> store = targetRef.getStore();
             Vector3d heartsPos = new Vector3d(x, y, z);
 
-            // Use reflection to find the right overload
-            for (java.lang.reflect.Method method : ParticleUtil.class.getMethods()) {
-                if (method.getName().equals("spawnParticleEffect") && method.getParameterCount() == 3) {
-                    Class<?>[] params = method.getParameterTypes();
-                    if (params[0] == String.class && params[1] == Vector3d.class) {
-                        method.invoke(null, HEARTS_PARTICLE, heartsPos, store);
-                        return;
-                    }
-                }
-            }
+            EcsAccessors.spawnParticles(HEARTS_PARTICLE, heartsPos, store);
         } catch (Exception e) {
             // Silent
         }
@@ -647,45 +565,48 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             currentData.setEntityRef(targetRef);
         }
 
-        java.util.List<UUID> toRemove = new java.util.ArrayList<>();
+        // Candidates come from the in-love grid built at the last love tick.
+        // Animals fed since then are paired by the next tick instead.
+        MateGrid<Object> grid = breeding.getMateGrid(targetRef.getStore());
+        if (grid == null) return;
 
-        for (UUID otherId : breeding.getTrackedAnimalIds()) {
-            if (otherId.equals(animalId)) continue;
+        java.util.List<UUID> toRemove = new java.util.ArrayList<>();
 
-            BreedingData otherData = breeding.getData(otherId);
-            if (otherData != null &&
-                otherData.getAnimalType() == animalType &&
-                otherData.isInLove() &&
-                !otherData.isPregnant()) {
+        for (MateGrid.Entry<Object> candidate : grid.findWithin(animalType,
+                thisPos.getX(), thisPos.getY(), thisPos.getZ(), MATE_SEARCH_RADIUS,
+                other -> other instanceof BreedingData data
+                        && !data.getAnimalId().equals(animalId)
+                        && data.isInLove()
+                        && !data.isPregnant())) {
+            BreedingData otherData = (BreedingData) candidate.animal();
 
-                @SuppressWarnings("unchecked")
-                Ref<EntityStore> otherRef = (Ref<EntityStore>) otherData.getEntityRef();
-                if (otherRef == null) continue;
+            @SuppressWarnings("unchecked")
+            Ref<EntityStore> otherRef = (Ref<EntityStore>) otherData.getEntityRef();
+            if (otherRef == null) continue;
 
-                Vector3d otherPos = getEntityPosition(otherRef);
-                if (otherPos == null) {
-                    toRemove.add(otherId);
-                    continue;
-                }
+            Vector3d otherPos = getEntityPosition(otherRef);
+            if (otherPos == null) {
+                toRemove.add(otherData.getAnimalId());
+                continue;
+            }
 
-                double distance = calculateDistance(thisPos, otherPos);
-                if (distance > BREEDING_DISTANCE) continue;
+            double distance = calculateDistance(thisPos, otherPos);
+            if (distance > BREEDING_DISTANCE) continue;
 
-                BreedingData animalData = breeding.getData(animalId);
-                if (animalData != null) {
-                    animalData.completeBreeding();
-                }
-                otherData.completeBreeding();
-
-                // Spawn baby at midpoint between the two parents
-                Vector3d midpoint = new Vector3d(
-                    (thisPos.getX() + otherPos.getX()) / 2.0,
-                    (thisPos.getY() + otherPos.getY()) / 2.0,
-                    (thisPos.getZ() + otherPos.getZ()) / 2.0
-                );
-                spawnBabyAnimal(animalType, midpoint);
-                return;
+            BreedingData animalData = breeding.getData(animalId);
+            if (animalData != null) {
+                animalData.completeBreeding();
             }
+            otherData.completeBreeding();
+
+            // Spawn baby at midpoint between the two parents
+            Vector3d midpoint = new Vector3d(
+                (thisPos.getX() + otherPos.getX()) / 2.0,
+                (thisPos.getY() + otherPos.getY()) / 2.0,
+                (thisPos.getZ() + otherPos.getZ()) / 2.0
+            );
+            spawnBabyAnimal(LaitsBreedingPlugin.worldOf(targetRef.getStore()), animalType, midpoint);
+            break;
         }
 
         for (UUID id : toRemove) {
@@ -711,11 +632,16 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             currentData.setEntityRef(targetRef);
         }
 
-        // Find another custom animal of the same type in love mode
-        for (BreedingManager.CustomAnimalLoveData otherData : breeding.getCustomAnimalsInLove()) {
-            if (otherData.getAnimalId().equals(animalId)) continue;
-            if (!otherData.getModelAssetId().equals(modelAssetId)) continue;
-            if (!otherData.isInLove()) continue;
+        // Find another custom animal of the same type in love mode near this one
+        MateGrid<Object> grid = breeding.getMateGrid(targetRef.getStore());
+        if (grid == null) return;
+
+        for (MateGrid.Entry<Object> candidate : grid.findWithin(modelAssetId,
+                thisPos.getX(), thisPos.getY(), thisPos.getZ(), MATE_SEARCH_RADIUS,
+                other -> other instanceof BreedingManager.CustomAnimalLoveData data
+                        && !data.getAnimalId().equals(animalId)
+                        && data.isInLove())) {
+            BreedingManager.CustomAnimalLoveData otherData = (BreedingManager.CustomAnimalLoveData) candidate.animal();
 
             @SuppressWarnings("unchecked")
             Ref<EntityStore> otherRef = (Ref<EntityStore>) otherData.getEntityRef();
@@ -745,7 +671,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
             CustomAnimalConfig customConfig = plugin != null ?
                 plugin.getConfigManager().getCustomAnimal(modelAssetId) : null;
-            spawnCustomAnimalBaby(modelAssetId, customConfig, midpoint);
+            spawnCustomAnimalBaby(LaitsBreedingPlugin.worldOf(targetRef.getStore()), modelAssetId, customConfig, midpoint);
             return;
         }
     }
@@ -755,9 +681,8 @@ public class FeedAnimalInteraction extends SimpleInteraction {
      * If babyNpcRoleId is set, spawn using that role at full scale.
      * Otherwise, use scaling fallback: spawn adult NPC at 40% scale.
      */
-    private void spawnCustomAnimalBaby(String modelAssetId, CustomAnimalConfig customConfig, Vector3d position) {
+    private void spawnCustomAnimalBaby(World world, String modelAssetId, CustomAnimalConfig customConfig, Vector3d position) {
         try {
-            World world = Universe.get().getDefaultWorld();
             if (world == null) return;
 
             final String finalModelAssetId = modelAssetId;
@@ -828,34 +753,21 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                         }
                     }
 
-                    // Use reflection for spawnEntity due to complex signature
-                    for (java.lang.reflect.Method m : NPCPlugin.class.getMethods()) {
-                        if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                            Class<?> triConsumerClass = m.getParameterTypes()[5];
-                            Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                triConsumerClass.getClassLoader(),
-                                new Class<?>[] { triConsumerClass },
-                                (proxy, method, args) -> null
-                            );
-
-                            Object result = m.invoke(npcPlugin, store, roleIndex, position, rotation, scaledModel, noOpCallback);
-
-                            if (result != null) {
-                                if (usingBabyRole) {
-                                    log("Spawned custom baby (dedicated role): " + usedRoleName + " at " + position);
-                                } else {
-                                    log("Spawned custom baby (scaled adult): " + usedRoleName + " at " + position);
-                                }
-
-                                // Register baby for growth tracking
-                                LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
-                                if (plugin != null) {
-                                    UUID babyId = UUID.randomUUID();
-                                    // Custom babies need custom tracking - for now just log
-                                    log("Custom baby registered: " + babyId);
-                                }
-                            }
-                            break;
+                    Ref<EntityStore> babyRef = EcsAccessors.spawnNpc(store, roleIndex, position, rotation, scaledModel);
+
+                    if (babyRef != null) {
+                        if (usingBabyRole) {
+                            log("Spawned custom baby (dedicated role): " + usedRoleName + " at " + position);
+                        } else {
+                            log("Spawned custom baby (scaled adult): " + usedRoleName + " at " + position);
+                        }
+
+                        // Register baby for growth tracking
+                        LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
+                        if (plugin != null) {
+                            UUID babyId = UUID.randomUUID();
+                            // Custom babies need custom tracking - for now just log
+                            log("Custom baby registered: " + babyId);
                         }
                     }
                 } catch (Exception e) {
@@ -874,7 +786,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
         return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
-    private void spawnBabyAnimal(AnimalType animalType, Vector3d position) {
+    private void spawnBabyAnimal(World world, AnimalType animalType, Vector3d position) {
         try {
             boolean hasBabyVariant = animalType.hasBabyVariant();
             String roleId = hasBabyVariant ? animalType.getBabyNpcRoleId() : animalType.getAdultNpcRoleId();
@@ -882,7 +794,6 @@ public class FeedAnimalInteraction extends SimpleInteraction {
 
             if (roleId == null) return;
 
-            World world = Universe.get().getDefaultWorld();
             if (world == null) return;
 
             final String finalRoleId = roleId;
@@ -914,36 +825,12 @@ public class FeedAnimalInteraction extends SimpleInteraction {
                         }
                     }
 
-                    // Use reflection for spawnEntity due to complex signature
-                    for (java.lang.reflect.Method m : NPCPlugin.class.getMethods()) {
-                        if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
-                            Class<?> triConsumerClass = m.getParameterTypes()[5];
-                            Object noOpCallback = java.lang.reflect.Proxy.newProxyInstance(
-                                triConsumerClass.getClassLoader(),
-                                new Class<?>[] { triConsumerClass },
-                                (proxy, method, args) -> null
-                            );
-
-                            Object result = m.invoke(npcPlugin, store, roleIndex, position, rotation, scaledModel, noOpCallback);
-
-                            if (result != null) {
-                                try {
-                                    java.lang.reflect.Method getFirst = result.getClass().getMethod("getFirst");
-                                    @SuppressWarnings("unchecked")
-                                    Ref<EntityStore> entityRef = (Ref<EntityStore>) getFirst.invoke(result);
-
-                                    if (entityRef != null) {
-                                        LaitsBreedingPlugin pluginInstance = LaitsBreedingPlugin.getInstance();
-                                        if (pluginInstance != null) {
-                                            UUID babyId = UUID.randomUUID();
-                                            pluginInstance.getBreedingManager().registerBaby(babyId, finalAnimalType, entityRef);
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    // Silent
-                                }
-                            }
-                            break;
+                    Ref<EntityStore> entityRef = EcsAccessors.spawnNpc(store, roleIndex, position, rotation, scaledModel);
+                    if (entityRef != null) {
+                        LaitsBreedingPlugin pluginInstance = LaitsBreedingPlugin.getInstance();
+                        if (pluginInstance != null) {
+                            UUID babyId = UUID.randomUUID();
+                            pluginInstance.getBreedingManager(world).registerBaby(babyId, finalAnimalType, entityRef);
                         }
                     }
 
@@ -994,7 +881,7 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             UUID entityUuid = getUuidFromRef(ref);
             if (entityUuid == null) return false;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(ref.getStore());
             if (world == null) return false;
 
             for (com.hypixel.hytale.server.core.entity.entities.Player player : world.getPlayers()) {
@@ -1010,43 +897,19 @@ public class FeedAnimalInteraction extends SimpleInteraction {
     }
 
     /**
-     * Extract the model asset ID from an entity (e.g., "Cow", "Sheep", "CustomCreature").
+     * Resolve the entity's species (e.g., "Cow", "Sheep", "CustomCreature").
      * Returns null if unable to determine.
      */
-    private String getModelAssetIdFromEntity(Ref<EntityStore> targetRef) {
+    private SpeciesDescriptor getSpeciesFromEntity(Ref<EntityStore> targetRef) {
         try {
             Store<EntityStore> store = targetRef.getStore();
             if (store == null) return null;
-
-            ModelComponent modelComp = store.getComponent(targetRef, MODEL_TYPE);
-            if (modelComp == null) return null;
-
-            // Use cached Field for performance (avoid getDeclaredField per call)
-            if (!modelFieldInitialized || cachedModelField == null) {
-                return null;
-            }
-
-            Object model = cachedModelField.get(modelComp);
-            if (model == null) return null;
-
-            String modelStr = model.toString();
-            int start = modelStr.indexOf("modelAssetId='");
-            if (start < 0) return null;
-            start += 14;
-            int end = modelStr.indexOf("'", start);
-            if (end <= start) return null;
-            return modelStr.substring(start, end);
-
+            return ModelAssetIdResolver.resolve(store, targetRef);
         } catch (Exception e) {
             return null;
         }
     }
 
-    private AnimalType getAnimalTypeFromEntity(Ref<EntityStore> targetRef) {
-        String modelAssetId = getModelAssetIdFromEntity(targetRef);
-        return modelAssetId != null ? AnimalType.fromModelAssetId(modelAssetId) : null;
-    }
-
     // ===========================================
     // TAMING HELPER METHODS
     // ===========================================
@@ -1088,7 +951,8 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             // Look up the player by UUID from the world's players
             LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
             if (plugin != null) {
-                World world = com.hypixel.hytale.server.core.universe.Universe.get().getDefaultWorld();
+                Ref<EntityStore> playerRef = context.getEntity();
+                World world = LaitsBreedingPlugin.worldOf(playerRef != null ? playerRef.getStore() : null);
                 if (world != null) {
                     for (com.hypixel.hytale.server.core.entity.entities.Player player : world.getPlayers()) {
                         // Compare UUIDs
@@ -1150,14 +1014,12 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             Ref<EntityStore> entityRef = context.getEntity();
             if (entityRef == null) return;
 
-            // Try to send message via reflection
-            for (java.lang.reflect.Method m : entityRef.getClass().getMethods()) {
-                if (m.getName().equals("sendMessage") && m.getParameterCount() == 1) {
-                    com.hypixel.hytale.server.core.Message msg =
-                        com.hypixel.hytale.server.core.Message.raw(message).color(color);
-                    m.invoke(entityRef, msg);
-                    return;
-                }
+            Store<EntityStore> store = entityRef.getStore();
+            com.hypixel.hytale.server.core.entity.entities.Player player = store != null
+                ? store.getComponent(entityRef, com.hypixel.hytale.server.core.entity.entities.Player.getComponentType())
+                : null;
+            if (player != null) {
+                player.sendMessage(com.hypixel.hytale.server.core.Message.raw(message).color(color));
             }
         } catch (Exception e) {
             log("sendPlayerMessage error: " + e.getMessage());
@@ -1176,23 +1038,9 @@ public class FeedAnimalInteraction extends SimpleInteraction {
             if (store == null) return;
 
             // Try "SFX_LevelUp" or similar success sound
-            int soundId = SoundEvent.getAssetMap().getIndex("SFX_LevelUp");
-            if (soundId < 0) {
-                soundId = SoundEvent.getAssetMap().getIndex("SFX_Consume_Bread");
-            }
-            if (soundId < 0) return;
-
-            // Play 3D sound
-            for (java.lang.reflect.Method m : SoundUtil.class.getMethods()) {
-                if (m.getName().equals("playSoundEvent3d") && m.getParameterCount() == 6) {
-                    Class<?>[] paramTypes = m.getParameterTypes();
-                    if (paramTypes[0] == int.class && paramTypes[1] == double.class) {
-                        Predicate<Object> allPlayers = p -> true;
-                        m.invoke(null, soundId, pos.getX(), pos.getY(), pos.getZ(), allPlayers, store);
-                        return;
-                    }
-                }
-            }
+            String soundEventId = SoundEvent.getAssetMap().getIndex("SFX_LevelUp") >= 0
+                    ? "SFX_LevelUp" : "SFX_Consume_Bread";
+            EcsAccessors.playSound3d(soundEventId, pos, store);
         } catch (Exception e) {
             log("playTamingSound error: " + e.getMessage());
         }
@@ -10,12 +10,10 @@ import com.hypixel.hytale.protocol.SoundCategory;
 import com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent;
 import com.hypixel.hytale.server.core.entity.InteractionContext;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.CooldownHandler;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.SimpleInteraction;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.ParticleUtil;
 import com.hypixel.hytale.server.core.universe.world.SoundUtil;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -23,15 +21,15 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.Message;
 
 import com.laits.breeding.LaitsBreedingPlugin;
-import com.laits.breeding.managers.BreedingManager;
 import com.laits.breeding.managers.TamingManager;
 import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.SpeciesDescriptor;
 import com.laits.breeding.models.TamedAnimalData;
 import com.laits.breeding.ui.NametagUIPage;
+import com.laits.breeding.util.ModelAssetIdResolver;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
-import java.lang.reflect.Field;
 import java.util.Random;
 import java.util.UUID;
 
@@ -47,13 +45,8 @@ public class NameAnimalInteraction extends SimpleInteraction {
 
     // Cached component types
     private static final ComponentType<EntityStore, TransformComponent> TRANSFORM_TYPE = TransformComponent.getComponentType();
-    private static final ComponentType<EntityStore, ModelComponent> MODEL_TYPE = ModelComponent.getComponentType();
     private static final ComponentType<EntityStore, UUIDComponent> UUID_TYPE = UUIDComponent.getComponentType();
 
-    // Cached reflection field
-    private static Field cachedModelField = null;
-    private static boolean modelFieldInitialized = false;
-
     // Random names for animals without a pending name
     private static final String[] RANDOM_NAMES = {
         "Fluffy", "Spot", "Buddy", "Max", "Bella", "Charlie", "Luna", "Milo",
@@ -64,16 +57,6 @@ public class NameAnimalInteraction extends SimpleInteraction {
 
     private static final Random random = new Random();
 
-    static {
-        try {
-            cachedModelField = ModelComponent.class.getDeclaredField("model");
-            cachedModelField.setAccessible(true);
-            modelFieldInitialized = true;
-        } catch (Exception e) {
-            modelFieldInitialized = false;
-        }
-    }
-
     public NameAnimalInteraction() {
         super();
     }
@@ -99,8 +82,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
                 }
 
                 TamingManager tamingManager = plugin.getTamingManager();
-                BreedingManager breedingManager = plugin.getBreedingManager();
-                if (tamingManager == null || breedingManager == null) {
+                if (tamingManager == null || plugin.getBreedingShards() == null) {
                     shouldFail = true;
                     return;
                 }
@@ -119,24 +101,21 @@ public class NameAnimalInteraction extends SimpleInteraction {
                     return;
                 }
 
-                // Get model asset ID
-                String modelAssetId = getModelAssetIdFromEntity(targetRef);
-                if (modelAssetId == null) {
+                // Resolve species from the model
+                SpeciesDescriptor species = getSpeciesFromEntity(targetRef);
+                if (species == null) {
                     log("Could not get model asset ID");
                     shouldFail = true;
                     return;
                 }
+                String modelAssetId = species.getModelAssetId();
 
-                // Check if it's an animal
-                AnimalType animalType = AnimalType.fromModelAssetId(modelAssetId);
-                if (animalType == null) {
-                    // Check for custom animal
-                    if (plugin.getConfigManager() == null ||
-                        !plugin.getConfigManager().isCustomAnimal(modelAssetId)) {
-                        sendPlayerMessage(context, "This is not an animal!", "#FF5555");
-                        shouldFail = true;
-                        return;
-                    }
+                // Check if it's an animal (built-in or custom)
+                AnimalType animalType = species.getAnimalType();
+                if (!species.isKnown()) {
+                    sendPlayerMessage(context, "This is not an animal!", "#FF5555");
+                    shouldFail = true;
+                    return;
                 }
 
                 // Get player info
@@ -195,7 +174,8 @@ public class NameAnimalInteraction extends SimpleInteraction {
                     log("Failed to open nametag UI: " + e.getMessage());
                     // Fallback to random name if UI fails
                     String name = RANDOM_NAMES[random.nextInt(RANDOM_NAMES.length)];
-                    TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, name, animalType);
+                    TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, name, animalType,
+                            LaitsBreedingPlugin.worldIdOf(LaitsBreedingPlugin.worldOf(targetRef.getStore())));
                     if (tamedData != null) {
                         consumePlayerHeldItem(context);
                         sendPlayerMessage(context, name + " is now yours!", "#55FF55");
@@ -231,7 +211,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
             UUID entityUuid = getUuidFromRef(ref);
             if (entityUuid == null) return false;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(ref.getStore());
             if (world == null) return false;
 
             for (com.hypixel.hytale.server.core.entity.entities.Player player : world.getPlayers()) {
@@ -280,27 +260,11 @@ public class NameAnimalInteraction extends SimpleInteraction {
         return null;
     }
 
-    private String getModelAssetIdFromEntity(Ref<EntityStore> targetRef) {
+    private SpeciesDescriptor getSpeciesFromEntity(Ref<EntityStore> targetRef) {
         try {
             Store<EntityStore> store = targetRef.getStore();
             if (store == null) return null;
-
-            ModelComponent modelComp = store.getComponent(targetRef, MODEL_TYPE);
-            if (modelComp == null) return null;
-
-            if (!modelFieldInitialized || cachedModelField == null) return null;
-
-            Object model = cachedModelField.get(modelComp);
-            if (model == null) return null;
-
-            String modelStr = model.toString();
-            int start = modelStr.indexOf("modelAssetId='");
-            if (start < 0) return null;
-            start += 14;
-            int end = modelStr.indexOf("'", start);
-            if (end <= start) return null;
-            return modelStr.substring(start, end);
-
+            return ModelAssetIdResolver.resolve(store, targetRef);
         } catch (Exception e) {
             return null;
         }
@@ -321,7 +285,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
             Ref<EntityStore> entityRef = context.getEntity();
             if (entityRef == null) return null;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(entityRef.getStore());
             if (world == null) return null;
 
             UUID playerUuid = getUuidFromRef(entityRef);
@@ -342,7 +306,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
             Ref<EntityStore> entityRef = context.getEntity();
             if (entityRef == null) return null;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(entityRef.getStore());
             if (world == null) return null;
 
             UUID playerUuid = getUuidFromRef(entityRef);
@@ -378,7 +342,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
             Ref<EntityStore> entityRef = context.getEntity();
             if (entityRef == null) return;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(entityRef.getStore());
             if (world == null) return;
 
             UUID playerUuid = getUuidFromRef(entityRef);
@@ -402,7 +366,7 @@ public class NameAnimalInteraction extends SimpleInteraction {
             Ref<EntityStore> entityRef = context.getEntity();
             if (entityRef == null) return;
 
-            World world = Universe.get().getDefaultWorld();
+            World world = LaitsBreedingPlugin.worldOf(entityRef.getStore());
             if (world == null) return;
 
             UUID playerUuid = getUuidFromRef(entityRef);
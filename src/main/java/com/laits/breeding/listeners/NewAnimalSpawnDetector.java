@@ -11,12 +11,13 @@ import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.laits.breeding.LaitsBreedingPlugin;
 import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.SpeciesDescriptor;
+import com.laits.breeding.util.ModelAssetIdResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 
-import java.lang.reflect.Field;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -37,10 +38,6 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
     private static final ComponentType<EntityStore, ModelComponent> MODEL_TYPE = ModelComponent.getComponentType();
     private static final ComponentType<EntityStore, UUIDComponent> UUID_TYPE = UUIDComponent.getComponentType();
 
-    // Cached reflection Field for extracting modelAssetId (avoid per-tick reflection)
-    private static Field cachedModelField = null;
-    private static boolean modelFieldInitialized = false;
-
     // NewSpawnComponent type - obtained via reflection since it may not be public API
     private static ComponentType<EntityStore, ?> newSpawnComponentType = null;
 
@@ -84,18 +81,6 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
         } catch (Exception e) {
             log("Failed to initialize NewSpawnComponent: " + e.getMessage());
         }
-
-        // Initialize Model field for extracting modelAssetId (only once)
-        if (!modelFieldInitialized) {
-            try {
-                cachedModelField = ModelComponent.class.getDeclaredField("model");
-                cachedModelField.setAccessible(true);
-                modelFieldInitialized = true;
-            } catch (Exception e) {
-                log("Failed to initialize model field cache: " + e.getMessage());
-                modelFieldInitialized = false;
-            }
-        }
     }
 
     public static int getDetectedCount() { return detectedCount; }
@@ -126,6 +111,14 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
             Object newSpawnComp = chunk.getComponent(entityIndex, newSpawnComponentType);
             if (newSpawnComp == null) return;
 
+            // Classify by model first: the resolver is identity-cached, so non-animals
+            // are rejected without building any strings
+            ModelComponent modelComp = chunk.getComponent(entityIndex, MODEL_TYPE);
+            if (modelComp == null) return;
+
+            SpeciesDescriptor species = ModelAssetIdResolver.resolve(modelComp);
+            if (species == null || !species.isKnown()) return;
+
             // Get entity reference
             Ref<EntityStore> entityRef = chunk.getReferenceTo(entityIndex);
             if (entityRef == null || !entityRef.isValid()) return;
@@ -153,28 +146,8 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
                 // Ignore - entity ref may be invalid
             }
 
-            // Check if entity has a model (indicates it's a visual entity)
-            ModelComponent modelComp = chunk.getComponent(entityIndex, MODEL_TYPE);
-            if (modelComp == null) return;
-
-            // Extract model asset ID to identify the entity type
-            String modelAssetId = extractModelAssetId(modelComp);
-            if (modelAssetId == null) return;
-
-            // Check if it's an animal we care about (built-in OR custom)
-            AnimalType animalType = AnimalType.fromModelAssetId(modelAssetId);
-            boolean isCustomAnimal = false;
-
-            // If not a built-in type, check if it's a registered custom animal
-            if (animalType == null) {
-                LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
-                if (plugin != null && plugin.getConfigManager() != null) {
-                    isCustomAnimal = plugin.getConfigManager().isCustomAnimal(modelAssetId);
-                }
-            }
-
-            // Skip if neither built-in nor custom animal
-            if (animalType == null && !isCustomAnimal) return;
+            String modelAssetId = species.getModelAssetId();
+            AnimalType animalType = species.getAnimalType();
 
             // Mark as processed with timestamp
             processedEntities.put(refKey, System.currentTimeMillis());
@@ -190,7 +163,7 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
             // Notify the main plugin to set up interactions
             LaitsBreedingPlugin plugin = LaitsBreedingPlugin.getInstance();
             if (plugin != null) {
-                plugin.onNewAnimalDetected(store, entityRef, modelAssetId, animalType);
+                plugin.onNewAnimalDetected(store, entityRef, species);
             }
 
         } catch (Exception e) {
@@ -198,32 +171,6 @@ public class NewAnimalSpawnDetector extends EntityTickingSystem<EntityStore> {
         }
     }
 
-    /**
-     * Extract modelAssetId from ModelComponent using cached reflection.
-     */
-    private String extractModelAssetId(ModelComponent modelComp) {
-        try {
-            // Use cached Field for performance (avoid getDeclaredField per-tick)
-            if (!modelFieldInitialized || cachedModelField == null) {
-                return null;
-            }
-
-            Object model = cachedModelField.get(modelComp);
-            if (model == null) return null;
-
-            // Extract from toString: Model{modelAssetId='Cow', scale=1.0, ...}
-            String modelStr = model.toString();
-            int start = modelStr.indexOf("modelAssetId='");
-            if (start < 0) return null;
-            start += 14;
-            int end = modelStr.indexOf("'", start);
-            if (end <= start) return null;
-            return modelStr.substring(start, end);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     @Nullable
     @Override
     public Query<EntityStore> getQuery() {
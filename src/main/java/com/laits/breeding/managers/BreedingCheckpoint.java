@@ -0,0 +1,485 @@
+package com.laits.breeding.managers;
+
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.util.FramedLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Periodic incremental checkpoints of breeding state (love, cooldown, pregnancy, growth),
+ * keyed by the animal's persistent entity UUID, so restarts don't reset growth timers or
+ * breeding cooldowns.
+ *
+ * BreedingManager reports each state transition through {@link #record}, which copies the
+ * animal's timed state on the calling (world) thread into a small immutable {@link Entry}.
+ * A background thread writes the entries captured since the last checkpoint as one framed
+ * delta with a new generation number, then fsyncs. Once the delta file passes a threshold
+ * the full image is written as a new base checkpoint (tmp file + atomic move) carrying the
+ * current generation, and the delta file is restarted. Deltas at or below the base's
+ * generation are skipped on load, so a crash between the two steps is harmless.
+ *
+ * Restore is one sequential read into memory; nothing is attached to the world at startup.
+ * When an animal's entity loads, the plugin {@link #claim claims} its entry and the
+ * BreedingManager restores it. Removing an animal writes no tombstone, since entities also
+ * leave the world when their chunk unloads; entries whose animal hasn't changed state for
+ * the retention period are dropped instead.
+ *
+ * Files (in the checkpoint directory):
+ * - breeding.ckpt: base checkpoint, replaced atomically
+ * - breeding.delta: incremental checkpoints since the base
+ * Both are {@link FramedLog} files; a torn or corrupt tail is ignored on load.
+ */
+public class BreedingCheckpoint {
+
+    private static final String BASE_FILE = "breeding.ckpt";
+    private static final String DELTA_FILE = "breeding.delta";
+    private static final int BASE_MAGIC = 0x42434B50;   // "BCKP"
+    private static final int DELTA_MAGIC = 0x42444C54;  // "BDLT"
+    private static final int FORMAT_VERSION = 1;
+    private static final int BASE_HEADER_BYTES = 16;
+    private static final int DELTA_HEADER_BYTES = FramedLog.FILE_HEADER_BYTES;
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    private static final int FLAG_PREGNANT = 1;
+    private static final int FLAG_IN_LOVE = 1 << 1;
+
+    /** Default time between incremental checkpoints. */
+    public static final long DEFAULT_INTERVAL_MS = 10_000;
+    /** Default delta file size that triggers a new base checkpoint. */
+    public static final long DEFAULT_COMPACT_BYTES = 4L * 1024 * 1024;
+    /** Default time an entry is kept without its animal being seen. */
+    public static final long DEFAULT_RETENTION_MS = TimeUnit.DAYS.toMillis(7);
+
+    /**
+     * Timed breeding state of one animal at the moment it was captured.
+     */
+    public record Entry(
+            UUID animalId,
+            AnimalType animalType,
+            GrowthStage growthStage,
+            long lastBreedTime,
+            boolean pregnant,
+            long pregnancyStartTime,
+            long birthTime,
+            boolean inLove,
+            long loveStartTime,
+            long capturedAt
+    ) {
+        static Entry of(BreedingData data, long now) {
+            return new Entry(data.getAnimalId(), data.getAnimalType(), data.getGrowthStage(),
+                    data.getLastBreedTime(), data.isPregnant(), data.getPregnancyStartTime(),
+                    data.getBirthTime(), data.isInLove(), data.getLoveStartTime(), now);
+        }
+    }
+
+    private final Path directory;
+    private final Path basePath;
+    private final Path deltaPath;
+    private final long compactBytes;
+    private final long retentionMs;
+
+    // Latest entry per animal as of the last checkpoint (writer thread after open)
+    private final Map<UUID, Entry> image = new ConcurrentHashMap<>();
+    // Restored entries whose animal hasn't loaded yet
+    private final Map<UUID, Entry> unclaimed = new ConcurrentHashMap<>();
+    // Captured since the last checkpoint
+    private final Map<UUID, Entry> dirty = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService writer;
+    private ScheduledFuture<?> task;
+    private FileChannel delta;
+    private volatile long generation;
+    private volatile boolean running;
+
+    private Consumer<String> logger;
+
+    // Stats (written by the writer thread)
+    private volatile long entriesWritten;
+    private volatile long checkpointsWritten;
+    private volatile long compactions;
+
+    public BreedingCheckpoint(Path directory) {
+        this(directory, DEFAULT_COMPACT_BYTES, DEFAULT_RETENTION_MS);
+    }
+
+    /**
+     * @param directory Directory holding the checkpoint files
+     * @param compactBytes Delta file size that triggers a new base checkpoint
+     * @param retentionMs How long an entry survives without its animal being seen
+     */
+    public BreedingCheckpoint(Path directory, long compactBytes, long retentionMs) {
+        this.directory = directory;
+        this.basePath = directory.resolve(BASE_FILE);
+        this.deltaPath = directory.resolve(DELTA_FILE);
+        this.compactBytes = Math.max(1024, compactBytes);
+        this.retentionMs = retentionMs;
+    }
+
+    public void setLogger(Consumer<String> logger) {
+        this.logger = logger;
+    }
+
+    private void log(String message) {
+        if (logger != null) {
+            logger.accept(message);
+        }
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * Load the base checkpoint and the deltas after it.
+     * Call before {@link #start}; frames after a torn or corrupt one are ignored.
+     * @return Number of restored entries waiting to be claimed
+     */
+    public synchronized int open() throws IOException {
+        image.clear();
+        unclaimed.clear();
+        generation = 0;
+        if (Files.exists(basePath) && Files.size(basePath) >= BASE_HEADER_BYTES) {
+            readBase();
+        }
+        if (Files.exists(deltaPath) && Files.size(deltaPath) >= DELTA_HEADER_BYTES) {
+            readDeltas();
+        }
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        image.values().removeIf(entry -> entry.capturedAt() < cutoff);
+        unclaimed.putAll(image);
+        return unclaimed.size();
+    }
+
+    private void readBase() throws IOException {
+        try (DataInputStream in = FramedLog.openRead(basePath)) {
+            if (!FramedLog.readHeader(in, BASE_MAGIC, FORMAT_VERSION)) {
+                log("Ignoring " + BASE_FILE + ": unknown format");
+                return;
+            }
+            generation = in.readLong();
+            FramedLog.Reader frames = new FramedLog.Reader(in, MAX_FRAME_BYTES);
+            byte[] frame;
+            while ((frame = frames.next()) != null) {
+                Entry entry = decode(new DataInputStream(new ByteArrayInputStream(frame, 0, frames.length())));
+                if (entry != null) {
+                    image.put(entry.animalId(), entry);
+                }
+            }
+            logStop(frames, BASE_FILE);
+        }
+    }
+
+    private void readDeltas() throws IOException {
+        try (DataInputStream in = FramedLog.openRead(deltaPath)) {
+            if (!FramedLog.readHeader(in, DELTA_MAGIC, FORMAT_VERSION)) {
+                log("Ignoring " + DELTA_FILE + ": unknown format");
+                return;
+            }
+            FramedLog.Reader frames = new FramedLog.Reader(in, MAX_FRAME_BYTES);
+            byte[] frame;
+            while ((frame = frames.next()) != null) {
+                DataInputStream payload = new DataInputStream(new ByteArrayInputStream(frame, 0, frames.length()));
+                long frameGeneration = payload.readLong();
+                if (frameGeneration <= generation) {
+                    continue;  // Already folded into the base checkpoint
+                }
+                int count = payload.readInt();
+                for (int i = 0; i < count; i++) {
+                    Entry entry = decode(payload);
+                    if (entry != null) {
+                        image.put(entry.animalId(), entry);
+                    }
+                }
+                generation = frameGeneration;
+            }
+            logStop(frames, DELTA_FILE);
+        }
+    }
+
+    private void logStop(FramedLog.Reader frames, String name) {
+        if (frames.stop() == FramedLog.Stop.TORN) {
+            log("Ignoring torn frame at the end of " + name);
+        } else if (frames.stop() == FramedLog.Stop.CORRUPT) {
+            log("Stopped reading " + name + " at a corrupt frame after " + frames.frames() + " frames");
+        }
+    }
+
+    /**
+     * Get the saved state of an animal whose entity has loaded.
+     * Restored entries are handed out once; after that the latest checkpointed state is
+     * returned, so an animal that unloads with its chunk and loads again keeps its timers.
+     * @return The entry, or null if nothing was saved for this animal
+     */
+    public Entry claim(UUID animalId) {
+        Entry entry = unclaimed.remove(animalId);
+        if (entry == null) {
+            entry = dirty.get(animalId);
+        }
+        if (entry == null) {
+            entry = image.get(animalId);
+        }
+        return entry;
+    }
+
+    /**
+     * Check if any restored entries are still waiting for their animal.
+     */
+    public boolean hasUnclaimed() {
+        return !unclaimed.isEmpty();
+    }
+
+    public int getUnclaimedCount() {
+        return unclaimed.size();
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Open the delta file for appending and start periodic checkpoints.
+     * @param intervalMs Time between incremental checkpoints
+     */
+    public synchronized void start(long intervalMs) throws IOException {
+        if (running) {
+            return;
+        }
+        Files.createDirectories(directory);
+        delta = openDelta(Files.exists(deltaPath) && Files.size(deltaPath) >= DELTA_HEADER_BYTES);
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "LaitsBreeding-Checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(100, intervalMs);
+        task = writer.scheduleWithFixedDelay(this::checkpointQuietly, period, period, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    /**
+     * Capture an animal's current timed state. Cheap; call on the thread that owns the data.
+     * The entry is written with the next checkpoint.
+     */
+    public void record(BreedingData data) {
+        if (data == null || data.getAnimalType() == null) {
+            return;
+        }
+        Entry entry = Entry.of(data, System.currentTimeMillis());
+        dirty.put(entry.animalId(), entry);
+        unclaimed.remove(entry.animalId());  // Live state supersedes anything restored
+    }
+
+    /**
+     * Write everything captured since the last checkpoint now, on the calling thread.
+     * @return Number of entries written
+     */
+    public synchronized int checkpoint() throws IOException {
+        if (delta == null || dirty.isEmpty()) {
+            return 0;
+        }
+        List<Entry> entries = new ArrayList<>(dirty.size());
+        for (UUID animalId : dirty.keySet()) {
+            Entry entry = dirty.remove(animalId);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        long frameGeneration = generation + 1;
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(16 + entries.size() * 72);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeLong(frameGeneration);
+        out.writeInt(entries.size());
+        for (Entry entry : entries) {
+            encode(entry, out);
+        }
+        out.flush();
+
+        ByteArrayOutputStream framed = new ByteArrayOutputStream(payload.size() + FramedLog.FRAME_HEADER_BYTES);
+        FramedLog.writeFrame(new DataOutputStream(framed), payload.toByteArray(), new CRC32());
+        FramedLog.writeFully(delta, ByteBuffer.wrap(framed.toByteArray()));
+        delta.force(false);
+
+        generation = frameGeneration;
+        for (Entry entry : entries) {
+            image.put(entry.animalId(), entry);
+        }
+        entriesWritten += entries.size();
+        checkpointsWritten++;
+
+        if (delta.size() >= compactBytes) {
+            compact();
+        }
+        return entries.size();
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            log("Breeding checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a final checkpoint and stop the writer.
+     * @param timeoutMs Maximum time to wait for the final write
+     * @return true if the final checkpoint finished within the timeout
+     */
+    public boolean close(long timeoutMs) {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            if (!running) {
+                return true;
+            }
+            running = false;
+            task.cancel(false);
+            executor = writer;
+            writer = null;
+        }
+        executor.execute(() -> {
+            checkpointQuietly();
+            synchronized (this) {
+                try {
+                    delta.close();
+                } catch (IOException ignored) {
+                }
+                delta = null;
+            }
+        });
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(Math.max(1, timeoutMs), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log("Breeding checkpoint did not finish within " + timeoutMs + "ms; " + dirty.size() + " entries unwritten");
+        return false;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getEntriesWritten() {
+        return entriesWritten;
+    }
+
+    public long getCheckpointsWritten() {
+        return checkpointsWritten;
+    }
+
+    public long getCompactions() {
+        return compactions;
+    }
+
+    /**
+     * Write the image (minus expired entries) as a new base and restart the delta file.
+     */
+    private void compact() throws IOException {
+        long start = System.nanoTime();
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        image.values().removeIf(entry -> entry.capturedAt() < cutoff);
+        unclaimed.values().removeIf(entry -> entry.capturedAt() < cutoff);
+
+        Path tmp = directory.resolve(BASE_FILE + ".tmp");
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(BASE_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(generation);
+            ByteArrayOutputStream record = new ByteArrayOutputStream(96);
+            DataOutputStream recordOut = new DataOutputStream(record);
+            CRC32 crc = new CRC32();
+            for (Entry entry : image.values()) {
+                record.reset();
+                encode(entry, recordOut);
+                recordOut.flush();
+                FramedLog.writeFrame(out, record.toByteArray(), crc);
+                count++;
+                if (bytes.size() >= 1 << 20) {
+                    FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+                    bytes.reset();
+                }
+            }
+            FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+            channel.force(true);
+        }
+        FramedLog.replace(tmp, basePath);
+
+        delta.close();
+        delta = openDelta(false);
+        compactions++;
+        log("Compacted breeding checkpoint: " + count + " animals at generation " + generation + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    private FileChannel openDelta(boolean append) throws IOException {
+        return append
+                ? FramedLog.openAppend(deltaPath, DELTA_MAGIC, FORMAT_VERSION, MAX_FRAME_BYTES)
+                : FramedLog.create(deltaPath, DELTA_MAGIC, FORMAT_VERSION);
+    }
+
+    // ==================== Encoding ====================
+
+    private static void encode(Entry entry, DataOutputStream out) throws IOException {
+        out.writeLong(entry.animalId().getMostSignificantBits());
+        out.writeLong(entry.animalId().getLeastSignificantBits());
+        out.writeUTF(entry.animalType().name());
+        out.writeUTF(entry.growthStage().name());
+        out.writeByte((entry.pregnant() ? FLAG_PREGNANT : 0) | (entry.inLove() ? FLAG_IN_LOVE : 0));
+        out.writeLong(entry.lastBreedTime());
+        out.writeLong(entry.pregnancyStartTime());
+        out.writeLong(entry.birthTime());
+        out.writeLong(entry.loveStartTime());
+        out.writeLong(entry.capturedAt());
+    }
+
+    /**
+     * @return The entry, or null if its animal type or growth stage no longer exists
+     */
+    private static Entry decode(DataInputStream in) throws IOException {
+        UUID animalId = new UUID(in.readLong(), in.readLong());
+        String animalType = in.readUTF();
+        String growthStage = in.readUTF();
+        int flags = in.readUnsignedByte();
+        long lastBreedTime = in.readLong();
+        long pregnancyStartTime = in.readLong();
+        long birthTime = in.readLong();
+        long loveStartTime = in.readLong();
+        long capturedAt = in.readLong();
+        try {
+            return new Entry(animalId, AnimalType.valueOf(animalType), GrowthStage.valueOf(growthStage),
+                    lastBreedTime, (flags & FLAG_PREGNANT) != 0, pregnancyStartTime, birthTime,
+                    (flags & FLAG_IN_LOVE) != 0, loveStartTime, capturedAt);
+        } catch (IllegalArgumentException e) {
+            return null;  // Animal type or stage no longer exists; the rest of the frame still reads
+        }
+    }
+}
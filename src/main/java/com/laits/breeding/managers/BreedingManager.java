@@ -4,55 +4,100 @@ import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.BreedingData;
 import com.laits.breeding.models.GrowthStage;
 import com.laits.breeding.util.ConfigManager;
-
-import java.lang.reflect.Method;
+import com.laits.breeding.util.MateGrid;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Manages breeding state and logic for all tracked animals.
  */
 public class BreedingManager {
 
+    /** How long an animal stays in love mode after being fed. */
+    public static final long LOVE_DURATION_MS = 30_000;
+
     private final ConfigManager config;
-    private final Map<UUID, BreedingData> breedingDataMap = new ConcurrentHashMap<>();
+    private final BreedingStore breedingStore;
+
+    // Next due time per animal (birth, growth, love expiry, cooldown end)
+    private final DeadlineScheduler scheduler = new DeadlineScheduler();
+    private final BreedingData.StateListener deadlineTracker = new DeadlineTracker();
 
     // Custom animal love mode tracking (separate from enum-based animals)
     private final Map<UUID, CustomAnimalLoveData> customAnimalsInLove = new ConcurrentHashMap<>();
+    // Custom animals that may still be in love (pruned lazily by tickCustomAnimalLove)
+    private final Set<UUID> customLoveCandidates = ConcurrentHashMap.newKeySet();
+
+    // Latest in-love spatial grid per world (keyed by entity store, rebuilt each love tick)
+    private final Map<Object, MateGrid<Object>> mateGridsByWorld = new ConcurrentHashMap<>();
+
+    // Ref.getStore() bound once; used when the plugin hasn't installed a typed liveness check
+    private static final MethodHandle REF_GET_STORE = bindRefGetStore();
 
-    // Cached reflection Method for Ref.getStore() (avoid getMethod() per cleanup call)
-    private static Method cachedGetStoreMethod = null;
-    private static boolean getStoreMethodInitialized = false;
+    // Decides whether an entity ref still points at a live entity (see cleanupStaleEntries)
+    private Predicate<Object> entityRefValidator = BreedingManager::refHasStore;
 
     // Callbacks for game integration
     private Consumer<BirthEvent> onBirthCallback;
     private Consumer<CustomBirthEvent> onCustomBirthCallback;
+    private Consumer<BreedingData> onCooldownEndCallback;
+    private Consumer<BreedingData> onLoveChangedCallback;
+    private Consumer<BreedingData> onRemovedCallback;
+    private Consumer<BreedingData> stateRecorder;
     private Consumer<String> debugLogger;
 
     public BreedingManager(ConfigManager config) {
-        this.config = config;
-        initializeReflectionCache();
+        this(config, new MapBreedingStore());
     }
 
     /**
-     * Initialize cached reflection objects once.
+     * @param store Backend holding the per-animal BreedingData
      */
-    private void initializeReflectionCache() {
-        if (!getStoreMethodInitialized) {
-            try {
-                // Cache the getStore method from Ref class
-                Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
-                cachedGetStoreMethod = refClass.getMethod("getStore");
-                getStoreMethodInitialized = true;
-            } catch (Exception e) {
-                // Will use per-call reflection as fallback
-                getStoreMethodInitialized = false;
-            }
+    public BreedingManager(ConfigManager config, BreedingStore store) {
+        this.config = config;
+        this.breedingStore = store;
+    }
+
+    private static MethodHandle bindRefGetStore() {
+        try {
+            Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
+            return MethodHandles.publicLookup().unreflect(refClass.getMethod("getStore"))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static boolean refHasStore(Object entityRef) {
+        if (REF_GET_STORE == null) {
+            return true;
+        }
+        try {
+            return (Object) REF_GET_STORE.invokeExact(entityRef) != null;
+        } catch (Throwable t) {
+            return false;
         }
     }
 
+    /**
+     * Replace the entity ref liveness check used by cleanupStaleEntries().
+     * The plugin installs a typed Ref check so cleanup doesn't go through reflection.
+     */
+    public void setEntityRefValidator(Predicate<Object> validator) {
+        this.entityRefValidator = validator != null ? validator : BreedingManager::refHasStore;
+    }
+
     /**
      * Get or create breeding data for an animal.
      * @param animalId The animal's UUID
@@ -60,7 +105,7 @@ public class BreedingManager {
      * @return The breeding data for this animal
      */
     public BreedingData getOrCreateData(UUID animalId, AnimalType animalType) {
-        return breedingDataMap.computeIfAbsent(animalId, id -> new BreedingData(id, animalType));
+        return breedingStore.computeIfAbsent(animalId, id -> track(new BreedingData(id, animalType)));
     }
 
     /**
@@ -69,7 +114,7 @@ public class BreedingManager {
      * @return The breeding data, or null if not tracked
      */
     public BreedingData getData(UUID animalId) {
-        return breedingDataMap.get(animalId);
+        return breedingStore.get(animalId);
     }
 
     /**
@@ -77,15 +122,46 @@ public class BreedingManager {
      * @param animalId The animal's UUID
      */
     public void removeData(UUID animalId) {
-        breedingDataMap.remove(animalId);
+        BreedingData removed = breedingStore.remove(animalId);
+        if (removed != null) {
+            removed.notifyRemoved();
+        }
     }
 
     /**
      * Clear all breeding data (used on plugin shutdown).
      */
     public void clearAll() {
-        breedingDataMap.clear();
+        breedingStore.clear();
         customAnimalsInLove.clear();
+        customLoveCandidates.clear();
+        mateGridsByWorld.clear();
+        scheduler.clear();
+    }
+
+    /**
+     * Publish the in-love spatial grid built for a world this tick.
+     * @param worldKey The world's entity store (identity key)
+     * @param grid Grid of in-love BreedingData / CustomAnimalLoveData keyed by species
+     */
+    public void publishMateGrid(Object worldKey, MateGrid<Object> grid) {
+        mateGridsByWorld.put(worldKey, grid);
+    }
+
+    /**
+     * Get the most recent in-love spatial grid for a world.
+     * Positions may be up to one love tick old; callers should re-check live positions.
+     * @return The grid, or null if no animals were in love at the last tick
+     */
+    public MateGrid<Object> getMateGrid(Object worldKey) {
+        return mateGridsByWorld.get(worldKey);
+    }
+
+    /**
+     * Drop all published mate grids (no animals in love).
+     */
+    public void clearMateGrids() {
+        mateGridsByWorld.clear();
     }
 
     /**
@@ -96,31 +172,16 @@ public class BreedingManager {
     public int cleanupStaleEntries() {
         int removed = 0;
 
-        // Clean up breedingDataMap
-        java.util.Iterator<Map.Entry<UUID, BreedingData>> it = breedingDataMap.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<UUID, BreedingData> entry = it.next();
-            BreedingData data = entry.getValue();
+        // Clean up tracked breeding data
+        for (BreedingData data : breedingStore.values()) {
             Object entityRef = data.getEntityRef();
             if (entityRef != null) {
-                try {
-                    // Use cached Method if available, fall back to per-call if not
-                    Object store;
-                    if (getStoreMethodInitialized && cachedGetStoreMethod != null) {
-                        store = cachedGetStoreMethod.invoke(entityRef);
-                    } else {
-                        store = entityRef.getClass().getMethod("getStore").invoke(entityRef);
+                if (!isLive(entityRef)) {
+                    if (breedingStore.remove(data.getAnimalId()) != null) {
+                        data.notifyRemoved();
                     }
-                    if (store == null) {
-                        it.remove();
-                        removed++;
-                        debug("Removed stale breeding entry: " + entry.getKey());
-                    }
-                } catch (Exception e) {
-                    // Entity ref is invalid - remove the entry
-                    it.remove();
                     removed++;
-                    debug("Removed stale breeding entry (exception): " + entry.getKey());
+                    debug("Removed stale breeding entry: " + data.getAnimalId());
                 }
             }
         }
@@ -131,6 +192,15 @@ public class BreedingManager {
         return removed;
     }
 
+    private boolean isLive(Object entityRef) {
+        try {
+            return entityRefValidator.test(entityRef);
+        } catch (Exception e) {
+            // Entity ref is invalid
+            return false;
+        }
+    }
+
     /**
      * Clean up stale custom animal entries where entity refs are no longer valid.
      * @return Number of entries removed
@@ -143,23 +213,10 @@ public class BreedingManager {
             CustomAnimalLoveData data = entry.getValue();
             Object entityRef = data.getEntityRef();
             if (entityRef != null) {
-                try {
-                    // Use cached Method if available, fall back to per-call if not
-                    Object store;
-                    if (getStoreMethodInitialized && cachedGetStoreMethod != null) {
-                        store = cachedGetStoreMethod.invoke(entityRef);
-                    } else {
-                        store = entityRef.getClass().getMethod("getStore").invoke(entityRef);
-                    }
-                    if (store == null) {
-                        it.remove();
-                        removed++;
-                        debug("Removed stale custom animal entry: " + entry.getKey());
-                    }
-                } catch (Exception e) {
+                if (!isLive(entityRef)) {
                     it.remove();
                     removed++;
-                    debug("Removed stale custom animal entry (exception): " + entry.getKey());
+                    debug("Removed stale custom animal entry: " + entry.getKey());
                 }
             }
         }
@@ -174,13 +231,38 @@ public class BreedingManager {
      * @return The created BreedingData
      */
     public BreedingData registerBaby(UUID babyId, AnimalType animalType, Object entityRef) {
-        BreedingData babyData = BreedingData.createBaby(babyId, animalType);
+        BreedingData babyData = track(BreedingData.createBaby(babyId, animalType));
         babyData.setEntityRef(entityRef);
-        breedingDataMap.put(babyId, babyData);
+        breedingStore.put(babyData);
+        scheduleGrowth(babyData);
+        recordState(babyData);
         debug("Registered baby " + babyId + " (" + animalType + ") for growth tracking");
         return babyData;
     }
 
+    /**
+     * Reattach checkpointed state to an animal whose entity has just loaded.
+     * Deadlines are scheduled from the saved timestamps, so timers that ran out while the
+     * server was down fire on the next tick. The state came from the checkpoint, so it is
+     * not recorded again.
+     * @param entry State saved by the breeding checkpoint
+     * @param entityRef The entity reference, or null if not yet known
+     * @return The restored BreedingData
+     */
+    public BreedingData restoreData(BreedingCheckpoint.Entry entry, Object entityRef) {
+        BreedingData data = track(new BreedingData(entry.animalId(), entry.animalType()));
+        data.restoreState(entry.growthStage(), entry.birthTime(), entry.lastBreedTime(),
+                entry.pregnant(), entry.pregnancyStartTime(), entry.inLove(), entry.loveStartTime());
+        data.setEntityRef(entityRef);
+        breedingStore.put(data);
+        scheduleAll(data);
+        if (data.isInLove() && onLoveChangedCallback != null) {
+            onLoveChangedCallback.accept(data);
+        }
+        debug("Restored " + entry.animalType() + " " + entry.animalId() + " (" + entry.growthStage() + ")");
+        return data;
+    }
+
     /**
      * Check if an animal can breed.
      * @param animalId The animal's UUID
@@ -313,17 +395,251 @@ public class BreedingManager {
     }
 
     /**
-     * Check all pregnant animals and handle births.
-     * Called periodically by the tick system.
+     * Handle births whose gestation deadline has passed.
+     * Called periodically by the tick system; only visits animals that are due.
      */
     public void tickPregnancies() {
-        for (BreedingData data : breedingDataMap.values()) {
-            if (data.isPregnant()) {
-                long gestationTime = config.getGestationPeriod(data.getAnimalType());
-                if (data.isReadyToGiveBirth(gestationTime)) {
-                    handleBirth(data);
+        for (UUID animalId : scheduler.drainDue(DeadlineScheduler.Kind.BIRTH, System.currentTimeMillis())) {
+            BreedingData data = breedingStore.get(animalId);
+            if (data == null || !data.isPregnant()) {
+                continue;
+            }
+            long gestationTime = config.getGestationPeriod(data.getAnimalType());
+            if (data.isReadyToGiveBirth(gestationTime)) {
+                handleBirth(data);
+            } else {
+                // Gestation was lengthened since scheduling
+                scheduler.schedule(animalId, DeadlineScheduler.Kind.BIRTH, data.getPregnancyStartTime() + gestationTime);
+            }
+        }
+    }
+
+    /**
+     * End love mode for animals whose love window has passed.
+     * @return Number of animals whose love mode expired
+     */
+    public int tickLoveExpiry() {
+        long now = System.currentTimeMillis();
+        int expired = 0;
+        for (UUID animalId : scheduler.drainDue(DeadlineScheduler.Kind.LOVE_EXPIRY, now)) {
+            BreedingData data = breedingStore.get(animalId);
+            if (data == null || !data.isInLove()) {
+                continue;
+            }
+            long expiresAt = data.getLoveStartTime() + LOVE_DURATION_MS;
+            if (now >= expiresAt) {
+                data.resetLove();
+                expired++;
+                debug("Animal " + animalId + " love mode expired");
+            } else {
+                scheduler.schedule(animalId, DeadlineScheduler.Kind.LOVE_EXPIRY, expiresAt);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Fire the cooldown-end callback for animals whose breeding cooldown has elapsed.
+     */
+    public void tickCooldowns() {
+        for (UUID animalId : scheduler.drainDue(DeadlineScheduler.Kind.COOLDOWN_END, System.currentTimeMillis())) {
+            BreedingData data = breedingStore.get(animalId);
+            if (data == null) {
+                continue;
+            }
+            long remaining = data.getCooldownRemaining(config.getBreedingCooldown(data.getAnimalType()));
+            if (remaining > 0) {
+                // Cooldown was lengthened since scheduling
+                scheduler.schedule(animalId, DeadlineScheduler.Kind.COOLDOWN_END, System.currentTimeMillis() + remaining);
+                continue;
+            }
+            if (onCooldownEndCallback != null) {
+                onCooldownEndCallback.accept(data);
+            }
+        }
+    }
+
+    /**
+     * Remove and return babies whose next growth stage is due.
+     * Used by GrowthManager, which performs the actual stage change.
+     */
+    public List<BreedingData> drainDueGrowth(long now) {
+        List<UUID> due = scheduler.drainDue(DeadlineScheduler.Kind.GROWTH, now);
+        List<BreedingData> result = new ArrayList<>(due.size());
+        for (UUID animalId : due) {
+            BreedingData data = breedingStore.get(animalId);
+            if (data != null && data.getGrowthStage().hasNextStage()) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Schedule the next growth stage for an animal based on its birth time and the
+     * configured stage durations. Adults and animals without a birth time are skipped.
+     */
+    public void scheduleGrowth(BreedingData data) {
+        if (!data.getGrowthStage().hasNextStage() || data.getBirthTime() == 0) {
+            scheduler.cancel(data.getAnimalId(), DeadlineScheduler.Kind.GROWTH);
+            return;
+        }
+        scheduler.schedule(data.getAnimalId(), DeadlineScheduler.Kind.GROWTH,
+                data.getBirthTime() + getTimeToReachNextStage(data.getAnimalType(), data.getGrowthStage()));
+    }
+
+    /**
+     * Get the total age required to leave the given stage, using the animal's configured growth time.
+     */
+    long getTimeToReachNextStage(AnimalType animalType, GrowthStage currentStage) {
+        long totalTime = 0;
+        for (GrowthStage stage : GrowthStage.values()) {
+            totalTime += config.getGrowthStageDuration(animalType, stage);
+            if (stage == currentStage) {
+                break;
+            }
+        }
+        return totalTime;
+    }
+
+    /**
+     * Recompute every deadline from current state.
+     * Call after config changes that alter gestation, growth or cooldown durations.
+     */
+    public void rescheduleAll() {
+        scheduler.clear();
+        for (BreedingData data : breedingStore.values()) {
+            scheduleAll(data);
+        }
+        debug("Rescheduled deadlines for " + breedingStore.size() + " animals");
+    }
+
+    /**
+     * Schedule every deadline of an animal's current state, without recording it or
+     * notifying callbacks (nothing changed).
+     */
+    private void scheduleAll(BreedingData data) {
+        breedingStore.sync(data);
+        scheduleLoveExpiry(data);
+        scheduleBirth(data);
+        scheduleCooldownEnd(data);
+        scheduleGrowth(data);
+    }
+
+    private void scheduleLoveExpiry(BreedingData data) {
+        if (data.isInLove()) {
+            scheduler.schedule(data.getAnimalId(), DeadlineScheduler.Kind.LOVE_EXPIRY,
+                    data.getLoveStartTime() + LOVE_DURATION_MS);
+        }
+    }
+
+    private void scheduleBirth(BreedingData data) {
+        if (data.isPregnant()) {
+            scheduler.schedule(data.getAnimalId(), DeadlineScheduler.Kind.BIRTH,
+                    data.getPregnancyStartTime() + config.getGestationPeriod(data.getAnimalType()));
+        }
+    }
+
+    private void scheduleCooldownEnd(BreedingData data) {
+        if (data.getLastBreedTime() > 0) {
+            scheduler.schedule(data.getAnimalId(), DeadlineScheduler.Kind.COOLDOWN_END,
+                    data.getLastBreedTime() + config.getBreedingCooldown(data.getAnimalType()));
+        }
+    }
+
+    /**
+     * Set the recorder that captures an animal's state after each timed transition
+     * (see BreedingCheckpoint). Called on the thread that made the change.
+     */
+    public void setStateRecorder(Consumer<BreedingData> recorder) {
+        this.stateRecorder = recorder;
+    }
+
+    private void recordState(BreedingData data) {
+        if (stateRecorder != null) {
+            stateRecorder.accept(data);
+        }
+    }
+
+    /**
+     * Get the scheduler holding per-animal deadlines.
+     */
+    public DeadlineScheduler getScheduler() {
+        return scheduler;
+    }
+
+    private BreedingData track(BreedingData data) {
+        data.setStateListener(deadlineTracker);
+        return data;
+    }
+
+    /**
+     * Turns BreedingData state transitions into scheduled deadlines.
+     */
+    private class DeadlineTracker implements BreedingData.StateListener {
+        @Override
+        public void onLoveStarted(BreedingData data) {
+            breedingStore.sync(data);
+            if (data.isInLove()) {
+                scheduleLoveExpiry(data);
+                if (onLoveChangedCallback != null) {
+                    onLoveChangedCallback.accept(data);
                 }
             }
+            recordState(data);
+        }
+
+        @Override
+        public void onLoveEnded(BreedingData data) {
+            breedingStore.sync(data);
+            scheduler.cancel(data.getAnimalId(), DeadlineScheduler.Kind.LOVE_EXPIRY);
+            if (onLoveChangedCallback != null) {
+                onLoveChangedCallback.accept(data);
+            }
+            recordState(data);
+        }
+
+        @Override
+        public void onPregnancyStarted(BreedingData data) {
+            breedingStore.sync(data);
+            scheduleBirth(data);
+            recordState(data);
+        }
+
+        @Override
+        public void onPregnancyEnded(BreedingData data) {
+            breedingStore.sync(data);
+            scheduler.cancel(data.getAnimalId(), DeadlineScheduler.Kind.BIRTH);
+            recordState(data);
+        }
+
+        @Override
+        public void onCooldownStarted(BreedingData data) {
+            breedingStore.sync(data);
+            scheduleCooldownEnd(data);
+            recordState(data);
+        }
+
+        @Override
+        public void onCooldownCleared(BreedingData data) {
+            breedingStore.sync(data);
+            scheduler.cancel(data.getAnimalId(), DeadlineScheduler.Kind.COOLDOWN_END);
+            recordState(data);
+        }
+
+        @Override
+        public void onGrowthStageChanged(BreedingData data) {
+            breedingStore.sync(data);
+            scheduleGrowth(data);
+            recordState(data);
+        }
+
+        @Override
+        public void onRemoved(BreedingData data) {
+            scheduler.cancelAll(data.getAnimalId());
+            if (onRemovedCallback != null) {
+                onRemovedCallback.accept(data);
+            }
         }
     }
 
@@ -336,8 +652,9 @@ public class BreedingManager {
 
         // Create baby data
         UUID babyId = UUID.randomUUID();
-        BreedingData babyData = BreedingData.createBaby(babyId, animalType);
-        breedingDataMap.put(babyId, babyData);
+        BreedingData babyData = track(BreedingData.createBaby(babyId, animalType));
+        breedingStore.put(babyData);
+        scheduleGrowth(babyData);
 
         // Complete breeding (sets cooldown, resets pregnancy)
         motherData.completeBreeding();
@@ -359,6 +676,29 @@ public class BreedingManager {
         this.onBirthCallback = callback;
     }
 
+    /**
+     * Set callback for when an animal's breeding cooldown ends.
+     */
+    public void setOnCooldownEndCallback(Consumer<BreedingData> callback) {
+        this.onCooldownEndCallback = callback;
+    }
+
+    /**
+     * Set callback for when an animal enters or leaves love mode.
+     * May be called from the tick thread or the world thread.
+     */
+    public void setOnLoveChangedCallback(Consumer<BreedingData> callback) {
+        this.onLoveChangedCallback = callback;
+    }
+
+    /**
+     * Set callback for when an animal stops being tracked, through removeData() or
+     * cleanupStaleEntries().
+     */
+    public void setOnRemovedCallback(Consumer<BreedingData> callback) {
+        this.onRemovedCallback = callback;
+    }
+
     /**
      * Set debug logger callback.
      */
@@ -376,39 +716,65 @@ public class BreedingManager {
      * Get the number of tracked animals.
      */
     public int getTrackedCount() {
-        return breedingDataMap.size();
+        return breedingStore.size();
     }
 
     /**
      * Get the number of pregnant animals.
      */
     public int getPregnantCount() {
-        return (int) breedingDataMap.values().stream()
-                .filter(BreedingData::isPregnant)
-                .count();
+        return breedingStore.countPregnant();
+    }
+
+    /**
+     * Get the number of tracked animals at each growth stage.
+     */
+    public Map<GrowthStage, Integer> getGrowthStageCounts() {
+        int[] byOrdinal = breedingStore.countByGrowthStage();
+        Map<GrowthStage, Integer> counts = new EnumMap<>(GrowthStage.class);
+        for (GrowthStage stage : GrowthStage.values()) {
+            counts.put(stage, byOrdinal[stage.ordinal()]);
+        }
+        return counts;
     }
 
     /**
      * Get the number of animals in love.
+     * Every animal in love has exactly one pending love-expiry deadline, so this is a
+     * counter read rather than a scan.
      */
     public int getInLoveCount() {
-        return (int) breedingDataMap.values().stream()
-                .filter(BreedingData::isInLove)
-                .count();
+        return scheduler.getPendingCount(DeadlineScheduler.Kind.LOVE_EXPIRY);
+    }
+
+    /**
+     * Get all animals currently in love.
+     * Backed by the pending love-expiry deadlines, so cost is proportional to animals in love.
+     */
+    public List<BreedingData> getAnimalsInLove() {
+        Set<UUID> candidates = scheduler.getScheduledIds(DeadlineScheduler.Kind.LOVE_EXPIRY);
+        List<BreedingData> result = new ArrayList<>(candidates.size());
+        for (UUID animalId : candidates) {
+            BreedingData data = breedingStore.get(animalId);
+            if (data != null && data.isInLove()) {
+                result.add(data);
+            }
+        }
+        return result;
     }
 
     /**
      * Get all tracked animal IDs.
      */
     public Iterable<UUID> getTrackedAnimalIds() {
-        return breedingDataMap.keySet().stream().toList();
+        return breedingStore.ids();
     }
 
     /**
      * Get all breeding data entries.
      */
     public Iterable<BreedingData> getAllBreedingData() {
-        return breedingDataMap.values();
+        return breedingStore.values();
     }
 
     /**
@@ -475,6 +841,7 @@ public class BreedingManager {
         CustomAnimalLoveData loveData = new CustomAnimalLoveData(animalId, modelAssetId, entityRef);
         loveData.setInLove(true);
         customAnimalsInLove.put(animalId, loveData);
+        customLoveCandidates.add(animalId);
 
         debug("Custom animal " + animalId + " (" + modelAssetId + ") is now in love!");
         return FeedResult.SUCCESS;
@@ -499,9 +866,14 @@ public class BreedingManager {
      * Get all custom animals currently in love mode (for heart particle spawning).
      */
     public Iterable<CustomAnimalLoveData> getCustomAnimalsInLove() {
-        return customAnimalsInLove.values().stream()
-            .filter(CustomAnimalLoveData::isInLove)
-            .toList();
+        List<CustomAnimalLoveData> result = new ArrayList<>();
+        for (UUID animalId : customLoveCandidates) {
+            CustomAnimalLoveData data = customAnimalsInLove.get(animalId);
+            if (data != null && data.isInLove()) {
+                result.add(data);
+            }
+        }
+        return result;
     }
 
     /**
@@ -553,15 +925,22 @@ public class BreedingManager {
 
     /**
      * Clean up expired love modes for custom animals.
-     * Love mode expires after 30 seconds by default.
+     * Love mode expires after LOVE_DURATION_MS. Only animals fed within the
+     * current love window are visited; the rest are dropped from the candidate set.
      */
     public void tickCustomAnimalLove() {
         long now = System.currentTimeMillis();
-        long loveDuration = 30_000; // 30 seconds
 
-        for (CustomAnimalLoveData data : customAnimalsInLove.values()) {
-            if (data.isInLove() && (now - data.getLoveStartTime()) > loveDuration) {
+        java.util.Iterator<UUID> it = customLoveCandidates.iterator();
+        while (it.hasNext()) {
+            CustomAnimalLoveData data = customAnimalsInLove.get(it.next());
+            if (data == null || !data.isInLove()) {
+                it.remove();
+                continue;
+            }
+            if ((now - data.getLoveStartTime()) > LOVE_DURATION_MS) {
                 data.setInLove(false);
+                it.remove();
                 debug("Custom animal " + data.getAnimalId() + " love mode expired");
             }
         }
@@ -0,0 +1,252 @@
+package com.laits.breeding.managers;
+
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.util.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-world breeding state.
+ *
+ * Each world gets its own {@link Shard}: a BreedingManager (with its own deadline scheduler
+ * and mate grids) and the GrowthManager that drains it. A shard is only ticked on its
+ * world's thread, so independent worlds are processed in parallel and never contend on
+ * each other's maps or deadline queues.
+ *
+ * Shards are created lazily the first time an animal in that world is tracked. The
+ * shard initializer (callbacks, validators, loggers) is applied to every shard, including
+ * ones created later. The methods on this class itself are an aggregate view across all
+ * shards for commands and for lookups that only have an animal UUID.
+ */
+public class BreedingShards {
+
+    private final ConfigManager config;
+    private final Map<String, Shard> shards = new ConcurrentHashMap<>();
+
+    private Consumer<Shard> shardInitializer;
+
+    public BreedingShards(ConfigManager config) {
+        this.config = config;
+    }
+
+    /**
+     * Set the setup applied to each shard's managers (callbacks, validators, loggers).
+     * Also applied immediately to shards that already exist.
+     */
+    public void setShardInitializer(Consumer<Shard> initializer) {
+        this.shardInitializer = initializer;
+        if (initializer != null) {
+            for (Shard shard : shards.values()) {
+                initializer.accept(shard);
+            }
+        }
+    }
+
+    // ==================== Shards ====================
+
+    /**
+     * Get the shard for a world, creating it on first use.
+     */
+    public Shard forWorld(String worldId) {
+        return shards.computeIfAbsent(worldId, this::createShard);
+    }
+
+    /**
+     * Get the shard for a world.
+     * @return the shard, or null if nothing has been tracked in that world
+     */
+    public Shard getShard(String worldId) {
+        return shards.get(worldId);
+    }
+
+    /**
+     * Get all shards (live view, safe to iterate while shards are added).
+     */
+    public Collection<Shard> getShards() {
+        return shards.values();
+    }
+
+    /**
+     * Find the shard tracking an animal.
+     * @return the shard, or null if the animal is not tracked in any world
+     */
+    public Shard findShard(UUID animalId) {
+        for (Shard shard : shards.values()) {
+            if (shard.breeding.getData(animalId) != null
+                    || shard.breeding.getCustomAnimalLoveData(animalId) != null) {
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop a world's shard (e.g. when the world unloads).
+     * @return the removed shard, or null if there was none
+     */
+    public Shard removeWorld(String worldId) {
+        Shard shard = shards.remove(worldId);
+        if (shard != null) {
+            shard.breeding.clearAll();
+        }
+        return shard;
+    }
+
+    private Shard createShard(String worldId) {
+        BreedingManager breeding = new BreedingManager(config);
+        Shard shard = new Shard(worldId, breeding, new GrowthManager(config, breeding));
+        if (shardInitializer != null) {
+            shardInitializer.accept(shard);
+        }
+        return shard;
+    }
+
+    // ==================== Aggregate view ====================
+
+    /**
+     * Get breeding data for an animal in any world.
+     * @return the data, or null if not tracked
+     */
+    public BreedingData getData(UUID animalId) {
+        for (Shard shard : shards.values()) {
+            BreedingData data = shard.breeding.getData(animalId);
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stop tracking an animal in whichever world tracks it.
+     */
+    public void removeData(UUID animalId) {
+        for (Shard shard : shards.values()) {
+            shard.breeding.removeData(animalId);
+        }
+    }
+
+    /**
+     * Get a snapshot of breeding data across all worlds.
+     */
+    public List<BreedingData> getAllBreedingData() {
+        List<BreedingData> result = new ArrayList<>();
+        for (Shard shard : shards.values()) {
+            for (BreedingData data : shard.breeding.getAllBreedingData()) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    public int getTrackedCount() {
+        int total = 0;
+        for (Shard shard : shards.values()) {
+            total += shard.breeding.getTrackedCount();
+        }
+        return total;
+    }
+
+    public int getPregnantCount() {
+        int total = 0;
+        for (Shard shard : shards.values()) {
+            total += shard.breeding.getPregnantCount();
+        }
+        return total;
+    }
+
+    public int getInLoveCount() {
+        int total = 0;
+        for (Shard shard : shards.values()) {
+            total += shard.breeding.getInLoveCount();
+        }
+        return total;
+    }
+
+    /**
+     * Get count of animals at each growth stage across all worlds.
+     */
+    public Map<GrowthStage, Integer> getGrowthStageCounts() {
+        Map<GrowthStage, Integer> counts = new EnumMap<>(GrowthStage.class);
+        for (GrowthStage stage : GrowthStage.values()) {
+            counts.put(stage, 0);
+        }
+        for (Shard shard : shards.values()) {
+            shard.growth.getGrowthStageCounts().forEach((stage, count) -> counts.merge(stage, count, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * Remove entries with dead entity refs in every world.
+     * @return Number of entries removed
+     */
+    public int cleanupStaleEntries() {
+        int removed = 0;
+        for (Shard shard : shards.values()) {
+            removed += shard.breeding.cleanupStaleEntries();
+        }
+        return removed;
+    }
+
+    /**
+     * Recompute deadlines in every world after config durations change.
+     */
+    public void rescheduleAll() {
+        for (Shard shard : shards.values()) {
+            shard.breeding.rescheduleAll();
+        }
+    }
+
+    /**
+     * Clear all breeding data and drop every shard.
+     */
+    public void clearAll() {
+        for (Shard shard : shards.values()) {
+            shard.breeding.clearAll();
+        }
+        shards.clear();
+    }
+
+    /**
+     * Get the number of worlds with breeding state.
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Breeding and growth state for one world.
+     */
+    public static final class Shard {
+        private final String worldId;
+        private final BreedingManager breeding;
+        private final GrowthManager growth;
+
+        Shard(String worldId, BreedingManager breeding, GrowthManager growth) {
+            this.worldId = worldId;
+            this.breeding = breeding;
+            this.growth = growth;
+        }
+
+        public String getWorldId() {
+            return worldId;
+        }
+
+        public BreedingManager getBreeding() {
+            return breeding;
+        }
+
+        public GrowthManager getGrowth() {
+            return growth;
+        }
+    }
+}
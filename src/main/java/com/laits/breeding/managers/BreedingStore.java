@@ -0,0 +1,70 @@
+package com.laits.breeding.managers;
+
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.GrowthStage;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Storage backend for the BreedingData tracked by a {@link BreedingManager}.
+ *
+ * The manager owns all breeding logic; a store only maps animal UUIDs to their data and
+ * answers the whole-population queries (counts by state) that would otherwise walk
+ * every tracked object. Implementations must be thread-safe.
+ *
+ * @see MapBreedingStore
+ */
+public interface BreedingStore {
+
+    /**
+     * @return the data for an animal, or null if not tracked
+     */
+    BreedingData get(UUID animalId);
+
+    /**
+     * Get the data for an animal, creating and storing it with the factory if absent.
+     */
+    BreedingData computeIfAbsent(UUID animalId, Function<UUID, BreedingData> factory);
+
+    /**
+     * Store data under its animal ID, replacing any previous entry.
+     */
+    void put(BreedingData data);
+
+    /**
+     * @return the removed data, or null if the animal was not tracked
+     */
+    BreedingData remove(UUID animalId);
+
+    /**
+     * Refresh any state the store keeps about an animal after its data changed.
+     * Called by the manager on every timed state transition.
+     */
+    void sync(BreedingData data);
+
+    int size();
+
+    void clear();
+
+    /**
+     * Snapshot of tracked animal IDs.
+     */
+    List<UUID> ids();
+
+    /**
+     * All tracked data. May be a live weakly-consistent view or a snapshot.
+     */
+    Iterable<BreedingData> values();
+
+    /**
+     * Number of tracked animals that are pregnant.
+     */
+    int countPregnant();
+
+    /**
+     * Number of tracked animals at each growth stage, indexed by {@link GrowthStage#ordinal()}.
+     */
+    int[] countByGrowthStage();
+}
@@ -0,0 +1,156 @@
+package com.laits.breeding.managers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Priority-queue scheduler keyed by each animal's next due time.
+ *
+ * Every kind of deadline (birth, growth stage, love expiry, cooldown end) has its own
+ * min-heap plus a map of the currently valid due time per animal. Rescheduling simply
+ * overwrites the map entry; the superseded heap entry is discarded lazily when it
+ * reaches the head. Draining a kind therefore costs O(due events * log n) instead of
+ * a scan over every tracked animal.
+ *
+ * Thread-safe: feeding runs on the world thread while ticks run on the plugin scheduler.
+ */
+public class DeadlineScheduler {
+
+    /**
+     * Kinds of deadlines tracked per animal. An animal has at most one pending
+     * deadline of each kind.
+     */
+    public enum Kind {
+        BIRTH,
+        GROWTH,
+        LOVE_EXPIRY,
+        COOLDOWN_END
+    }
+
+    // Rebuild a heap once it holds this many more stale entries than live ones
+    private static final int COMPACT_SLACK = 256;
+
+    private final Map<Kind, PriorityQueue<Deadline>> queues = new EnumMap<>(Kind.class);
+    private final Map<Kind, Map<UUID, Long>> pending = new EnumMap<>(Kind.class);
+
+    public DeadlineScheduler() {
+        for (Kind kind : Kind.values()) {
+            queues.put(kind, new PriorityQueue<>());
+            pending.put(kind, new HashMap<>());
+        }
+    }
+
+    /**
+     * Schedule (or reschedule) a deadline for an animal.
+     * Replaces any previous deadline of the same kind.
+     */
+    public synchronized void schedule(UUID animalId, Kind kind, long dueAt) {
+        Long previous = pending.get(kind).put(animalId, dueAt);
+        if (previous != null && previous == dueAt) {
+            return; // Already queued at this time
+        }
+        PriorityQueue<Deadline> queue = queues.get(kind);
+        queue.add(new Deadline(dueAt, animalId));
+        compactIfNeeded(kind, queue);
+    }
+
+    /**
+     * Cancel a pending deadline. The heap entry is discarded lazily.
+     */
+    public synchronized void cancel(UUID animalId, Kind kind) {
+        pending.get(kind).remove(animalId);
+    }
+
+    /**
+     * Cancel every pending deadline for an animal.
+     */
+    public synchronized void cancelAll(UUID animalId) {
+        for (Map<UUID, Long> byAnimal : pending.values()) {
+            byAnimal.remove(animalId);
+        }
+    }
+
+    /**
+     * Check whether an animal has a pending deadline of the given kind.
+     */
+    public synchronized boolean isScheduled(UUID animalId, Kind kind) {
+        return pending.get(kind).containsKey(animalId);
+    }
+
+    /**
+     * Remove and return every animal whose deadline of the given kind is at or before {@code now}.
+     * Handlers run outside the lock, so callers may reschedule from the returned list.
+     */
+    public synchronized List<UUID> drainDue(Kind kind, long now) {
+        PriorityQueue<Deadline> queue = queues.get(kind);
+        Map<UUID, Long> byAnimal = pending.get(kind);
+
+        List<UUID> due = null;
+        Deadline head;
+        while ((head = queue.peek()) != null && head.dueAt <= now) {
+            queue.poll();
+            Long current = byAnimal.get(head.animalId);
+            if (current == null || current != head.dueAt) {
+                continue; // Cancelled or superseded
+            }
+            byAnimal.remove(head.animalId);
+            if (due == null) {
+                due = new ArrayList<>();
+            }
+            due.add(head.animalId);
+        }
+        return due != null ? due : Collections.emptyList();
+    }
+
+    /**
+     * Snapshot of animals with a pending deadline of the given kind.
+     */
+    public synchronized Set<UUID> getScheduledIds(Kind kind) {
+        return Set.copyOf(pending.get(kind).keySet());
+    }
+
+    /**
+     * Number of pending deadlines of the given kind.
+     */
+    public synchronized int getPendingCount(Kind kind) {
+        return pending.get(kind).size();
+    }
+
+    /**
+     * Drop every deadline.
+     */
+    public synchronized void clear() {
+        for (Kind kind : Kind.values()) {
+            queues.get(kind).clear();
+            pending.get(kind).clear();
+        }
+    }
+
+    private void compactIfNeeded(Kind kind, PriorityQueue<Deadline> queue) {
+        Map<UUID, Long> byAnimal = pending.get(kind);
+        if (queue.size() <= byAnimal.size() * 2 + COMPACT_SLACK) {
+            return;
+        }
+        queue.clear();
+        for (Map.Entry<UUID, Long> entry : byAnimal.entrySet()) {
+            queue.add(new Deadline(entry.getValue(), entry.getKey()));
+        }
+    }
+
+    /**
+     * Heap entry: due time plus the animal it belongs to.
+     */
+    private record Deadline(long dueAt, UUID animalId) implements Comparable<Deadline> {
+        @Override
+        public int compareTo(Deadline other) {
+            return Long.compare(dueAt, other.dueAt);
+        }
+    }
+}
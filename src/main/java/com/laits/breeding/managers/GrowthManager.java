@@ -27,19 +27,17 @@ public class GrowthManager {
     }
 
     /**
-     * Called periodically to update growth stages for all tracked animals.
+     * Called periodically to update growth stages.
+     * Only babies whose next-stage deadline has passed are visited.
      */
     public void tickGrowth() {
-        // Skip if growth is disabled globally
+        // Skip if growth is disabled globally (deadlines stay queued until re-enabled)
         if (!config.isGrowthEnabled()) {
             return;
         }
 
-        for (UUID animalId : getTrackedAnimalIds()) {
-            BreedingData data = breedingManager.getData(animalId);
-            if (data != null && data.getGrowthStage().hasNextStage()) {
-                checkAndUpdateGrowth(data);
-            }
+        for (BreedingData data : breedingManager.drainDueGrowth(System.currentTimeMillis())) {
+            checkAndUpdateGrowth(data);
         }
     }
 
@@ -53,40 +51,29 @@ public class GrowthManager {
         }
 
         long age = data.getAge();
-        long timeToNextStage = getTimeToReachNextStage(data.getAnimalType(), currentStage);
-
-        if (age >= timeToNextStage) {
-            GrowthStage nextStage = currentStage.getNextStage();
-            data.setGrowthStage(nextStage);
-
-            debug("Animal " + data.getAnimalId() + " grew from " + currentStage + " to " + nextStage);
-
-            // Notify callback for visual updates
-            if (onGrowthCallback != null) {
-                GrowthEvent event = new GrowthEvent(
-                        data.getAnimalId(),
-                        data.getAnimalType(),
-                        currentStage,
-                        nextStage
-                );
-                onGrowthCallback.accept(event);
-            }
+        long timeToNextStage = breedingManager.getTimeToReachNextStage(data.getAnimalType(), currentStage);
+
+        if (age < timeToNextStage) {
+            // Growth time was lengthened since scheduling
+            breedingManager.scheduleGrowth(data);
+            return;
         }
-    }
 
-    /**
-     * Get the total time required to reach the next growth stage for a specific animal type.
-     * Uses the animal's configured growth time, not the global default.
-     */
-    private long getTimeToReachNextStage(AnimalType animalType, GrowthStage currentStage) {
-        long totalTime = 0;
-        for (GrowthStage stage : GrowthStage.values()) {
-            totalTime += config.getGrowthStageDuration(animalType, stage);
-            if (stage == currentStage) {
-                break;
-            }
+        GrowthStage nextStage = currentStage.getNextStage();
+        data.setGrowthStage(nextStage);
+
+        debug("Animal " + data.getAnimalId() + " grew from " + currentStage + " to " + nextStage);
+
+        // Notify callback for visual updates
+        if (onGrowthCallback != null) {
+            GrowthEvent event = new GrowthEvent(
+                    data.getAnimalId(),
+                    data.getAnimalType(),
+                    currentStage,
+                    nextStage
+            );
+            onGrowthCallback.accept(event);
         }
-        return totalTime;
     }
 
     /**
@@ -184,13 +171,6 @@ public class GrowthManager {
         return Math.max(0, totalTimeToAdult - age);
     }
 
-    /**
-     * Get all tracked animal IDs.
-     */
-    private Iterable<UUID> getTrackedAnimalIds() {
-        return breedingManager.getTrackedAnimalIds();
-    }
-
     /**
      * Set callback for when an animal grows.
      */
@@ -215,20 +195,7 @@ public class GrowthManager {
      * Get count of animals at each growth stage.
      */
     public Map<GrowthStage, Integer> getGrowthStageCounts() {
-        Map<GrowthStage, Integer> counts = new java.util.EnumMap<>(GrowthStage.class);
-        for (GrowthStage stage : GrowthStage.values()) {
-            counts.put(stage, 0);
-        }
-
-        for (UUID animalId : getTrackedAnimalIds()) {
-            BreedingData data = breedingManager.getData(animalId);
-            if (data != null) {
-                GrowthStage stage = data.getGrowthStage();
-                counts.put(stage, counts.get(stage) + 1);
-            }
-        }
-
-        return counts;
+        return breedingManager.getGrowthStageCounts();
     }
 
     /**
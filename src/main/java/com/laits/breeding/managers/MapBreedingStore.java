@@ -0,0 +1,84 @@
+package com.laits.breeding.managers;
+
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.GrowthStage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Default BreedingStore: one BreedingData object per animal in a ConcurrentHashMap.
+ * Population queries walk every entry.
+ */
+public class MapBreedingStore implements BreedingStore {
+
+    private final Map<UUID, BreedingData> dataById = new ConcurrentHashMap<>();
+
+    @Override
+    public BreedingData get(UUID animalId) {
+        return dataById.get(animalId);
+    }
+
+    @Override
+    public BreedingData computeIfAbsent(UUID animalId, Function<UUID, BreedingData> factory) {
+        return dataById.computeIfAbsent(animalId, factory);
+    }
+
+    @Override
+    public void put(BreedingData data) {
+        dataById.put(data.getAnimalId(), data);
+    }
+
+    @Override
+    public BreedingData remove(UUID animalId) {
+        return dataById.remove(animalId);
+    }
+
+    @Override
+    public void sync(BreedingData data) {
+        // Nothing cached outside the objects themselves
+    }
+
+    @Override
+    public int size() {
+        return dataById.size();
+    }
+
+    @Override
+    public void clear() {
+        dataById.clear();
+    }
+
+    @Override
+    public List<UUID> ids() {
+        return List.copyOf(dataById.keySet());
+    }
+
+    @Override
+    public Iterable<BreedingData> values() {
+        return dataById.values();
+    }
+
+    @Override
+    public int countPregnant() {
+        int count = 0;
+        for (BreedingData data : dataById.values()) {
+            if (data.isPregnant()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int[] countByGrowthStage() {
+        int[] counts = new int[GrowthStage.values().length];
+        for (BreedingData data : dataById.values()) {
+            counts[data.getGrowthStage().ordinal()]++;
+        }
+        return counts;
+    }
+}
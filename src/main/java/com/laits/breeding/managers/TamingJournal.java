@@ -0,0 +1,601 @@
+package com.laits.breeding.managers;
+
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.models.TamedAnimalData;
+import com.laits.breeding.util.FramedLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-behind journal for tamed animals.
+ *
+ * Callers only enqueue mutations ({@link #record}) carrying a copy of the animal's state;
+ * a single background writer thread drains the queue, encodes the copies and appends the
+ * batch with one write and one fsync (group commit). Several mutations of the same animal
+ * within a batch coalesce into a single record, so frequent position updates cost one
+ * record per flush. No file I/O ever happens on the calling thread.
+ *
+ * The queue is bounded. When it is full the mutation is dropped and the writer takes a
+ * fresh snapshot of the live state after its current batch, which covers everything that
+ * was dropped. If a write fails the journal stops: the writer exits, further mutations are
+ * ignored and {@link #isFailed()} reports it.
+ *
+ * Every record carries the animal's full state (or a removal), which makes replay
+ * idempotent: once the journal grows past a threshold the writer writes a fresh snapshot
+ * of the live state and truncates the journal, and any mutation racing with that snapshot
+ * is simply re-applied from the new journal on the next load.
+ *
+ * Each compaction starts a new generation, written as the first record of both the
+ * snapshot and the journal that follows it. A journal older than the snapshot (a crash
+ * after the snapshot was replaced but before the journal was truncated) is skipped on load
+ * rather than replayed over the newer state.
+ *
+ * Files (in the journal directory):
+ * - tamed.snapshot: compacted state, replaced atomically
+ * - tamed.journal: mutations since the snapshot
+ * Both are {@link FramedLog} files; a torn or corrupt tail is ignored on load.
+ */
+public class TamingJournal {
+
+    /**
+     * Kinds of mutation recorded. All except UNTAME store the animal's full state.
+     */
+    public enum Op {
+        TAME,
+        RENAME,
+        UNTAME,
+        DESPAWN,
+        RESPAWN,
+        POSITION,
+        ALLOW_INTERACTION,
+        BREEDING
+    }
+
+    private static final String SNAPSHOT_FILE = "tamed.snapshot";
+    private static final String JOURNAL_FILE = "tamed.journal";
+    private static final int SNAPSHOT_MAGIC = 0x54534E50;  // "TSNP"
+    private static final int JOURNAL_MAGIC = 0x544A4E4C;   // "TJNL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = FramedLog.FILE_HEADER_BYTES;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    // First record of each file; outside the Op ordinals. Files without one are generation 0.
+    private static final int GENERATION_RECORD = 0xFF;
+
+    /** Default wait after the first queued mutation so a burst is written as one batch. */
+    public static final long DEFAULT_GROUP_COMMIT_MS = 50;
+    /** Default journal size that triggers compaction into a new snapshot. */
+    public static final long DEFAULT_COMPACT_BYTES = 8L * 1024 * 1024;
+    /** Default number of queued mutations before new ones are dropped in favour of a snapshot. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 65_536;
+
+    private final Path directory;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final long groupCommitMs;
+    private final long compactBytes;
+
+    private final BlockingQueue<Mutation> queue;
+    private Supplier<Map<UUID, TamedAnimalData>> liveState;
+    private FileChannel journal;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile boolean failed;
+    private volatile boolean overflowed;  // Mutations were dropped; the next snapshot must cover them
+    private long generation;  // Of the current snapshot and journal (writer thread after start)
+
+    private Consumer<String> logger;
+
+    // Stats (written by the writer thread)
+    private volatile long recordsWritten;
+    private volatile long batchesWritten;
+    private volatile long compactions;
+    private volatile long droppedMutations;
+
+    public TamingJournal(Path directory) {
+        this(directory, DEFAULT_GROUP_COMMIT_MS, DEFAULT_COMPACT_BYTES);
+    }
+
+    /**
+     * @param directory Directory holding the snapshot and journal files
+     * @param groupCommitMs How long the writer waits to gather a batch after the first mutation
+     * @param compactBytes Journal size that triggers a new snapshot
+     */
+    public TamingJournal(Path directory, long groupCommitMs, long compactBytes) {
+        this(directory, groupCommitMs, compactBytes, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param directory Directory holding the snapshot and journal files
+     * @param groupCommitMs How long the writer waits to gather a batch after the first mutation
+     * @param compactBytes Journal size that triggers a new snapshot
+     * @param queueCapacity Queued mutations beyond which new ones are dropped and a snapshot is taken
+     */
+    public TamingJournal(Path directory, long groupCommitMs, long compactBytes, int queueCapacity) {
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.directory = directory;
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.groupCommitMs = Math.max(0, groupCommitMs);
+        this.compactBytes = Math.max(1024, compactBytes);
+    }
+
+    public void setLogger(Consumer<String> logger) {
+        this.logger = logger;
+    }
+
+    private void log(String message) {
+        if (logger != null) {
+            logger.accept(message);
+        }
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * Replay the snapshot and then the journal tail.
+     * Call before {@link #start}; records after a torn or corrupt one are ignored, and so
+     * is a journal from a generation before the snapshot's.
+     * @return Tamed animals by UUID, in no particular order
+     */
+    public Map<UUID, TamedAnimalData> load() throws IOException {
+        Map<UUID, TamedAnimalData> state = new LinkedHashMap<>();
+        long snapshotGeneration = 0;
+        if (Files.exists(snapshotPath) && Files.size(snapshotPath) >= HEADER_BYTES) {
+            snapshotGeneration = replay(snapshotPath, SNAPSHOT_MAGIC, state, 0);
+        }
+        if (Files.exists(journalPath) && Files.size(journalPath) >= HEADER_BYTES) {
+            replay(journalPath, JOURNAL_MAGIC, state, snapshotGeneration);
+        }
+        return state;
+    }
+
+    /**
+     * @param minGeneration Skip the file if its generation is older than this
+     * @return The file's generation
+     */
+    private long replay(Path path, int magic, Map<UUID, TamedAnimalData> state, long minGeneration) throws IOException {
+        try (DataInputStream in = FramedLog.openRead(path)) {
+            if (!FramedLog.readHeader(in, magic, FORMAT_VERSION)) {
+                log("Ignoring " + path.getFileName() + ": unknown format");
+                return 0;
+            }
+            FramedLog.Reader records = new FramedLog.Reader(in, MAX_RECORD_BYTES);
+            byte[] record = records.next();
+            long fileGeneration = record != null ? generationOf(record, records.length()) : 0;
+            if (fileGeneration < minGeneration) {
+                log("Ignoring " + path.getFileName() + ": generation " + fileGeneration
+                        + " is older than the snapshot's " + minGeneration);
+                return fileGeneration;
+            }
+            for (; record != null; record = records.next()) {
+                if ((record[0] & 0xFF) != GENERATION_RECORD) {
+                    apply(record, records.length(), state);
+                }
+            }
+            if (records.stop() == FramedLog.Stop.TORN) {
+                log("Ignoring torn record at the end of " + path.getFileName());
+            } else if (records.stop() == FramedLog.Stop.CORRUPT) {
+                log("Stopped replaying " + path.getFileName() + " at a corrupt record after "
+                        + records.frames() + " records");
+            }
+            return fileGeneration;
+        }
+    }
+
+    /**
+     * Generation carried by a file's first record, or 0 if it has none.
+     */
+    private static long generationOf(byte[] record, int length) {
+        if (length < 9 || (record[0] & 0xFF) != GENERATION_RECORD) {
+            return 0;
+        }
+        return ByteBuffer.wrap(record, 1, 8).getLong();
+    }
+
+    /**
+     * Generation of a file on disk, or -1 if there is no usable file.
+     */
+    private long readGeneration(Path path, int magic) throws IOException {
+        if (!Files.exists(path) || Files.size(path) < HEADER_BYTES) {
+            return -1;
+        }
+        try (DataInputStream in = FramedLog.openRead(path)) {
+            if (!FramedLog.readHeader(in, magic, FORMAT_VERSION)) {
+                return -1;
+            }
+            FramedLog.Reader records = new FramedLog.Reader(in, MAX_RECORD_BYTES);
+            byte[] record = records.next();
+            return record != null ? generationOf(record, records.length()) : 0;
+        }
+    }
+
+    private void apply(byte[] buffer, int length, Map<UUID, TamedAnimalData> state) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer, 0, length));
+        Op op = Op.values()[in.readUnsignedByte()];
+        UUID key = new UUID(in.readLong(), in.readLong());
+        if (op == Op.UNTAME) {
+            state.remove(key);
+            return;
+        }
+        if (op == Op.RESPAWN) {
+            state.remove(new UUID(in.readLong(), in.readLong()));
+        }
+        TamedAnimalData data = decode(key, in);
+        if (data != null) {
+            state.put(key, data);
+        }
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Open the journal for appending and start the background writer.
+     * @param liveState Current tamed animals by UUID. Called on the writer thread when
+     *                  compacting, so it must return a copy that callers no longer mutate.
+     */
+    public synchronized void start(Supplier<Map<UUID, TamedAnimalData>> liveState) throws IOException {
+        if (running) {
+            return;
+        }
+        this.liveState = liveState;
+        failed = false;
+        overflowed = false;
+        Files.createDirectories(directory);
+        generation = Math.max(0, readGeneration(snapshotPath, SNAPSHOT_MAGIC));
+        // A journal older than the snapshot is never replayed, so start a new one rather than append to it
+        journal = openJournal(readGeneration(journalPath, JOURNAL_MAGIC) >= generation);
+        running = true;
+        writer = new Thread(this::runWriter, "LaitsBreeding-TamingJournal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queue a mutation. Returns immediately; the animal's state is copied here and
+     * encoded and written by the background writer.
+     * @param op What changed
+     * @param animalId The animal's UUID after the change
+     * @param data The animal's data (ignored for UNTAME)
+     */
+    public void record(Op op, UUID animalId, TamedAnimalData data) {
+        if (running && animalId != null) {
+            enqueue(new Mutation(op, animalId, null, op == Op.UNTAME || data == null ? null : data.copy()));
+        }
+    }
+
+    /**
+     * Queue a respawn, which moves an animal from its old UUID to its new one.
+     */
+    public void recordRespawn(UUID oldId, UUID newId, TamedAnimalData data) {
+        if (running && oldId != null && newId != null && data != null) {
+            enqueue(new Mutation(Op.RESPAWN, newId, oldId, data.copy()));
+        }
+    }
+
+    private void enqueue(Mutation mutation) {
+        if (!queue.offer(mutation)) {
+            // The writer's next snapshot reads the live state, which already has this change
+            overflowed = true;
+            droppedMutations++;
+        } else if (!running) {
+            // Raced with the writer stopping; nothing will drain it
+            queue.remove(mutation);
+        }
+    }
+
+    /**
+     * Stop the writer after flushing everything queued, compacting if the journal is large.
+     * @param timeoutMs Maximum time to wait for the final flush
+     * @return true if the writer finished within the timeout
+     */
+    public boolean close(long timeoutMs) {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return true;
+            }
+            running = false;
+            thread = writer;
+            writer = null;
+        }
+        // Wake the writer without interrupting it (an interrupt would close the channel mid-write).
+        // A full queue needs no wake-up.
+        queue.offer(STOP);
+        try {
+            thread.join(Math.max(1, timeoutMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log("Taming journal writer did not finish within " + timeoutMs + "ms; " + queue.size() + " mutations unwritten");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Number of mutations waiting to be written.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    public long getBatchesWritten() {
+        return batchesWritten;
+    }
+
+    public long getCompactions() {
+        return compactions;
+    }
+
+    /**
+     * Number of mutations dropped because the queue was full (each covered by a later snapshot).
+     */
+    public long getDroppedMutations() {
+        return droppedMutations;
+    }
+
+    /**
+     * Whether the writer stopped after a failed write. Changes since then are not persisted.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    private void runWriter() {
+        List<Mutation> batch = new ArrayList<>();
+        try {
+            while (running) {
+                try {
+                    Mutation first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    if (groupCommitMs > 0 && first != STOP) {
+                        Thread.sleep(groupCommitMs);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                queue.drainTo(batch);
+                writeBatch(batch);
+                if (overflowed) {
+                    compact();
+                }
+            }
+            // Final flush on close
+            queue.drainTo(batch);
+            writeBatch(batch);
+            if (overflowed || journal.size() >= compactBytes) {
+                compact();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Stop accepting mutations rather than queueing them forever with no writer
+            running = false;
+            queue.clear();
+            failed = true;
+            log("Taming journal write failed, tamed animal changes are no longer saved: " + e);
+        } finally {
+            try {
+                journal.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void writeBatch(List<Mutation> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // Later mutations of the same animal supersede earlier ones (records are full state)
+        Map<UUID, Mutation> latest = new LinkedHashMap<>();
+        for (Mutation mutation : batch) {
+            if (mutation == STOP) {
+                continue;
+            }
+            if (mutation.previousId != null) {
+                Mutation superseded = latest.remove(mutation.previousId);
+                if (superseded != null && superseded.previousId != null) {
+                    // Respawned twice in one batch: the first UUID must still be removed
+                    latest.putIfAbsent(superseded.previousId, new Mutation(Op.UNTAME, superseded.previousId, null, null));
+                }
+            }
+            Mutation previous = latest.remove(mutation.animalId);
+            if (previous != null && previous.previousId != null) {
+                // Keep the pending move from the old UUID
+                if (mutation.op == Op.UNTAME) {
+                    latest.putIfAbsent(previous.previousId, new Mutation(Op.UNTAME, previous.previousId, null, null));
+                } else if (mutation.previousId == null) {
+                    mutation = new Mutation(Op.RESPAWN, mutation.animalId, previous.previousId, mutation.data);
+                }
+            }
+            latest.put(mutation.animalId, mutation);
+        }
+        batch.clear();
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(latest.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream record = new ByteArrayOutputStream(160);
+        DataOutputStream recordOut = new DataOutputStream(record);
+        CRC32 crc = new CRC32();
+        for (Mutation mutation : latest.values()) {
+            record.reset();
+            encodeMutation(mutation, recordOut);
+            FramedLog.writeFrame(out, record.toByteArray(), crc);
+        }
+        FramedLog.writeFully(journal, ByteBuffer.wrap(bytes.toByteArray()));
+        journal.force(false);
+        recordsWritten += latest.size();
+        batchesWritten++;
+
+        if (journal.size() >= compactBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Write the live state as a new snapshot and start an empty journal.
+     * Runs on the writer thread, so no appends race with the truncation.
+     */
+    private void compact() throws IOException {
+        long start = System.nanoTime();
+        overflowed = false;  // Cleared before reading, so a drop during the read sets it again
+        Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            CRC32 crc = new CRC32();
+            FramedLog.writeFrame(out, generationRecord(generation + 1), crc);
+            ByteArrayOutputStream record = new ByteArrayOutputStream(160);
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Map.Entry<UUID, TamedAnimalData> entry : liveState.get().entrySet()) {
+                record.reset();
+                encodeMutation(new Mutation(Op.TAME, entry.getKey(), null, entry.getValue()), recordOut);
+                FramedLog.writeFrame(out, record.toByteArray(), crc);
+                count++;
+                if (bytes.size() >= 1 << 20) {
+                    FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+                    bytes.reset();
+                }
+            }
+            FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+            channel.force(true);
+        }
+        FramedLog.replace(tmp, snapshotPath);
+        // From here until the new journal is written, the old one is skipped as stale on load
+        generation++;
+
+        journal.close();
+        journal = openJournal(false);
+        compactions++;
+        log("Compacted taming journal: " + count + " animals in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    private FileChannel openJournal(boolean append) throws IOException {
+        if (append) {
+            return FramedLog.openAppend(journalPath, JOURNAL_MAGIC, FORMAT_VERSION, MAX_RECORD_BYTES);
+        }
+        FileChannel channel = FramedLog.create(journalPath, JOURNAL_MAGIC, FORMAT_VERSION);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(FramedLog.FRAME_HEADER_BYTES + 9);
+        FramedLog.writeFrame(new DataOutputStream(bytes), generationRecord(generation), new CRC32());
+        FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+        channel.force(false);
+        return channel;
+    }
+
+    private static byte[] generationRecord(long generation) {
+        return ByteBuffer.allocate(9).put((byte) GENERATION_RECORD).putLong(generation).array();
+    }
+
+    // ==================== Encoding ====================
+
+    private static void encodeMutation(Mutation mutation, DataOutputStream out) throws IOException {
+        out.writeByte(mutation.op.ordinal());
+        out.writeLong(mutation.animalId.getMostSignificantBits());
+        out.writeLong(mutation.animalId.getLeastSignificantBits());
+        if (mutation.op == Op.UNTAME) {
+            out.flush();
+            return;
+        }
+        if (mutation.op == Op.RESPAWN) {
+            out.writeLong(mutation.previousId.getMostSignificantBits());
+            out.writeLong(mutation.previousId.getLeastSignificantBits());
+        }
+        TamedAnimalData data = mutation.data;
+        UUID owner = data.getOwnerUuid();
+        out.writeLong(owner != null ? owner.getMostSignificantBits() : 0);
+        out.writeLong(owner != null ? owner.getLeastSignificantBits() : 0);
+        writeNullable(out, data.getCustomName());
+        writeNullable(out, data.getAnimalType() != null ? data.getAnimalType().name() : null);
+        out.writeDouble(data.getLastX());
+        out.writeDouble(data.getLastY());
+        out.writeDouble(data.getLastZ());
+        out.writeFloat(data.getLastRotation());
+        writeNullable(out, data.getWorldId());
+        out.writeLong(data.getLastBreedTime());
+        out.writeLong(data.getBirthTime());
+        writeNullable(out, data.getGrowthStage() != null ? data.getGrowthStage().name() : null);
+        out.writeLong(data.getTamedTime());
+        out.writeBoolean(data.isDespawned());
+        out.writeBoolean(data.isAllowInteraction());
+        out.flush();
+    }
+
+    private static TamedAnimalData decode(UUID animalId, DataInputStream in) throws IOException {
+        TamedAnimalData data = new TamedAnimalData();
+        data.setAnimalUuid(animalId);
+        long ownerHigh = in.readLong();
+        long ownerLow = in.readLong();
+        data.setOwnerUuid(ownerHigh == 0 && ownerLow == 0 ? null : new UUID(ownerHigh, ownerLow));
+        data.setCustomName(readNullable(in));
+        String type = readNullable(in);
+        data.setLastPosition(in.readDouble(), in.readDouble(), in.readDouble());
+        data.setLastRotation(in.readFloat());
+        data.setWorldId(readNullable(in));
+        data.setLastBreedTime(in.readLong());
+        data.setBirthTime(in.readLong());
+        String stage = readNullable(in);
+        data.setTamedTime(in.readLong());
+        data.setDespawned(in.readBoolean());
+        data.setAllowInteraction(in.readBoolean());
+        try {
+            data.setAnimalType(type != null ? AnimalType.valueOf(type) : null);
+            data.setGrowthStage(stage != null ? GrowthStage.valueOf(stage) : GrowthStage.ADULT);
+        } catch (IllegalArgumentException e) {
+            return null;  // Animal type or stage no longer exists
+        }
+        return data;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private record Mutation(Op op, UUID animalId, UUID previousId, TamedAnimalData data) {
+    }
+
+    // Queued by close() to wake the writer
+    private static final Mutation STOP = new Mutation(Op.UNTAME, null, null, null);
+}
@@ -5,6 +5,8 @@ import com.laits.breeding.models.BreedingData;
 import com.laits.breeding.models.GrowthStage;
 import com.laits.breeding.models.TamedAnimalData;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
@@ -13,12 +15,21 @@ import java.util.stream.Collectors;
 /**
  * Manages taming state for animals.
  * Handles pending name tags, tamed animal tracking, and ownership.
+ *
+ * One instance is shared by every world, so it is reached from several world threads.
+ * Everything that reads or changes tamed animals (and the despawn index kept alongside
+ * them) runs under this object's monitor, so compound updates such as respawn (remove,
+ * re-key, re-index) are atomic. Pending name tag/untame requests are independent
+ * concurrent maps and are not locked.
  */
 public class TamingManager {
 
     // Tamed animals by their UUID
     private final Map<UUID, TamedAnimalData> tamedAnimals = new ConcurrentHashMap<>();
 
+    // Respawn index: worldId -> UUIDs of despawned tamed animals in that world
+    private final Map<String, Set<UUID>> despawnedByWorld = new ConcurrentHashMap<>();
+
     // Pending name tags: playerUUID -> name they want to apply
     private final Map<UUID, String> pendingNameTags = new ConcurrentHashMap<>();
 
@@ -37,6 +48,9 @@ public class TamingManager {
     // Timeout for pending entries (5 minutes)
     private static final long PENDING_TIMEOUT_MS = 5 * 60 * 1000;
 
+    // Write-behind persistence (null until openJournal)
+    private volatile TamingJournal journal;
+
     // Logger
     private Consumer<String> logger;
 
@@ -56,6 +70,78 @@ public class TamingManager {
         }
     }
 
+    // ===========================================
+    // PERSISTENCE
+    // ===========================================
+
+    /**
+     * Restore tamed animals from the journal in a directory and start journaling changes.
+     * Replaces any tamed animals currently held. Mutations are only queued on the calling
+     * thread; the journal's background writer does all file I/O.
+     * @param directory Directory for the snapshot and journal files
+     * @return Number of tamed animals restored
+     */
+    public synchronized int openJournal(Path directory) throws IOException {
+        closeJournal(0);
+        TamingJournal opened = new TamingJournal(directory);
+        opened.setLogger(this::log);
+
+        long start = System.nanoTime();
+        Map<UUID, TamedAnimalData> restored = opened.load();
+        tamedAnimals.clear();
+        despawnedByWorld.clear();
+        for (Map.Entry<UUID, TamedAnimalData> entry : restored.entrySet()) {
+            TamedAnimalData data = entry.getValue();
+            tamedAnimals.put(entry.getKey(), data);
+            if (data.isDespawned()) {
+                despawnedByWorld.computeIfAbsent(data.getWorldId(), w -> ConcurrentHashMap.newKeySet()).add(entry.getKey());
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        opened.start(this::copyTamedAnimals);
+        journal = opened;
+        log("Restored " + restored.size() + " tamed animals in " + elapsedMs + "ms");
+        return restored.size();
+    }
+
+    /**
+     * Flush pending changes and stop journaling.
+     * @param timeoutMs Maximum time to wait for the final flush
+     */
+    public void closeJournal(long timeoutMs) {
+        TamingJournal closing = journal;
+        journal = null;
+        if (closing != null) {
+            closing.close(timeoutMs);
+        }
+    }
+
+    /**
+     * Get the active journal, or null if tamed animals are not persisted.
+     */
+    public TamingJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Copy of every tamed animal, taken under the manager lock for the journal's writer thread.
+     */
+    private synchronized Map<UUID, TamedAnimalData> copyTamedAnimals() {
+        Map<UUID, TamedAnimalData> copy = new LinkedHashMap<>(tamedAnimals.size() * 2);
+        for (Map.Entry<UUID, TamedAnimalData> entry : tamedAnimals.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
+    }
+
+    private void record(TamingJournal.Op op, UUID animalId, TamedAnimalData data) {
+        TamingJournal current = journal;
+        if (current != null) {
+            current.record(op, animalId, data);
+        }
+    }
+
     // ===========================================
     // TAMING METHODS
     // ===========================================
@@ -63,14 +149,14 @@ public class TamingManager {
     /**
      * Check if an animal is tamed.
      */
-    public boolean isTamed(UUID animalId) {
+    public synchronized boolean isTamed(UUID animalId) {
         return animalId != null && tamedAnimals.containsKey(animalId);
     }
 
     /**
      * Get tamed animal data by UUID.
      */
-    public TamedAnimalData getTamedData(UUID animalId) {
+    public synchronized TamedAnimalData getTamedData(UUID animalId) {
         return animalId != null ? tamedAnimals.get(animalId) : null;
     }
 
@@ -83,6 +169,15 @@ public class TamingManager {
      * @return The created TamedAnimalData
      */
     public TamedAnimalData tameAnimal(UUID animalId, UUID ownerUuid, String name, AnimalType type) {
+        return tameAnimal(animalId, ownerUuid, name, type, TamedAnimalData.DEFAULT_WORLD_ID);
+    }
+
+    /**
+     * Tame an animal in a specific world.
+     * @param worldId World the animal lives in (used to respawn it in the right world)
+     * @return The created TamedAnimalData
+     */
+    public synchronized TamedAnimalData tameAnimal(UUID animalId, UUID ownerUuid, String name, AnimalType type, String worldId) {
         if (animalId == null || ownerUuid == null || name == null || type == null) {
             return null;
         }
@@ -93,10 +188,11 @@ public class TamingManager {
             return tamedAnimals.get(animalId);
         }
 
-        TamedAnimalData data = new TamedAnimalData(animalId, ownerUuid, name, type);
+        TamedAnimalData data = new TamedAnimalData(animalId, ownerUuid, name, type, worldId);
         tamedAnimals.put(animalId, data);
+        record(TamingJournal.Op.TAME, animalId, data);
 
-        log("Tamed animal: " + name + " (" + type + ") owned by " + ownerUuid);
+        log("Tamed animal: " + name + " (" + type + ") owned by " + ownerUuid + " in " + data.getWorldId());
         return data;
     }
 
@@ -106,7 +202,7 @@ public class TamingManager {
      * @param playerUuid Player attempting to untame
      * @return true if untamed successfully, false if not owner or not tamed
      */
-    public boolean untameAnimal(UUID animalId, UUID playerUuid) {
+    public synchronized boolean untameAnimal(UUID animalId, UUID playerUuid) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data == null) {
             return false;
@@ -118,6 +214,8 @@ public class TamingManager {
         }
 
         tamedAnimals.remove(animalId);
+        unindexDespawned(data, animalId);
+        record(TamingJournal.Op.UNTAME, animalId, data);
 
         log("Untamed animal: " + data.getCustomName() + " by " + playerUuid);
         return true;
@@ -130,7 +228,7 @@ public class TamingManager {
      * @param newName New name for the animal
      * @return true if renamed successfully
      */
-    public boolean renameAnimal(UUID animalId, UUID playerUuid, String newName) {
+    public synchronized boolean renameAnimal(UUID animalId, UUID playerUuid, String newName) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data == null) {
             return false;
@@ -143,6 +241,7 @@ public class TamingManager {
 
         String oldName = data.getCustomName();
         data.setCustomName(newName);
+        record(TamingJournal.Op.RENAME, animalId, data);
 
         log("Renamed animal: " + oldName + " -> " + newName);
         return true;
@@ -156,7 +255,7 @@ public class TamingManager {
      * Check if a player can interact with an animal.
      * Returns true if: not tamed, or player is owner, or allowInteraction is true.
      */
-    public boolean canPlayerInteract(UUID animalId, UUID playerUuid) {
+    public synchronized boolean canPlayerInteract(UUID animalId, UUID playerUuid) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data == null) {
             return true; // Not tamed, anyone can interact
@@ -168,7 +267,7 @@ public class TamingManager {
      * Get the owner of a tamed animal.
      * @return Owner UUID or null if not tamed
      */
-    public UUID getOwner(UUID animalId) {
+    public synchronized UUID getOwner(UUID animalId) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         return data != null ? data.getOwnerUuid() : null;
     }
@@ -176,7 +275,7 @@ public class TamingManager {
     /**
      * Check if a player owns the animal.
      */
-    public boolean isOwner(UUID animalId, UUID playerUuid) {
+    public synchronized boolean isOwner(UUID animalId, UUID playerUuid) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         return data != null && data.isOwnedBy(playerUuid);
     }
@@ -186,7 +285,7 @@ public class TamingManager {
      * @param ownerUuid The owner to toggle for
      * @return The new state (true = allow, false = deny)
      */
-    public boolean toggleAllowInteraction(UUID ownerUuid) {
+    public synchronized boolean toggleAllowInteraction(UUID ownerUuid) {
         // Find first animal owned by this player to determine current state
         boolean currentState = true;
         for (TamedAnimalData data : tamedAnimals.values()) {
@@ -201,6 +300,7 @@ public class TamingManager {
         for (TamedAnimalData data : tamedAnimals.values()) {
             if (data.isOwnedBy(ownerUuid)) {
                 data.setAllowInteraction(newState);
+                record(TamingJournal.Op.ALLOW_INTERACTION, data.getAnimalUuid(), data);
             }
         }
 
@@ -211,11 +311,12 @@ public class TamingManager {
     /**
      * Set allow interaction for a specific animal.
      */
-    public void setAllowInteraction(UUID animalId, boolean allow) {
+    public synchronized void setAllowInteraction(UUID animalId, boolean allow) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data != null) {
             data.setAllowInteraction(allow);
-            }
+            record(TamingJournal.Op.ALLOW_INTERACTION, animalId, data);
+        }
     }
 
     // ===========================================
@@ -364,12 +465,26 @@ public class TamingManager {
      * Marks it for respawn and saves position.
      */
     public void onTamedAnimalDespawn(UUID animalId, double x, double y, double z) {
+        onTamedAnimalDespawn(animalId, null, x, y, z);
+    }
+
+    /**
+     * Called when a tamed animal despawns in a known world.
+     * @param worldId World it despawned in, or null to keep the recorded world
+     */
+    public synchronized void onTamedAnimalDespawn(UUID animalId, String worldId, double x, double y, double z) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data != null) {
+            unindexDespawned(data, animalId);
+            if (worldId != null) {
+                data.setWorldId(worldId);
+            }
             data.setLastPosition(x, y, z);
             data.setDespawned(true);
             data.setEntityRef(null);
-    
+            despawnedByWorld.computeIfAbsent(data.getWorldId(), w -> ConcurrentHashMap.newKeySet()).add(animalId);
+            record(TamingJournal.Op.DESPAWN, animalId, data);
+
             log("Tamed animal despawned: " + data.getCustomName() + " at (" +
                 String.format("%.1f, %.1f, %.1f", x, y, z) + ")");
         }
@@ -378,18 +493,19 @@ public class TamingManager {
     /**
      * Update position of a tamed animal (called periodically).
      */
-    public void updatePosition(UUID animalId, double x, double y, double z) {
+    public synchronized void updatePosition(UUID animalId, double x, double y, double z) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data != null && !data.isDespawned()) {
             data.setLastPosition(x, y, z);
-            // Don't mark dirty for every position update - save on despawn
+            // Coalesced by the journal: at most one record per animal per flush
+            record(TamingJournal.Op.POSITION, animalId, data);
         }
     }
 
     /**
      * Update entity reference for a tamed animal.
      */
-    public void updateEntityRef(UUID animalId, Object entityRef) {
+    public synchronized void updateEntityRef(UUID animalId, Object entityRef) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data != null) {
             data.setEntityRef(entityRef);
@@ -397,22 +513,65 @@ public class TamingManager {
     }
 
     /**
-     * Get despawned tamed animals within range of a position.
+     * Get despawned tamed animals within range of a position in the default world.
      * @param x Center X
      * @param z Center Z
      * @param radius Search radius
      * @return List of despawned tamed animals within range
      */
     public List<TamedAnimalData> getDespawnedAnimalsInRegion(double x, double z, double radius) {
+        return getDespawnedAnimalsInRegion(TamedAnimalData.DEFAULT_WORLD_ID, x, z, radius);
+    }
+
+    /**
+     * Get despawned tamed animals within range of a position in one world.
+     * Only that world's despawned animals are visited.
+     * @param worldId World to search
+     * @param x Center X
+     * @param z Center Z
+     * @param radius Search radius
+     * @return List of despawned tamed animals within range
+     */
+    public synchronized List<TamedAnimalData> getDespawnedAnimalsInRegion(String worldId, double x, double z, double radius) {
+        Set<UUID> despawned = despawnedByWorld.get(worldId);
+        if (despawned == null || despawned.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         double radiusSq = radius * radius;
-        return tamedAnimals.values().stream()
-                .filter(TamedAnimalData::isDespawned)
-                .filter(data -> {
-                    double dx = data.getLastX() - x;
-                    double dz = data.getLastZ() - z;
-                    return (dx * dx + dz * dz) <= radiusSq;
-                })
-                .collect(Collectors.toList());
+        List<TamedAnimalData> result = new ArrayList<>();
+        for (UUID animalId : despawned) {
+            TamedAnimalData data = tamedAnimals.get(animalId);
+            if (data == null || !data.isDespawned()) {
+                continue;
+            }
+            double dx = data.getLastX() - x;
+            double dz = data.getLastZ() - z;
+            if ((dx * dx + dz * dz) <= radiusSq) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the IDs of worlds that have despawned tamed animals waiting to respawn.
+     */
+    public synchronized Set<String> getWorldsWithDespawned() {
+        Set<String> worlds = new HashSet<>();
+        for (Map.Entry<String, Set<UUID>> entry : despawnedByWorld.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                worlds.add(entry.getKey());
+            }
+        }
+        return worlds;
+    }
+
+    private void unindexDespawned(TamedAnimalData data, UUID animalId) {
+        Set<UUID> despawned = despawnedByWorld.get(data.getWorldId());
+        if (despawned != null) {
+            despawned.remove(animalId);
+        }
     }
 
     /**
@@ -421,14 +580,19 @@ public class TamingManager {
      * @param newUuid The new UUID after respawn
      * @param entityRef The new entity reference
      */
-    public void markRespawned(UUID oldUuid, UUID newUuid, Object entityRef) {
+    public synchronized void markRespawned(UUID oldUuid, UUID newUuid, Object entityRef) {
         TamedAnimalData data = tamedAnimals.remove(oldUuid);
         if (data != null) {
+            unindexDespawned(data, oldUuid);
             data.setAnimalUuid(newUuid);
             data.setDespawned(false);
             data.setEntityRef(entityRef);
             tamedAnimals.put(newUuid, data);
-    
+            TamingJournal current = journal;
+            if (current != null) {
+                current.recordRespawn(oldUuid, newUuid, data);
+            }
+
             log("Respawned tamed animal: " + data.getCustomName() + " (new UUID: " + newUuid + ")");
         }
     }
@@ -436,10 +600,11 @@ public class TamingManager {
     /**
      * Copy breeding state from BreedingData to TamedAnimalData.
      */
-    public void syncFromBreedingData(UUID animalId, BreedingData breedingData) {
+    public synchronized void syncFromBreedingData(UUID animalId, BreedingData breedingData) {
         TamedAnimalData data = tamedAnimals.get(animalId);
         if (data != null && breedingData != null) {
             data.copyFromBreedingData(breedingData);
+            record(TamingJournal.Op.BREEDING, animalId, data);
         }
     }
 
@@ -450,14 +615,14 @@ public class TamingManager {
     /**
      * Get total count of tamed animals.
      */
-    public int getTamedCount() {
+    public synchronized int getTamedCount() {
         return tamedAnimals.size();
     }
 
     /**
      * Get count of despawned animals awaiting respawn.
      */
-    public int getDespawnedCount() {
+    public synchronized int getDespawnedCount() {
         return (int) tamedAnimals.values().stream()
                 .filter(TamedAnimalData::isDespawned)
                 .count();
@@ -466,7 +631,7 @@ public class TamingManager {
     /**
      * Get count of animals owned by a specific player.
      */
-    public int getPlayerTamedCount(UUID playerUuid) {
+    public synchronized int getPlayerTamedCount(UUID playerUuid) {
         return (int) tamedAnimals.values().stream()
                 .filter(data -> data.isOwnedBy(playerUuid))
                 .count();
@@ -475,7 +640,7 @@ public class TamingManager {
     /**
      * Get list of animals owned by a player.
      */
-    public List<TamedAnimalData> getPlayerAnimals(UUID playerUuid) {
+    public synchronized List<TamedAnimalData> getPlayerAnimals(UUID playerUuid) {
         return tamedAnimals.values().stream()
                 .filter(data -> data.isOwnedBy(playerUuid))
                 .collect(Collectors.toList());
@@ -487,7 +652,7 @@ public class TamingManager {
      * @param name Name to search for
      * @return The tamed animal data or null
      */
-    public TamedAnimalData findByName(UUID ownerUuid, String name) {
+    public synchronized TamedAnimalData findByName(UUID ownerUuid, String name) {
         return tamedAnimals.values().stream()
                 .filter(data -> ownerUuid == null || data.isOwnedBy(ownerUuid))
                 .filter(data -> data.getCustomName() != null &&
@@ -501,7 +666,7 @@ public class TamingManager {
      * @param maxDespawnedAgeMillis Maximum age for despawned animals
      * @return Number of entries cleaned up
      */
-    public int cleanupStaleData(long maxDespawnedAgeMillis) {
+    public synchronized int cleanupStaleData(long maxDespawnedAgeMillis) {
         long now = System.currentTimeMillis();
         List<UUID> toRemove = new ArrayList<>();
 
@@ -515,7 +680,11 @@ public class TamingManager {
         }
 
         for (UUID uuid : toRemove) {
-            tamedAnimals.remove(uuid);
+            TamedAnimalData removed = tamedAnimals.remove(uuid);
+            if (removed != null) {
+                unindexDespawned(removed, uuid);
+                record(TamingJournal.Op.UNTAME, uuid, removed);
+            }
         }
 
         if (!toRemove.isEmpty()) {
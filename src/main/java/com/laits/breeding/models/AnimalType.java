@@ -468,40 +468,22 @@ public enum AnimalType {
     }
 
     /**
-     * Get AnimalType from exact modelAssetId (e.g., "Cow", "Pig", "Chicken").
+     * Get AnimalType from exact modelAssetId (e.g., "Cow", "Pig", "Chicken"), ignoring case.
+     * Baby model IDs (e.g., "Calf") resolve to their parent type.
      * @param modelAssetId The model asset ID from ECS
      * @return The matching AnimalType or null if not found
      */
     public static AnimalType fromModelAssetId(String modelAssetId) {
-        if (modelAssetId == null) {
-            return null;
-        }
-        for (AnimalType type : values()) {
-            // Check adult modelAssetId
-            if (type.modelAssetId.equalsIgnoreCase(modelAssetId)) {
-                return type;
-            }
-            // Check baby modelAssetId
-            if (type.babyModelAssetId != null && type.babyModelAssetId.equalsIgnoreCase(modelAssetId)) {
-                return type;
-            }
-        }
-        return null;
+        SpeciesDescriptor species = SpeciesIndex.builtIn().lookup(modelAssetId);
+        return species != null ? species.getAnimalType() : null;
     }
 
     /**
      * Check if the modelAssetId is a baby variant.
      */
     public static boolean isBabyVariant(String modelAssetId) {
-        if (modelAssetId == null) {
-            return false;
-        }
-        for (AnimalType type : values()) {
-            if (type.babyModelAssetId != null && type.babyModelAssetId.equalsIgnoreCase(modelAssetId)) {
-                return true;
-            }
-        }
-        return false;
+        SpeciesDescriptor species = SpeciesIndex.builtIn().lookup(modelAssetId);
+        return species != null && species.isBaby();
     }
 
     /**
@@ -519,13 +501,7 @@ public enum AnimalType {
             return exact;
         }
         // Fall back to contains check
-        String lowerId = entityTypeId.toLowerCase();
-        for (AnimalType type : values()) {
-            if (lowerId.contains(type.modelAssetId.toLowerCase())) {
-                return type;
-            }
-        }
-        return null;
+        return SpeciesIndex.findBuiltInContainedIn(entityTypeId);
     }
 
     /**
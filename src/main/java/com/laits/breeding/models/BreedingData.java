@@ -16,6 +16,7 @@ public class BreedingData {
     private boolean inLove;
     private long loveStartTime;
     private Object entityRef;  // Ref<EntityStore> for entity manipulation
+    private StateListener stateListener;  // Notified of timed state transitions
 
     // Taming fields
     private boolean tamed;
@@ -62,7 +63,16 @@ public class BreedingData {
     }
 
     public void setLastBreedTime(long lastBreedTime) {
+        long previous = this.lastBreedTime;
         this.lastBreedTime = lastBreedTime;
+        if (stateListener == null) {
+            return;
+        }
+        if (lastBreedTime > 0) {
+            stateListener.onCooldownStarted(this);
+        } else if (previous > 0) {
+            stateListener.onCooldownCleared(this);
+        }
     }
 
     public boolean isPregnant() {
@@ -70,9 +80,18 @@ public class BreedingData {
     }
 
     public void setPregnant(boolean pregnant) {
+        boolean wasPregnant = isPregnant;
         isPregnant = pregnant;
         if (pregnant) {
             pregnancyStartTime = System.currentTimeMillis();
+            if (stateListener != null) {
+                stateListener.onPregnancyStarted(this);
+            }
+        } else if (wasPregnant) {
+            pregnancyStartTime = 0;
+            if (stateListener != null) {
+                stateListener.onPregnancyEnded(this);
+            }
         }
     }
 
@@ -86,6 +105,9 @@ public class BreedingData {
 
     public void setGrowthStage(GrowthStage growthStage) {
         this.growthStage = growthStage;
+        if (stateListener != null) {
+            stateListener.onGrowthStageChanged(this);
+        }
     }
 
     public long getBirthTime() {
@@ -97,9 +119,15 @@ public class BreedingData {
     }
 
     public void setInLove(boolean inLove) {
+        boolean wasInLove = this.inLove;
         this.inLove = inLove;
         if (inLove) {
             loveStartTime = System.currentTimeMillis();
+            if (stateListener != null) {
+                stateListener.onLoveStarted(this);
+            }
+        } else if (wasInLove && stateListener != null) {
+            stateListener.onLoveEnded(this);
         }
     }
 
@@ -175,8 +203,12 @@ public class BreedingData {
      * Reset love state after mating.
      */
     public void resetLove() {
+        boolean wasInLove = this.inLove;
         this.inLove = false;
         this.loveStartTime = 0;
+        if (wasInLove && stateListener != null) {
+            stateListener.onLoveEnded(this);
+        }
     }
 
     /**
@@ -187,6 +219,24 @@ public class BreedingData {
         this.isPregnant = false;
         this.pregnancyStartTime = 0;
         resetLove();
+        if (stateListener != null) {
+            stateListener.onCooldownStarted(this);
+        }
+    }
+
+    /**
+     * Restore timed state saved by a breeding checkpoint.
+     * Does not notify the state listener; the caller reschedules deadlines itself.
+     */
+    public void restoreState(GrowthStage growthStage, long birthTime, long lastBreedTime,
+                             boolean pregnant, long pregnancyStartTime, boolean inLove, long loveStartTime) {
+        this.growthStage = growthStage;
+        this.birthTime = birthTime;
+        this.lastBreedTime = lastBreedTime;
+        this.isPregnant = pregnant;
+        this.pregnancyStartTime = pregnant ? pregnancyStartTime : 0;
+        this.inLove = inLove;
+        this.loveStartTime = inLove ? loveStartTime : 0;
     }
 
     /**
@@ -203,6 +253,40 @@ public class BreedingData {
         this.entityRef = entityRef;
     }
 
+    /**
+     * Set the listener notified when a timed state begins (love, pregnancy, cooldown, growth)
+     * or is ended early by a setter (love, pregnancy, cooldown).
+     * Used by BreedingManager to schedule deadlines instead of scanning every tick.
+     */
+    public void setStateListener(StateListener stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    /**
+     * Tell the listener this animal is no longer tracked, then detach it.
+     */
+    public void notifyRemoved() {
+        StateListener listener = stateListener;
+        stateListener = null;
+        if (listener != null) {
+            listener.onRemoved(this);
+        }
+    }
+
+    /**
+     * Receives state transitions that have a follow-up deadline or change what the animal shows.
+     */
+    public interface StateListener {
+        void onLoveStarted(BreedingData data);
+        void onLoveEnded(BreedingData data);
+        void onPregnancyStarted(BreedingData data);
+        void onPregnancyEnded(BreedingData data);
+        void onCooldownStarted(BreedingData data);
+        void onCooldownCleared(BreedingData data);
+        void onGrowthStageChanged(BreedingData data);
+        void onRemoved(BreedingData data);
+    }
+
     // ===========================================
     // TAMING METHODS
     // ===========================================
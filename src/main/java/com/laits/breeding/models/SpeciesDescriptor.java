@@ -0,0 +1,89 @@
+package com.laits.breeding.models;
+
+/**
+ * What a model asset ID resolves to: a built-in AnimalType, a custom animal from config,
+ * or nothing we breed. Immutable and shared by every entity using the same model, so
+ * classifying an entity costs no string work once its model has been seen.
+ */
+public final class SpeciesDescriptor {
+
+    /** Species ID of descriptors for models that are not animals we handle. */
+    public static final int UNKNOWN_SPECIES = -1;
+
+    private final String modelAssetId;
+    private final int speciesId;
+    private final AnimalType animalType;
+    private final CustomAnimalConfig customConfig;
+    private final boolean baby;
+
+    public SpeciesDescriptor(String modelAssetId, int speciesId, AnimalType animalType,
+                             CustomAnimalConfig customConfig, boolean baby) {
+        this.modelAssetId = modelAssetId;
+        this.speciesId = speciesId;
+        this.animalType = animalType;
+        this.customConfig = customConfig;
+        this.baby = baby;
+    }
+
+    public String getModelAssetId() {
+        return modelAssetId;
+    }
+
+    /**
+     * Compact species ID from the {@link SpeciesIndex} that produced this descriptor.
+     * Adult and baby models of the same species share an ID.
+     * @return the ID, or {@link #UNKNOWN_SPECIES}
+     */
+    public int getSpeciesId() {
+        return speciesId;
+    }
+
+    /**
+     * @return the built-in type, or null for custom or unknown models
+     */
+    public AnimalType getAnimalType() {
+        return animalType;
+    }
+
+    /**
+     * @return the custom animal config, or null for built-in or unknown models
+     */
+    public CustomAnimalConfig getCustomConfig() {
+        return customConfig;
+    }
+
+    /**
+     * Check if the model is a baby variant (e.g. "Calf" for COW).
+     */
+    public boolean isBaby() {
+        return baby;
+    }
+
+    public boolean isBuiltIn() {
+        return animalType != null;
+    }
+
+    public boolean isCustom() {
+        return customConfig != null;
+    }
+
+    /**
+     * Create a descriptor for a model that is not an animal we handle.
+     */
+    public static SpeciesDescriptor unknown(String modelAssetId) {
+        return new SpeciesDescriptor(modelAssetId, UNKNOWN_SPECIES, null, null, false);
+    }
+
+    /**
+     * Check if the model is an animal this plugin handles (built-in or custom).
+     */
+    public boolean isKnown() {
+        return animalType != null || customConfig != null;
+    }
+
+    @Override
+    public String toString() {
+        return modelAssetId + (baby ? " (baby)" : "")
+                + (animalType != null ? " [" + animalType + "]" : customConfig != null ? " [CUSTOM]" : "");
+    }
+}
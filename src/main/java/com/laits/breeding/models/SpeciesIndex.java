@@ -0,0 +1,171 @@
+package com.laits.breeding.models;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, case-insensitive index from model asset ID to {@link SpeciesDescriptor}.
+ *
+ * Holds every built-in adult and baby model ID plus, when built from config, every custom
+ * animal (and its baby NPC role if it has one). Lookups hash the ID with ASCII case folding
+ * into an open-addressing table, so they never allocate or lowercase the input.
+ *
+ * Species IDs are compact ints: built-ins use their ordinal, custom animals follow in
+ * case-insensitive ID order. They are only meaningful within one index instance.
+ * ConfigManager builds a new index whenever custom animals change and publishes it
+ * with a single volatile write, so readers always see a complete index.
+ */
+public final class SpeciesIndex {
+
+    private static final AnimalType[] TYPES = AnimalType.values();
+
+    // Lowercase adult IDs in declaration order for fromEntityTypeId's substring fallback
+    private static final String[] LOWER_ADULT_IDS = new String[TYPES.length];
+
+    static {
+        for (AnimalType type : TYPES) {
+            LOWER_ADULT_IDS[type.ordinal()] = type.getModelAssetId().toLowerCase();
+        }
+    }
+
+    private static final SpeciesIndex BUILT_IN = build(List.of());
+
+    private final String[] keys;
+    private final SpeciesDescriptor[] values;
+    private final int mask;
+    private final SpeciesDescriptor[] adultsById;
+
+    private SpeciesIndex(int expectedEntries, int speciesCount) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedEntries * 2) - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new SpeciesDescriptor[capacity];
+        this.mask = capacity - 1;
+        this.adultsById = new SpeciesDescriptor[speciesCount];
+    }
+
+    /**
+     * Get the index of built-in animals only (no config required).
+     */
+    public static SpeciesIndex builtIn() {
+        return BUILT_IN;
+    }
+
+    /**
+     * Build an index of all built-in animals plus the given custom animals.
+     * A custom animal whose ID matches a built-in model is ignored; the built-in wins.
+     */
+    public static SpeciesIndex build(Collection<CustomAnimalConfig> customAnimals) {
+        List<CustomAnimalConfig> customs = new ArrayList<>(customAnimals);
+        customs.sort(Comparator.comparing(CustomAnimalConfig::getModelAssetId, String.CASE_INSENSITIVE_ORDER));
+
+        SpeciesIndex index = new SpeciesIndex(TYPES.length * 2 + customs.size() * 2, TYPES.length + customs.size());
+
+        for (AnimalType type : TYPES) {
+            int id = type.ordinal();
+            SpeciesDescriptor adult = new SpeciesDescriptor(type.getModelAssetId(), id, type, null, false);
+            index.adultsById[id] = adult;
+            index.putIfAbsent(adult);
+            if (type.getBabyModelAssetId() != null) {
+                index.putIfAbsent(new SpeciesDescriptor(type.getBabyModelAssetId(), id, type, null, true));
+            }
+        }
+
+        int nextId = TYPES.length;
+        for (CustomAnimalConfig custom : customs) {
+            SpeciesDescriptor adult = new SpeciesDescriptor(custom.getModelAssetId(), nextId, null, custom, false);
+            if (!index.putIfAbsent(adult)) {
+                continue;
+            }
+            index.adultsById[nextId++] = adult;
+            if (custom.hasBabyVariant()) {
+                index.putIfAbsent(new SpeciesDescriptor(custom.getBabyNpcRoleId(), adult.getSpeciesId(), null, custom, true));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Look up a model asset ID, ignoring case.
+     * @return the descriptor or null if the ID is not a known animal
+     */
+    public SpeciesDescriptor lookup(String modelAssetId) {
+        if (modelAssetId == null) {
+            return null;
+        }
+        for (int slot = hash(modelAssetId) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null) {
+                return null;
+            }
+            if (key.equalsIgnoreCase(modelAssetId)) {
+                return values[slot];
+            }
+        }
+    }
+
+    /**
+     * Get the adult descriptor for a species ID from this index.
+     * @return the descriptor or null if the ID is out of range
+     */
+    public SpeciesDescriptor getBySpeciesId(int speciesId) {
+        return speciesId >= 0 && speciesId < adultsById.length ? adultsById[speciesId] : null;
+    }
+
+    /**
+     * Number of distinct species (built-in + custom).
+     */
+    public int getSpeciesCount() {
+        int count = 0;
+        for (SpeciesDescriptor descriptor : adultsById) {
+            if (descriptor != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Find the first built-in type (in declaration order) whose model ID appears in the text.
+     * Used as the legacy fallback for entity type strings that embed the model name.
+     */
+    public static AnimalType findBuiltInContainedIn(String text) {
+        String lower = text.toLowerCase();
+        for (int i = 0; i < LOWER_ADULT_IDS.length; i++) {
+            if (lower.contains(LOWER_ADULT_IDS[i])) {
+                return TYPES[i];
+            }
+        }
+        return null;
+    }
+
+    private boolean putIfAbsent(SpeciesDescriptor descriptor) {
+        String id = descriptor.getModelAssetId();
+        int slot = hash(id) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equalsIgnoreCase(id)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = descriptor;
+        return true;
+    }
+
+    /**
+     * Case-insensitive hash (ASCII folding, matching equalsIgnoreCase for model IDs).
+     */
+    private static int hash(String s) {
+        int h = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            } else if (c > 127) {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+}
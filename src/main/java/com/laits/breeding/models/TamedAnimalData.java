@@ -8,6 +8,9 @@ import java.util.UUID;
  */
 public class TamedAnimalData {
 
+    /** World ID used for data saved before worlds were tracked, or when the world is unknown. */
+    public static final String DEFAULT_WORLD_ID = "default";
+
     // Core identity
     private UUID animalUuid;           // Current entity UUID (changes on respawn)
     private UUID ownerUuid;            // Player who tamed this animal
@@ -46,6 +49,13 @@ public class TamedAnimalData {
      * Create tamed animal data when an animal is first tamed.
      */
     public TamedAnimalData(UUID animalUuid, UUID ownerUuid, String customName, AnimalType animalType) {
+        this(animalUuid, ownerUuid, customName, animalType, DEFAULT_WORLD_ID);
+    }
+
+    /**
+     * Create tamed animal data for an animal tamed in a specific world.
+     */
+    public TamedAnimalData(UUID animalUuid, UUID ownerUuid, String customName, AnimalType animalType, String worldId) {
         this.animalUuid = animalUuid;
         this.ownerUuid = ownerUuid;
         this.customName = customName;
@@ -54,7 +64,7 @@ public class TamedAnimalData {
         this.isDespawned = false;
         this.allowInteraction = true;
         this.growthStage = GrowthStage.ADULT;
-        this.worldId = "default";
+        this.worldId = worldId != null ? worldId : DEFAULT_WORLD_ID;
     }
 
     // === Core Identity ===
@@ -119,8 +129,11 @@ public class TamedAnimalData {
         this.lastRotation = rotation;
     }
 
+    /**
+     * Get the world this animal lives in ({@link #DEFAULT_WORLD_ID} for data saved without one).
+     */
     public String getWorldId() {
-        return worldId;
+        return worldId != null ? worldId : DEFAULT_WORLD_ID;
     }
 
     public void setWorldId(String worldId) {
@@ -209,6 +222,30 @@ public class TamedAnimalData {
         return allowInteraction;
     }
 
+    /**
+     * Copy of the persisted fields, without the entity reference.
+     * Used to hand a stable view of the animal to another thread.
+     */
+    public TamedAnimalData copy() {
+        TamedAnimalData copy = new TamedAnimalData();
+        copy.animalUuid = animalUuid;
+        copy.ownerUuid = ownerUuid;
+        copy.customName = customName;
+        copy.animalType = animalType;
+        copy.lastX = lastX;
+        copy.lastY = lastY;
+        copy.lastZ = lastZ;
+        copy.lastRotation = lastRotation;
+        copy.worldId = worldId;
+        copy.lastBreedTime = lastBreedTime;
+        copy.birthTime = birthTime;
+        copy.growthStage = growthStage;
+        copy.tamedTime = tamedTime;
+        copy.isDespawned = isDespawned;
+        copy.allowInteraction = allowInteraction;
+        return copy;
+    }
+
     /**
      * Copy breeding state from BreedingData for persistence.
      */
@@ -159,7 +159,8 @@ public class NametagUIPage extends InteractiveCustomUIPage<NametagUIPage.Nametag
                                 success = tamingManager.renameAnimal(animalUuid, playerUuid, name);
                             } else {
                                 // Tame new animal
-                                TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, name, type);
+                                TamedAnimalData tamedData = tamingManager.tameAnimal(animalUuid, playerUuid, name, type,
+                                        LaitsBreedingPlugin.worldIdOf(LaitsBreedingPlugin.worldOf(targetAnimalRef.getStore())));
                                 success = tamedData != null;
                             }
 
@@ -9,8 +9,8 @@ import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.SpeciesDescriptor;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -27,28 +27,6 @@ public class AnimalFinder {
     // Cache the ModelComponent type for performance
     private static final ComponentType<EntityStore, ModelComponent> MODEL_COMPONENT_TYPE = ModelComponent.getComponentType();
 
-    // Cached reflection Field for extracting modelAssetId (avoid per-call reflection)
-    private static Field cachedModelField = null;
-    private static boolean reflectionInitialized = false;
-
-    static {
-        initializeReflectionCache();
-    }
-
-    /**
-     * Initialize cached reflection objects once at class load.
-     */
-    private static void initializeReflectionCache() {
-        try {
-            cachedModelField = ModelComponent.class.getDeclaredField("model");
-            cachedModelField.setAccessible(true);
-            reflectionInitialized = true;
-        } catch (Exception e) {
-            // Will fall back to per-call reflection if this fails
-            reflectionInitialized = false;
-        }
-    }
-
     /**
      * Result of finding an animal in the world.
      */
@@ -59,10 +37,14 @@ public class AnimalFinder {
         private final boolean isBaby;
 
         public FoundAnimal(Ref<EntityStore> entityRef, String modelAssetId) {
+            this(entityRef, ModelAssetIdResolver.resolveId(modelAssetId));
+        }
+
+        public FoundAnimal(Ref<EntityStore> entityRef, SpeciesDescriptor species) {
             this.entityRef = entityRef;
-            this.modelAssetId = modelAssetId;
-            this.animalType = AnimalType.fromModelAssetId(modelAssetId);
-            this.isBaby = AnimalType.isBabyVariant(modelAssetId);
+            this.modelAssetId = species.getModelAssetId();
+            this.animalType = species.getAnimalType();
+            this.isBaby = species.isBaby();
         }
 
         public Ref<EntityStore> getEntityRef() { return entityRef; }
@@ -149,20 +131,17 @@ public class AnimalFinder {
                 ModelComponent modelComp = chunk.getComponent(i, MODEL_COMPONENT_TYPE);
                 if (modelComp == null) continue;
 
-                // Extract modelAssetId from the model field
-                String assetId = extractModelAssetId(modelComp);
-                if (assetId == null) continue;
+                // Resolve species from the model (identity-cached, no string parsing)
+                SpeciesDescriptor species = ModelAssetIdResolver.resolve(modelComp);
+                if (species == null) continue;
 
                 // Check if it's a farm animal (if filtering)
-                if (farmOnly) {
-                    AnimalType type = AnimalType.fromModelAssetId(assetId);
-                    if (type == null) continue;
-                }
+                if (farmOnly && !species.isBuiltIn()) continue;
 
                 // Get entity reference
                 Ref<EntityStore> entityRef = chunk.getReferenceTo(i);
                 if (entityRef != null) {
-                    results.add(new FoundAnimal(entityRef, assetId));
+                    results.add(new FoundAnimal(entityRef, species));
                 }
 
             } catch (Exception e) {
@@ -170,31 +149,4 @@ public class AnimalFinder {
             }
         }
     }
-
-    /**
-     * Extract modelAssetId from ModelComponent using cached reflection on the model field.
-     * The model field contains modelAssetId which identifies the entity type.
-     */
-    private static String extractModelAssetId(ModelComponent modelComp) {
-        try {
-            // Use cached Field for performance (avoid getDeclaredField every call)
-            if (!reflectionInitialized || cachedModelField == null) {
-                return null;
-            }
-
-            Object model = cachedModelField.get(modelComp);
-            if (model == null) return null;
-
-            // Extract from toString: Model{modelAssetId='Duck', scale=1.0, ...}
-            String modelStr = model.toString();
-            int start = modelStr.indexOf("modelAssetId='");
-            if (start < 0) return null;
-            start += 14;
-            int end = modelStr.indexOf("'", start);
-            if (end <= start) return null;
-            return modelStr.substring(start, end);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
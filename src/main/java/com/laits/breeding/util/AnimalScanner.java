@@ -0,0 +1,172 @@
+package com.laits.breeding.util;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.laits.breeding.models.SpeciesDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Incremental animal scanner.
+ *
+ * Unlike {@link AnimalFinder}, which visits every entity and returns a fresh list each time,
+ * the scanner remembers every entity it has seen (keyed by its Ref, which is stable for the
+ * entity's lifetime in the store) together with the species it resolved to. A pass only
+ * hands entities to the handler when they are new, when their species changed (model swap,
+ * or a new species index after a custom animal was added), or when the handler declined
+ * them last time. Archetype chunks without a ModelComponent are skipped without touching
+ * their entities, and entities that were not seen in a pass (despawned or unloaded) are
+ * forgotten at the end of it. The per-store bookkeeping lives in {@link ScanMemory}.
+ *
+ * All per-store state is only touched from that store's world thread.
+ */
+public class AnimalScanner {
+
+    /**
+     * Called for each new or changed animal during a scan (on the world thread).
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @return true if the entity is done; false to offer it again next scan
+         *         (e.g. its species is currently disabled)
+         */
+        boolean onEntity(Store<EntityStore> store, Ref<EntityStore> entityRef, SpeciesDescriptor species);
+    }
+
+    /**
+     * Counters from one scan pass.
+     */
+    public record ScanStats(int chunksVisited, int chunksSkipped, int entitiesVisited,
+                            int newOrChanged, int forgotten, long durationNanos) {
+    }
+
+    private final Map<Store<EntityStore>, StoreState> stores = new ConcurrentHashMap<>();
+
+    // Bumped by reset(); each store clears its memory when it sees a new generation
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private volatile ScanStats lastStats;
+
+    /**
+     * Scan a store, calling the handler only for entities not yet seen with their current species.
+     * Must be called on the store's world thread.
+     */
+    public ScanStats scan(Store<EntityStore> store, Handler handler) {
+        long start = System.nanoTime();
+        ScanMemory<Ref<EntityStore>, SpeciesDescriptor> memory = memoryFor(store);
+        memory.beginPass();
+
+        int[] counts = new int[4]; // chunksVisited, chunksSkipped, entitiesVisited, newOrChanged
+        store.forEachChunk((ArchetypeChunk<EntityStore> chunk, CommandBuffer<EntityStore> buffer) -> {
+            // Archetype filter: no ModelComponent means nothing in this chunk can be an animal
+            if (!chunk.getArchetype().contains(EcsAccessors.MODEL_TYPE)) {
+                counts[1]++;
+                return;
+            }
+            counts[0]++;
+
+            int size = chunk.size();
+            for (int i = 0; i < size; i++) {
+                try {
+                    Ref<EntityStore> entityRef = chunk.getReferenceTo(i);
+                    if (entityRef == null) continue;
+                    counts[2]++;
+
+                    ModelComponent modelComp = chunk.getComponent(i, EcsAccessors.MODEL_TYPE);
+                    SpeciesDescriptor species = modelComp != null ? ModelAssetIdResolver.resolve(modelComp) : null;
+
+                    if (!memory.needsOffer(entityRef, species)) {
+                        continue;
+                    }
+
+                    if (species != null && species.isKnown()) {
+                        counts[3]++;
+                        if (!handler.onEntity(store, entityRef, species)) {
+                            memory.decline(entityRef);
+                            continue;
+                        }
+                    }
+
+                    memory.accept(entityRef, species);
+                } catch (Exception e) {
+                    // Skip this entity
+                }
+            }
+        });
+
+        int forgotten = memory.endPass();
+
+        ScanStats stats = new ScanStats(counts[0], counts[1], counts[2], counts[3], forgotten,
+                System.nanoTime() - start);
+        lastStats = stats;
+        return stats;
+    }
+
+    /**
+     * Record an entity that was already set up elsewhere (e.g. by the spawn detector),
+     * so the next scan does not process it again. Don't mark entities that were skipped
+     * (e.g. disabled species); those must stay eligible for later scans.
+     * Must be called on the store's world thread.
+     */
+    public void markKnown(Store<EntityStore> store, Ref<EntityStore> entityRef, SpeciesDescriptor species) {
+        memoryFor(store).accept(entityRef, species);
+    }
+
+    /**
+     * Forget all remembered entities so the next scan processes everything again
+     * (used when every animal must be set up again, e.g. after the interaction hint changes).
+     */
+    public void reset() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Forget a store (e.g. when its world unloads).
+     */
+    public void removeStore(Store<EntityStore> store) {
+        stores.remove(store);
+    }
+
+    /**
+     * Get the number of entities remembered across all stores.
+     */
+    public int getKnownCount() {
+        int total = 0;
+        for (StoreState state : stores.values()) {
+            total += state.memory.size();
+        }
+        return total;
+    }
+
+    /**
+     * Get counters from the most recent scan, or null if none has run.
+     */
+    public ScanStats getLastStats() {
+        return lastStats;
+    }
+
+    private ScanMemory<Ref<EntityStore>, SpeciesDescriptor> memoryFor(Store<EntityStore> store) {
+        StoreState state = stores.computeIfAbsent(store, s -> new StoreState());
+        int current = generation.get();
+        if (state.generation != current) {
+            state.memory.clear();
+            state.generation = current;
+        }
+        return state.memory;
+    }
+
+    /**
+     * Remembered entities for one store. Refs are compared by identity.
+     */
+    private static final class StoreState {
+        final ScanMemory<Ref<EntityStore>, SpeciesDescriptor> memory = new ScanMemory<>();
+        int generation;
+    }
+}
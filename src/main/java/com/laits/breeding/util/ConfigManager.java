@@ -3,6 +3,8 @@ package com.laits.breeding.util;
 import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.CustomAnimalConfig;
 import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.models.SpeciesDescriptor;
+import com.laits.breeding.models.SpeciesIndex;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
@@ -11,9 +13,14 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -24,13 +31,22 @@ public class ConfigManager {
 
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
+    private static final String[] BUILTIN_PRESETS = {"default", "default_extended", "lait_curated", "zoo", "all"};
+    // Content hashes of the preset files as last checked (not a .json file, so not listed as a preset)
+    private static final String PRESET_MANIFEST_FILE = ".manifest";
+    // Bump when built-in preset values change, so existing preset files are re-checked
+    private static final int BUILTIN_PRESET_REVISION = 1;
+
     // Config data
     private final Map<AnimalType, AnimalConfig> animalConfigs = new EnumMap<>(AnimalType.class);
     private final Map<String, CustomAnimalConfig> customAnimals = new HashMap<>();  // key = modelAssetId
+    // Built-in + custom species lookup; replaced as a whole on every custom animal change
+    private volatile SpeciesIndex speciesIndex = SpeciesIndex.builtIn();
     private double defaultGrowthTimeMinutes = 30.0;
     private double defaultBreedCooldownMinutes = 5.0;
     private boolean debugMode = false;
     private boolean growthEnabled = true;  // Can be disabled to freeze baby growth
+    private double worldTaskBudgetMs = 5.0;  // Max world-thread time per tick for batched plugin work
     private String activePreset = "default_extended";
 
     // File path for persistence
@@ -38,6 +54,12 @@ public class ConfigManager {
     private Path presetsDirectory;
     private Consumer<String> logger;
 
+    // Background check of the built-in preset files (see initializePresets)
+    private volatile CompletableFuture<Void> presetInit = CompletableFuture.completedFuture(null);
+    // Built-in presets whose file changed since the manifest was written; refreshed by applyPreset()
+    private final Set<String> stalePresets = ConcurrentHashMap.newKeySet();
+    private final Object presetManifestLock = new Object();
+
     // ==================== SAFE JSON EXTRACTION HELPERS ====================
 
     /**
@@ -244,37 +266,179 @@ public class ConfigManager {
     }
 
     /**
-     * Initialize the presets directory, create missing preset files, and update existing ones with new animals.
+     * Check the built-in preset files in the background so startup doesn't wait on them.
+     *
+     * Missing files are generated. Files whose content hash and animal catalog match the
+     * manifest are skipped without being read as JSON. Anything else is only marked stale;
+     * it is parsed and topped up with new animals when {@link #applyPreset} first uses it.
      */
     private void initializePresets() {
+        Path directory = presetsDirectory;
+        presetInit = CompletableFuture.runAsync(() -> checkPresets(directory), task -> {
+            Thread thread = new Thread(task, "LaitsBreeding-PresetInit");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    private void checkPresets(Path directory) {
+        long start = System.nanoTime();
         try {
-            if (!Files.exists(presetsDirectory)) {
-                Files.createDirectories(presetsDirectory);
-                log("Created presets directory: " + presetsDirectory);
+            if (!Files.exists(directory)) {
+                Files.createDirectories(directory);
+                log("Created presets directory: " + directory);
             }
 
-            // Built-in presets to manage
-            String[] builtinPresets = {"default", "default_extended", "lait_curated", "zoo", "all"};
-
-            for (String presetName : builtinPresets) {
-                Path presetFile = presetsDirectory.resolve(presetName + ".json");
-                if (!Files.exists(presetFile)) {
-                    // Create new preset file
-                    saveBuiltinPresetToFile(presetName, presetFile);
-                    log("Created " + presetName + " preset file: " + presetFile);
-                } else {
-                    // Update existing preset with any missing animals
-                    int added = updatePresetWithMissingAnimals(presetName, presetFile);
-                    if (added > 0) {
-                        log("Updated " + presetName + " preset: added " + added + " new animals");
+            synchronized (presetManifestLock) {
+                JsonObject manifest = readPresetManifest(directory);
+                long manifestRead = System.nanoTime();
+
+                String catalog = presetCatalogFingerprint();
+                int unchanged = 0;
+                int created = 0;
+                long createNanos = 0;
+                for (String presetName : BUILTIN_PRESETS) {
+                    Path presetFile = directory.resolve(presetName + ".json");
+                    if (!Files.exists(presetFile)) {
+                        long createStart = System.nanoTime();
+                        String json = builtinPreset(presetName).toJson();
+                        Files.writeString(presetFile, json);
+                        recordPresetHash(manifest, presetName, json.getBytes(StandardCharsets.UTF_8), catalog);
+                        stalePresets.remove(presetName);
+                        createNanos += System.nanoTime() - createStart;
+                        created++;
+                        log("Created " + presetName + " preset file: " + presetFile);
+                        continue;
                     }
+                    JsonObject entry = manifest.has(presetName) ? manifest.getAsJsonObject(presetName) : null;
+                    if (entry != null
+                            && catalog.equals(safeGetString(entry, "catalog", null))
+                            && sha256(Files.readAllBytes(presetFile)).equals(safeGetString(entry, "sha256", null))) {
+                        stalePresets.remove(presetName);
+                        unchanged++;
+                    } else {
+                        stalePresets.add(presetName);
+                    }
+                }
+                long checked = System.nanoTime();
+
+                if (created > 0) {
+                    writePresetManifest(directory, manifest);
                 }
+                long done = System.nanoTime();
+
+                log(String.format("Presets checked: %d unchanged, %d created, %d deferred to first use"
+                                + " (manifest %.1f ms, hash check %.1f ms, generate %.1f ms, manifest write %.1f ms)",
+                        unchanged, created, BUILTIN_PRESETS.length - unchanged - created,
+                        (manifestRead - start) / 1e6, (checked - manifestRead - createNanos) / 1e6,
+                        createNanos / 1e6, (done - checked) / 1e6));
             }
         } catch (Exception e) {
             log("Error initializing presets: " + e.getMessage());
         }
     }
 
+    /**
+     * Wait for the background preset check started by loadFromFile() to finish.
+     */
+    public void awaitPresets() {
+        try {
+            presetInit.join();
+        } catch (RuntimeException e) {
+            log("Error initializing presets: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Top up a stale built-in preset file with missing animals and record its new hash.
+     */
+    private void refreshStalePreset(String presetName, Path presetFile) {
+        if (!stalePresets.contains(presetName)) {
+            return;
+        }
+        synchronized (presetManifestLock) {
+            if (!stalePresets.remove(presetName)) {
+                return;
+            }
+            long start = System.nanoTime();
+            int added = updatePresetWithMissingAnimals(presetName, presetFile);
+            try {
+                JsonObject manifest = readPresetManifest(presetsDirectory);
+                recordPresetHash(manifest, presetName, Files.readAllBytes(presetFile), presetCatalogFingerprint());
+                writePresetManifest(presetsDirectory, manifest);
+            } catch (IOException e) {
+                log("Error updating preset manifest: " + e.getMessage());
+            }
+            log(String.format("Refreshed %s preset: added %d new animals in %.1f ms",
+                    presetName, added, (System.nanoTime() - start) / 1e6));
+        }
+    }
+
+    private JsonObject readPresetManifest(Path directory) {
+        Path manifestFile = directory.resolve(PRESET_MANIFEST_FILE);
+        if (Files.exists(manifestFile)) {
+            try {
+                JsonObject root = JsonParser.parseString(Files.readString(manifestFile)).getAsJsonObject();
+                if (root.has("presets") && root.get("presets").isJsonObject()) {
+                    return root.getAsJsonObject("presets");
+                }
+            } catch (Exception e) {
+                log("Ignoring unreadable preset manifest: " + e.getMessage());
+            }
+        }
+        return new JsonObject();
+    }
+
+    private void writePresetManifest(Path directory, JsonObject presets) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("version", 1);
+        root.add("presets", presets);
+        Files.writeString(directory.resolve(PRESET_MANIFEST_FILE), GSON.toJson(root));
+    }
+
+    private static void recordPresetHash(JsonObject manifest, String presetName, byte[] content, String catalog) {
+        JsonObject entry = new JsonObject();
+        entry.addProperty("sha256", sha256(content));
+        entry.addProperty("catalog", catalog);
+        manifest.add(presetName, entry);
+    }
+
+    /**
+     * Fingerprint of what built-in presets are generated from: the animal catalog and the
+     * preset revision. A change means existing preset files may be missing animals.
+     */
+    private static String presetCatalogFingerprint() {
+        StringBuilder catalog = new StringBuilder().append(BUILTIN_PRESET_REVISION);
+        for (AnimalType type : AnimalType.values()) {
+            catalog.append(',').append(type.name());
+        }
+        return sha256(catalog.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A fresh config with a built-in preset applied, so preset values can be generated
+     * without touching this instance (which may be in use on another thread).
+     */
+    private static ConfigManager builtinPreset(String presetName) {
+        ConfigManager scratch = new ConfigManager();
+        switch (presetName) {
+            case "default": scratch.applyBuiltinDefaultPreset(); break;
+            case "default_extended": scratch.applyBuiltinDefaultExtendedPreset(); break;
+            case "lait_curated": scratch.applyBuiltinLaitCuratedPreset(); break;
+            case "zoo": scratch.applyBuiltinZooPreset(); break;
+            case "all": scratch.applyBuiltinAllPreset(); break;
+        }
+        return scratch;
+    }
+
     /**
      * Update an existing preset file with any missing animals using the preset's default values.
      * @return number of animals added
@@ -331,46 +495,7 @@ public class ConfigManager {
      * Get the built-in preset configurations for all animals.
      */
     private Map<AnimalType, AnimalConfig> getBuiltinPresetConfigs(String presetName) {
-        // Save current state
-        Map<AnimalType, AnimalConfig> originalConfigs = new EnumMap<>(AnimalType.class);
-        for (Map.Entry<AnimalType, AnimalConfig> entry : animalConfigs.entrySet()) {
-            AnimalConfig copy = new AnimalConfig();
-            copy.enabled = entry.getValue().enabled;
-            copy.breedingFoods = new ArrayList<>(entry.getValue().breedingFoods);
-            copy.growthTimeMinutes = entry.getValue().growthTimeMinutes;
-            copy.breedCooldownMinutes = entry.getValue().breedCooldownMinutes;
-            originalConfigs.put(entry.getKey(), copy);
-        }
-        double originalGrowth = defaultGrowthTimeMinutes;
-        double originalCooldown = defaultBreedCooldownMinutes;
-
-        // Apply the preset to get its values
-        switch (presetName) {
-            case "default": applyBuiltinDefaultPreset(); break;
-            case "default_extended": applyBuiltinDefaultExtendedPreset(); break;
-            case "lait_curated": applyBuiltinLaitCuratedPreset(); break;
-            case "zoo": applyBuiltinZooPreset(); break;
-            case "all": applyBuiltinAllPreset(); break;
-        }
-
-        // Copy the preset configs
-        Map<AnimalType, AnimalConfig> presetConfigs = new EnumMap<>(AnimalType.class);
-        for (Map.Entry<AnimalType, AnimalConfig> entry : animalConfigs.entrySet()) {
-            AnimalConfig copy = new AnimalConfig();
-            copy.enabled = entry.getValue().enabled;
-            copy.breedingFoods = new ArrayList<>(entry.getValue().breedingFoods);
-            copy.growthTimeMinutes = entry.getValue().growthTimeMinutes;
-            copy.breedCooldownMinutes = entry.getValue().breedCooldownMinutes;
-            presetConfigs.put(entry.getKey(), copy);
-        }
-
-        // Restore original state
-        animalConfigs.clear();
-        animalConfigs.putAll(originalConfigs);
-        defaultGrowthTimeMinutes = originalGrowth;
-        defaultBreedCooldownMinutes = originalCooldown;
-
-        return presetConfigs;
+        return builtinPreset(presetName).animalConfigs;
     }
 
     /**
@@ -385,8 +510,15 @@ public class ConfigManager {
         }
 
         try {
+            awaitPresets();
             Path presetFile = presetsDirectory.resolve(presetName + ".json");
             saveBuiltinPresetToFile(presetName, presetFile);
+            synchronized (presetManifestLock) {
+                JsonObject manifest = readPresetManifest(presetsDirectory);
+                recordPresetHash(manifest, presetName, Files.readAllBytes(presetFile), presetCatalogFingerprint());
+                writePresetManifest(presetsDirectory, manifest);
+                stalePresets.remove(presetName);
+            }
             log("Restored " + presetName + " preset to default values");
             return true;
         } catch (Exception e) {
@@ -483,6 +615,12 @@ public class ConfigManager {
                 growthEnabled = safeGetBoolean(defaults, "growthEnabled", growthEnabled);
             }
 
+            // Load performance tuning
+            if (root.has("performance") && root.get("performance").isJsonObject()) {
+                JsonObject performance = root.getAsJsonObject("performance");
+                worldTaskBudgetMs = safeGetDouble(performance, "worldTaskBudgetMs", worldTaskBudgetMs);
+            }
+
             // Load animal configs (using safe extraction)
             if (root.has("animals") && root.get("animals").isJsonObject()) {
                 JsonObject animals = root.getAsJsonObject("animals");
@@ -525,7 +663,7 @@ public class ConfigManager {
 
             // Load custom animals (for mod support)
             if (root.has("customAnimals") && root.get("customAnimals").isJsonObject()) {
-                customAnimals.clear();
+                Map<String, CustomAnimalConfig> loaded = new LinkedHashMap<>();
                 JsonObject customAnimalsJson = root.getAsJsonObject("customAnimals");
                 for (String modelAssetId : customAnimalsJson.keySet()) {
                     try {
@@ -552,12 +690,13 @@ public class ConfigManager {
                             modelAssetId, displayName, foods, growthTime, breedCooldown,
                             babyNpcRole, adultNpcRole, mountable, enabled
                         );
-                        customAnimals.put(modelAssetId, customConfig);
+                        loaded.put(modelAssetId, customConfig);
                         log("Loaded custom animal: " + modelAssetId);
                     } catch (Exception e) {
                         log("Error parsing custom animal " + modelAssetId + ": " + e.getMessage());
                     }
                 }
+                replaceCustomAnimalEntries(loaded);
                 log("Loaded " + customAnimals.size() + " custom animals");
             }
         } catch (Exception e) {
@@ -600,6 +739,11 @@ public class ConfigManager {
         defaults.addProperty("growthEnabled", growthEnabled);
         root.add("defaults", defaults);
 
+        // Performance tuning
+        JsonObject performance = new JsonObject();
+        performance.addProperty("worldTaskBudgetMs", worldTaskBudgetMs);
+        root.add("performance", performance);
+
         // Animals (grouped by category)
         JsonObject animals = new JsonObject();
         for (AnimalType type : AnimalType.values()) {
@@ -706,8 +850,10 @@ public class ConfigManager {
             ? presetsDirectory.resolve(presetName + ".json")
             : null;
 
-        // Try to load from file first
+        // Try to load from file first (once the startup check has created or vetted it)
+        awaitPresets();
         if (presetFile != null && Files.exists(presetFile)) {
+            refreshStalePreset(presetName, presetFile);
             try {
                 String json = Files.readString(presetFile);
                 loadFromJson(json);
@@ -1539,10 +1685,50 @@ public class ConfigManager {
     // ===========================================
 
     /**
-     * Get a custom animal config by model asset ID.
+     * Get the current species index (built-in + custom animals).
+     * The returned index is immutable; a new instance is published whenever custom animals change.
+     */
+    public SpeciesIndex getSpeciesIndex() {
+        return speciesIndex;
+    }
+
+    private void putCustomAnimalEntry(String modelAssetId, CustomAnimalConfig config) {
+        customAnimals.put(modelAssetId, config);
+        rebuildSpeciesIndex();
+    }
+
+    private CustomAnimalConfig removeCustomAnimalEntry(String modelAssetId) {
+        CustomAnimalConfig removed = customAnimals.remove(modelAssetId);
+        if (removed != null) {
+            rebuildSpeciesIndex();
+        }
+        return removed;
+    }
+
+    // Swap in a whole set of custom animals with one index rebuild (config load)
+    private void replaceCustomAnimalEntries(Map<String, CustomAnimalConfig> entries) {
+        customAnimals.clear();
+        customAnimals.putAll(entries);
+        rebuildSpeciesIndex();
+    }
+
+    private void rebuildSpeciesIndex() {
+        speciesIndex = SpeciesIndex.build(customAnimals.values());
+    }
+
+    /**
+     * Get a custom animal config by model asset ID (case-insensitive).
      * @return CustomAnimalConfig or null if not found
      */
     public CustomAnimalConfig getCustomAnimal(String modelAssetId) {
+        SpeciesDescriptor species = speciesIndex.lookup(modelAssetId);
+        if (species == null) {
+            return null;
+        }
+        if (species.isCustom()) {
+            return species.getCustomConfig();
+        }
+        // Custom entry shadowed by a built-in model with the same ID
         return customAnimals.get(modelAssetId);
     }
 
@@ -1550,14 +1736,14 @@ public class ConfigManager {
      * Check if a model asset ID is a registered custom animal.
      */
     public boolean isCustomAnimal(String modelAssetId) {
-        return customAnimals.containsKey(modelAssetId);
+        return getCustomAnimal(modelAssetId) != null;
     }
 
     /**
      * Check if a custom animal is enabled for breeding.
      */
     public boolean isCustomAnimalEnabled(String modelAssetId) {
-        CustomAnimalConfig custom = customAnimals.get(modelAssetId);
+        CustomAnimalConfig custom = getCustomAnimal(modelAssetId);
         return custom != null && custom.isEnabled();
     }
 
@@ -1589,19 +1775,12 @@ public class ConfigManager {
             return new AnimalLookupResult(type, null);
         }
 
-        // Try custom animal (exact match first, then case-insensitive)
-        CustomAnimalConfig custom = customAnimals.get(id);
+        // Try custom animal (case-insensitive via the species index)
+        CustomAnimalConfig custom = getCustomAnimal(id);
         if (custom != null) {
             return new AnimalLookupResult(null, custom);
         }
 
-        // Try case-insensitive custom animal lookup
-        for (Map.Entry<String, CustomAnimalConfig> entry : customAnimals.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(id)) {
-                return new AnimalLookupResult(null, entry.getValue());
-            }
-        }
-
         return null; // Not found
     }
 
@@ -1651,7 +1830,7 @@ public class ConfigManager {
             if (existing != null) {
                 List<String> newFoods = new ArrayList<>();
                 newFoods.add(food);
-                customAnimals.put(modelId, new CustomAnimalConfig(
+                putCustomAnimalEntry(modelId, new CustomAnimalConfig(
                     existing.getModelAssetId(),
                     existing.getDisplayName(),
                     newFoods,
@@ -1891,6 +2070,18 @@ public class ConfigManager {
         return growthEnabled;
     }
 
+    /**
+     * Get the world-thread time budget (ms) for batched plugin work per tick.
+     * Work that does not fit is carried over to the next tick. 0 = unlimited.
+     */
+    public double getWorldTaskBudgetMs() {
+        return worldTaskBudgetMs;
+    }
+
+    public void setWorldTaskBudgetMs(double worldTaskBudgetMs) {
+        this.worldTaskBudgetMs = Math.max(0, worldTaskBudgetMs);
+    }
+
     /**
      * Enable or disable baby growth globally.
      * When disabled, babies will not age and grow into adults.
@@ -2033,7 +2224,7 @@ public class ConfigManager {
             false,  // not mountable by default
             true   // enabled by default
         );
-        customAnimals.put(modelAssetId, config);
+        putCustomAnimalEntry(modelAssetId, config);
         log("Added custom animal: " + modelAssetId + " with foods: " + breedingFoods);
         return config;
     }
@@ -2060,7 +2251,7 @@ public class ConfigManager {
             mountable,
             true
         );
-        customAnimals.put(modelAssetId, config);
+        putCustomAnimalEntry(modelAssetId, config);
         log("Added custom animal: " + modelAssetId);
         return config;
     }
@@ -2070,7 +2261,7 @@ public class ConfigManager {
      * @return true if removed, false if not found
      */
     public boolean removeCustomAnimal(String modelAssetId) {
-        CustomAnimalConfig removed = customAnimals.remove(modelAssetId);
+        CustomAnimalConfig removed = removeCustomAnimalEntry(modelAssetId);
         if (removed != null) {
             log("Removed custom animal: " + modelAssetId);
             return true;
@@ -2085,7 +2276,7 @@ public class ConfigManager {
         CustomAnimalConfig existing = customAnimals.get(modelAssetId);
         if (existing != null) {
             // Recreate with new enabled status
-            customAnimals.put(modelAssetId, new CustomAnimalConfig(
+            putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                 existing.getModelAssetId(),
                 existing.getDisplayName(),
                 existing.getBreedingFoods(),
@@ -2108,7 +2299,7 @@ public class ConfigManager {
             List<String> foods = new ArrayList<>(existing.getBreedingFoods());
             if (!foods.contains(food)) {
                 foods.add(food);
-                customAnimals.put(modelAssetId, new CustomAnimalConfig(
+                putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                     existing.getModelAssetId(),
                     existing.getDisplayName(),
                     foods,
@@ -2131,7 +2322,7 @@ public class ConfigManager {
         if (existing != null) {
             List<String> foods = new ArrayList<>(existing.getBreedingFoods());
             if (foods.remove(food)) {
-                customAnimals.put(modelAssetId, new CustomAnimalConfig(
+                putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                     existing.getModelAssetId(),
                     existing.getDisplayName(),
                     foods,
@@ -2154,7 +2345,7 @@ public class ConfigManager {
     public void setCustomAnimalNpcRole(String modelAssetId, String roleId) {
         CustomAnimalConfig existing = customAnimals.get(modelAssetId);
         if (existing != null) {
-            customAnimals.put(modelAssetId, new CustomAnimalConfig(
+            putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                 existing.getModelAssetId(),
                 existing.getDisplayName(),
                 existing.getBreedingFoods(),
@@ -2178,7 +2369,7 @@ public class ConfigManager {
     public void setCustomAnimalBabyRole(String modelAssetId, String babyRoleId) {
         CustomAnimalConfig existing = customAnimals.get(modelAssetId);
         if (existing != null) {
-            customAnimals.put(modelAssetId, new CustomAnimalConfig(
+            putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                 existing.getModelAssetId(),
                 existing.getDisplayName(),
                 existing.getBreedingFoods(),
@@ -2201,7 +2392,7 @@ public class ConfigManager {
     public void setCustomAnimalGrowthTime(String modelAssetId, double growthTimeMinutes) {
         CustomAnimalConfig existing = customAnimals.get(modelAssetId);
         if (existing != null) {
-            customAnimals.put(modelAssetId, new CustomAnimalConfig(
+            putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                 existing.getModelAssetId(),
                 existing.getDisplayName(),
                 existing.getBreedingFoods(),
@@ -2224,7 +2415,7 @@ public class ConfigManager {
     public void setCustomAnimalCooldown(String modelAssetId, double cooldownMinutes) {
         CustomAnimalConfig existing = customAnimals.get(modelAssetId);
         if (existing != null) {
-            customAnimals.put(modelAssetId, new CustomAnimalConfig(
+            putCustomAnimalEntry(modelAssetId, new CustomAnimalConfig(
                 existing.getModelAssetId(),
                 existing.getDisplayName(),
                 existing.getBreedingFoods(),
@@ -0,0 +1,725 @@
+package com.laits.breeding.util;
+
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.protocol.InteractionType;
+import com.hypixel.hytale.protocol.SoundCategory;
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.component.Interactable;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.interaction.Interactions;
+import com.hypixel.hytale.server.core.universe.world.ParticleUtil;
+import com.hypixel.hytale.server.core.universe.world.SoundUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.NPCPlugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * ECS accessors resolved once at plugin start.
+ *
+ * Hot paths (love ticks, interaction hint updates, growth) used to look up component types,
+ * scan getMethods() and resolve enum constants on every call. Everything that has a public
+ * type is called directly; the few members that are private or have signatures we can't name
+ * at compile time (ModelComponent.model/setScale, Interactions setters, NPCPlugin.spawnNPC/spawnEntity/
+ * hasRoleName, ParticleUtil.spawnParticleEffect, World.getCommandBuffer, ItemStack quantity setters)
+ * are bound to MethodHandles here, once. Members of classes that vary by server build (command
+ * buffers, held-item containers, interaction managers) are bound once per class on first use.
+ *
+ * Each accessor degrades to a no-op / null when its handle could not be bound, matching the
+ * old "silent on reflection failure" behaviour; {@link #getBoundSummary()} reports which ones.
+ */
+public final class EcsAccessors {
+
+    public static final ComponentType<EntityStore, TransformComponent> TRANSFORM_TYPE =
+            TransformComponent.getComponentType();
+    public static final ComponentType<EntityStore, ModelComponent> MODEL_TYPE =
+            ModelComponent.getComponentType();
+
+    // getComponentType() on these may not be public, so they are resolved in bind()
+    private static ComponentType<EntityStore, ?> interactionsType;
+    private static ComponentType<EntityStore, ?> interactableType;
+
+    // Interactions (Object receiver so callers don't depend on the concrete return types)
+    private static MethodHandle getInteractionId;   // (Object, InteractionType) String
+    private static MethodHandle setInteractionId;   // (Object, InteractionType, String) void
+    private static MethodHandle getInteractionHint; // (Object) String
+    private static MethodHandle setInteractionHint; // (Object, String) void
+
+    // ModelComponent.model, Model.modelAssetId and Model.toReference()
+    private static MethodHandle modelGetter;        // (ModelComponent) Object
+    private static MethodHandle modelSetter;        // (ModelComponent, Object) void
+    private static MethodHandle modelAssetIdGetter; // (Model) String
+    private static MethodHandle modelToReference;   // (Model) Object
+
+    // Store.setComponent(ref, type, component) and ModelComponent.markDirty()/setChanged(true)
+    private static MethodHandle storeSetComponent;  // (Store, Ref, ComponentType, Object) void
+    private static MethodHandle modelMarkDirty;     // (ModelComponent) void
+    private static MethodHandle modelSetScale;      // (ModelComponent, float) void
+
+    // World.getCommandBuffer(); the buffer's setComponent is bound per buffer class on first use
+    private static MethodHandle worldGetCommandBuffer; // (World) Object
+    private static final ClassValue<MethodHandle> BUFFER_SET_COMPONENT = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            for (Method m : type.getMethods()) {
+                if (m.getName().equals("setComponent") && m.getParameterCount() == 3
+                        && m.getParameterTypes()[0].isAssignableFrom(Ref.class)) {
+                    try {
+                        m.setAccessible(true);
+                        return MethodHandles.lookup().unreflect(m).asType(MethodType.genericMethodType(4)
+                                .changeReturnType(void.class));
+                    } catch (Throwable t) {
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+    };
+
+    // Reason used when replacing an entity (e.g. baby -> adult)
+    private static final RemoveReason DESPAWN_REASON = resolveDespawnReason();
+
+    // NPCPlugin.spawnNPC(store, roleId, variant, position, rotation)
+    private static MethodHandle spawnNpcByRoleId;   // (Object x6) Object
+
+    // NPCPlugin.hasRoleName(roleId)
+    private static MethodHandle hasRoleName;        // (Object, String) boolean
+
+    // NPCPlugin.spawnEntity(store, roleIndex, position, rotation, model, callback)
+    private static MethodHandle spawnEntity;        // (Object x7) Object
+    private static Object noOpSpawnCallback;
+
+    // ParticleUtil.spawnParticleEffect(String, Vector3d, ComponentAccessor)
+    private static MethodHandle spawnParticleEffect; // (String, Vector3d, Object) void
+
+    // Spawn results are pair-like; getFirst() is bound per result class on first use
+    private static final ClassValue<MethodHandle> GET_FIRST = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method m = type.getMethod("getFirst");
+                m.setAccessible(true);
+                return MethodHandles.lookup().unreflect(m)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    };
+
+    // ItemStack.adjustQuantity(delta), or setQuantity(quantity) where that is all there is
+    private static MethodHandle itemAdjustQuantity; // (ItemStack, int) void
+    private static MethodHandle itemSetQuantity;    // (ItemStack, int) void
+
+    // removeItemStackFromSlot(slot, quantity), or removeItem(slot, quantity), per container class
+    private static final ClassValue<MethodHandle> REMOVE_FROM_SLOT = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            for (String name : new String[] { "removeItemStackFromSlot", "removeItem" }) {
+                try {
+                    Method m = type.getMethod(name, short.class, int.class);
+                    m.setAccessible(true);
+                    return MethodHandles.lookup().unreflect(m)
+                            .asType(MethodType.methodType(void.class, Object.class, short.class, int.class));
+                } catch (Exception e) {
+                    // Try the next name
+                }
+            }
+            return null;
+        }
+    };
+
+    // startChain(ref, commandBuffer, type, context, rootInteraction), per interaction manager class
+    private static final ClassValue<MethodHandle> START_CHAIN = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            for (Method m : type.getMethods()) {
+                if (m.getName().equals("startChain") && m.getParameterCount() == 5) {
+                    try {
+                        m.setAccessible(true);
+                        return MethodHandles.lookup().unreflect(m).asType(MethodType.genericMethodType(6)
+                                .changeReturnType(void.class));
+                    } catch (Throwable t) {
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+    };
+
+    private static volatile boolean bound = false;
+
+    private EcsAccessors() {
+    }
+
+    /**
+     * Resolve every handle. Safe to call more than once; later calls are no-ops.
+     *
+     * @param logger receives one line per handle that could not be bound (may be null)
+     */
+    public static synchronized void bind(Consumer<String> logger) {
+        if (bound) return;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            interactionsType = componentTypeOf(Interactions.class);
+        } catch (Throwable t) {
+            warn(logger, "Interactions component type", t);
+        }
+        try {
+            interactableType = componentTypeOf(Interactable.class);
+        } catch (Throwable t) {
+            warn(logger, "Interactable component type", t);
+        }
+
+        try {
+            getInteractionId = lookup.unreflect(Interactions.class.getMethod("getInteractionId", InteractionType.class))
+                    .asType(MethodType.methodType(String.class, Object.class, InteractionType.class));
+            setInteractionId = lookup.unreflect(
+                            Interactions.class.getMethod("setInteractionId", InteractionType.class, String.class))
+                    .asType(MethodType.methodType(void.class, Object.class, InteractionType.class, String.class));
+            getInteractionHint = lookup.unreflect(Interactions.class.getMethod("getInteractionHint"))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            setInteractionHint = lookup.unreflect(Interactions.class.getMethod("setInteractionHint", String.class))
+                    .asType(MethodType.methodType(void.class, Object.class, String.class));
+        } catch (Throwable t) {
+            warn(logger, "Interactions accessors", t);
+        }
+
+        try {
+            Field modelField = ModelComponent.class.getDeclaredField("model");
+            modelField.setAccessible(true);
+            modelGetter = lookup.unreflectGetter(modelField)
+                    .asType(MethodType.methodType(Object.class, ModelComponent.class));
+            modelSetter = lookup.unreflectSetter(modelField)
+                    .asType(MethodType.methodType(void.class, ModelComponent.class, Object.class));
+        } catch (Throwable t) {
+            warn(logger, "ModelComponent.model", t);
+        }
+        try {
+            Field assetIdField = Model.class.getDeclaredField("modelAssetId");
+            assetIdField.setAccessible(true);
+            modelAssetIdGetter = lookup.unreflectGetter(assetIdField)
+                    .asType(MethodType.methodType(String.class, Model.class));
+        } catch (Throwable t) {
+            warn(logger, "Model.modelAssetId", t);
+        }
+        try {
+            modelToReference = lookup.unreflect(Model.class.getMethod("toReference"))
+                    .asType(MethodType.methodType(Object.class, Model.class));
+        } catch (Throwable t) {
+            // Optional - older servers set the Model directly
+        }
+
+        // Optional sync hooks after replacing a model
+        for (Method m : Store.class.getMethods()) {
+            if (m.getName().equals("setComponent") && m.getParameterCount() == 3
+                    && m.getParameterTypes()[0].isAssignableFrom(Ref.class)) {
+                try {
+                    storeSetComponent = lookup.unreflect(m).asType(MethodType.methodType(
+                            void.class, Store.class, Ref.class, ComponentType.class, Object.class));
+                } catch (Throwable t) {
+                    // Optional
+                }
+                break;
+            }
+        }
+        try {
+            modelMarkDirty = lookup.unreflect(ModelComponent.class.getMethod("markDirty"))
+                    .asType(MethodType.methodType(void.class, ModelComponent.class));
+        } catch (Throwable t) {
+            try {
+                modelMarkDirty = MethodHandles.insertArguments(
+                        lookup.unreflect(ModelComponent.class.getMethod("setChanged", boolean.class)), 1, true)
+                        .asType(MethodType.methodType(void.class, ModelComponent.class));
+            } catch (Throwable t2) {
+                // Optional
+            }
+        }
+
+        try {
+            modelSetScale = lookup.unreflect(ModelComponent.class.getMethod("setScale", float.class))
+                    .asType(MethodType.methodType(void.class, ModelComponent.class, float.class));
+        } catch (Throwable t) {
+            warn(logger, "ModelComponent.setScale", t);
+        }
+
+        try {
+            worldGetCommandBuffer = lookup.unreflect(World.class.getMethod("getCommandBuffer"))
+                    .asType(MethodType.methodType(Object.class, World.class));
+        } catch (Throwable t) {
+            // Optional - store sync is used on its own
+        }
+
+        try {
+            for (Method m : NPCPlugin.class.getMethods()) {
+                if (m.getName().equals("spawnNPC") && m.getParameterCount() == 5) {
+                    spawnNpcByRoleId = lookup.unreflect(m).asType(MethodType.genericMethodType(6));
+                    break;
+                }
+            }
+        } catch (Throwable t) {
+            // Optional - spawnEntity is the fallback
+        }
+        try {
+            hasRoleName = lookup.unreflect(NPCPlugin.class.getMethod("hasRoleName", String.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class, String.class));
+        } catch (Throwable t) {
+            warn(logger, "NPCPlugin.hasRoleName", t);
+        }
+
+        try {
+            for (Method m : NPCPlugin.class.getMethods()) {
+                if (m.getName().equals("spawnEntity") && m.getParameterCount() == 6) {
+                    Class<?> callbackType = m.getParameterTypes()[5];
+                    noOpSpawnCallback = Proxy.newProxyInstance(callbackType.getClassLoader(),
+                            new Class<?>[] { callbackType }, (proxy, method, args) -> null);
+                    spawnEntity = lookup.unreflect(m).asType(MethodType.genericMethodType(7));
+                    break;
+                }
+            }
+            if (spawnEntity == null) {
+                warn(logger, "NPCPlugin.spawnEntity", null);
+            }
+        } catch (Throwable t) {
+            warn(logger, "NPCPlugin.spawnEntity", t);
+        }
+
+        try {
+            for (Method m : ParticleUtil.class.getMethods()) {
+                if (m.getName().equals("spawnParticleEffect") && m.getParameterCount() == 3) {
+                    Class<?>[] params = m.getParameterTypes();
+                    if (params[0] == String.class && params[1] == Vector3d.class
+                            && params[2].getSimpleName().equals("ComponentAccessor")) {
+                        spawnParticleEffect = lookup.unreflect(m).asType(
+                                MethodType.methodType(void.class, String.class, Vector3d.class, Object.class));
+                        break;
+                    }
+                }
+            }
+            if (spawnParticleEffect == null) {
+                warn(logger, "ParticleUtil.spawnParticleEffect", null);
+            }
+        } catch (Throwable t) {
+            warn(logger, "ParticleUtil.spawnParticleEffect", t);
+        }
+
+        try {
+            itemAdjustQuantity = lookup.unreflect(ItemStack.class.getMethod("adjustQuantity", int.class))
+                    .asType(MethodType.methodType(void.class, ItemStack.class, int.class));
+        } catch (Throwable t) {
+            try {
+                itemSetQuantity = lookup.unreflect(ItemStack.class.getMethod("setQuantity", int.class))
+                        .asType(MethodType.methodType(void.class, ItemStack.class, int.class));
+            } catch (Throwable t2) {
+                warn(logger, "ItemStack quantity setters", t2);
+            }
+        }
+
+        bound = true;
+    }
+
+    public static boolean isBound() {
+        return bound;
+    }
+
+    /**
+     * One-line status for /breedcaches.
+     */
+    public static String getBoundSummary() {
+        int total = 0;
+        int ok = 0;
+        for (Object handle : new Object[] { interactionsType, interactableType, getInteractionId, setInteractionId,
+                getInteractionHint, setInteractionHint, modelGetter, modelSetter, modelSetScale, spawnNpcByRoleId,
+                hasRoleName, spawnEntity, spawnParticleEffect }) {
+            total++;
+            if (handle != null) ok++;
+        }
+        return ok + "/" + total + " bound";
+    }
+
+    // ==================== Transforms ====================
+
+    /**
+     * Read an entity's position. Must be called on the world thread.
+     *
+     * @return the live position vector, or null if the entity has no transform
+     */
+    public static Vector3d getPosition(Store<EntityStore> store, Ref<EntityStore> ref) {
+        TransformComponent transform = store.getComponent(ref, TRANSFORM_TYPE);
+        return transform != null ? transform.getPosition() : null;
+    }
+
+    // ==================== Models ====================
+
+    public static ModelComponent getModelComponent(Store<EntityStore> store, Ref<EntityStore> ref) {
+        return store.getComponent(ref, MODEL_TYPE);
+    }
+
+    /**
+     * Read the private ModelComponent.model field.
+     */
+    public static Object getModel(ModelComponent modelComp) {
+        if (modelGetter == null || modelComp == null) return null;
+        try {
+            return (Object) modelGetter.invokeExact(modelComp);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Replace the model on a ModelComponent, converting to a model reference when the
+     * server supports it.
+     *
+     * @return false if the model field could not be bound
+     */
+    public static boolean setModel(ModelComponent modelComp, Model model) {
+        if (modelSetter == null) return false;
+        Object value = model;
+        if (modelToReference != null) {
+            try {
+                Object reference = (Object) modelToReference.invokeExact(model);
+                if (reference != null) value = reference;
+            } catch (Throwable t) {
+                // Fall back to the model itself
+            }
+        }
+        try {
+            modelSetter.invokeExact(modelComp, value);
+            return true;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    /**
+     * Read the private Model.modelAssetId field.
+     */
+    public static String getModelAssetId(Model model) {
+        if (modelAssetIdGetter == null || model == null) return null;
+        try {
+            return (String) modelAssetIdGetter.invokeExact(model);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Scale an entity's model.
+     *
+     * @return false if ModelComponent.setScale could not be bound
+     */
+    public static boolean setModelScale(ModelComponent modelComp, float scale) {
+        if (modelSetScale == null || modelComp == null) return false;
+        try {
+            modelSetScale.invokeExact(modelComp, scale);
+            return true;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    /**
+     * Push a replaced ModelComponent back through the store so the change is synced to clients.
+     * Uses whichever of setComponent / markDirty / setChanged the server exposes, then queues
+     * the same update on the world's CommandBuffer when there is one.
+     */
+    public static void syncModel(World world, Store<EntityStore> store, Ref<EntityStore> ref,
+                                 ModelComponent modelComp) {
+        if (storeSetComponent != null) {
+            try {
+                storeSetComponent.invokeExact(store, ref, (ComponentType) MODEL_TYPE, (Object) modelComp);
+            } catch (Throwable t) {
+                // Fall through to dirty flag
+            }
+        }
+        if (modelMarkDirty != null) {
+            try {
+                modelMarkDirty.invokeExact(modelComp);
+            } catch (Throwable t) {
+                // Best effort
+            }
+        }
+        if (worldGetCommandBuffer != null && world != null) {
+            try {
+                Object commandBuffer = (Object) worldGetCommandBuffer.invokeExact(world);
+                MethodHandle setComponent = commandBuffer != null
+                        ? BUFFER_SET_COMPONENT.get(commandBuffer.getClass()) : null;
+                if (setComponent != null) {
+                    setComponent.invokeExact(commandBuffer, (Object) ref, (Object) MODEL_TYPE, (Object) modelComp);
+                }
+            } catch (Throwable t) {
+                // Best effort
+            }
+        }
+    }
+
+    // ==================== Interactions ====================
+
+    /**
+     * Get the Interactions component, or null for entities that aren't NPCs.
+     */
+    public static Object getInteractions(Store<EntityStore> store, Ref<EntityStore> ref) {
+        return interactionsType != null ? store.getComponent(ref, interactionsType) : null;
+    }
+
+    /**
+     * Ensure the Interactable component exists (required for hints to display in solo mode).
+     */
+    public static void ensureInteractable(Store<EntityStore> store, Ref<EntityStore> ref) {
+        if (interactableType == null) return;
+        try {
+            store.ensureAndGetComponent(ref, interactableType);
+        } catch (Exception e) {
+            // Silent - component may already exist
+        }
+    }
+
+    public static boolean hasInteractionAccessors() {
+        return interactionsType != null && setInteractionId != null && setInteractionHint != null;
+    }
+
+    public static String getInteractionId(Object interactions, InteractionType type) {
+        try {
+            return (String) getInteractionId.invokeExact(interactions, type);
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    public static void setInteractionId(Object interactions, InteractionType type, String interactionId) {
+        try {
+            setInteractionId.invokeExact(interactions, type, interactionId);
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    public static String getInteractionHint(Object interactions) {
+        try {
+            return (String) getInteractionHint.invokeExact(interactions);
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    public static void setInteractionHint(Object interactions, String hint) {
+        try {
+            setInteractionHint.invokeExact(interactions, hint);
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    // ==================== NPC spawning ====================
+
+    /**
+     * Remove an entity with a despawn reason. Must be called on the world thread.
+     */
+    public static void removeEntity(Store<EntityStore> store, Ref<EntityStore> ref) {
+        store.removeEntity(ref, DESPAWN_REASON);
+    }
+
+    /**
+     * Check whether NPCPlugin knows a role.
+     *
+     * @return false if the role is unknown or hasRoleName could not be bound
+     */
+    public static boolean hasNpcRole(String roleId) {
+        if (hasRoleName == null || roleId == null) return false;
+        try {
+            return (boolean) hasRoleName.invokeExact((Object) NPCPlugin.get(), roleId);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Spawn an NPC by role ID through NPCPlugin.spawnNPC, which applies the role's own spawn
+     * setup. The variant argument is tried as null and then as "" since servers differ on
+     * which they accept. Must be called on the world thread.
+     *
+     * @return the new entity's ref, or null if spawnNPC is unavailable or failed
+     */
+    @SuppressWarnings("unchecked")
+    public static Ref<EntityStore> spawnNpc(Store<EntityStore> store, String roleId, Vector3d position,
+                                            Vector3f rotation) {
+        if (spawnNpcByRoleId == null) return null;
+        Object result = null;
+        for (Object variant : new Object[] { null, "" }) {
+            try {
+                result = (Object) spawnNpcByRoleId.invokeExact((Object) NPCPlugin.get(), (Object) store,
+                        (Object) roleId, variant, (Object) position, (Object) rotation);
+            } catch (Throwable t) {
+                continue;
+            }
+            if (result != null) break;
+        }
+        if (result == null) return null;
+        if (result instanceof Ref<?> ref) return (Ref<EntityStore>) ref;
+        MethodHandle getFirst = GET_FIRST.get(result.getClass());
+        if (getFirst == null) return null;
+        try {
+            return (Ref<EntityStore>) (Object) getFirst.invokeExact(result);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Spawn an NPC by role index. Must be called on the world thread.
+     *
+     * @param model optional model override (e.g. a scaled baby model), may be null
+     * @return the new entity's ref, or null if spawning failed
+     */
+    @SuppressWarnings("unchecked")
+    public static Ref<EntityStore> spawnNpc(Store<EntityStore> store, int roleIndex, Vector3d position,
+                                            Vector3f rotation, Model model) {
+        if (spawnEntity == null) return null;
+        try {
+            Object result = (Object) spawnEntity.invokeExact((Object) NPCPlugin.get(), (Object) store,
+                    (Object) Integer.valueOf(roleIndex), (Object) position, (Object) rotation, (Object) model,
+                    noOpSpawnCallback);
+            if (result == null) return null;
+            MethodHandle getFirst = GET_FIRST.get(result.getClass());
+            if (getFirst == null) return null;
+            Object ref = (Object) getFirst.invokeExact(result);
+            return (Ref<EntityStore>) ref;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    // ==================== Interactions and items ====================
+
+    /**
+     * Start an interaction chain on an entity through the context's interaction manager.
+     * Must be called on the world thread.
+     *
+     * @return false if the manager has no startChain we can call
+     */
+    public static boolean startChain(Object interactionManager, Ref<EntityStore> ref, Object commandBuffer,
+                                     InteractionType type, Object context, Object rootInteraction) {
+        MethodHandle startChain = interactionManager != null ? START_CHAIN.get(interactionManager.getClass()) : null;
+        if (startChain == null) return false;
+        try {
+            startChain.invokeExact(interactionManager, (Object) ref, commandBuffer, (Object) type, context,
+                    rootInteraction);
+            return true;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    /**
+     * Remove items from a held-item container slot.
+     *
+     * @return false if the container has no slot removal method we can call
+     */
+    public static boolean removeFromSlot(Object container, short slot, int quantity) {
+        MethodHandle remove = container != null ? REMOVE_FROM_SLOT.get(container.getClass()) : null;
+        if (remove == null) return false;
+        try {
+            remove.invokeExact(container, slot, quantity);
+            return true;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    /**
+     * Change an item stack's quantity in place.
+     *
+     * @return false if neither adjustQuantity nor setQuantity could be bound
+     */
+    public static boolean adjustQuantity(ItemStack stack, int delta) {
+        try {
+            if (itemAdjustQuantity != null) {
+                itemAdjustQuantity.invokeExact(stack, delta);
+                return true;
+            }
+            if (itemSetQuantity != null) {
+                itemSetQuantity.invokeExact(stack, stack.getQuantity() + delta);
+                return true;
+            }
+            return false;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    // ==================== Particles and sound ====================
+
+    /**
+     * Spawn a particle system at a position. No-op if ParticleUtil could not be bound.
+     */
+    public static boolean spawnParticles(String particleSystemId, Vector3d position, Store<EntityStore> store) {
+        if (spawnParticleEffect == null) return false;
+        try {
+            spawnParticleEffect.invokeExact(particleSystemId, position, (Object) store);
+            return true;
+        } catch (Throwable t) {
+            throw asUnchecked(t);
+        }
+    }
+
+    /**
+     * Play a sound event in 3D at a position.
+     */
+    public static void playSound3d(String soundEventId, Vector3d position, Store<EntityStore> store) {
+        int soundId = SoundEvent.getAssetMap().getIndex(soundEventId);
+        if (soundId < 0) return;
+        SoundUtil.playSoundEvent3d(soundId, SoundCategory.SFX,
+                position.getX(), position.getY(), position.getZ(), store);
+    }
+
+    // ==================== Internals ====================
+
+    @SuppressWarnings("unchecked")
+    private static ComponentType<EntityStore, ?> componentTypeOf(Class<?> componentClass) throws Throwable {
+        Method m = componentClass.getMethod("getComponentType");
+        m.setAccessible(true);
+        return (ComponentType<EntityStore, ?>) m.invoke(null);
+    }
+
+    private static RemoveReason resolveDespawnReason() {
+        RemoveReason[] reasons = RemoveReason.values();
+        for (RemoveReason reason : reasons) {
+            String name = reason.toString();
+            if (name.contains("DESPAWN") || name.contains("REMOVE")) {
+                return reason;
+            }
+        }
+        return reasons[0];
+    }
+
+    private static RuntimeException asUnchecked(Throwable t) {
+        if (t instanceof RuntimeException re) return re;
+        if (t instanceof Error e) throw e;
+        return new IllegalStateException(t);
+    }
+
+    private static void warn(Consumer<String> logger, String what, Throwable t) {
+        if (logger != null) {
+            logger.accept("[EcsAccessors] Could not bind " + what + (t != null ? ": " + t.getMessage() : ""));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.laits.breeding.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The length + CRC32 framed file format shared by the breeding checkpoint and the taming
+ * journal.
+ *
+ * A file starts with an 8-byte header (magic, format version) and is followed by frames of
+ * [length][crc32][payload]. Frames are only ever appended, so a crash can leave at most a
+ * torn frame at the end. Readers stop at the first torn or corrupt frame and keep everything
+ * before it; writers reopening a file truncate it back to its last intact frame first.
+ *
+ * Frames can be written to a stream ({@link #writeFrame}) or built in place in a buffer
+ * ({@link #beginFrame}/{@link #endFrame}), and read back from a stream ({@link Reader}) or
+ * a buffer ({@link #nextFrame}).
+ */
+public final class FramedLog {
+
+    /** Bytes of the file header: magic, format version. */
+    public static final int FILE_HEADER_BYTES = 8;
+    /** Bytes in front of each payload: length, CRC32. */
+    public static final int FRAME_HEADER_BYTES = 8;
+
+    /**
+     * Why a reader stopped.
+     */
+    public enum Stop {
+        /** Still reading, or the file ended cleanly after the last frame. */
+        END,
+        /** The last frame was cut short, as a crash mid-append leaves it. */
+        TORN,
+        /** A frame had an impossible length or a checksum mismatch. */
+        CORRUPT
+    }
+
+    private FramedLog() {
+    }
+
+    // ==================== Files ====================
+
+    /**
+     * Read and check a file header.
+     *
+     * @return true if the header carries this magic and version
+     */
+    public static boolean readHeader(DataInputStream in, int magic, int version) throws IOException {
+        try {
+            return in.readInt() == magic && in.readInt() == version;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Create (or truncate) a file holding just the header, synced, and open for appending.
+     */
+    public static FileChannel create(Path file, int magic, int version) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        writeHeader(channel, magic, version);
+        channel.force(false);
+        return channel;
+    }
+
+    /**
+     * Write the header at the channel's position.
+     */
+    public static void writeHeader(FileChannel channel, int magic, int version) throws IOException {
+        writeFully(channel, ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(magic).putInt(version).flip());
+    }
+
+    /**
+     * Open an existing file for appending, dropping a torn or corrupt tail so new frames
+     * follow the last intact one.
+     *
+     * @throws IOException if the file has a different magic or version
+     */
+    public static FileChannel openAppend(Path file, int magic, int version, int maxFrameBytes) throws IOException {
+        long valid = validLength(file, magic, version, maxFrameBytes);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.truncate(valid);
+        channel.position(valid);
+        return channel;
+    }
+
+    /**
+     * Length of a file up to the end of its last intact frame.
+     *
+     * @throws IOException if the file has a different magic or version
+     */
+    public static long validLength(Path file, int magic, int version, int maxFrameBytes) throws IOException {
+        try (DataInputStream in = openRead(file)) {
+            if (!readHeader(in, magic, version)) {
+                throw new IOException("Unknown format in " + file);
+            }
+            Reader frames = new Reader(in, maxFrameBytes);
+            while (frames.next() != null) {
+                // Just counting
+            }
+            return FILE_HEADER_BYTES + frames.validBytes();
+        }
+    }
+
+    /**
+     * Open a file for sequential reading.
+     */
+    public static DataInputStream openRead(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+    }
+
+    /**
+     * Move a fully written temp file over the target, atomically where the file system allows.
+     */
+    public static void replace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ==================== Frames ====================
+
+    /**
+     * Write one frame to a stream.
+     */
+    public static void writeFrame(DataOutputStream out, byte[] payload, CRC32 crc) throws IOException {
+        crc.reset();
+        crc.update(payload);
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+    }
+
+    /**
+     * Reserve a frame header at the buffer's position; the payload is put after it.
+     *
+     * @return the frame's start, for {@link #endFrame}
+     */
+    public static int beginFrame(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + FRAME_HEADER_BYTES);
+        return start;
+    }
+
+    /**
+     * Fill in the header of a frame whose payload runs from after the header to the
+     * buffer's position.
+     *
+     * @return the payload length
+     */
+    public static int endFrame(ByteBuffer buffer, int start, CRC32 crc) {
+        int length = buffer.position() - start - FRAME_HEADER_BYTES;
+        crc.reset();
+        crc.update(buffer.slice(start + FRAME_HEADER_BYTES, length));
+        buffer.putInt(start, length);
+        buffer.putInt(start + 4, (int) crc.getValue());
+        return length;
+    }
+
+    /**
+     * Read the next intact frame from a buffer.
+     *
+     * @return the payload, or null at the end or at a torn or corrupt frame; in that case the
+     *         buffer's position is left at the frame, so remaining bytes mean it was not the end
+     */
+    public static ByteBuffer nextFrame(ByteBuffer log, int maxFrameBytes, CRC32 crc) {
+        if (log.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int start = log.position();
+        int length = log.getInt(start);
+        int expectedCrc = log.getInt(start + 4);
+        if (length <= 0 || length > maxFrameBytes || length > log.remaining() - FRAME_HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = log.slice(start + FRAME_HEADER_BYTES, length);
+        crc.reset();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        log.position(start + FRAME_HEADER_BYTES + length);
+        return payload;
+    }
+
+    /**
+     * Reads frames from a stream positioned after the file header, stopping at the end,
+     * a torn frame or a corrupt one.
+     */
+    public static final class Reader {
+        private final DataInputStream in;
+        private final int maxFrameBytes;
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[256];
+        private int length;
+        private int frames;
+        private long validBytes;
+        private Stop stop = Stop.END;
+
+        public Reader(DataInputStream in, int maxFrameBytes) {
+            this.in = in;
+            this.maxFrameBytes = maxFrameBytes;
+        }
+
+        /**
+         * @return the next payload (valid up to {@link #length()}; the array is reused), or null
+         *         once the reader has stopped
+         */
+        public byte[] next() throws IOException {
+            if (stop != Stop.END) {
+                return null;
+            }
+            int frameLength;
+            try {
+                frameLength = in.readInt();
+            } catch (EOFException end) {
+                return null;
+            }
+            if (frameLength <= 0 || frameLength > maxFrameBytes) {
+                stop = Stop.CORRUPT;
+                return null;
+            }
+            int expectedCrc;
+            try {
+                expectedCrc = in.readInt();
+                if (buffer.length < frameLength) {
+                    buffer = new byte[Math.max(frameLength, buffer.length * 2)];
+                }
+                in.readFully(buffer, 0, frameLength);
+            } catch (EOFException torn) {
+                stop = Stop.TORN;
+                return null;
+            }
+            crc.reset();
+            crc.update(buffer, 0, frameLength);
+            if ((int) crc.getValue() != expectedCrc) {
+                stop = Stop.CORRUPT;
+                return null;
+            }
+            length = frameLength;
+            frames++;
+            validBytes += FRAME_HEADER_BYTES + frameLength;
+            return buffer;
+        }
+
+        /**
+         * Length of the payload last returned by {@link #next()}.
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * Number of intact frames read.
+         */
+        public int frames() {
+            return frames;
+        }
+
+        /**
+         * Bytes of intact frames read, headers included.
+         */
+        public long validBytes() {
+            return validBytes;
+        }
+
+        /**
+         * Why {@link #next()} returned null; END while reading or after a clean end.
+         */
+        public Stop stop() {
+            return stop;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.laits.breeding.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Uniform spatial hash grid of in-love animals, partitioned by species.
+ *
+ * Built once per love tick from positions read on the world thread. With the cell size
+ * equal to the breeding distance, a mate lookup only inspects the 27 surrounding cells,
+ * so matching costs roughly O(1) per animal instead of comparing every pair.
+ *
+ * Species keys are opaque: AnimalType for built-in animals, modelAssetId for custom ones.
+ * Not thread-safe while being built; treat as read-only once published.
+ *
+ * @param <T> payload stored per animal (BreedingData, CustomAnimalLoveData, ...)
+ */
+public final class MateGrid<T> {
+
+    // 21 bits per axis, enough for +/- 1M cells
+    private static final int AXIS_BITS = 21;
+    private static final long AXIS_MASK = (1L << AXIS_BITS) - 1;
+
+    private final double cellSize;
+    private final Map<Object, Map<Long, List<Entry<T>>>> cellsBySpecies = new HashMap<>();
+    private final Map<Object, List<Entry<T>>> entriesBySpecies = new LinkedHashMap<>();
+    private int size;
+
+    /**
+     * @param cellSize edge length of a grid cell; use the breeding distance
+     */
+    public MateGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add an animal at a position.
+     */
+    public void add(Object species, T animal, double x, double y, double z) {
+        Entry<T> entry = new Entry<>(animal, species, x, y, z);
+        cellsBySpecies.computeIfAbsent(species, k -> new HashMap<>())
+                .computeIfAbsent(cellKey(cell(x), cell(y), cell(z)), k -> new ArrayList<>(2))
+                .add(entry);
+        entriesBySpecies.computeIfAbsent(species, k -> new ArrayList<>()).add(entry);
+        size++;
+    }
+
+    /**
+     * Number of animals in the grid.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find animals of a species within a radius of a point, nearest first.
+     *
+     * @param filter extra condition on the payload (e.g. still in love, not self)
+     */
+    public List<Entry<T>> findWithin(Object species, double x, double y, double z,
+                                     double radius, Predicate<T> filter) {
+        Map<Long, List<Entry<T>>> cells = cellsBySpecies.get(species);
+        if (cells == null) {
+            return Collections.emptyList();
+        }
+
+        double radiusSq = radius * radius;
+        int reach = (int) Math.ceil(radius / cellSize);
+        int cx = cell(x), cy = cell(y), cz = cell(z);
+
+        List<Entry<T>> result = new ArrayList<>();
+        for (int dx = -reach; dx <= reach; dx++) {
+            for (int dy = -reach; dy <= reach; dy++) {
+                for (int dz = -reach; dz <= reach; dz++) {
+                    List<Entry<T>> bucket = cells.get(cellKey(cx + dx, cy + dy, cz + dz));
+                    if (bucket == null) continue;
+                    for (Entry<T> entry : bucket) {
+                        if (entry.distanceSq(x, y, z) <= radiusSq && filter.test(entry.animal())) {
+                            result.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(e -> e.distanceSq(x, y, z)));
+        return result;
+    }
+
+    /**
+     * Greedily pair every animal with its nearest unpaired mate of the same species
+     * within {@code maxDistance}. Each animal appears in at most one pair.
+     */
+    public List<Pair<T>> pairAll(double maxDistance) {
+        List<Pair<T>> pairs = new ArrayList<>();
+        double maxDistanceSq = maxDistance * maxDistance;
+        int reach = (int) Math.ceil(maxDistance / cellSize);
+        Set<Entry<T>> paired = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Map.Entry<Object, List<Entry<T>>> speciesEntries : entriesBySpecies.entrySet()) {
+            List<Entry<T>> entries = speciesEntries.getValue();
+            if (entries.size() < 2) continue;
+            Map<Long, List<Entry<T>>> cells = cellsBySpecies.get(speciesEntries.getKey());
+
+            for (Entry<T> entry : entries) {
+                if (paired.contains(entry)) continue;
+
+                int cx = cell(entry.x()), cy = cell(entry.y()), cz = cell(entry.z());
+                Entry<T> best = null;
+                double bestSq = maxDistanceSq;
+                for (int dx = -reach; dx <= reach; dx++) {
+                    for (int dy = -reach; dy <= reach; dy++) {
+                        for (int dz = -reach; dz <= reach; dz++) {
+                            List<Entry<T>> bucket = cells.get(cellKey(cx + dx, cy + dy, cz + dz));
+                            if (bucket == null) continue;
+                            for (Entry<T> other : bucket) {
+                                if (other == entry || paired.contains(other)) continue;
+                                double distSq = other.distanceSq(entry.x(), entry.y(), entry.z());
+                                if (distSq <= bestSq) {
+                                    best = other;
+                                    bestSq = distSq;
+                                }
+                            }
+                        }
+                    }
+                }
+
+                if (best != null) {
+                    paired.add(entry);
+                    paired.add(best);
+                    pairs.add(new Pair<>(entry, best));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((cx & AXIS_MASK) << (2 * AXIS_BITS)) | ((cy & AXIS_MASK) << AXIS_BITS) | (cz & AXIS_MASK);
+    }
+
+    /**
+     * An animal and the position it was indexed at.
+     */
+    public record Entry<T>(T animal, Object species, double x, double y, double z) {
+        double distanceSq(double ox, double oy, double oz) {
+            double dx = x - ox;
+            double dy = y - oy;
+            double dz = z - oz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Two mates matched by {@link #pairAll(double)}.
+     */
+    public record Pair<T>(Entry<T> first, Entry<T> second) {
+        public double midX() { return (first.x() + second.x()) / 2.0; }
+        public double midY() { return (first.y() + second.y()) / 2.0; }
+        public double midZ() { return (first.z() + second.z()) / 2.0; }
+
+        public double distance() {
+            return Math.sqrt(first.distanceSq(second.x(), second.y(), second.z()));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.laits.breeding.util;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.asset.type.model.config.Model;
+import com.hypixel.hytale.server.core.modules.entity.component.ModelComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.laits.breeding.models.SpeciesDescriptor;
+import com.laits.breeding.models.SpeciesIndex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves an entity's model to a {@link SpeciesDescriptor}.
+ *
+ * Models are cached by instance identity in a small direct-mapped table, so the common
+ * case (same Model object seen again by a scan or the spawn detector) is one array read
+ * and a reference compare with no allocation. On a miss the modelAssetId is read through
+ * the bound Model.modelAssetId accessor (Model.toString() parsing is only a fallback if
+ * that accessor couldn't be bound) and classified once per distinct ID.
+ *
+ * Classification goes through the config's {@link SpeciesIndex}. Both caches are dropped
+ * when ConfigManager publishes a new index, so adding or removing a custom animal takes
+ * effect immediately. Each cached descriptor is tagged with the {@link Classifier} (one per
+ * index) that produced it, so a lookup that started against the old index and stores its
+ * result after the swap leaves an entry that is never served.
+ */
+public final class ModelAssetIdResolver {
+
+    // Power of two; entries are overwritten on collision so memory stays bounded
+    private static final int MODEL_CACHE_SIZE = 4096;
+    private static final int MODEL_CACHE_MASK = MODEL_CACHE_SIZE - 1;
+
+    private static final ModelEntry[] modelCache = new ModelEntry[MODEL_CACHE_SIZE];
+
+    private static volatile ConfigManager config;
+    private static volatile Classifier classifier = new Classifier(SpeciesIndex.builtIn());
+
+    // Stats for /breedcaches
+    private static final LongAdder modelHits = new LongAdder();
+    private static final LongAdder modelMisses = new LongAdder();
+
+    private ModelAssetIdResolver() {
+    }
+
+    /**
+     * Set the config used to recognise custom animals (called at plugin start).
+     */
+    public static void setConfigManager(ConfigManager configManager) {
+        config = configManager;
+        invalidate();
+    }
+
+    /**
+     * Resolve the entity's current model. Must be called on the world thread.
+     *
+     * @return the descriptor, or null if the entity has no model
+     */
+    public static SpeciesDescriptor resolve(Store<EntityStore> store, Ref<EntityStore> entityRef) {
+        ModelComponent modelComp = store.getComponent(entityRef, EcsAccessors.MODEL_TYPE);
+        return modelComp != null ? resolve(modelComp) : null;
+    }
+
+    /**
+     * Resolve a ModelComponent's model.
+     *
+     * @return the descriptor, or null if the component has no model or no readable ID
+     */
+    public static SpeciesDescriptor resolve(ModelComponent modelComp) {
+        if (!EcsAccessors.isBound()) {
+            EcsAccessors.bind(null);
+        }
+        Object model = EcsAccessors.getModel(modelComp);
+        return model != null ? resolveModel(model) : null;
+    }
+
+    /**
+     * Resolve a Model instance, using the identity cache.
+     */
+    public static SpeciesDescriptor resolveModel(Object model) {
+        Classifier current = currentClassifier();
+
+        int slot = System.identityHashCode(model) & MODEL_CACHE_MASK;
+        ModelEntry entry = modelCache[slot];
+        if (entry != null && entry.model == model && entry.classifier == current) {
+            modelHits.increment();
+            return entry.descriptor;
+        }
+
+        modelMisses.increment();
+        String modelAssetId = readModelAssetId(model);
+        if (modelAssetId == null) {
+            return null;
+        }
+        SpeciesDescriptor descriptor = current.resolve(modelAssetId);
+        modelCache[slot] = new ModelEntry(model, current, descriptor);
+        return descriptor;
+    }
+
+    /**
+     * Resolve a model asset ID (e.g. from config or a command argument).
+     */
+    public static SpeciesDescriptor resolveId(String modelAssetId) {
+        if (modelAssetId == null) {
+            return null;
+        }
+        return currentClassifier().resolve(modelAssetId);
+    }
+
+    /**
+     * Convenience for callers that only need the ID.
+     */
+    public static String getModelAssetId(ModelComponent modelComp) {
+        SpeciesDescriptor descriptor = resolve(modelComp);
+        return descriptor != null ? descriptor.getModelAssetId() : null;
+    }
+
+    /**
+     * Drop all cached descriptors.
+     */
+    public static void invalidate() {
+        classifier = new Classifier(currentIndex());
+        for (int i = 0; i < MODEL_CACHE_SIZE; i++) {
+            modelCache[i] = null;
+        }
+    }
+
+    public static long getModelCacheHits() {
+        return modelHits.sum();
+    }
+
+    public static long getModelCacheMisses() {
+        return modelMisses.sum();
+    }
+
+    public static int getIdCacheSize() {
+        return classifier.ids.size();
+    }
+
+    private static SpeciesIndex currentIndex() {
+        ConfigManager current = config;
+        return current != null ? current.getSpeciesIndex() : SpeciesIndex.builtIn();
+    }
+
+    private static Classifier currentClassifier() {
+        Classifier current = classifier;
+        if (current.index != currentIndex()) {
+            invalidate();
+            current = classifier;
+        }
+        return current;
+    }
+
+    private static String readModelAssetId(Object model) {
+        if (model instanceof Model typed) {
+            String modelAssetId = EcsAccessors.getModelAssetId(typed);
+            if (modelAssetId != null) {
+                return modelAssetId;
+            }
+        }
+
+        // Fallback: Model{modelAssetId='Cow', scale=1.0, ...}
+        String modelStr = model.toString();
+        int start = modelStr.indexOf("modelAssetId='");
+        if (start < 0) return null;
+        start += 14;
+        int end = modelStr.indexOf("'", start);
+        if (end <= start) return null;
+        return modelStr.substring(start, end);
+    }
+
+    /**
+     * Classifies model asset IDs against one SpeciesIndex and caches the results.
+     * Replaced as a whole when the index changes.
+     */
+    private static final class Classifier {
+        final SpeciesIndex index;
+        final Map<String, SpeciesDescriptor> ids = new ConcurrentHashMap<>();
+
+        Classifier(SpeciesIndex index) {
+            this.index = index;
+        }
+
+        SpeciesDescriptor resolve(String modelAssetId) {
+            return ids.computeIfAbsent(modelAssetId, this::classify);
+        }
+
+        private SpeciesDescriptor classify(String modelAssetId) {
+            SpeciesDescriptor species = index.lookup(modelAssetId);
+            return species != null ? species : SpeciesDescriptor.unknown(modelAssetId);
+        }
+    }
+
+    private static final class ModelEntry {
+        final Object model;
+        final Classifier classifier;
+        final SpeciesDescriptor descriptor;
+
+        ModelEntry(Object model, Classifier classifier, SpeciesDescriptor descriptor) {
+            this.model = model;
+            this.classifier = classifier;
+            this.descriptor = descriptor;
+        }
+    }
+}
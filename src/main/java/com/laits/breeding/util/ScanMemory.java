@@ -0,0 +1,95 @@
+package com.laits.breeding.util;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * What {@link AnimalScanner} remembers about one store: every entity seen in the last pass,
+ * keyed by identity, with the species it resolved to.
+ *
+ * A pass calls {@link #beginPass()}, then {@link #needsOffer} for each entity it visits and
+ * {@link #accept} or {@link #decline} for the ones it handed on, then {@link #endPass()} to
+ * forget entities it did not visit. Not thread-safe; one store's memory is only used from
+ * that store's world thread.
+ *
+ * @param <K> entity key (Ref in production), compared by identity
+ * @param <S> species (SpeciesDescriptor in production), compared by identity
+ */
+public class ScanMemory<K, S> {
+
+    private final Map<K, Seen<S>> seen = new IdentityHashMap<>();
+    private int epoch;
+
+    /**
+     * Start a pass.
+     */
+    public void beginPass() {
+        epoch++;
+    }
+
+    /**
+     * Check whether an entity visited in this pass is new or changed species. Unchanged
+     * entities are marked as visited.
+     *
+     * @return true if the entity should be handed on
+     */
+    public boolean needsOffer(K entity, S species) {
+        Seen<S> entry = seen.get(entity);
+        if (entry != null && entry.species == species) {
+            entry.epoch = epoch;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remember an entity as handled with this species; it won't be offered again until
+     * its species changes or it is forgotten.
+     */
+    public void accept(K entity, S species) {
+        Seen<S> entry = seen.computeIfAbsent(entity, e -> new Seen<>());
+        entry.species = species;
+        entry.epoch = epoch;
+    }
+
+    /**
+     * Forget an entity the handler declined, so the next pass offers it again.
+     */
+    public void decline(K entity) {
+        seen.remove(entity);
+    }
+
+    /**
+     * Forget entities not visited since {@link #beginPass()} (despawned or unloaded).
+     *
+     * @return the number forgotten
+     */
+    public int endPass() {
+        int forgotten = 0;
+        for (Iterator<Seen<S>> it = seen.values().iterator(); it.hasNext(); ) {
+            if (it.next().epoch != epoch) {
+                it.remove();
+                forgotten++;
+            }
+        }
+        return forgotten;
+    }
+
+    public boolean isKnown(K entity) {
+        return seen.containsKey(entity);
+    }
+
+    public int size() {
+        return seen.size();
+    }
+
+    public void clear() {
+        seen.clear();
+    }
+
+    private static final class Seen<S> {
+        S species;
+        int epoch;
+    }
+}
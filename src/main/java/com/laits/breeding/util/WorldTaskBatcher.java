@@ -0,0 +1,180 @@
+package com.laits.breeding.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Collects plugin ECS work per world and hands it to the world thread as a single task per flush.
+ *
+ * Instead of one world.execute() lambda per heart burst, species pair, scale update or respawn,
+ * callers submit() their work and the tick calls flush() once. On the world thread the batch
+ * runs until the configured time budget is spent; anything left over is carried to the next flush.
+ * Tasks submitted from inside a running batch (e.g. a respawn triggered by a respawn check)
+ * join the same batch instead of nesting another world.execute().
+ * A batch the world accepted but never ran (e.g. dropped while the world was stopping) is
+ * dispatched again after {@link #REDISPATCH_AFTER_FLUSHES} flushes, so the queue can't stall.
+ *
+ * @param <W> world type (World in production, anything in tests)
+ */
+public class WorldTaskBatcher<W> {
+
+    /** Flushes to wait for a dispatched batch to start before assuming the world dropped it. */
+    public static final int REDISPATCH_AFTER_FLUSHES = 20;
+
+    private final BiConsumer<W, Runnable> dispatcher;
+    private final DoubleSupplier budgetMs;
+    private final Map<W, WorldQueue> queues = new ConcurrentHashMap<>();
+    private Consumer<String> errorLogger;
+
+    // Stats for /breedcaches
+    private final AtomicLong dispatchedBatches = new AtomicLong();
+    private final AtomicLong executedTasks = new AtomicLong();
+    private final AtomicLong carriedOverTasks = new AtomicLong();
+
+    /**
+     * @param dispatcher runs a Runnable on the given world's thread (world::execute)
+     * @param budgetMs max milliseconds of batched work per world per flush; 0 or less = unlimited
+     */
+    public WorldTaskBatcher(BiConsumer<W, Runnable> dispatcher, DoubleSupplier budgetMs) {
+        this.dispatcher = dispatcher;
+        this.budgetMs = budgetMs;
+    }
+
+    /**
+     * Queue work to run on a world's thread at the next flush.
+     */
+    public void submit(W world, Runnable task) {
+        if (world == null || task == null) return;
+        queues.computeIfAbsent(world, w -> new WorldQueue()).tasks.add(task);
+    }
+
+    /**
+     * Dispatch one world.execute per world that has queued work and no batch already in flight.
+     */
+    public void flush() {
+        for (Map.Entry<W, WorldQueue> entry : queues.entrySet()) {
+            WorldQueue queue = entry.getValue();
+            if (queue.tasks.isEmpty()) {
+                continue;
+            }
+            if (!queue.scheduled.compareAndSet(false, true)) {
+                if (queue.draining || queue.waitingFlushes.incrementAndGet() < REDISPATCH_AFTER_FLUSHES) {
+                    continue;
+                }
+                logError("batch for " + entry.getKey() + " not run after " + REDISPATCH_AFTER_FLUSHES
+                        + " flushes, dispatching again");
+            }
+            queue.waitingFlushes.set(0);
+            try {
+                dispatcher.accept(entry.getKey(), () -> drain(queue));
+                dispatchedBatches.incrementAndGet();
+            } catch (Exception e) {
+                queue.scheduled.set(false);
+                logError("dispatch failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Run queued tasks on the world thread until the budget is spent.
+     * At least one task always runs so a slow task cannot starve the queue.
+     */
+    private void drain(WorldQueue queue) {
+        queue.draining = true;
+        try {
+            double budget = budgetMs.getAsDouble();
+            long deadline = budget > 0 ? System.nanoTime() + (long) (budget * 1_000_000) : Long.MAX_VALUE;
+
+            Runnable task;
+            while ((task = queue.tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logError("task failed: " + e.getMessage());
+                }
+                executedTasks.incrementAndGet();
+
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+
+            int remaining = queue.tasks.size();
+            if (remaining > 0) {
+                carriedOverTasks.addAndGet(remaining);
+            }
+        } finally {
+            queue.draining = false;
+            queue.scheduled.set(false);
+        }
+    }
+
+    /**
+     * Get the number of tasks waiting across all worlds.
+     */
+    public int getPendingCount() {
+        int total = 0;
+        for (WorldQueue queue : queues.values()) {
+            total += queue.tasks.size();
+        }
+        return total;
+    }
+
+    public long getDispatchedBatches() {
+        return dispatchedBatches.get();
+    }
+
+    public long getExecutedTasks() {
+        return executedTasks.get();
+    }
+
+    public long getCarriedOverTasks() {
+        return carriedOverTasks.get();
+    }
+
+    /**
+     * Forget a world (e.g. when it unloads), dropping its queued work.
+     */
+    public void removeWorld(W world) {
+        queues.remove(world);
+    }
+
+    /**
+     * Drop all queued work (used on plugin shutdown).
+     */
+    public void clear() {
+        queues.clear();
+    }
+
+    /**
+     * Set logger for task failures.
+     */
+    public void setErrorLogger(Consumer<String> logger) {
+        this.errorLogger = logger;
+    }
+
+    private void logError(String message) {
+        if (errorLogger != null) {
+            errorLogger.accept("[WorldTasks] " + message);
+        }
+    }
+
+    /**
+     * Pending tasks for one world plus whether a drain is already queued on its thread.
+     */
+    private static final class WorldQueue {
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean(false);
+        // Flushes since the last dispatch whose batch hasn't started yet
+        final AtomicInteger waitingFlushes = new AtomicInteger();
+        volatile boolean draining;
+    }
+}
@@ -0,0 +1,261 @@
+package com.animaltaming.core.registry;
+
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.TamingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for owner-scoped residency in TamedAnimalRegistry: LRU order of offline owners,
+ * eviction on the loader, and fault-in.
+ */
+class TamedAnimalRegistryTest {
+
+    private InMemoryRepository store;
+    private Queue<Runnable> loaderTasks;
+    private TamedAnimalRegistry registry;
+
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRepository();
+        loaderTasks = new ArrayDeque<>();
+        registry = new TamedAnimalRegistry(store, 2, loaderTasks::add);
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        carol = UUID.randomUUID();
+    }
+
+    private TamedAnimal animal(UUID owner) {
+        return TamedAnimal.create(UUID.randomUUID(), owner, "Owner", "Cow", 0, 64, 0, 16);
+    }
+
+    /** Run everything queued on the loader, as its thread would. */
+    private void runLoader() {
+        Runnable task;
+        while ((task = loaderTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private boolean isResident(TamedAnimal animal) {
+        return registry.getAll().contains(animal);
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should evict the least recently used offline owner")
+        void shouldEvictColdestOwner() {
+            TamedAnimal aliceAnimal = animal(alice);
+            TamedAnimal bobAnimal = animal(bob);
+            registry.register(aliceAnimal, 1);
+            registry.register(bobAnimal, 2);
+
+            // Alice becomes the most recently used
+            registry.register(animal(alice), 3);
+            registry.register(animal(carol), 4);
+
+            assertThat(isResident(bobAnimal)).isFalse();
+            assertThat(isResident(aliceAnimal)).isTrue();
+            assertThat(registry.getOfflineResidentOwnerCount()).isEqualTo(2);
+            assertThat(registry.isTamedAnimal(2)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should never evict online owners")
+        void shouldPinOnlineOwners() {
+            registry.ownerConnected(alice);
+            TamedAnimal aliceAnimal = animal(alice);
+            registry.register(aliceAnimal, 1);
+            for (int i = 0; i < 5; i++) {
+                registry.register(animal(UUID.randomUUID()), 10 + i);
+            }
+
+            assertThat(isResident(aliceAnimal)).isTrue();
+
+            registry.ownerDisconnected(alice);
+            registry.register(animal(bob), 20);
+            registry.register(animal(carol), 21);
+
+            assertThat(isResident(aliceAnimal)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should save evicted animals on the loader, not the calling thread")
+        void shouldSaveOnLoader() {
+            TamedAnimal bobAnimal = animal(bob);
+            registry.register(bobAnimal, 1);
+            registry.register(animal(alice), 2);
+            registry.register(animal(carol), 3);
+
+            assertThat(store.saves).isEmpty();
+
+            runLoader();
+
+            assertThat(store.saves).containsExactly(bobAnimal.id());
+            assertThat(store.animals).containsKey(bobAnimal.id());
+        }
+
+        @Test
+        @DisplayName("should not save an animal released before its eviction save ran")
+        void shouldSkipReleasedAnimal() {
+            TamedAnimal bobAnimal = animal(bob);
+            registry.register(bobAnimal, 1);
+            registry.register(animal(alice), 2);
+            registry.register(animal(carol), 3);
+
+            registry.unregister(bobAnimal.id());
+            runLoader();
+
+            assertThat(store.saves).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("fault-in")
+    class FaultIn {
+
+        @Test
+        @DisplayName("should take an animal back from a pending eviction without reading the store")
+        void shouldReclaimPendingEviction() {
+            TamedAnimal bobAnimal = animal(bob);
+            registry.register(bobAnimal, 1);
+            registry.register(animal(alice), 2);
+            registry.register(animal(carol), 3);
+
+            assertThat(registry.getByAnimalId(bobAnimal.id())).isEqualTo(Optional.of(bobAnimal));
+
+            runLoader();
+            assertThat(store.loads).isZero();
+            assertThat(store.saves).doesNotContain(bobAnimal.id());
+        }
+
+        @Test
+        @DisplayName("should queue a load on a miss and find the animal afterwards")
+        void shouldFaultInOnLoader() {
+            TamedAnimal stored = animal(bob);
+            store.animals.put(stored.id(), stored);
+
+            assertThat(registry.getByAnimalId(stored.id())).isEmpty();
+            assertThat(registry.getByAnimalId(stored.id())).isEmpty();
+            assertThat(store.loads).isZero();
+            assertThat(loaderTasks).hasSize(1);
+
+            runLoader();
+
+            assertThat(store.loads).isEqualTo(1);
+            assertThat(registry.getByAnimalId(stored.id())).isEqualTo(Optional.of(stored));
+        }
+
+        @Test
+        @DisplayName("should not queue loads for animals the store doesn't have")
+        void shouldIgnoreUnknownAnimals() {
+            assertThat(registry.getByAnimalId(UUID.randomUUID())).isEmpty();
+            assertThat(loaderTasks).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should load an evicted owner's animals on the loader")
+        void shouldFaultInOwner() {
+            TamedAnimal bobAnimal = animal(bob);
+            registry.register(bobAnimal, 1);
+            registry.register(animal(alice), 2);
+            registry.register(animal(carol), 3);
+            runLoader();
+
+            assertThat(registry.getByOwnerId(bob)).isEmpty();
+
+            runLoader();
+
+            assertThat(registry.getByOwnerId(bob)).containsExactly(bobAnimal);
+            assertThat(registry.isOwnerResident(bob)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should count faulted-in owners as most recently used")
+        void shouldTouchFaultedInOwner() {
+            TamedAnimal aliceAnimal = animal(alice);
+            TamedAnimal bobAnimal = animal(bob);
+            store.animals.put(aliceAnimal.id(), aliceAnimal);
+            registry.register(bobAnimal, 1);
+            registry.register(animal(carol), 2);
+
+            registry.loadOwner(alice);
+
+            assertThat(isResident(aliceAnimal)).isTrue();
+            assertThat(isResident(bobAnimal)).isFalse();
+        }
+    }
+
+    /** Map-backed repository that records calls. */
+    private static class InMemoryRepository implements TamingRepository {
+        final Map<UUID, TamedAnimal> animals = new HashMap<>();
+        final List<UUID> saves = new ArrayList<>();
+        int loads;
+
+        @Override
+        public void save(TamedAnimal animal) {
+            saves.add(animal.id());
+            animals.put(animal.id(), animal);
+        }
+
+        @Override
+        public Optional<TamedAnimal> load(UUID animalId) {
+            loads++;
+            return Optional.ofNullable(animals.get(animalId));
+        }
+
+        @Override
+        public boolean delete(UUID animalId) {
+            return animals.remove(animalId) != null;
+        }
+
+        @Override
+        public Set<UUID> findByOwner(UUID ownerId) {
+            Set<UUID> result = new HashSet<>();
+            for (TamedAnimal animal : animals.values()) {
+                if (animal.ownerId().equals(ownerId)) {
+                    result.add(animal.id());
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Collection<TamedAnimal> loadAll() {
+            return new ArrayList<>(animals.values());
+        }
+
+        @Override
+        public boolean exists(UUID animalId) {
+            return animals.containsKey(animalId);
+        }
+
+        @Override
+        public int count() {
+            return animals.size();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.animaltaming.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the animal manifest: replaying appended records, recovering from a torn or
+ * corrupt tail, and validating and rebuilding it from the animals folder.
+ */
+class AnimalManifestTest {
+
+    @TempDir
+    Path dataFolder;
+
+    private Path animalsFolder;
+    private Path file;
+    private UUID owner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        animalsFolder = Files.createDirectories(dataFolder.resolve("animals"));
+        file = dataFolder.resolve("animals.manifest");
+        owner = UUID.randomUUID();
+    }
+
+    /**
+     * Write an animal file with a fixed modification time and return that time.
+     */
+    private long writeFile(UUID animalId, long modified) throws IOException {
+        Path path = animalsFolder.resolve(animalId + ".json");
+        Files.writeString(path, "{}");
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modified));
+        return modified;
+    }
+
+    /**
+     * Open a fresh manifest the way JsonTamingRepository does, treating every changed
+     * file as owned by the test owner.
+     */
+    private AnimalManifest open(Map<UUID, Path> expectedChanged) throws IOException {
+        AnimalManifest manifest = new AnimalManifest(file);
+        manifest.load();
+        Map<UUID, Path> changed = manifest.validate(animalsFolder);
+        assertThat(changed.keySet()).containsExactlyInAnyOrderElementsOf(expectedChanged.keySet());
+        Map<UUID, UUID> found = new HashMap<>();
+        changed.keySet().forEach(id -> found.put(id, owner));
+        manifest.reconcile(found);
+        manifest.open();
+        return manifest;
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+
+        @Test
+        @DisplayName("should replay stored and removed records without decoding files")
+        void shouldReplayRecords() throws IOException {
+            UUID kept = UUID.randomUUID();
+            UUID removed = UUID.randomUUID();
+            UUID otherOwner = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            manifest.stored(kept, owner, writeFile(kept, 1000));
+            manifest.stored(removed, owner, writeFile(removed, 2000));
+            manifest.stored(kept, otherOwner, writeFile(kept, 3000));
+            Files.delete(animalsFolder.resolve(removed + ".json"));
+            manifest.removed(removed);
+
+            AnimalManifest reopened = new AnimalManifest(file);
+            assertThat(reopened.load()).isEqualTo(4);
+            assertThat(reopened.validate(animalsFolder)).isEmpty();
+            assertThat(reopened.owners()).containsExactly(Map.entry(kept, otherOwner));
+        }
+
+        @Test
+        @DisplayName("should compact to one record per animal on close")
+        void shouldCompactOnClose() throws IOException {
+            UUID animal = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            for (int i = 1; i <= 10; i++) {
+                manifest.stored(animal, owner, writeFile(animal, i * 1000L));
+            }
+            manifest.close();
+
+            AnimalManifest reopened = new AnimalManifest(file);
+            assertThat(reopened.load()).isEqualTo(1);
+            assertThat(reopened.validate(animalsFolder)).isEmpty();
+            assertThat(reopened.contains(animal)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("truncation")
+    class Truncation {
+
+        @Test
+        @DisplayName("should keep the records before a torn tail")
+        void shouldKeepRecordsBeforeTornTail() throws IOException {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            manifest.stored(first, owner, writeFile(first, 1000));
+            manifest.stored(second, owner, writeFile(second, 2000));
+
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+            AnimalManifest reopened = new AnimalManifest(file);
+            assertThat(reopened.load()).isEqualTo(1);
+            // The file whose record was torn is decoded again
+            assertThat(reopened.validate(animalsFolder)).containsOnlyKeys(second);
+            assertThat(reopened.contains(first)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should stop at a corrupt record")
+        void shouldStopAtCorruptRecord() throws IOException {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            manifest.stored(first, owner, writeFile(first, 1000));
+            manifest.stored(second, owner, writeFile(second, 2000));
+
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 1] ^= 0x5A;
+            Files.write(file, bytes);
+
+            AnimalManifest reopened = new AnimalManifest(file);
+            assertThat(reopened.load()).isEqualTo(1);
+            assertThat(reopened.validate(animalsFolder)).containsOnlyKeys(second);
+        }
+
+        @Test
+        @DisplayName("should append after the intact records once reopened")
+        void shouldAppendAfterDamage() throws IOException {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            manifest.stored(first, owner, writeFile(first, 1000));
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+            AnimalManifest reopened = open(Map.of(first, animalsFolder.resolve(first + ".json")));
+            reopened.stored(second, owner, writeFile(second, 2000));
+
+            AnimalManifest reread = new AnimalManifest(file);
+            assertThat(reread.load()).isEqualTo(2);
+            assertThat(reread.validate(animalsFolder)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild")
+    class Rebuild {
+
+        @Test
+        @DisplayName("should decode every file when there is no manifest")
+        void shouldRebuildWithoutManifest() throws IOException {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            writeFile(first, 1000);
+            writeFile(second, 2000);
+
+            AnimalManifest manifest = open(Map.of(
+                    first, animalsFolder.resolve(first + ".json"),
+                    second, animalsFolder.resolve(second + ".json")));
+
+            assertThat(manifest.size()).isEqualTo(2);
+            assertThat(new AnimalManifest(file).load()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should ignore a manifest of another format")
+        void shouldRebuildFromForeignFormat() throws IOException {
+            UUID animal = UUID.randomUUID();
+            writeFile(animal, 1000);
+            Files.write(file, new byte[] {'T', 'M', 'A', 'N', 0, 0, 0, 2, 1, 2, 3});
+
+            AnimalManifest manifest = new AnimalManifest(file);
+
+            assertThat(manifest.load()).isZero();
+            assertThat(manifest.validate(animalsFolder)).containsOnlyKeys(animal);
+        }
+
+        @Test
+        @DisplayName("should detect files added, changed or deleted outside the repository")
+        void shouldValidateAgainstFiles() throws IOException {
+            UUID unchanged = UUID.randomUUID();
+            UUID changed = UUID.randomUUID();
+            UUID deleted = UUID.randomUUID();
+            UUID added = UUID.randomUUID();
+            AnimalManifest manifest = open(Map.of());
+            manifest.stored(unchanged, owner, writeFile(unchanged, 1000));
+            manifest.stored(changed, owner, writeFile(changed, 2000));
+            manifest.stored(deleted, owner, writeFile(deleted, 3000));
+            manifest.close();
+
+            writeFile(changed, 2500);
+            writeFile(added, 4000);
+            Files.delete(animalsFolder.resolve(deleted + ".json"));
+            Files.writeString(animalsFolder.resolve("not-a-uuid.json"), "{}");
+
+            AnimalManifest reopened = new AnimalManifest(file);
+            reopened.load();
+            Map<UUID, Path> stale = reopened.validate(animalsFolder);
+
+            assertThat(stale).containsOnlyKeys(changed, added);
+            assertThat(reopened.owners()).containsOnlyKeys(unchanged);
+
+            // A changed file that fails to decode stays out
+            reopened.reconcile(Map.of(added, owner));
+            assertThat(reopened.owners()).containsOnlyKeys(unchanged, added);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.animaltaming.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the length + CRC32 framed file format: building frames in a buffer, reading
+ * them back and stopping at a torn or corrupt tail.
+ */
+class FramedLogTest {
+
+    private static final int MAGIC = 0x54455354;  // "TEST"
+    private static final int VERSION = 3;
+    private static final int MAX_FRAME = 1024;
+
+    @TempDir
+    Path dir;
+
+    private Path writeLog(Path file, String... payloads) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        CRC32 crc = new CRC32();
+        for (String payload : payloads) {
+            int start = FramedLog.beginFrame(buffer);
+            buffer.put(payload.getBytes(StandardCharsets.UTF_8));
+            assertThat(FramedLog.endFrame(buffer, start, crc)).isEqualTo(payload.length());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            FramedLog.writeHeader(channel, MAGIC, VERSION);
+            FramedLog.writeFully(channel, buffer.flip());
+        }
+        return file;
+    }
+
+    private static ByteBuffer readFrames(Path file, List<String> frames) throws IOException {
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertThat(log.getInt()).isEqualTo(MAGIC);
+        assertThat(log.getInt()).isEqualTo(VERSION);
+        CRC32 crc = new CRC32();
+        ByteBuffer payload;
+        while ((payload = FramedLog.nextFrame(log, MAX_FRAME, crc)) != null) {
+            frames.add(StandardCharsets.UTF_8.decode(payload).toString());
+        }
+        return log;
+    }
+
+    @Test
+    @DisplayName("should read back every frame and end with nothing remaining")
+    void shouldRoundTrip() throws IOException {
+        Path file = writeLog(dir.resolve("test.log"), "one", "two", "three");
+        List<String> frames = new ArrayList<>();
+
+        ByteBuffer log = readFrames(file, frames);
+
+        assertThat(frames).containsExactly("one", "two", "three");
+        assertThat(log.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should stop at a torn frame and leave the buffer at it")
+    void shouldStopAtTornFrame() throws IOException {
+        Path file = writeLog(dir.resolve("test.log"), "one", "two", "three");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        List<String> frames = new ArrayList<>();
+
+        ByteBuffer log = readFrames(file, frames);
+
+        assertThat(frames).containsExactly("one", "two");
+        assertThat(log.remaining()).isEqualTo(FramedLog.FRAME_HEADER_BYTES + 5 - 1);
+    }
+
+    @Test
+    @DisplayName("should stop at a checksum mismatch or an impossible length")
+    void shouldStopAtCorruptFrame() throws IOException {
+        Path file = writeLog(dir.resolve("test.log"), "one", "two", "three");
+        byte[] bytes = Files.readAllBytes(file);
+        // Last byte of the second payload
+        bytes[FramedLog.FILE_HEADER_BYTES + (8 + 3) + (8 + 3) - 1] ^= 0x5A;
+        Files.write(file, bytes);
+        List<String> frames = new ArrayList<>();
+        readFrames(file, frames);
+        assertThat(frames).containsExactly("one");
+
+        Path oversized = writeLog(dir.resolve("oversized.log"), "one", "x".repeat(MAX_FRAME + 1));
+        List<String> kept = new ArrayList<>();
+        readFrames(oversized, kept);
+        assertThat(kept).containsExactly("one");
+    }
+
+    @Test
+    @DisplayName("replace() should move a temp file over the target")
+    void shouldReplace() throws IOException {
+        Path target = writeLog(dir.resolve("test.log"), "old");
+        Path temp = writeLog(dir.resolve("test.log.tmp"), "new");
+
+        FramedLog.replace(temp, target);
+
+        assertThat(temp).doesNotExist();
+        List<String> frames = new ArrayList<>();
+        readFrames(target, frames);
+        assertThat(frames).containsExactly("new");
+    }
+}
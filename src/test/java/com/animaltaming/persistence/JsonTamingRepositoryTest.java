@@ -0,0 +1,187 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.codec.TamedAnimalCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the JSON file repository in write-through and write-behind mode.
+ */
+class JsonTamingRepositoryTest {
+
+    @TempDir
+    Path pluginFolder;
+
+    private UUID owner;
+    private JsonTamingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        owner = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.shutdown(Duration.ofSeconds(5));
+        }
+    }
+
+    private TamedAnimal animal(String name) {
+        return TamedAnimal.create(UUID.randomUUID(), owner, "Owner", "Cow", 1, 64, 2, 16).withCustomName(name);
+    }
+
+    private Path fileOf(TamedAnimal animal) {
+        return pluginFolder.resolve("data").resolve("animals").resolve(animal.id() + ".json");
+    }
+
+    @Nested
+    @DisplayName("write-through")
+    class WriteThrough {
+
+        @BeforeEach
+        void setUp() {
+            repository = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
+        }
+
+        @Test
+        @DisplayName("should write and delete files immediately")
+        void shouldWriteImmediately() {
+            TamedAnimal bessie = animal("Bessie");
+
+            repository.save(bessie);
+
+            assertThat(repository.isWriteBehind()).isFalse();
+            assertThat(fileOf(bessie)).exists();
+            assertThat(repository.getPendingWriteCount()).isZero();
+
+            assertThat(repository.delete(bessie.id())).isTrue();
+            assertThat(fileOf(bessie)).doesNotExist();
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("should keep owner indexes in memory only")
+        void shouldNotWriteOwnerIndexes() {
+            TamedAnimal bessie = animal("Bessie");
+
+            repository.save(bessie);
+
+            assertThat(repository.findByOwner(owner)).containsExactly(bessie.id());
+            assertThat(pluginFolder.resolve("data").resolve("owners")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("should pick up files changed while it was closed")
+        void shouldPickUpExternalChanges() throws Exception {
+            TamedAnimal bessie = animal("Bessie");
+            TamedAnimal daisy = animal("Daisy");
+            repository.save(bessie);
+            repository.save(daisy);
+            repository.shutdown(Duration.ofSeconds(5));
+
+            UUID newOwner = UUID.randomUUID();
+            TamedAnimalCodec codec = new TamedAnimalCodec();
+            Files.writeString(fileOf(bessie), codec.encode(new TamedAnimal(bessie.id(), newOwner,
+                    "New Owner", "Cow", bessie.mode(), 1, 64, 2, 16, bessie.tamedTimestamp(), "Bessie")));
+            Files.setLastModifiedTime(fileOf(bessie), FileTime.fromMillis(1000));
+            Files.delete(fileOf(daisy));
+            repository = new JsonTamingRepository(pluginFolder, codec);
+
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.findByOwner(newOwner)).containsExactly(bessie.id());
+            assertThat(repository.findByOwner(owner)).isEmpty();
+            assertThat(repository.exists(daisy.id())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("write-behind")
+    class WriteBehind {
+
+        @BeforeEach
+        void setUp() {
+            // Long interval: only explicit flush() calls write
+            repository = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec(), Duration.ofHours(1));
+        }
+
+        @Test
+        @DisplayName("should keep saves dirty until flushed")
+        void shouldKeepSavesDirty() {
+            TamedAnimal bessie = animal("Bessie");
+
+            repository.save(bessie);
+
+            assertThat(repository.isWriteBehind()).isTrue();
+            assertThat(fileOf(bessie)).doesNotExist();
+            assertThat(repository.getPendingWriteCount()).isPositive();
+            assertThat(repository.load(bessie.id()).orElseThrow()).isEqualTo(bessie);
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.findByOwner(owner)).containsExactly(bessie.id());
+
+            repository.flush();
+
+            assertThat(fileOf(bessie)).exists();
+            assertThat(repository.getPendingWriteCount()).isZero();
+            assertThat(repository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should coalesce repeated saves into the last one")
+        void shouldCoalesceSaves() {
+            TamedAnimal first = animal("First");
+            TamedAnimal renamed = first.withCustomName("Renamed");
+
+            repository.save(first);
+            repository.save(renamed);
+            repository.flush();
+            repository.clearCache();
+
+            assertThat(repository.load(first.id()).orElseThrow().customName()).isEqualTo("Renamed");
+        }
+
+        @Test
+        @DisplayName("should count a pending delete as done and remove the file on flush")
+        void shouldApplyPendingDelete() {
+            TamedAnimal bessie = animal("Bessie");
+            repository.save(bessie);
+            repository.flush();
+
+            assertThat(repository.delete(bessie.id())).isTrue();
+
+            assertThat(repository.count()).isZero();
+            assertThat(repository.exists(bessie.id())).isFalse();
+            assertThat(fileOf(bessie)).exists();
+
+            repository.flush();
+
+            assertThat(fileOf(bessie)).doesNotExist();
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("should write everything pending on shutdown")
+        void shouldFlushOnShutdown() {
+            TamedAnimal bessie = animal("Bessie");
+            repository.save(bessie);
+
+            assertThat(repository.shutdown(Duration.ofSeconds(5))).isTrue();
+            repository = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
+
+            assertThat(repository.load(bessie.id()).orElseThrow()).isEqualTo(bessie);
+        }
+    }
+}
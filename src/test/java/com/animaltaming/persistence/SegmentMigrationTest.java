@@ -0,0 +1,82 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.codec.TamedAnimalCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the JSON to segment store migration.
+ */
+class SegmentMigrationTest {
+
+    @TempDir
+    Path pluginFolder;
+
+    private void storeAsJson(TamedAnimal... animals) {
+        JsonTamingRepository json = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
+        for (TamedAnimal animal : animals) {
+            json.save(animal);
+        }
+        json.shutdown(Duration.ZERO);
+    }
+
+    private static TamedAnimal animal(String ownerName) {
+        return TamedAnimal.create(UUID.randomUUID(), UUID.randomUUID(), ownerName, "Cow", 0, 64, 0, 16);
+    }
+
+    @Test
+    @DisplayName("should copy every animal into the segment store")
+    void shouldMigrate() {
+        TamedAnimal first = animal("Alice");
+        TamedAnimal second = animal("Bob");
+        storeAsJson(first, second);
+
+        assertThat(SegmentMigration.migrate(pluginFolder)).isEqualTo(2);
+
+        assertThat(SegmentTamingRepository.exists(pluginFolder)).isTrue();
+        assertThat(SegmentTamingRepository.segmentPath(pluginFolder).resolveSibling("tamed.seg.tmp")).doesNotExist();
+        SegmentTamingRepository segment = new SegmentTamingRepository(pluginFolder);
+        try {
+            assertThat(segment.loadAll()).containsExactlyInAnyOrderElementsOf(List.of(first, second));
+        } finally {
+            segment.shutdown(Duration.ZERO);
+        }
+    }
+
+    @Test
+    @DisplayName("should write nothing when an animal does not fit the record format")
+    void shouldLeaveJsonOnInvalidAnimal() {
+        TamedAnimal valid = animal("Alice");
+        TamedAnimal invalid = animal("O".repeat(70_000));
+        storeAsJson(valid, invalid);
+
+        assertThatThrownBy(() -> SegmentMigration.migrate(pluginFolder))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1 of 2");
+
+        assertThat(SegmentTamingRepository.exists(pluginFolder)).isFalse();
+        assertThat(SegmentTamingRepository.segmentPath(pluginFolder).resolveSibling("tamed.seg.tmp")).doesNotExist();
+        JsonTamingRepository json = new JsonTamingRepository(pluginFolder, new TamedAnimalCodec());
+        assertThat(json.count()).isEqualTo(2);
+        json.shutdown(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("should refuse to overwrite an existing segment store")
+    void shouldRefuseExistingStore() {
+        storeAsJson(animal("Alice"));
+        SegmentMigration.migrate(pluginFolder);
+
+        assertThatThrownBy(() -> SegmentMigration.migrate(pluginFolder))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,380 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped segment store: on-disk layout, slot reuse, growth and
+ * recovery from torn or corrupt records.
+ */
+class SegmentTamingRepositoryTest {
+
+    // Layout pinned by the file format (version 2)
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 256;
+    private static final int OFF_CRC = 4;
+    private static final int OFF_ID = 8;
+    private static final int OFF_SEQUENCE = 44;
+    private static final int OFF_CUSTOM_NAME = 200;
+
+    @TempDir
+    Path pluginFolder;
+
+    private UUID owner;
+    private SegmentTamingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        owner = UUID.randomUUID();
+        repository = new SegmentTamingRepository(pluginFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown(Duration.ZERO);
+    }
+
+    private TamedAnimal animal(String name) {
+        return new TamedAnimal(UUID.randomUUID(), owner, "Owner", "Cow", BehaviorMode.STAY,
+                1.5, 64, -2.5, 16, 1234L, name);
+    }
+
+    private SegmentTamingRepository reopen() {
+        repository.shutdown(Duration.ZERO);
+        repository = new SegmentTamingRepository(pluginFolder);
+        return repository;
+    }
+
+    private ByteBuffer fileBytes() throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(SegmentTamingRepository.segmentPath(pluginFolder)));
+    }
+
+    private void writeFile(ByteBuffer bytes) throws IOException {
+        Files.write(SegmentTamingRepository.segmentPath(pluginFolder), bytes.array());
+    }
+
+    private static int base(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private static UUID idAt(ByteBuffer file, int slot) {
+        return new UUID(file.getLong(base(slot) + OFF_ID), file.getLong(base(slot) + OFF_ID + 8));
+    }
+
+    @Nested
+    @DisplayName("binary layout")
+    class Layout {
+
+        @Test
+        @DisplayName("should write the header and fixed-size records")
+        void shouldWriteLayout() throws IOException {
+            TamedAnimal bessie = animal("Bessie");
+            repository.save(bessie);
+            repository.shutdown(Duration.ZERO);
+
+            ByteBuffer file = fileBytes();
+            assertThat(file.getInt(0)).isEqualTo(0x54534547);
+            assertThat(file.getInt(4)).isEqualTo(2);
+            assertThat(file.getInt(8)).isEqualTo(RECORD_SIZE);
+            assertThat((long) file.capacity()).isEqualTo(HEADER_SIZE + (long) repository.getCapacity() * RECORD_SIZE);
+
+            assertThat(file.get(base(0))).isEqualTo((byte) 1);
+            assertThat(idAt(file, 0)).isEqualTo(bessie.id());
+            assertThat(file.get(base(0) + OFF_CUSTOM_NAME)).isEqualTo((byte) "Bessie".length());
+            assertThat(file.get(base(1))).isEqualTo((byte) 0);
+        }
+
+        @Test
+        @DisplayName("should round-trip every field, including a null name")
+        void shouldRoundTrip() {
+            TamedAnimal named = animal("Bessie");
+            TamedAnimal unnamed = animal(null);
+            repository.save(named);
+            repository.save(unnamed);
+
+            reopen();
+
+            assertThat(repository.load(named.id()).orElseThrow()).isEqualTo(named);
+            assertThat(repository.load(unnamed.id()).orElseThrow()).isEqualTo(unnamed);
+            assertThat(repository.findByOwner(owner)).containsExactlyInAnyOrder(named.id(), unnamed.id());
+        }
+
+        @Test
+        @DisplayName("should open a version 1 file and upgrade its header")
+        void shouldOpenVersion1() throws IOException {
+            TamedAnimal bessie = animal("Bessie");
+            repository.save(bessie);
+            repository.shutdown(Duration.ZERO);
+            ByteBuffer file = fileBytes();
+            file.putInt(4, 1);
+            writeFile(file);
+
+            assertThat(reopen().load(bessie.id()).orElseThrow()).isEqualTo(bessie);
+            repository.shutdown(Duration.ZERO);
+            assertThat(fileBytes().getInt(4)).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("long names")
+    class LongNames {
+
+        private TamedAnimal longNamed() {
+            // Multibyte names pass their field's byte width well before its character count
+            return new TamedAnimal(UUID.randomUUID(), owner, "Ärger-Über-Öl-Ünd-Ähre-Äpfel", "Species_" + "x".repeat(120),
+                    BehaviorMode.FOLLOW, 1, 2, 3, 16, 1234L, "名前がとても長いペットの牛さん".repeat(4));
+        }
+
+        @Test
+        @DisplayName("should round-trip names longer than their fields")
+        void shouldRoundTripLongNames() {
+            TamedAnimal long1 = longNamed();
+            TamedAnimal short1 = animal("Short");
+            TamedAnimal huge = animal("n".repeat(1000));
+            repository.save(long1);
+            repository.save(short1);
+            repository.save(huge);
+            SegmentTamingRepository.validate(long1);
+
+            assertThat(repository.load(long1.id()).orElseThrow()).isEqualTo(long1);
+
+            reopen();
+
+            assertThat(repository.count()).isEqualTo(3);
+            assertThat(repository.load(long1.id()).orElseThrow()).isEqualTo(long1);
+            assertThat(repository.load(huge.id()).orElseThrow()).isEqualTo(huge);
+            assertThat(repository.loadAll()).containsExactlyInAnyOrder(long1, short1, huge);
+        }
+
+        @Test
+        @DisplayName("should free overflow slots when a long name is shortened or deleted")
+        void shouldFreeOverflowSlots() throws IOException {
+            TamedAnimal bessie = animal("b".repeat(300));
+            TamedAnimal other = animal("n".repeat(300));
+            repository.save(bessie);
+            repository.save(other);
+
+            repository.save(bessie.withCustomName("Bessie"));
+            repository.delete(other.id());
+            reopen();
+
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.load(bessie.id()).orElseThrow().customName()).isEqualTo("Bessie");
+
+            // Every slot before the short record is free again and reused first
+            List<TamedAnimal> fillers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                TamedAnimal filler = animal("Filler" + i);
+                fillers.add(filler);
+                repository.save(filler);
+            }
+            repository.shutdown(Duration.ZERO);
+            ByteBuffer file = fileBytes();
+            for (int slot = 0; slot < 4; slot++) {
+                assertThat(idAt(file, slot)).isEqualTo(fillers.get(slot).id());
+            }
+            assertThat(idAt(file, 6)).isEqualTo(bessie.id());
+        }
+
+        @Test
+        @DisplayName("should drop a long record whose overflow is corrupt")
+        void shouldDropCorruptOverflow() throws IOException {
+            TamedAnimal kept = animal("Kept");
+            TamedAnimal corrupt = animal("c".repeat(300));
+            repository.save(kept);
+            repository.save(corrupt);
+            repository.shutdown(Duration.ZERO);
+
+            ByteBuffer file = fileBytes();
+            file.put(base(2) + 100, (byte) 'X');
+            writeFile(file);
+            reopen();
+
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.exists(corrupt.id())).isFalse();
+            assertThat(repository.load(kept.id()).orElseThrow()).isEqualTo(kept);
+        }
+
+        @Test
+        @DisplayName("should reject names beyond the largest record without using a slot")
+        void shouldRejectHugeNames() throws IOException {
+            TamedAnimal tooLong = animal("x".repeat(70_000));
+
+            assertThatThrownBy(() -> repository.save(tooLong))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> SegmentTamingRepository.validate(tooLong))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            TamedAnimal next = animal("Next");
+            repository.save(next);
+            repository.shutdown(Duration.ZERO);
+            assertThat(idAt(fileBytes(), 0)).isEqualTo(next.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("slots")
+    class Slots {
+
+        @Test
+        @DisplayName("should reuse a deleted slot before growing")
+        void shouldReuseDeletedSlot() throws IOException {
+            TamedAnimal first = animal("First");
+            TamedAnimal second = animal("Second");
+            repository.save(first);
+            repository.save(second);
+
+            repository.delete(first.id());
+            TamedAnimal third = animal("Third");
+            repository.save(third);
+            repository.shutdown(Duration.ZERO);
+
+            ByteBuffer file = fileBytes();
+            assertThat(idAt(file, 0)).isEqualTo(third.id());
+            assertThat(idAt(file, 1)).isEqualTo(second.id());
+            assertThat(file.get(base(2))).isEqualTo((byte) 0);
+        }
+
+        @Test
+        @DisplayName("should write updates to another slot and free the old one")
+        void shouldCopyOnWrite() throws IOException {
+            TamedAnimal bessie = animal("Bessie");
+            repository.save(bessie);
+            for (int i = 0; i < 100; i++) {
+                repository.save(bessie.withCustomName("Bessie " + i));
+            }
+            repository.shutdown(Duration.ZERO);
+
+            // Two slots alternate; exactly one is live
+            ByteBuffer file = fileBytes();
+            assertThat(file.get(base(0)) + file.get(base(1))).isEqualTo(1);
+            assertThat(file.get(base(2))).isEqualTo((byte) 0);
+            int live = file.get(base(0)) == 1 ? 0 : 1;
+            assertThat(file.getInt(base(live) + OFF_SEQUENCE)).isEqualTo(100);
+
+            assertThat(reopen().load(bessie.id()).orElseThrow().customName()).isEqualTo("Bessie 99");
+        }
+
+        @Test
+        @DisplayName("should move an animal between owner indexes")
+        void shouldReindexOwner() {
+            TamedAnimal bessie = animal("Bessie");
+            UUID newOwner = UUID.randomUUID();
+            repository.save(bessie);
+
+            repository.save(new TamedAnimal(bessie.id(), newOwner, "New", "Cow", BehaviorMode.FOLLOW,
+                    0, 0, 0, 16, 1234L, "Bessie"));
+
+            assertThat(repository.findByOwner(owner)).isEmpty();
+            assertThat(repository.findByOwner(newOwner)).containsExactly(bessie.id());
+            assertThat(reopen().findByOwner(newOwner)).containsExactly(bessie.id());
+        }
+
+        @Test
+        @DisplayName("should grow and remap the file past its initial capacity")
+        void shouldGrow() {
+            int initialCapacity = repository.getCapacity();
+            List<TamedAnimal> animals = new ArrayList<>();
+            for (int i = 0; i < initialCapacity + 10; i++) {
+                TamedAnimal animal = animal("Pet" + i);
+                animals.add(animal);
+                repository.save(animal);
+            }
+
+            assertThat(repository.getCapacity()).isGreaterThan(initialCapacity);
+            assertThat(repository.load(animals.get(0).id()).orElseThrow()).isEqualTo(animals.get(0));
+
+            reopen();
+
+            assertThat(repository.count()).isEqualTo(animals.size());
+            assertThat(repository.loadAll()).containsExactlyInAnyOrderElementsOf(animals);
+        }
+    }
+
+    @Nested
+    @DisplayName("recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("should drop a record with a bad checksum and reuse its slot")
+        void shouldDropCorruptRecord() throws IOException {
+            TamedAnimal kept = animal("Kept");
+            TamedAnimal corrupt = animal("Corrupt");
+            repository.save(kept);
+            repository.save(corrupt);
+            repository.shutdown(Duration.ZERO);
+
+            ByteBuffer file = fileBytes();
+            file.put(base(1) + OFF_CUSTOM_NAME + 1, (byte) 'X');
+            writeFile(file);
+            reopen();
+
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.exists(corrupt.id())).isFalse();
+            assertThat(repository.load(kept.id()).orElseThrow()).isEqualTo(kept);
+
+            TamedAnimal replacement = animal("Replacement");
+            repository.save(replacement);
+            repository.shutdown(Duration.ZERO);
+            assertThat(idAt(fileBytes(), 1)).isEqualTo(replacement.id());
+        }
+
+        @Test
+        @DisplayName("should keep the old version when an update was torn")
+        void shouldSurviveTornUpdate() throws IOException {
+            TamedAnimal original = animal("Original");
+            repository.save(original);
+            repository.save(original.withCustomName("Updated"));
+            repository.shutdown(Duration.ZERO);
+
+            // Crash mid-update: old slot still live, new slot's body half written
+            ByteBuffer file = fileBytes();
+            file.put(base(0), (byte) 1);
+            file.putInt(base(1) + OFF_CRC, file.getInt(base(1) + OFF_CRC) ^ 1);
+            writeFile(file);
+
+            assertThat(reopen().load(original.id()).orElseThrow().customName()).isEqualTo("Original");
+            assertThat(repository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should keep the newer version when both copies survived")
+        void shouldPreferNewerCopy() throws IOException {
+            TamedAnimal original = animal("Original");
+            repository.save(original);
+            repository.save(original.withCustomName("Updated"));
+            repository.shutdown(Duration.ZERO);
+
+            // Crash after the new slot went live but before the old one was freed
+            ByteBuffer file = fileBytes();
+            file.put(base(0), (byte) 1);
+            writeFile(file);
+
+            assertThat(reopen().load(original.id()).orElseThrow().customName()).isEqualTo("Updated");
+            assertThat(repository.count()).isEqualTo(1);
+            assertThat(repository.findByOwner(owner)).containsExactly(original.id());
+
+            // The stale copy's slot is free again
+            repository.save(animal("Other"));
+            repository.shutdown(Duration.ZERO);
+            assertThat(fileBytes().get(base(2))).isEqualTo((byte) 0);
+        }
+    }
+}
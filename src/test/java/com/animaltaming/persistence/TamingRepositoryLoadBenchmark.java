@@ -0,0 +1,116 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.persistence.codec.TamedAnimalCodec;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Startup load time of the JSON taming repository.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkTamingRepositoryLoad}
+ * (optionally {@code --args="10000 50000"} to pick sizes).
+ * For each size it writes one file per animal, then times the previous single-threaded,
+ * tree-model load path against the bulk loadAll() of a cold repository.
+ * Numbers after the first run of a size are with a warm OS page cache.
+ */
+public final class TamingRepositoryLoadBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 500_000};
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_SIZES;
+        TamedAnimalCodec codec = new TamedAnimalCodec();
+
+        System.out.printf("%9s %4s %16s %16s%n", "animals", "run", "previous ms", "loadAll ms");
+        for (int size : sizes) {
+            Path dir = Files.createTempDirectory("taming-load-bench");
+            try {
+                write(dir, size, codec);
+                for (int run = 1; run <= RUNS; run++) {
+                    long perFile = timePerFile(dir, size, codec);
+
+                    JsonTamingRepository repository = new JsonTamingRepository(dir, codec);
+                    long start = System.nanoTime();
+                    int loaded = repository.loadAll().size();
+                    long bulk = System.nanoTime() - start;
+                    if (loaded != size) {
+                        throw new IllegalStateException("loaded " + loaded + " of " + size);
+                    }
+
+                    System.out.printf("%9d %4d %16.1f %16.1f%n", size, run, perFile / 1e6, bulk / 1e6);
+                }
+            } finally {
+                deleteRecursively(dir);
+            }
+        }
+    }
+
+    /**
+     * The previous loadAll(): list the folder, then per file check it exists, read it,
+     * parse a JSON tree and decode from the tree, all on the calling thread.
+     */
+    private static long timePerFile(Path dir, int expected, TamedAnimalCodec codec) throws IOException {
+        Map<UUID, TamedAnimal> cache = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        try (Stream<Path> files = Files.list(dir.resolve("data").resolve("animals"))) {
+            files.filter(p -> p.toString().endsWith(".json")).forEach(path -> {
+                try {
+                    if (Files.exists(path)) {
+                        TamedAnimal animal = codec.decodeFromElement(
+                                JsonParser.parseString(Files.readString(path, StandardCharsets.UTF_8)));
+                        cache.put(animal.id(), animal);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (cache.size() != expected) {
+            throw new IllegalStateException("loaded " + cache.size() + " of " + expected);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void write(Path dir, int size, TamedAnimalCodec codec) throws IOException {
+        Random random = new Random(1);
+        UUID[] owners = new UUID[Math.max(1, size / 20)];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = UUID.randomUUID();
+        }
+
+        Path animals = dir.resolve("data").resolve("animals");
+        Files.createDirectories(animals);
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            TamedAnimal animal = new TamedAnimal(id, owners[random.nextInt(owners.length)], "Owner" + i, "Cow",
+                    BehaviorMode.FOLLOW, random.nextDouble() * 1000, 64, random.nextDouble() * 1000, 16,
+                    System.currentTimeMillis(), i % 3 == 0 ? "Pet" + i : null);
+            Files.writeString(animals.resolve(id + ".json"), codec.encode(animal), StandardCharsets.UTF_8);
+        }
+        System.out.printf("wrote %d animal files in %.1f ms%n", size, (System.nanoTime() - start) / 1e6);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.animaltaming.persistence;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import com.animaltaming.core.registry.TamedAnimalRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for replaying the taming write-ahead log onto the registry and the repository.
+ */
+class TamingWriteAheadLogTest {
+
+    @TempDir
+    Path pluginFolder;
+
+    private SegmentTamingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SegmentTamingRepository(pluginFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown(Duration.ZERO);
+    }
+
+    private static TamedAnimal animal(String name, BehaviorMode mode) {
+        return new TamedAnimal(UUID.randomUUID(), UUID.randomUUID(), "Owner", "Cow", mode,
+                1, 64, -2, 16, 1234L, name);
+    }
+
+    private void writeLog(TamingWriteAheadLog.Op op, TamedAnimal... animals) {
+        TamingWriteAheadLog log = new TamingWriteAheadLog(pluginFolder, repository);
+        log.start();
+        for (TamedAnimal animal : animals) {
+            log.append(op, animal);
+        }
+        assertThat(log.shutdown(Duration.ofSeconds(5))).isTrue();
+    }
+
+    /**
+     * Replace a string in the log as if an enum constant had been renamed, keeping every
+     * frame's checksum valid.
+     */
+    private void rewriteLog(String from, String to) throws IOException {
+        Path file = TamingWriteAheadLog.logPath(pluginFolder);
+        byte[] bytes = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)
+                .replace(from, to).getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer log = ByteBuffer.wrap(bytes);
+        CRC32 crc = new CRC32();
+        for (int at = FramedLog.FILE_HEADER_BYTES; at < bytes.length; ) {
+            int length = log.getInt(at);
+            crc.reset();
+            crc.update(bytes, at + FramedLog.FRAME_HEADER_BYTES, length);
+            log.putInt(at + 4, (int) crc.getValue());
+            at += FramedLog.FRAME_HEADER_BYTES + length;
+        }
+        Files.write(file, bytes);
+    }
+
+    @Test
+    @DisplayName("should replay the latest change of each animal and truncate the log")
+    void shouldReplay() {
+        TamedAnimal cow = animal("Bessie", BehaviorMode.FOLLOW);
+        TamedAnimal pig = animal("Wilbur", BehaviorMode.FOLLOW);
+        writeLog(TamingWriteAheadLog.Op.TAMED, cow, pig);
+        writeLog(TamingWriteAheadLog.Op.MODE_CHANGED, cow.withMode(BehaviorMode.STAY));
+
+        TamedAnimalRegistry registry = new TamedAnimalRegistry();
+        int replayed = new TamingWriteAheadLog(pluginFolder, repository).recover(registry);
+
+        // Each start truncates the log, so only the last session's record is left
+        assertThat(replayed).isEqualTo(1);
+        assertThat(repository.load(cow.id()).orElseThrow().mode()).isEqualTo(BehaviorMode.STAY);
+        assertThat(registry.getByAnimalId(cow.id()).orElseThrow().mode()).isEqualTo(BehaviorMode.STAY);
+        assertThat(TamingWriteAheadLog.logPath(pluginFolder)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("should skip records with an unknown behavior mode and replay the rest")
+    void shouldSkipUnknownMode() throws IOException {
+        TamedAnimal cow = animal("Bessie", BehaviorMode.STAY);
+        TamedAnimal pig = animal("Wilbur", BehaviorMode.FOLLOW);
+        writeLog(TamingWriteAheadLog.Op.TAMED, cow, pig);
+        rewriteLog("STAY", "SITS");
+
+        TamedAnimalRegistry registry = new TamedAnimalRegistry();
+        int replayed = new TamingWriteAheadLog(pluginFolder, repository).recover(registry);
+
+        assertThat(replayed).isEqualTo(1);
+        assertThat(repository.exists(cow.id())).isFalse();
+        assertThat(registry.getByAnimalId(cow.id())).isEmpty();
+        assertThat(repository.load(pig.id()).orElseThrow()).isEqualTo(pig);
+    }
+}
@@ -0,0 +1,113 @@
+package com.animaltaming.persistence.codec;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Round-trip throughput of TamedAnimalCodec.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkTamedAnimalCodec}.
+ * Single-record numbers are per encode or decode of one animal (pretty and compact, plus
+ * the JSON tree decode path for comparison). Bulk numbers stream 100k animals through one
+ * JsonWriter array and read them back with one JsonReader.
+ */
+public final class TamedAnimalCodecBenchmark {
+
+    private static final int POPULATION = 1_024;
+    private static final int SINGLE_OPS = 2_000_000;
+    private static final int BULK_ANIMALS = 100_000;
+    private static final int ROUNDS = 5;
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws IOException {
+        List<TamedAnimal> animals = population(POPULATION);
+        TamedAnimalCodec pretty = new TamedAnimalCodec();
+        TamedAnimalCodec compact = new TamedAnimalCodec(true);
+        String[] prettyJson = animals.stream().map(pretty::encode).toArray(String[]::new);
+        String[] compactJson = animals.stream().map(compact::encode).toArray(String[]::new);
+
+        System.out.printf("%-28s %10s%n", "single record", "ns/op");
+        single("encode pretty", i -> sink = pretty.encode(animals.get(i & (POPULATION - 1))));
+        single("encode compact", i -> sink = compact.encode(animals.get(i & (POPULATION - 1))));
+        single("decode pretty (stream)", i -> sink = pretty.decode(prettyJson[i & (POPULATION - 1)]));
+        single("decode compact (stream)", i -> sink = compact.decode(compactJson[i & (POPULATION - 1)]));
+        single("decode pretty (tree)", i -> sink = pretty.decodeFromElement(
+                JsonParser.parseString(prettyJson[i & (POPULATION - 1)])));
+        single("encodeToElement", i -> sink = pretty.encodeToElement(animals.get(i & (POPULATION - 1))));
+
+        System.out.printf("%n%-28s %10s %10s %10s%n", "bulk (" + BULK_ANIMALS + ")", "write ms", "read ms", "MB");
+        List<TamedAnimal> bulk = population(BULK_ANIMALS);
+        for (int round = 1; round <= ROUNDS; round++) {
+            bulk("compact round " + round, compact, bulk);
+        }
+    }
+
+    private static void single(String name, IntConsumer op) {
+        for (int i = 0; i < SINGLE_OPS / 4; i++) {
+            op.accept(i);  // Warm up
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SINGLE_OPS / ROUNDS; i++) {
+                op.accept(i);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-28s %10.1f%n", name, best / (double) (SINGLE_OPS / ROUNDS));
+    }
+
+    private static void bulk(String name, TamedAnimalCodec codec, List<TamedAnimal> animals) throws IOException {
+        long start = System.nanoTime();
+        StringWriter out = new StringWriter(animals.size() * 320);
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginArray();
+            for (TamedAnimal animal : animals) {
+                codec.write(writer, animal);
+            }
+            writer.endArray();
+        }
+        long written = System.nanoTime();
+        String json = out.toString();
+
+        List<TamedAnimal> read = new ArrayList<>(animals.size());
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                read.add(codec.read(reader));
+            }
+            reader.endArray();
+        }
+        long done = System.nanoTime();
+        if (!read.equals(animals)) {
+            throw new IllegalStateException("bulk round trip mismatch");
+        }
+        System.out.printf("%-28s %10.1f %10.1f %10.1f%n", name, (written - start) / 1e6, (done - written) / 1e6,
+                json.length() / (1024.0 * 1024.0));
+    }
+
+    private static List<TamedAnimal> population(int size) {
+        Random random = new Random(size);
+        List<TamedAnimal> animals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            animals.add(new TamedAnimal(UUID.randomUUID(), UUID.randomUUID(), "Owner" + i, "hytale:horse",
+                    random.nextBoolean() ? BehaviorMode.FOLLOW : BehaviorMode.STAY,
+                    random.nextDouble() * 1000, 64, random.nextDouble() * 1000, 16,
+                    System.currentTimeMillis(), i % 3 == 0 ? "Pet" + i : null));
+        }
+        return animals;
+    }
+}
@@ -0,0 +1,205 @@
+package com.animaltaming.persistence.codec;
+
+import com.animaltaming.api.model.BehaviorMode;
+import com.animaltaming.api.model.TamedAnimal;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for TamedAnimalCodec: string and tree round-trips, optional and null fields,
+ * schema versions and escaping.
+ */
+class TamedAnimalCodecTest {
+
+    private final TamedAnimalCodec pretty = new TamedAnimalCodec();
+    private final TamedAnimalCodec compact = new TamedAnimalCodec(true);
+
+    private static TamedAnimal animal(String customName) {
+        return new TamedAnimal(
+                UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                UUID.fromString("00000000-0000-0000-0000-0000000000aa"),
+                "Steve", "cow", BehaviorMode.STAY,
+                10.5, 64.0, -3.25, 24.0, 1_700_000_000_000L, customName);
+    }
+
+    @Nested
+    @DisplayName("string round-trip")
+    class StringRoundTrip {
+
+        @Test
+        @DisplayName("should round-trip an animal with a custom name")
+        void shouldRoundTripNamed() {
+            TamedAnimal named = animal("Bessie");
+
+            assertThat(pretty.decode(pretty.encode(named))).isEqualTo(named);
+            assertThat(compact.decode(compact.encode(named))).isEqualTo(named);
+        }
+
+        @Test
+        @DisplayName("should omit a null custom name and decode it back as null")
+        void shouldOmitNullCustomName() {
+            TamedAnimal unnamed = animal(null);
+            String json = compact.encode(unnamed);
+
+            assertThat(json).doesNotContain("customName");
+            assertThat(compact.decode(json)).isEqualTo(unnamed);
+        }
+
+        @Test
+        @DisplayName("should decode an explicit null optional field as absent")
+        void shouldDecodeExplicitNull() {
+            JsonObject obj = JsonParser.parseString(compact.encode(animal("Bessie"))).getAsJsonObject();
+            obj.add("customName", null);
+
+            assertThat(compact.decode(obj.toString()).customName()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject a null required field")
+        void shouldRejectNullRequiredField() {
+            JsonObject obj = JsonParser.parseString(compact.encode(animal(null))).getAsJsonObject();
+            obj.add("ownerName", null);
+
+            assertThatThrownBy(() -> compact.decode(obj.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ownerName");
+        }
+
+        @Test
+        @DisplayName("should skip unknown fields")
+        void shouldSkipUnknownFields() {
+            JsonObject obj = JsonParser.parseString(compact.encode(animal("Bessie"))).getAsJsonObject();
+            JsonObject extra = new JsonObject();
+            extra.addProperty("nested", 1);
+            obj.add("futureField", extra);
+
+            assertThat(compact.decode(obj.toString())).isEqualTo(animal("Bessie"));
+        }
+
+        @Test
+        @DisplayName("should encode to the writer without closing it")
+        void shouldEncodeToWriter() {
+            StringWriter out = new StringWriter();
+            compact.encode(animal(null), out);
+            out.write("\n");
+
+            assertThat(out.toString()).isEqualTo(compact.encode(animal(null)) + "\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("escaping")
+    class Escaping {
+
+        @Test
+        @DisplayName("should escape HTML characters like Gson's default writer")
+        void shouldEscapeHtml() {
+            TamedAnimal named = animal("<b>Tom & 'Jerry'=</b>");
+            String json = compact.encode(named);
+
+            assertThat(json).doesNotContain("<", ">", "&", "'", "=");
+            assertThat(json).contains("\\u003c", "\\u003e", "\\u0026", "\\u0027", "\\u003d");
+            assertThat(compact.decode(json)).isEqualTo(named);
+        }
+
+        @Test
+        @DisplayName("should match the bytes of the previous Gson tree encoder")
+        void shouldMatchGsonOutput() {
+            TamedAnimal named = animal("<Bessie>");
+            JsonElement tree = pretty.encodeToElement(named);
+
+            assertThat(pretty.encode(named))
+                    .isEqualTo(new GsonBuilder().setPrettyPrinting().create().toJson(tree));
+            assertThat(compact.encode(named)).isEqualTo(new Gson().toJson(tree));
+        }
+    }
+
+    @Nested
+    @DisplayName("tree form")
+    class TreeForm {
+
+        @Test
+        @DisplayName("should produce the same tree as parsing the encoded string")
+        void shouldMatchParsedString() {
+            for (String name : new String[] {"Bessie", null}) {
+                TamedAnimal a = animal(name);
+
+                assertThat(compact.encodeToElement(a)).isEqualTo(JsonParser.parseString(compact.encode(a)));
+            }
+        }
+
+        @Test
+        @DisplayName("should round-trip through a tree with and without a custom name")
+        void shouldRoundTrip() {
+            assertThat(compact.decodeFromElement(compact.encodeToElement(animal("Bessie")))).isEqualTo(animal("Bessie"));
+            assertThat(compact.decodeFromElement(compact.encodeToElement(animal(null)))).isEqualTo(animal(null));
+        }
+
+        @Test
+        @DisplayName("should reject a non-object element")
+        void shouldRejectNonObject() {
+            assertThatThrownBy(() -> compact.decodeFromElement(new JsonPrimitive("cow")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("should reject a field of the wrong type")
+        void shouldRejectWrongType() {
+            JsonObject obj = compact.encodeToElement(animal(null)).getAsJsonObject();
+            obj.addProperty("homeX", "north");
+
+            assertThatThrownBy(() -> compact.decodeFromElement(obj))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("schema version")
+    class SchemaVersion {
+
+        @Test
+        @DisplayName("should write the current schema version")
+        void shouldWriteVersion() {
+            JsonObject obj = compact.encodeToElement(animal(null)).getAsJsonObject();
+
+            assertThat(obj.get(TamedAnimalCodec.SCHEMA_VERSION_FIELD).getAsInt())
+                    .isEqualTo(TamedAnimalCodec.SCHEMA_VERSION);
+        }
+
+        @Test
+        @DisplayName("should read records written before the version field existed")
+        void shouldReadVersionZero() {
+            JsonObject obj = compact.encodeToElement(animal("Bessie")).getAsJsonObject();
+            obj.remove(TamedAnimalCodec.SCHEMA_VERSION_FIELD);
+
+            assertThat(compact.decode(obj.toString())).isEqualTo(animal("Bessie"));
+            assertThat(compact.decodeFromElement(obj)).isEqualTo(animal("Bessie"));
+        }
+
+        @Test
+        @DisplayName("should reject records from a newer schema")
+        void shouldRejectNewerVersion() {
+            JsonObject obj = compact.encodeToElement(animal(null)).getAsJsonObject();
+            obj.addProperty(TamedAnimalCodec.SCHEMA_VERSION_FIELD, TamedAnimalCodec.SCHEMA_VERSION + 1);
+
+            assertThatThrownBy(() -> compact.decode(obj.toString()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported schema version");
+            assertThatThrownBy(() -> compact.decodeFromElement(obj))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported schema version");
+        }
+    }
+}
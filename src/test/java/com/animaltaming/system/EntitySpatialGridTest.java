@@ -0,0 +1,139 @@
+package com.animaltaming.system;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the per-group uniform grid used to find tameable animals near a point.
+ */
+class EntitySpatialGridTest {
+
+    private static final double CELL = 16.0;
+
+    private EntitySpatialGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new EntitySpatialGrid(CELL);
+    }
+
+    private List<Long> query(String group, double x, double z, double radius) {
+        List<Long> found = new ArrayList<>();
+        grid.query(group, x, z, radius, found::add);
+        return found;
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive cell size")
+    void shouldRejectBadCellSize() {
+        assertThatThrownBy(() -> new EntitySpatialGrid(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EntitySpatialGrid(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("query")
+    class Query {
+
+        @Test
+        @DisplayName("should return entities in cells overlapping the radius")
+        void shouldFindNearby() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(2, "cow", 20, 5);
+            grid.put(3, "cow", 100, 100);
+
+            assertThat(query("cow", 0, 0, 10)).containsExactly(1L);
+            assertThat(query("cow", 10, 5, 10)).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("should only return entities of the queried group")
+        void shouldSeparateGroups() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(2, "pig", 5, 5);
+
+            assertThat(query("cow", 0, 0, 10)).containsExactly(1L);
+            assertThat(query("sheep", 0, 0, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should handle negative coordinates and cell boundaries")
+        void shouldHandleNegativeCoordinates() {
+            grid.put(1, "cow", -0.5, -0.5);
+            grid.put(2, "cow", 0, 0);
+            grid.put(3, "cow", -16.01, -0.5);
+
+            assertThat(query("cow", -8, -8, 7)).containsExactly(1L);
+            assertThat(query("cow", 8, 8, 7)).containsExactly(2L);
+            assertThat(query("cow", -17, -1, 0.5)).containsExactly(3L);
+            assertThat(query("cow", 0, 0, 0.5)).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("should return candidates beyond the radius within overlapping cells")
+        void shouldReturnCellCandidates() {
+            grid.put(1, "cow", 15, 15);
+
+            // Same cell as the query point, but about 21 blocks away
+            assertThat(query("cow", 0, 0, 1)).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("updates")
+    class Updates {
+
+        @Test
+        @DisplayName("should move an entity to its new cell")
+        void shouldMove() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(1, "cow", 200, 200);
+
+            assertThat(query("cow", 0, 0, 10)).isEmpty();
+            assertThat(query("cow", 200, 200, 10)).containsExactly(1L);
+            assertThat(grid.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should move an entity to a new group")
+        void shouldRegroup() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(1, "pig", 5, 5);
+
+            assertThat(query("cow", 0, 0, 10)).isEmpty();
+            assertThat(query("pig", 0, 0, 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("should remove entities and report whether they were present")
+        void shouldRemove() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(2, "cow", 6, 6);
+
+            assertThat(grid.remove(1)).isTrue();
+            assertThat(grid.remove(1)).isFalse();
+
+            assertThat(grid.contains(1)).isFalse();
+            assertThat(grid.contains(2)).isTrue();
+            assertThat(query("cow", 0, 0, 10)).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("should empty on clear")
+        void shouldClear() {
+            grid.put(1, "cow", 5, 5);
+            grid.put(2, "pig", 50, 50);
+
+            grid.clear();
+
+            assertThat(grid.size()).isZero();
+            assertThat(query("cow", 0, 0, 100)).isEmpty();
+        }
+    }
+}
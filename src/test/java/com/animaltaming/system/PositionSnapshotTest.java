@@ -0,0 +1,154 @@
+package com.animaltaming.system;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the per-tick position snapshot: slot lookup, growth and rehashing past the
+ * initial capacity, and reuse across ticks.
+ */
+class PositionSnapshotTest {
+
+    private PositionSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new PositionSnapshot(4);
+        snapshot.begin(1);
+    }
+
+    @Nested
+    @DisplayName("put and slotOf")
+    class PutAndSlotOf {
+
+        @Test
+        @DisplayName("should assign dense slots in capture order")
+        void shouldAssignDenseSlots() {
+            assertThat(snapshot.put(42, 1, 2, 3)).isEqualTo(0);
+            assertThat(snapshot.put(7, 4, 5, 6)).isEqualTo(1);
+
+            assertThat(snapshot.size()).isEqualTo(2);
+            assertThat(snapshot.slotOf(42)).isZero();
+            assertThat(snapshot.slotOf(7)).isEqualTo(1);
+            assertThat(snapshot.entityId(1)).isEqualTo(7);
+            assertThat(snapshot.x(1)).isEqualTo(4.0);
+            assertThat(snapshot.y(1)).isEqualTo(5.0);
+            assertThat(snapshot.z(1)).isEqualTo(6.0);
+        }
+
+        @Test
+        @DisplayName("should overwrite the position of an entity captured twice")
+        void shouldOverwrite() {
+            snapshot.put(42, 1, 2, 3);
+
+            assertThat(snapshot.put(42, 9, 8, 7)).isZero();
+
+            assertThat(snapshot.size()).isEqualTo(1);
+            assertThat(snapshot.x(0)).isEqualTo(9.0);
+            assertThat(snapshot.z(0)).isEqualTo(7.0);
+        }
+
+        @Test
+        @DisplayName("should return -1 for entities not captured")
+        void shouldMissUncaptured() {
+            snapshot.put(42, 1, 2, 3);
+
+            assertThat(snapshot.slotOf(43)).isEqualTo(-1);
+            assertThat(snapshot.contains(43)).isFalse();
+            assertThat(snapshot.slotOf(Long.MIN_VALUE)).isEqualTo(-1);
+            assertThat(snapshot.contains(42)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should measure distance between captured entities")
+        void shouldMeasureDistance() {
+            int a = snapshot.put(1, 0, 0, 0);
+            int b = snapshot.put(2, 3, 4, 0);
+
+            assertThat(snapshot.distanceSquared(a, b)).isEqualTo(25.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("growth")
+    class Growth {
+
+        @Test
+        @DisplayName("should keep every entity findable as it grows and rehashes")
+        void shouldGrowAndRehash() {
+            int count = 1000;
+            for (int i = 0; i < count; i++) {
+                // Spread and negative IDs so probing wraps around the table
+                long entityId = (i % 2 == 0 ? 1 : -1) * (i * 1024L + 1);
+                assertThat(snapshot.put(entityId, i, -i, i * 2)).isEqualTo(i);
+            }
+
+            assertThat(snapshot.size()).isEqualTo(count);
+            for (int i = 0; i < count; i++) {
+                long entityId = (i % 2 == 0 ? 1 : -1) * (i * 1024L + 1);
+                int slot = snapshot.slotOf(entityId);
+                assertThat(slot).isEqualTo(i);
+                assertThat(snapshot.entityId(slot)).isEqualTo(entityId);
+                assertThat(snapshot.x(slot)).isEqualTo((double) i);
+                assertThat(snapshot.y(slot)).isEqualTo((double) -i);
+                assertThat(snapshot.z(slot)).isEqualTo(i * 2.0);
+            }
+        }
+
+        @Test
+        @DisplayName("should start from a minimum capacity")
+        void shouldHandleZeroCapacity() {
+            PositionSnapshot tiny = new PositionSnapshot(0);
+            tiny.begin(1);
+            for (int i = 0; i < 20; i++) {
+                tiny.put(i, i, i, i);
+            }
+
+            assertThat(tiny.slotOf(19)).isEqualTo(19);
+        }
+    }
+
+    @Nested
+    @DisplayName("reuse")
+    class Reuse {
+
+        @Test
+        @DisplayName("begin() should drop the previous tick's entities")
+        void shouldResetOnBegin() {
+            for (int i = 0; i < 100; i++) {
+                snapshot.put(i, i, i, i);
+            }
+
+            snapshot.begin(2);
+
+            assertThat(snapshot.tick()).isEqualTo(2);
+            assertThat(snapshot.size()).isZero();
+            assertThat(snapshot.slotOf(5)).isEqualTo(-1);
+
+            assertThat(snapshot.put(500, 1, 1, 1)).isZero();
+            assertThat(snapshot.put(5, 2, 2, 2)).isEqualTo(1);
+            assertThat(snapshot.slotOf(500)).isZero();
+            assertThat(snapshot.x(snapshot.slotOf(5))).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("should report -1 as the tick before the first capture")
+        void shouldStartUncaptured() {
+            assertThat(new PositionSnapshot(4).tick()).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("EMPTY should be read-only")
+        void shouldKeepEmptyReadOnly() {
+            assertThat(PositionSnapshot.EMPTY.slotOf(1)).isEqualTo(-1);
+            assertThatThrownBy(() -> PositionSnapshot.EMPTY.begin(1))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> PositionSnapshot.EMPTY.put(1, 0, 0, 0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+}
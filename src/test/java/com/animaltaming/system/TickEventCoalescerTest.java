@@ -0,0 +1,182 @@
+package com.animaltaming.system;
+
+import com.animaltaming.api.event.TamingEvents.AnimalTeleportedBatchEvent;
+import com.animaltaming.api.event.TamingEvents.AnimalTeleportedEvent;
+import com.animaltaming.api.event.TamingEvents.TrustChangedBatchEvent;
+import com.animaltaming.api.event.TamingEvents.TrustChangedEvent;
+import com.animaltaming.api.event.TamingEvents.TrustDelta;
+import com.animaltaming.util.EventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for merging per-animal trust and teleport events into per-tick batches, and for
+ * subscribing to the per-animal events only while a batch subscriber exists.
+ */
+class TickEventCoalescerTest {
+
+    private static final UUID COW = UUID.randomUUID();
+    private static final UUID HORSE = UUID.randomUUID();
+    private static final UUID OWNER = UUID.randomUUID();
+
+    private EventBus bus;
+    private TickEventCoalescer coalescer;
+    private List<TrustChangedBatchEvent> trustBatches;
+    private List<AnimalTeleportedBatchEvent> teleportBatches;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        coalescer = new TickEventCoalescer(bus);
+        trustBatches = new ArrayList<>();
+        teleportBatches = new ArrayList<>();
+    }
+
+    private void subscribeBatches() {
+        bus.subscribe(TrustChangedBatchEvent.class, trustBatches::add);
+        bus.subscribe(AnimalTeleportedBatchEvent.class, teleportBatches::add);
+        coalescer.attach();
+    }
+
+    private void trust(long entityId, UUID animalId, int oldTrust, int newTrust, String reason) {
+        bus.publish(new TrustChangedEvent(entityId, animalId, "cow", oldTrust, newTrust, reason));
+    }
+
+    private void teleport(long entityId, UUID animalId, double from, double to) {
+        bus.publish(new AnimalTeleportedEvent(entityId, animalId, OWNER, from, from, from, to, to, to));
+    }
+
+    @Nested
+    @DisplayName("merging")
+    class Merging {
+
+        @BeforeEach
+        void setUp() {
+            subscribeBatches();
+        }
+
+        @Test
+        @DisplayName("should keep the first old trust, last new trust and reason, and count changes")
+        void shouldMergeTrust() {
+            trust(1, COW, 10, 20, "feeding");
+            trust(2, HORSE, 0, 5, "mounting");
+            trust(1, COW, 20, 25, "feeding");
+            trust(1, COW, 25, 30, "mounting");
+
+            coalescer.flush(7);
+
+            assertThat(trustBatches).hasSize(1);
+            TrustChangedBatchEvent batch = trustBatches.get(0);
+            assertThat(batch.tick()).isEqualTo(7);
+            // In order of each animal's first change
+            assertThat(batch.changes()).containsExactly(
+                    new TrustDelta(1, COW, "cow", 10, 30, "mounting", 3),
+                    new TrustDelta(2, HORSE, "cow", 0, 5, "mounting", 1));
+            assertThat(batch.changes().get(0).delta()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("should keep the first origin and last destination of a teleport")
+        void shouldMergeTeleports() {
+            teleport(1, COW, 0, 10);
+            teleport(1, COW, 10, 20);
+            teleport(2, HORSE, 5, 6);
+
+            coalescer.flush(3);
+
+            assertThat(teleportBatches).hasSize(1);
+            assertThat(teleportBatches.get(0).teleports()).containsExactly(
+                    new AnimalTeleportedEvent(1, COW, OWNER, 0, 0, 0, 20, 20, 20),
+                    new AnimalTeleportedEvent(2, HORSE, OWNER, 5, 5, 5, 6, 6, 6));
+        }
+
+        @Test
+        @DisplayName("should start each tick empty")
+        void shouldResetPerTick() {
+            trust(1, COW, 10, 20, "feeding");
+            coalescer.flush(1);
+            trust(1, COW, 20, 30, "feeding");
+            coalescer.flush(2);
+
+            assertThat(trustBatches).hasSize(2);
+            assertThat(trustBatches.get(1).changes())
+                    .containsExactly(new TrustDelta(1, COW, "cow", 20, 30, "feeding", 1));
+            assertThat(coalescer.getPendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should publish nothing for an empty tick")
+        void shouldSkipEmptyTick() {
+            coalescer.flush(1);
+
+            assertThat(trustBatches).isEmpty();
+            assertThat(teleportBatches).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should publish only the batch types that had events")
+        void shouldSkipEmptyBatchType() {
+            teleport(1, COW, 0, 10);
+
+            coalescer.flush(1);
+
+            assertThat(trustBatches).isEmpty();
+            assertThat(teleportBatches).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("subscriptions")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("should not subscribe to per-animal events without batch subscribers")
+        void shouldStayDetached() {
+            coalescer.attach();
+            coalescer.flush(1);
+
+            assertThat(coalescer.isCollecting()).isFalse();
+            assertThat(bus.hasHandlers(TrustChangedEvent.class)).isFalse();
+            assertThat(bus.hasHandlers(AnimalTeleportedEvent.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should subscribe only to the event whose batch has a subscriber")
+        void shouldSubscribePerBatchType() {
+            bus.subscribe(TrustChangedBatchEvent.class, trustBatches::add);
+            coalescer.attach();
+
+            assertThat(bus.hasHandlers(TrustChangedEvent.class)).isTrue();
+            assertThat(bus.hasHandlers(AnimalTeleportedEvent.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should follow batch subscribers added and removed after attach")
+        void shouldFollowBatchSubscribers() {
+            coalescer.attach();
+            Consumer<TrustChangedBatchEvent> handler = trustBatches::add;
+
+            bus.subscribe(TrustChangedBatchEvent.class, handler);
+            coalescer.flush(1);
+            assertThat(bus.getHandlerCount(TrustChangedEvent.class)).isEqualTo(1);
+
+            trust(1, COW, 0, 10, "feeding");
+            coalescer.flush(2);
+            assertThat(trustBatches).hasSize(1);
+
+            bus.unsubscribe(TrustChangedBatchEvent.class, handler);
+            coalescer.flush(3);
+            assertThat(bus.hasHandlers(TrustChangedEvent.class)).isFalse();
+            assertThat(coalescer.isCollecting()).isFalse();
+        }
+    }
+}
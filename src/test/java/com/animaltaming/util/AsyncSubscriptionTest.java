@@ -0,0 +1,277 @@
+package com.animaltaming.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for EventBus.subscribeAsync: delivery order, the DROP, BLOCK and COALESCE
+ * backpressure modes, and draining or discarding the queue on close.
+ */
+class AsyncSubscriptionTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private EventBus bus;
+    private List<String> received;
+    private CountDownLatch entered;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        received = Collections.synchronizedList(new ArrayList<>());
+        entered = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        bus.clear();
+    }
+
+    /**
+     * Handler that records events and holds the consumer on "hold" until released,
+     * so the test can fill the queue behind it.
+     */
+    private Consumer<String> gatedHandler() {
+        return event -> {
+            if (event.equals("hold")) {
+                entered.countDown();
+                try {
+                    release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.add(event);
+        };
+    }
+
+    /**
+     * Publish "hold" and wait until the consumer is stuck in the handler with an empty queue.
+     */
+    private void holdConsumer() throws InterruptedException {
+        bus.publish("hold");
+        assertThat(entered.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private void drain() {
+        release.countDown();
+        assertThat(bus.shutdown(TIMEOUT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should deliver events in publish order off the publishing thread")
+    void shouldDeliverInOrder() {
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        AsyncSubscription<String> subscription = bus.subscribeAsync(String.class, event -> {
+            threads.add(Thread.currentThread());
+            received.add(event);
+        }, EventBus.Backpressure.DROP);
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish("e" + i);
+        }
+        drain();
+
+        assertThat(received).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(received.get(i)).isEqualTo("e" + i);
+        }
+        assertThat(threads).doesNotContain(Thread.currentThread());
+        assertThat(subscription.getPublishedCount()).isEqualTo(100);
+        assertThat(subscription.getDeliveredCount()).isEqualTo(100);
+        assertThat(subscription.getQueueDepth()).isZero();
+        assertThat(subscription.getMaxLagNanos()).isPositive();
+    }
+
+    @Nested
+    @DisplayName("backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("DROP should discard new events while the queue is full")
+        void shouldDropWhenFull() throws InterruptedException {
+            AsyncSubscription<String> subscription =
+                    bus.subscribeAsync(String.class, gatedHandler(), 2, EventBus.Backpressure.DROP, null);
+            holdConsumer();
+
+            bus.publish("a");
+            bus.publish("b");
+            bus.publish("c");
+
+            assertThat(subscription.getQueueDepth()).isEqualTo(2);
+            assertThat(subscription.getDroppedCount()).isEqualTo(1);
+            assertThat(subscription.getLagNanos()).isPositive();
+            drain();
+            assertThat(received).containsExactly("hold", "a", "b");
+        }
+
+        @Test
+        @DisplayName("BLOCK should hold the publisher until there is space")
+        void shouldBlockWhenFull() throws InterruptedException {
+            AsyncSubscription<String> subscription =
+                    bus.subscribeAsync(String.class, gatedHandler(), 1, EventBus.Backpressure.BLOCK, null);
+            holdConsumer();
+            bus.publish("a");
+
+            Thread publisher = new Thread(() -> bus.publish("b"));
+            publisher.start();
+            publisher.join(100);
+
+            assertThat(publisher.isAlive()).isTrue();
+            assertThat(subscription.getQueueDepth()).isEqualTo(1);
+
+            release.countDown();
+            publisher.join(TIMEOUT.toMillis());
+
+            assertThat(publisher.isAlive()).isFalse();
+            drain();
+            assertThat(received).containsExactly("hold", "a", "b");
+            assertThat(subscription.getDroppedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("BLOCK should drop instead of deadlocking when the handler republishes")
+        void shouldNotBlockConsumerOnItself() throws InterruptedException {
+            AsyncSubscription<String> subscription = bus.subscribeAsync(String.class, event -> {
+                received.add(event);
+                if (event.equals("first")) {
+                    bus.publish("second");
+                    bus.publish("third");
+                    entered.countDown();
+                }
+            }, 1, EventBus.Backpressure.BLOCK, null);
+
+            bus.publish("first");
+            // Shut down only once the handler has republished, or the republished events are dropped as late
+            assertThat(entered.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            drain();
+
+            assertThat(received).containsExactly("first", "second");
+            assertThat(subscription.getDroppedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("COALESCE should replace a pending event with the same key in place")
+        void shouldCoalesceByKey() throws InterruptedException {
+            AsyncSubscription<String> subscription = bus.subscribeAsync(String.class, gatedHandler(), 2,
+                    EventBus.Backpressure.COALESCE, event -> event.substring(0, 1));
+            holdConsumer();
+
+            bus.publish("a1");
+            bus.publish("b1");
+            bus.publish("a2");
+            bus.publish("c1");
+
+            assertThat(subscription.getQueueDepth()).isEqualTo(2);
+            assertThat(subscription.getCoalescedCount()).isEqualTo(1);
+            assertThat(subscription.getDroppedCount()).isEqualTo(1);
+            drain();
+            assertThat(received).containsExactly("hold", "a2", "b1");
+        }
+
+        @Test
+        @DisplayName("COALESCE should accept a key again once its event is delivered")
+        void shouldForgetDeliveredKeys() throws InterruptedException {
+            bus.subscribeAsync(String.class, gatedHandler(), 4,
+                    EventBus.Backpressure.COALESCE, event -> event.substring(0, 1));
+            bus.publish("a1");
+            holdConsumer();
+
+            bus.publish("a2");
+            drain();
+
+            assertThat(received).containsExactly("a1", "hold", "a2");
+        }
+
+        @Test
+        @DisplayName("COALESCE should require a key")
+        void shouldRequireCoalesceKey() {
+            assertThatThrownBy(() -> bus.subscribeAsync(String.class, received::add, 4,
+                    EventBus.Backpressure.COALESCE, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("close")
+    class Close {
+
+        @Test
+        @DisplayName("shutdown should deliver everything queued, then drop new events")
+        void shouldDrainOnShutdown() throws InterruptedException {
+            AsyncSubscription<String> subscription =
+                    bus.subscribeAsync(String.class, gatedHandler(), 8, EventBus.Backpressure.DROP, null);
+            holdConsumer();
+            bus.publish("a");
+            bus.publish("b");
+
+            drain();
+            bus.publish("late");
+
+            assertThat(received).containsExactly("hold", "a", "b");
+            assertThat(subscription.getDeliveredCount()).isEqualTo(3);
+            assertThat(subscription.getDroppedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("shutdown should report a queue that doesn't drain in time")
+        void shouldTimeOut() throws InterruptedException {
+            bus.subscribeAsync(String.class, gatedHandler(), 8, EventBus.Backpressure.DROP, null);
+            holdConsumer();
+
+            assertThat(bus.shutdown(Duration.ofMillis(50))).isFalse();
+        }
+
+        @Test
+        @DisplayName("unsubscribe should deliver what was already queued")
+        void shouldDrainOnUnsubscribe() throws InterruptedException {
+            Consumer<String> handler = gatedHandler();
+            AsyncSubscription<String> subscription =
+                    bus.subscribeAsync(String.class, handler, 8, EventBus.Backpressure.DROP, null);
+            holdConsumer();
+            bus.publish("a");
+
+            bus.unsubscribe(String.class, handler);
+            bus.publish("b");
+            release.countDown();
+
+            assertThat(subscription.awaitTermination(TIMEOUT)).isTrue();
+            assertThat(received).containsExactly("hold", "a");
+            assertThat(bus.getAsyncSubscriptions()).isEmpty();
+            assertThat(bus.hasHandlers(String.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("clear should discard what is queued")
+        void shouldDiscardOnClear() throws InterruptedException {
+            AsyncSubscription<String> subscription =
+                    bus.subscribeAsync(String.class, gatedHandler(), 8, EventBus.Backpressure.DROP, null);
+            holdConsumer();
+            bus.publish("a");
+            bus.publish("b");
+
+            bus.clear();
+            release.countDown();
+
+            assertThat(subscription.awaitTermination(TIMEOUT)).isTrue();
+            assertThat(received).containsExactly("hold");
+            assertThat(subscription.getDroppedCount()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.animaltaming.util;
+
+import com.animaltaming.api.event.TamingEvents.TrustChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publish throughput of EventBus.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkEventBus}.
+ * Single-threaded numbers are ns per publish of a preallocated event to handlers
+ * subscribed by exact class, by interface and by both, plus the hasHandlers guard with
+ * nobody listening. Contended numbers are total publishes per second from 1, 2, 4 and 8
+ * threads publishing to the same bus.
+ */
+public final class EventBusBenchmark {
+
+    private static final int SINGLE_OPS = 20_000_000;
+    private static final long CONTENDED_OPS_PER_THREAD = 5_000_000;
+    private static final int ROUNDS = 5;
+
+    private static long sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        TrustChangedEvent event = new TrustChangedEvent(1, UUID.randomUUID(), "hytale:horse", 10, 20, "feeding");
+
+        System.out.printf("%-28s %10s%n", "single thread", "ns/op");
+        EventBus exact = new EventBus();
+        exact.subscribe(TrustChangedEvent.class, e -> sink += e.newTrust());
+        exact.subscribe(TrustChangedEvent.class, e -> sink += e.oldTrust(), 10);
+        single("exact class x2", () -> exact.publish(event));
+
+        EventBus byInterface = new EventBus();
+        byInterface.subscribe(Record.class, e -> sink++);
+        byInterface.subscribe(Object.class, e -> sink++, 10);
+        single("supertypes x2", () -> byInterface.publish(event));
+
+        EventBus mixed = new EventBus();
+        mixed.subscribe(TrustChangedEvent.class, e -> sink += e.newTrust());
+        mixed.subscribe(Record.class, e -> sink++, -1);
+        mixed.subscribe(Object.class, e -> sink++, 10);
+        single("exact + supertypes x3", () -> mixed.publish(event));
+
+        EventBus empty = new EventBus();
+        single("no handlers (publish)", () -> empty.publish(event));
+        single("no handlers (guard)", () -> {
+            if (empty.hasHandlers(TrustChangedEvent.class)) {
+                empty.publish(new TrustChangedEvent(1, event.animalId(), "hytale:horse", 10, 20, "feeding"));
+            }
+        });
+
+        System.out.printf("%n%-28s %14s%n", "contended", "publishes/s");
+        LongAdder received = new LongAdder();
+        EventBus shared = new EventBus();
+        shared.subscribe(TrustChangedEvent.class, e -> received.increment());
+        shared.subscribe(Record.class, e -> received.increment(), 10);
+        for (int threads : new int[]{1, 2, 4, 8}) {
+            contended(threads, shared, event);
+        }
+        if (sink == 42) {
+            System.out.println(received.sum());
+        }
+    }
+
+    private static void single(String name, Runnable op) {
+        for (int i = 0; i < SINGLE_OPS / 4; i++) {
+            op.run();  // Warm up
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < SINGLE_OPS / ROUNDS; i++) {
+                op.run();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-28s %10.1f%n", name, best / (double) (SINGLE_OPS / ROUNDS));
+    }
+
+    private static void contended(int threadCount, EventBus bus, TrustChangedEvent event) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < CONTENDED_OPS_PER_THREAD; i++) {
+                    bus.publish(event);
+                }
+            }, "EventBusBenchmark-" + t);
+            thread.start();
+            threads.add(thread);
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-28s %14.0f%n", threadCount + " threads", threadCount * CONTENDED_OPS_PER_THREAD / seconds);
+    }
+}
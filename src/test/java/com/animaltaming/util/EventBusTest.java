@@ -0,0 +1,158 @@
+package com.animaltaming.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for synchronous EventBus dispatch: handlers subscribed to supertypes and
+ * interfaces, priority order, and the handler counts used to guard event construction.
+ */
+class EventBusTest {
+
+    private interface Marker {
+    }
+
+    private record Base(String name) implements Marker {
+    }
+
+    private record Other(String name) {
+    }
+
+    private EventBus bus;
+    private List<String> calls;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+        calls = new ArrayList<>();
+    }
+
+    private <T> Consumer<T> recorder(String label) {
+        return event -> calls.add(label);
+    }
+
+    @Nested
+    @DisplayName("supertype handlers")
+    class Supertypes {
+
+        @Test
+        @DisplayName("should deliver an event to handlers of its class, interfaces and Object")
+        void shouldDeliverToSupertypes() {
+            bus.subscribe(Base.class, recorder("exact"));
+            bus.subscribe(Marker.class, recorder("interface"));
+            bus.subscribe(Record.class, recorder("superclass"));
+            bus.subscribe(Object.class, recorder("object"));
+
+            bus.publish(new Base("cow"));
+
+            assertThat(calls).containsExactly("exact", "interface", "superclass", "object");
+        }
+
+        @Test
+        @DisplayName("should not deliver to handlers of unrelated types")
+        void shouldSkipUnrelatedTypes() {
+            bus.subscribe(Marker.class, recorder("interface"));
+            bus.subscribe(String.class, recorder("string"));
+
+            bus.publish(new Other("pig"));
+
+            assertThat(calls).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should order handlers by priority across subscribed types")
+        void shouldOrderAcrossTypes() {
+            bus.subscribe(Base.class, recorder("exact"), 10);
+            bus.subscribe(Object.class, recorder("object"), -5);
+            bus.subscribe(Marker.class, recorder("interface"), 0);
+            bus.subscribe(Base.class, recorder("exact-same-priority"), 0);
+
+            bus.publish(new Base("cow"));
+
+            assertThat(calls).containsExactly("object", "interface", "exact-same-priority", "exact");
+        }
+
+        @Test
+        @DisplayName("should pick up handlers added or removed after the first publish")
+        void shouldRebuildAfterChanges() {
+            Consumer<Marker> marker = recorder("interface");
+            bus.publish(new Base("cow"));
+            bus.subscribe(Marker.class, marker);
+
+            bus.publish(new Base("cow"));
+            bus.unsubscribe(Marker.class, marker);
+            bus.publish(new Base("cow"));
+
+            assertThat(calls).containsExactly("interface");
+        }
+
+        @Test
+        @DisplayName("should keep calling other handlers when one throws")
+        void shouldIsolateFailures() {
+            bus.subscribe(Object.class, event -> {
+                throw new IllegalStateException("boom");
+            });
+            bus.subscribe(Base.class, recorder("exact"), 1);
+
+            bus.publish(new Base("cow"));
+
+            assertThat(calls).containsExactly("exact");
+        }
+    }
+
+    @Nested
+    @DisplayName("handler counts")
+    class HandlerCounts {
+
+        @Test
+        @DisplayName("should count handlers of supertypes")
+        void shouldCountSupertypeHandlers() {
+            bus.subscribe(Base.class, recorder("exact"));
+            bus.subscribe(Marker.class, recorder("interface"));
+            bus.subscribe(Object.class, recorder("object"));
+
+            assertThat(bus.getHandlerCount(Base.class)).isEqualTo(3);
+            assertThat(bus.getHandlerCount(Other.class)).isEqualTo(1);
+            assertThat(bus.hasHandlers(Other.class)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should report no handlers when only unrelated types are subscribed")
+        void shouldReportNoHandlers() {
+            bus.subscribe(Marker.class, recorder("interface"));
+
+            assertThat(bus.hasHandlers(Other.class)).isFalse();
+            assertThat(bus.getHandlerCount(Other.class)).isZero();
+            assertThat(bus.hasHandlers(Base.class)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should follow subscribe, unsubscribe and clear")
+        void shouldFollowChanges() {
+            Consumer<Object> any = recorder("object");
+            assertThat(bus.hasHandlers(Base.class)).isFalse();
+
+            bus.subscribe(Object.class, any);
+            assertThat(bus.hasHandlers(Base.class)).isTrue();
+
+            bus.unsubscribe(Object.class, any);
+            assertThat(bus.hasHandlers(Base.class)).isFalse();
+
+            bus.subscribe(Marker.class, recorder("interface"));
+            bus.subscribe(Base.class, recorder("exact"));
+            bus.clear(Marker.class);
+            assertThat(bus.getHandlerCount(Base.class)).isEqualTo(1);
+
+            bus.clear();
+            assertThat(bus.hasHandlers(Base.class)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.laits.breeding;
+
+import com.laits.breeding.util.ScanMemory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the incremental AnimalScanner's memory (ScanMemory): which entities a pass
+ * offers, and what it remembers or forgets afterwards.
+ */
+class AnimalScannerTest {
+
+    private ScanMemory<Object, String> memory;
+    private Object cow;
+    private Object pig;
+
+    @BeforeEach
+    void setUp() {
+        memory = new ScanMemory<>();
+        cow = new Object();
+        pig = new Object();
+    }
+
+    /**
+     * One scan over the given entities, mirroring AnimalScanner.scan: offer new or changed
+     * entities to the handler, remember accepted ones, forget declined and missing ones.
+     *
+     * @return the entities offered to the handler
+     */
+    private List<Object> pass(Predicate<Object> handler, Object... entitiesAndSpecies) {
+        List<Object> offered = new ArrayList<>();
+        memory.beginPass();
+        for (int i = 0; i < entitiesAndSpecies.length; i += 2) {
+            Object entity = entitiesAndSpecies[i];
+            String species = (String) entitiesAndSpecies[i + 1];
+            if (!memory.needsOffer(entity, species)) {
+                continue;
+            }
+            offered.add(entity);
+            if (!handler.test(entity)) {
+                memory.decline(entity);
+                continue;
+            }
+            memory.accept(entity, species);
+        }
+        memory.endPass();
+        return offered;
+    }
+
+    @Nested
+    @DisplayName("scan passes")
+    class Passes {
+
+        @Test
+        @DisplayName("should offer each entity once while its species is unchanged")
+        void shouldOfferOnce() {
+            assertThat(pass(e -> true, cow, "cow", pig, "pig")).containsExactly(cow, pig);
+            assertThat(pass(e -> true, cow, "cow", pig, "pig")).isEmpty();
+            assertThat(memory.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should offer an entity again when its species changes")
+        void shouldReofferOnSpeciesChange() {
+            pass(e -> true, cow, "cow");
+
+            assertThat(pass(e -> true, cow, "mooshroom")).containsExactly(cow);
+            assertThat(pass(e -> true, cow, "mooshroom")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep offering declined entities until accepted")
+        void shouldReofferDeclined() {
+            // Species disabled: the handler declines
+            assertThat(pass(e -> false, cow, "cow")).containsExactly(cow);
+            assertThat(memory.isKnown(cow)).isFalse();
+            assertThat(pass(e -> false, cow, "cow")).containsExactly(cow);
+
+            // Species enabled
+            assertThat(pass(e -> true, cow, "cow")).containsExactly(cow);
+            assertThat(pass(e -> true, cow, "cow")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should forget entities missing from a pass")
+        void shouldForgetMissing() {
+            pass(e -> true, cow, "cow", pig, "pig");
+
+            memory.beginPass();
+            memory.needsOffer(cow, "cow");
+
+            assertThat(memory.endPass()).isEqualTo(1);
+            assertThat(memory.isKnown(pig)).isFalse();
+            assertThat(pass(e -> true, pig, "pig")).containsExactly(pig);
+        }
+    }
+
+    @Nested
+    @DisplayName("accept() outside a pass")
+    class MarkKnown {
+
+        @Test
+        @DisplayName("should skip entities already handled by the spawn detector")
+        void shouldSkipMarkedEntities() {
+            memory.accept(cow, "cow");
+
+            assertThat(pass(e -> true, cow, "cow", pig, "pig")).containsExactly(pig);
+        }
+
+        @Test
+        @DisplayName("should keep marked entities that are present in the next pass")
+        void shouldKeepMarkedEntities() {
+            pass(e -> true, pig, "pig");
+            memory.accept(cow, "cow");
+
+            pass(e -> true, cow, "cow", pig, "pig");
+
+            assertThat(memory.isKnown(cow)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should still offer entities that were left unmarked")
+        void shouldOfferUnmarkedEntities() {
+            // Disabled at spawn time, so the detector did not mark it
+            assertThat(pass(e -> true, cow, "cow")).containsExactly(cow);
+        }
+    }
+
+    @Test
+    @DisplayName("clear() should make the next pass offer everything again")
+    void shouldOfferEverythingAfterClear() {
+        pass(e -> true, cow, "cow", pig, "pig");
+
+        memory.clear();
+
+        assertThat(pass(e -> true, cow, "cow", pig, "pig")).containsExactly(cow, pig);
+    }
+}
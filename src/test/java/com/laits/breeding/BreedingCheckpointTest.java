@@ -0,0 +1,270 @@
+package com.laits.breeding;
+
+import com.laits.breeding.managers.BreedingCheckpoint;
+import com.laits.breeding.managers.BreedingManager;
+import com.laits.breeding.managers.DeadlineScheduler;
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.util.ConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for breeding state checkpoints and their reattachment through BreedingManager.
+ */
+class BreedingCheckpointTest {
+
+    private static final long NO_TIMER = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    Path dir;
+
+    private BreedingManager manager;
+    private BreedingCheckpoint checkpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        manager = new BreedingManager(new ConfigManager());
+        checkpoint = reopen();
+        manager.setStateRecorder(checkpoint::record);
+    }
+
+    private BreedingCheckpoint reopen() throws Exception {
+        BreedingCheckpoint opened = new BreedingCheckpoint(dir);
+        opened.open();
+        opened.start(NO_TIMER);
+        return opened;
+    }
+
+    @Nested
+    @DisplayName("restore")
+    class Restore {
+
+        @Test
+        @DisplayName("should restore love, pregnancy, cooldown and growth by animal id")
+        void shouldRestoreState() throws Exception {
+            UUID cow = UUID.randomUUID();
+            UUID pig = UUID.randomUUID();
+            UUID calf = UUID.randomUUID();
+            manager.getOrCreateData(cow, AnimalType.COW).setInLove(true);
+            manager.getOrCreateData(pig, AnimalType.PIG).setPregnant(true);
+            manager.getOrCreateData(pig, AnimalType.PIG).setLastBreedTime(1234);
+            manager.registerBaby(calf, AnimalType.COW, null);
+            long birthTime = manager.getData(calf).getBirthTime();
+
+            assertThat(checkpoint.checkpoint()).isEqualTo(3);
+            assertThat(checkpoint.close(5000)).isTrue();
+
+            BreedingCheckpoint restored = new BreedingCheckpoint(dir);
+            assertThat(restored.open()).isEqualTo(3);
+
+            BreedingCheckpoint.Entry cowEntry = restored.claim(cow);
+            assertThat(cowEntry.inLove()).isTrue();
+            assertThat(cowEntry.animalType()).isEqualTo(AnimalType.COW);
+            BreedingCheckpoint.Entry pigEntry = restored.claim(pig);
+            assertThat(pigEntry.pregnant()).isTrue();
+            assertThat(pigEntry.lastBreedTime()).isEqualTo(1234);
+            BreedingCheckpoint.Entry calfEntry = restored.claim(calf);
+            assertThat(calfEntry.growthStage()).isEqualTo(GrowthStage.BABY);
+            assertThat(calfEntry.birthTime()).isEqualTo(birthTime);
+            assertThat(restored.hasUnclaimed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reschedule deadlines when state is reattached")
+        void shouldRescheduleOnRestore() throws Exception {
+            UUID pig = UUID.randomUUID();
+            UUID calf = UUID.randomUUID();
+            manager.getOrCreateData(pig, AnimalType.PIG).setPregnant(true);
+            manager.registerBaby(calf, AnimalType.COW, null);
+            checkpoint.close(5000);
+
+            BreedingCheckpoint restored = new BreedingCheckpoint(dir);
+            restored.open();
+            BreedingManager restarted = new BreedingManager(new ConfigManager());
+            BreedingData pigData = restarted.restoreData(restored.claim(pig), null);
+            restarted.restoreData(restored.claim(calf), null);
+
+            assertThat(pigData.isPregnant()).isTrue();
+            assertThat(restarted.getData(calf).getGrowthStage()).isEqualTo(GrowthStage.BABY);
+            DeadlineScheduler scheduler = restarted.getScheduler();
+            assertThat(scheduler.getScheduledIds(DeadlineScheduler.Kind.BIRTH)).containsExactly(pig);
+            assertThat(scheduler.getScheduledIds(DeadlineScheduler.Kind.GROWTH)).containsExactly(calf);
+        }
+
+        @Test
+        @DisplayName("should not record restored state again or repeat callbacks")
+        void shouldNotRecordOnRestore() throws Exception {
+            UUID cow = UUID.randomUUID();
+            BreedingData cowData = manager.getOrCreateData(cow, AnimalType.COW);
+            cowData.setInLove(true);
+            cowData.setPregnant(true);
+            cowData.setLastBreedTime(System.currentTimeMillis());
+            checkpoint.close(5000);
+
+            BreedingCheckpoint restored = new BreedingCheckpoint(dir);
+            restored.open();
+            BreedingManager restarted = new BreedingManager(new ConfigManager());
+            List<UUID> recorded = new ArrayList<>();
+            List<UUID> loveChanged = new ArrayList<>();
+            restarted.setStateRecorder(data -> recorded.add(data.getAnimalId()));
+            restarted.setOnLoveChangedCallback(data -> loveChanged.add(data.getAnimalId()));
+
+            restarted.restoreData(restored.claim(cow), null);
+            restarted.rescheduleAll();
+
+            assertThat(recorded).isEmpty();
+            assertThat(loveChanged).containsExactly(cow);
+            DeadlineScheduler scheduler = restarted.getScheduler();
+            assertThat(scheduler.getScheduledIds(DeadlineScheduler.Kind.LOVE_EXPIRY)).containsExactly(cow);
+            assertThat(scheduler.getScheduledIds(DeadlineScheduler.Kind.COOLDOWN_END)).containsExactly(cow);
+        }
+
+        @Test
+        @DisplayName("should keep the latest state of an animal checkpointed twice")
+        void shouldKeepLatestState() throws Exception {
+            UUID cow = UUID.randomUUID();
+            BreedingData data = manager.getOrCreateData(cow, AnimalType.COW);
+            data.setInLove(true);
+            checkpoint.checkpoint();
+            data.completeBreeding();
+            checkpoint.close(5000);
+
+            BreedingCheckpoint restored = new BreedingCheckpoint(dir);
+            restored.open();
+            BreedingCheckpoint.Entry entry = restored.claim(cow);
+            assertThat(entry.inLove()).isFalse();
+            assertThat(entry.lastBreedTime()).isPositive();
+            assertThat(restored.getGeneration()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should ignore a torn checkpoint at the end of the delta file")
+        void shouldIgnoreTornTail() throws Exception {
+            UUID first = UUID.randomUUID();
+            manager.getOrCreateData(first, AnimalType.COW).setInLove(true);
+            checkpoint.checkpoint();
+            manager.getOrCreateData(UUID.randomUUID(), AnimalType.PIG).setInLove(true);
+            checkpoint.close(5000);
+
+            Path delta = dir.resolve("breeding.delta");
+            byte[] bytes = Files.readAllBytes(delta);
+            Files.write(delta, Arrays.copyOf(bytes, bytes.length - 3));
+
+            BreedingCheckpoint restored = reopen();
+            assertThat(restored.getUnclaimedCount()).isEqualTo(1);
+            assertThat(restored.claim(first)).isNotNull();
+
+            // New checkpoints follow the last intact one
+            UUID third = UUID.randomUUID();
+            BreedingData data = new BreedingData(third, AnimalType.SHEEP);
+            restored.record(data);
+            restored.close(5000);
+            BreedingCheckpoint reread = new BreedingCheckpoint(dir);
+            reread.open();
+            assertThat(reread.claim(third)).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("unknown entries")
+    class UnknownEntries {
+
+        @Test
+        @DisplayName("should skip entries whose animal type no longer exists and keep the rest")
+        void shouldSkipUnknownType() throws Exception {
+            UUID cow = UUID.randomUUID();
+            UUID pig = UUID.randomUUID();
+            manager.getOrCreateData(cow, AnimalType.COW).setInLove(true);
+            manager.getOrCreateData(pig, AnimalType.PIG).setInLove(true);
+            checkpoint.close(5000);
+
+            // Rename COW as if the constant had been removed, keeping the frame's checksum valid
+            Path delta = dir.resolve("breeding.delta");
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(delta));
+            byte[] name = "COW".getBytes(StandardCharsets.US_ASCII);
+            int at = indexOf(bytes.array(), name);
+            assertThat(at).isPositive();
+            System.arraycopy("GNU".getBytes(StandardCharsets.US_ASCII), 0, bytes.array(), at, name.length);
+            int frameLength = bytes.getInt(8);
+            CRC32 crc = new CRC32();
+            crc.update(bytes.array(), 16, frameLength);
+            bytes.putInt(12, (int) crc.getValue());
+            Files.write(delta, bytes.array());
+
+            BreedingCheckpoint restored = reopen();
+            assertThat(restored.getUnclaimedCount()).isEqualTo(1);
+            assertThat(restored.claim(cow)).isNull();
+            assertThat(restored.claim(pig).animalType()).isEqualTo(AnimalType.PIG);
+            restored.close(5000);
+        }
+
+        private int indexOf(byte[] haystack, byte[] needle) {
+            for (int i = 0; i + needle.length <= haystack.length; i++) {
+                if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @Nested
+    @DisplayName("compaction")
+    class Compaction {
+
+        @Test
+        @DisplayName("should write a base checkpoint once the delta passes the threshold")
+        void shouldCompact() throws Exception {
+            checkpoint.close(5000);
+            BreedingCheckpoint small = new BreedingCheckpoint(dir, 1024, BreedingCheckpoint.DEFAULT_RETENTION_MS);
+            small.open();
+            small.start(NO_TIMER);
+            for (int i = 0; i < 100; i++) {
+                small.record(BreedingData.createBaby(UUID.randomUUID(), AnimalType.COW));
+                small.checkpoint();
+            }
+            UUID last = UUID.randomUUID();
+            small.record(BreedingData.createBaby(last, AnimalType.PIG));
+            assertThat(small.close(5000)).isTrue();
+
+            assertThat(small.getCompactions()).isPositive();
+            assertThat(Files.exists(dir.resolve("breeding.ckpt"))).isTrue();
+            BreedingCheckpoint restored = new BreedingCheckpoint(dir);
+            assertThat(restored.open()).isEqualTo(101);
+            assertThat(restored.getGeneration()).isEqualTo(101);
+            assertThat(restored.claim(last).animalType()).isEqualTo(AnimalType.PIG);
+        }
+
+        @Test
+        @DisplayName("should drop entries past the retention period")
+        void shouldDropExpiredEntries() throws Exception {
+            checkpoint.close(5000);
+            BreedingCheckpoint expiring = new BreedingCheckpoint(dir, 1024, 0);
+            expiring.open();
+            expiring.start(NO_TIMER);
+            expiring.record(new BreedingData(UUID.randomUUID(), AnimalType.COW));
+            expiring.close(5000);
+            Thread.sleep(5);
+
+            assertThat(new BreedingCheckpoint(dir, 1024, 0).open()).isZero();
+        }
+    }
+}
@@ -493,6 +493,51 @@ class BreedingManagerTest {
             assertThat(manager.getTrackedCount()).isEqualTo(0);
             assertThat(manager.getData(cowId)).isNull();
         }
+
+        @Test
+        @DisplayName("should notify the removal callback and cancel deadlines")
+        void shouldNotifyOnRemove() {
+            UUID cowId = UUID.randomUUID();
+            List<UUID> removed = new ArrayList<>();
+            manager.setOnRemovedCallback(data -> removed.add(data.getAnimalId()));
+            manager.tryFeed(cowId, AnimalType.COW, config.getBreedingFood(AnimalType.COW));
+            BreedingData data = manager.getData(cowId);
+
+            manager.removeData(cowId);
+            data.setInLove(true);
+
+            assertThat(removed).containsExactly(cowId);
+            assertThat(manager.getInLoveCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("cleanupStaleEntries()")
+    class CleanupStaleEntries {
+
+        @Test
+        @DisplayName("should remove entries with dead refs and notify the removal callback")
+        void shouldRemoveStaleEntries() {
+            UUID live = UUID.randomUUID();
+            UUID stale = UUID.randomUUID();
+            List<UUID> removed = new ArrayList<>();
+            manager.setOnRemovedCallback(data -> removed.add(data.getAnimalId()));
+            manager.setEntityRefValidator(ref -> ref.equals("live"));
+            manager.tryFeed(live, AnimalType.COW, config.getBreedingFood(AnimalType.COW), "live");
+            manager.tryFeed(stale, AnimalType.COW, config.getBreedingFood(AnimalType.COW), "dead");
+            BreedingData staleData = manager.getData(stale);
+
+            assertThat(manager.cleanupStaleEntries()).isEqualTo(1);
+
+            assertThat(removed).containsExactly(stale);
+            assertThat(manager.getData(stale)).isNull();
+            assertThat(manager.getInLoveCount()).isEqualTo(1);
+            // Detached: later changes to the removed data schedule nothing
+            staleData.setInLove(false);
+            staleData.setInLove(true);
+            assertThat(manager.getInLoveCount()).isEqualTo(1);
+            assertThat(manager.getAnimalsInLove()).extracting(BreedingData::getAnimalId).containsExactly(live);
+        }
     }
 
     @Nested
@@ -521,4 +566,46 @@ class BreedingManagerTest {
             assertThat(canBreed).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("Love changed callback")
+    class LoveChangedCallback {
+
+        @Test
+        @DisplayName("should fire when love starts and when breeding ends it")
+        void shouldFireOnLoveTransitions() {
+            List<UUID> changed = new ArrayList<>();
+            manager.setOnLoveChangedCallback(data -> changed.add(data.getAnimalId()));
+            UUID cowId = UUID.randomUUID();
+
+            manager.tryFeed(cowId, AnimalType.COW, config.getBreedingFood(AnimalType.COW));
+            manager.getData(cowId).completeBreeding();
+
+            assertThat(changed).containsExactly(cowId, cowId);
+        }
+
+        @Test
+        @DisplayName("should see the entity ref passed to tryFeed when love starts")
+        void shouldSeeEntityRefOnLoveStart() {
+            List<Object> refs = new ArrayList<>();
+            manager.setOnLoveChangedCallback(data -> refs.add(data.getEntityRef()));
+            Object entityRef = new Object();
+
+            manager.tryFeed(UUID.randomUUID(), AnimalType.COW, config.getBreedingFood(AnimalType.COW), entityRef);
+
+            assertThat(refs).containsExactly(entityRef);
+        }
+
+        @Test
+        @DisplayName("should not fire when resetting an animal that is not in love")
+        void shouldNotFireWithoutTransition() {
+            List<UUID> changed = new ArrayList<>();
+            manager.setOnLoveChangedCallback(data -> changed.add(data.getAnimalId()));
+            UUID cowId = UUID.randomUUID();
+
+            manager.getOrCreateData(cowId, AnimalType.COW).resetLove();
+
+            assertThat(changed).isEmpty();
+        }
+    }
 }
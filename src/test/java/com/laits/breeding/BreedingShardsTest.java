@@ -0,0 +1,99 @@
+package com.laits.breeding;
+
+import com.laits.breeding.managers.BreedingShards;
+import com.laits.breeding.managers.BreedingShards.Shard;
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.BreedingData;
+import com.laits.breeding.util.ConfigManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for per-world breeding shards and the aggregate view across them.
+ */
+class BreedingShardsTest {
+
+    private BreedingShards shards;
+
+    @BeforeEach
+    void setUp() {
+        shards = new BreedingShards(new ConfigManager());
+    }
+
+    @Nested
+    @DisplayName("forWorld()")
+    class ForWorld {
+
+        @Test
+        @DisplayName("should give each world its own managers")
+        void shouldIsolateWorlds() {
+            Shard overworld = shards.forWorld("default");
+            Shard nether = shards.forWorld("nether");
+            UUID cowId = UUID.randomUUID();
+
+            overworld.getBreeding().getOrCreateData(cowId, AnimalType.COW);
+
+            assertThat(shards.forWorld("default")).isSameAs(overworld);
+            assertThat(nether.getBreeding()).isNotSameAs(overworld.getBreeding());
+            assertThat(nether.getBreeding().getData(cowId)).isNull();
+            assertThat(shards.getShardCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should apply the initializer to existing and new shards")
+        void shouldInitializeShards() {
+            List<String> initialized = new ArrayList<>();
+            shards.forWorld("default");
+
+            shards.setShardInitializer(shard -> initialized.add(shard.getWorldId()));
+            shards.forWorld("nether");
+
+            assertThat(initialized).containsExactly("default", "nether");
+        }
+    }
+
+    @Nested
+    @DisplayName("aggregate view")
+    class Aggregate {
+
+        @Test
+        @DisplayName("should find, count and remove animals across worlds")
+        void shouldAggregateAcrossWorlds() {
+            UUID cowId = UUID.randomUUID();
+            UUID pigId = UUID.randomUUID();
+            shards.forWorld("default").getBreeding().getOrCreateData(cowId, AnimalType.COW);
+            BreedingData pig = shards.forWorld("nether").getBreeding().getOrCreateData(pigId, AnimalType.PIG);
+
+            assertThat(shards.getData(pigId)).isSameAs(pig);
+            assertThat(shards.findShard(pigId).getWorldId()).isEqualTo("nether");
+            assertThat(shards.getTrackedCount()).isEqualTo(2);
+            assertThat(shards.getAllBreedingData()).hasSize(2);
+
+            shards.removeData(pigId);
+
+            assertThat(shards.getData(pigId)).isNull();
+            assertThat(shards.findShard(pigId)).isNull();
+            assertThat(shards.getTrackedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should drop every shard on clearAll")
+        void shouldClearAll() {
+            shards.forWorld("default").getBreeding().getOrCreateData(UUID.randomUUID(), AnimalType.COW);
+            shards.forWorld("nether").getBreeding().getOrCreateData(UUID.randomUUID(), AnimalType.PIG);
+
+            shards.clearAll();
+
+            assertThat(shards.getTrackedCount()).isZero();
+            assertThat(shards.getShardCount()).isZero();
+        }
+    }
+}
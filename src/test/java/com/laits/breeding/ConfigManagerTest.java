@@ -1,13 +1,22 @@
 package com.laits.breeding;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.laits.breeding.models.AnimalType;
 import com.laits.breeding.models.GrowthStage;
+import com.laits.breeding.models.SpeciesIndex;
 import com.laits.breeding.util.ConfigManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
@@ -237,4 +246,98 @@ class ConfigManagerTest {
             assertThat(config.isGrowthEnabled()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("Custom animals from JSON")
+    class CustomAnimalsFromJson {
+
+        @Test
+        @DisplayName("should index every loaded custom animal and drop ones no longer listed")
+        void testIndexesLoadedCustomAnimals() {
+            config.loadFromJson("""
+                    {"customAnimals": {
+                      "Moose": {"breedingFoods": ["Plant_Crop_Carrot_Item"]},
+                      "Yak": {"breedingFoods": ["Plant_Crop_Wheat_Item"], "babyNpcRoleId": "Yak_Calf"}
+                    }}
+                    """);
+            SpeciesIndex first = config.getSpeciesIndex();
+
+            assertThat(config.isCustomAnimal("moose")).isTrue();
+            assertThat(first.lookup("YAK").isCustom()).isTrue();
+            assertThat(first.lookup("yak_calf").isBaby()).isTrue();
+
+            config.loadFromJson("{\"customAnimals\": {\"Yak\": {}}}");
+
+            assertThat(config.getSpeciesIndex()).isNotSameAs(first);
+            assertThat(config.isCustomAnimal("Moose")).isFalse();
+            assertThat(config.isCustomAnimal("Yak")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Preset files")
+    class PresetFiles {
+
+        @TempDir
+        Path dir;
+
+        private ConfigManager load() {
+            ConfigManager loaded = new ConfigManager();
+            loaded.loadFromFile(dir.resolve("config.json"));
+            loaded.awaitPresets();
+            return loaded;
+        }
+
+        @Test
+        @DisplayName("should create missing built-in presets and a manifest")
+        void testCreatesPresets() {
+            ConfigManager loaded = load();
+
+            assertThat(dir.resolve("presets").resolve("lait_curated.json")).exists();
+            assertThat(dir.resolve("presets").resolve(".manifest")).exists();
+            assertThat(loaded.getAvailablePresets())
+                    .containsExactly("all", "default", "default_extended", "lait_curated", "zoo");
+        }
+
+        @Test
+        @DisplayName("should skip preset files whose hash matches the manifest without parsing them")
+        void testSkipsUnchangedPresets() throws Exception {
+            load();
+            Path preset = dir.resolve("presets").resolve("zoo.json");
+            // Drop an animal, then record the edited file's hash as if it were the one checked last time.
+            // Only a check that trusts the manifest (and never reads the JSON) leaves the animal missing.
+            String edited = Files.readString(preset).replace("\"COW\"", "\"REMOVED_COW\"");
+            Files.writeString(preset, edited);
+            recordManifestHash("zoo", edited);
+
+            ConfigManager loaded = load();
+            assertThat(loaded.applyPreset("zoo")).isTrue();
+
+            assertThat(Files.readString(preset)).isEqualTo(edited);
+        }
+
+        private void recordManifestHash(String presetName, String content) throws Exception {
+            Path manifestFile = dir.resolve("presets").resolve(".manifest");
+            JsonObject manifest = JsonParser.parseString(Files.readString(manifestFile)).getAsJsonObject();
+            String sha256 = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+            manifest.getAsJsonObject("presets").getAsJsonObject(presetName).addProperty("sha256", sha256);
+            Files.writeString(manifestFile, manifest.toString());
+        }
+
+        @Test
+        @DisplayName("should add missing animals to an edited preset when it is applied")
+        void testRefreshesEditedPresetOnApply() throws Exception {
+            load();
+            Path preset = dir.resolve("presets").resolve("zoo.json");
+            Files.writeString(preset, Files.readString(preset).replace("\"COW\"", "\"REMOVED_COW\""));
+
+            ConfigManager loaded = load();
+            assertThat(Files.readString(preset)).doesNotContain("\"COW\"");
+
+            assertThat(loaded.applyPreset("zoo")).isTrue();
+            assertThat(Files.readString(preset)).contains("\"COW\"");
+            assertThat(loaded.isAnimalEnabled(AnimalType.COW)).isTrue();
+        }
+    }
 }
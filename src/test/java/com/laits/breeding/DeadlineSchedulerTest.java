@@ -0,0 +1,103 @@
+package com.laits.breeding;
+
+import com.laits.breeding.managers.DeadlineScheduler;
+import com.laits.breeding.managers.DeadlineScheduler.Kind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for DeadlineScheduler ordering, rescheduling and cancellation.
+ */
+class DeadlineSchedulerTest {
+
+    private DeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DeadlineScheduler();
+    }
+
+    @Nested
+    @DisplayName("drainDue()")
+    class DrainDue {
+
+        @Test
+        @DisplayName("should return only deadlines at or before now, in due order")
+        void shouldReturnDueInOrder() {
+            UUID early = UUID.randomUUID();
+            UUID later = UUID.randomUUID();
+            UUID future = UUID.randomUUID();
+
+            scheduler.schedule(later, Kind.BIRTH, 200);
+            scheduler.schedule(future, Kind.BIRTH, 500);
+            scheduler.schedule(early, Kind.BIRTH, 100);
+
+            assertThat(scheduler.drainDue(Kind.BIRTH, 200)).containsExactly(early, later);
+            assertThat(scheduler.getPendingCount(Kind.BIRTH)).isEqualTo(1);
+            assertThat(scheduler.isScheduled(future, Kind.BIRTH)).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep kinds independent")
+        void shouldKeepKindsIndependent() {
+            UUID cow = UUID.randomUUID();
+
+            scheduler.schedule(cow, Kind.LOVE_EXPIRY, 100);
+            scheduler.schedule(cow, Kind.GROWTH, 100);
+
+            assertThat(scheduler.drainDue(Kind.LOVE_EXPIRY, 100)).containsExactly(cow);
+            assertThat(scheduler.isScheduled(cow, Kind.GROWTH)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("schedule() and cancel()")
+    class ScheduleAndCancel {
+
+        @Test
+        @DisplayName("should replace a previous deadline of the same kind")
+        void shouldReplacePreviousDeadline() {
+            UUID cow = UUID.randomUUID();
+
+            scheduler.schedule(cow, Kind.COOLDOWN_END, 100);
+            scheduler.schedule(cow, Kind.COOLDOWN_END, 300);
+
+            assertThat(scheduler.drainDue(Kind.COOLDOWN_END, 200)).isEmpty();
+            assertThat(scheduler.drainDue(Kind.COOLDOWN_END, 300)).containsExactly(cow);
+        }
+
+        @Test
+        @DisplayName("should not fire cancelled deadlines")
+        void shouldNotFireCancelled() {
+            UUID cow = UUID.randomUUID();
+            UUID pig = UUID.randomUUID();
+
+            scheduler.schedule(cow, Kind.BIRTH, 100);
+            scheduler.schedule(pig, Kind.GROWTH, 100);
+            scheduler.cancel(cow, Kind.BIRTH);
+            scheduler.cancelAll(pig);
+
+            assertThat(scheduler.drainDue(Kind.BIRTH, 1_000)).isEmpty();
+            assertThat(scheduler.drainDue(Kind.GROWTH, 1_000)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should stay consistent after many reschedules")
+        void shouldStayConsistentAfterManyReschedules() {
+            UUID cow = UUID.randomUUID();
+
+            for (int i = 0; i < 10_000; i++) {
+                scheduler.schedule(cow, Kind.LOVE_EXPIRY, i);
+            }
+
+            assertThat(scheduler.drainDue(Kind.LOVE_EXPIRY, 9_998)).isEmpty();
+            assertThat(scheduler.drainDue(Kind.LOVE_EXPIRY, 9_999)).containsExactly(cow);
+        }
+    }
+}
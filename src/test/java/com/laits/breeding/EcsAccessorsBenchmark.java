@@ -0,0 +1,127 @@
+package com.laits.breeding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Per-call cost of the ECS access patterns EcsAccessors replaced.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkEcsAccessors}.
+ * The Hytale server jar is compile-only, so this measures the same access shapes on
+ * stand-in classes: the old per-call path (Class.forName, a getMethods() scan for the
+ * getter, getDeclaredField + setAccessible for the private model field, then reflective
+ * invoke), a Method/Field cached once but still invoked reflectively, a MethodHandle bound
+ * once into a static final (what EcsAccessors does), and a direct call.
+ * Numbers are ns per "read component, read its private model" pair.
+ */
+public final class EcsAccessorsBenchmark {
+
+    private static final int OPS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    private static final MethodHandle GET_COMPONENT;
+    private static final MethodHandle MODEL_GETTER;
+    private static final Method CACHED_GET_COMPONENT;
+    private static final Field CACHED_MODEL_FIELD;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CACHED_GET_COMPONENT = StandInStore.class.getMethod("getComponent", Object.class, Object.class);
+            CACHED_MODEL_FIELD = StandInModelComponent.class.getDeclaredField("model");
+            CACHED_MODEL_FIELD.setAccessible(true);
+            GET_COMPONENT = lookup.unreflect(CACHED_GET_COMPONENT)
+                    .asType(MethodType.methodType(Object.class, StandInStore.class, Object.class, Object.class));
+            MODEL_GETTER = lookup.unreflectGetter(CACHED_MODEL_FIELD)
+                    .asType(MethodType.methodType(Object.class, StandInModelComponent.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static long sink;
+
+    public static void main(String[] args) throws Throwable {
+        StandInStore store = new StandInStore();
+        Object ref = new Object();
+        Object type = new Object();
+
+        System.out.printf("%-28s %10s%n", "access path", "ns/op");
+        run("per-call reflection", () -> {
+            Class<?> componentClass = Class.forName(StandInModelComponent.class.getName());
+            Method getComponent = null;
+            for (Method m : store.getClass().getMethods()) {
+                if (m.getName().equals("getComponent") && m.getParameterCount() == 2) {
+                    getComponent = m;
+                    break;
+                }
+            }
+            Object component = getComponent.invoke(store, ref, type);
+            Field modelField = componentClass.getDeclaredField("model");
+            modelField.setAccessible(true);
+            sink += modelField.get(component).hashCode();
+        });
+        run("cached Method/Field", () -> {
+            Object component = CACHED_GET_COMPONENT.invoke(store, ref, type);
+            sink += CACHED_MODEL_FIELD.get(component).hashCode();
+        });
+        run("bound MethodHandle", () -> {
+            Object component = (Object) GET_COMPONENT.invokeExact(store, ref, type);
+            sink += ((Object) MODEL_GETTER.invokeExact((StandInModelComponent) component)).hashCode();
+        });
+        run("direct call", () -> {
+            StandInModelComponent component = (StandInModelComponent) store.getComponent(ref, type);
+            sink += component.model().hashCode();
+        });
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+
+    private interface Op {
+        void run() throws Throwable;
+    }
+
+    private static void run(String name, Op op) throws Throwable {
+        for (int i = 0; i < OPS / 4; i++) {
+            op.run();  // Warm up
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < OPS / ROUNDS; i++) {
+                op.run();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-28s %10.1f%n", name, best / (double) (OPS / ROUNDS));
+    }
+
+    /** Stands in for Store: a public generic component getter. */
+    public static final class StandInStore {
+        private final StandInModelComponent component = new StandInModelComponent();
+
+        public Object getComponent(Object ref, Object type) {
+            return component;
+        }
+
+        // Padding so the getMethods() scan has the breadth of a real ECS store
+        public void addComponent(Object ref, Object type, Object component) {}
+        public void removeComponent(Object ref, Object type) {}
+        public Object ensureAndGetComponent(Object ref, Object type) { return component; }
+        public void removeEntity(Object ref, Object reason) {}
+        public Object getExternalData() { return null; }
+    }
+
+    /** Stands in for ModelComponent: the model sits in a private field. */
+    public static final class StandInModelComponent {
+        private final Object model = new Object();
+
+        Object model() {
+            return model;
+        }
+    }
+}
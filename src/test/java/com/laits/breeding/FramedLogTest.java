@@ -0,0 +1,258 @@
+package com.laits.breeding;
+
+import com.laits.breeding.util.FramedLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the shared length + CRC32 framed file format: writing and reading frames from
+ * streams and buffers, and recovering from torn or corrupt tails.
+ */
+class FramedLogTest {
+
+    private static final int MAGIC = 0x54455354;  // "TEST"
+    private static final int VERSION = 3;
+    private static final int MAX_FRAME = 1024;
+
+    @TempDir
+    Path dir;
+
+    private Path writeLog(String... payloads) throws IOException {
+        return writeLog(dir.resolve("test.log"), payloads);
+    }
+
+    private static Path writeLog(Path file, String... payloads) throws IOException {
+        try (FileChannel channel = FramedLog.create(file, MAGIC, VERSION)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            CRC32 crc = new CRC32();
+            for (String payload : payloads) {
+                FramedLog.writeFrame(out, payload.getBytes(StandardCharsets.UTF_8), crc);
+            }
+            FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+        }
+        return file;
+    }
+
+    private static List<String> readFrames(Path file, FramedLog.Stop expectedStop) throws IOException {
+        List<String> frames = new ArrayList<>();
+        try (DataInputStream in = FramedLog.openRead(file)) {
+            assertThat(FramedLog.readHeader(in, MAGIC, VERSION)).isTrue();
+            FramedLog.Reader reader = new FramedLog.Reader(in, MAX_FRAME);
+            byte[] frame;
+            while ((frame = reader.next()) != null) {
+                frames.add(new String(frame, 0, reader.length(), StandardCharsets.UTF_8));
+            }
+            assertThat(reader.stop()).isEqualTo(expectedStop);
+            assertThat(reader.frames()).isEqualTo(frames.size());
+            assertThat(reader.next()).isNull();
+        }
+        return frames;
+    }
+
+    private static void truncate(Path file, int bytesToDrop) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - bytesToDrop));
+    }
+
+    private static void flipByte(Path file, long offset) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[(int) offset] ^= 0x5A;
+        Files.write(file, bytes);
+    }
+
+    @Nested
+    @DisplayName("stream frames")
+    class StreamFrames {
+
+        @Test
+        @DisplayName("should read back every frame in order")
+        void shouldRoundTrip() throws IOException {
+            Path file = writeLog("one", "two", "a longer third frame that outgrows nothing");
+
+            assertThat(readFrames(file, FramedLog.Stop.END))
+                    .containsExactly("one", "two", "a longer third frame that outgrows nothing");
+        }
+
+        @Test
+        @DisplayName("should grow the read buffer for large frames")
+        void shouldReadLargeFrames() throws IOException {
+            String large = "x".repeat(MAX_FRAME);
+
+            assertThat(readFrames(writeLog("small", large), FramedLog.Stop.END)).containsExactly("small", large);
+        }
+
+        @Test
+        @DisplayName("should reject a header with another magic or version")
+        void shouldRejectForeignHeader() throws IOException {
+            Path file = writeLog("one");
+
+            try (DataInputStream in = FramedLog.openRead(file)) {
+                assertThat(FramedLog.readHeader(in, MAGIC, VERSION + 1)).isFalse();
+            }
+            try (DataInputStream in = FramedLog.openRead(file)) {
+                assertThat(FramedLog.readHeader(in, MAGIC + 1, VERSION)).isFalse();
+            }
+            Files.write(file, new byte[3]);
+            try (DataInputStream in = FramedLog.openRead(file)) {
+                assertThat(FramedLog.readHeader(in, MAGIC, VERSION)).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("damaged tails")
+    class DamagedTails {
+
+        @Test
+        @DisplayName("should stop at a torn last frame and keep the ones before it")
+        void shouldStopAtTornFrame() throws IOException {
+            Path file = writeLog("one", "two", "three");
+            truncate(file, 2);
+
+            assertThat(readFrames(file, FramedLog.Stop.TORN)).containsExactly("one", "two");
+        }
+
+        @Test
+        @DisplayName("should stop at a checksum mismatch")
+        void shouldStopAtChecksumMismatch() throws IOException {
+            Path file = writeLog("one", "two", "three");
+            // Last byte of the second payload
+            flipByte(file, FramedLog.FILE_HEADER_BYTES + (8 + 3) + (8 + 3) - 1);
+
+            assertThat(readFrames(file, FramedLog.Stop.CORRUPT)).containsExactly("one");
+        }
+
+        @Test
+        @DisplayName("should stop at an impossible frame length")
+        void shouldStopAtBadLength() throws IOException {
+            Path file = writeLog("one", "x".repeat(MAX_FRAME + 1));
+
+            assertThat(readFrames(file, FramedLog.Stop.CORRUPT)).containsExactly("one");
+        }
+
+        @Test
+        @DisplayName("should measure the valid length up to the last intact frame")
+        void shouldMeasureValidLength() throws IOException {
+            Path file = writeLog("one", "two");
+            long intact = Files.size(file);
+
+            assertThat(FramedLog.validLength(file, MAGIC, VERSION, MAX_FRAME)).isEqualTo(intact);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+                FramedLog.writeFully(channel, ByteBuffer.wrap(new byte[] {0, 0, 0, 9, 1, 2}));
+            }
+
+            assertThat(FramedLog.validLength(file, MAGIC, VERSION, MAX_FRAME)).isEqualTo(intact);
+        }
+
+        @Test
+        @DisplayName("should drop a torn tail when reopening for append")
+        void shouldTruncateOnAppend() throws IOException {
+            Path file = writeLog("one", "two", "three");
+            truncate(file, 4);
+
+            try (FileChannel channel = FramedLog.openAppend(file, MAGIC, VERSION, MAX_FRAME)) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                FramedLog.writeFrame(new DataOutputStream(bytes), "four".getBytes(StandardCharsets.UTF_8), new CRC32());
+                FramedLog.writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+            }
+
+            assertThat(readFrames(file, FramedLog.Stop.END)).containsExactly("one", "two", "four");
+        }
+
+        @Test
+        @DisplayName("should refuse to append to a file of another format")
+        void shouldRefuseForeignAppend() throws IOException {
+            Path file = writeLog("one");
+
+            assertThatThrownBy(() -> FramedLog.openAppend(file, MAGIC, VERSION + 1, MAX_FRAME))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("buffer frames")
+    class BufferFrames {
+
+        @Test
+        @DisplayName("should build frames in place that stream readers accept")
+        void shouldMatchStreamFormat() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            CRC32 crc = new CRC32();
+            for (String payload : new String[] {"one", "two"}) {
+                int start = FramedLog.beginFrame(buffer);
+                buffer.put(payload.getBytes(StandardCharsets.UTF_8));
+                assertThat(FramedLog.endFrame(buffer, start, crc)).isEqualTo(3);
+            }
+            Path file = dir.resolve("test.log");
+            try (FileChannel channel = FramedLog.create(file, MAGIC, VERSION)) {
+                FramedLog.writeFully(channel, buffer.flip());
+            }
+
+            assertThat(readFrames(file, FramedLog.Stop.END)).containsExactly("one", "two");
+        }
+
+        @Test
+        @DisplayName("should read frames from a buffer and leave it at a damaged one")
+        void shouldReadFromBuffer() throws IOException {
+            Path file = writeLog("one", "two", "three");
+            truncate(file, 1);
+            ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(file));
+            log.position(FramedLog.FILE_HEADER_BYTES);
+            CRC32 crc = new CRC32();
+
+            List<String> frames = new ArrayList<>();
+            ByteBuffer payload;
+            while ((payload = FramedLog.nextFrame(log, MAX_FRAME, crc)) != null) {
+                frames.add(StandardCharsets.UTF_8.decode(payload).toString());
+            }
+
+            assertThat(frames).containsExactly("one", "two");
+            assertThat(log.remaining()).isEqualTo(8 + 5 - 1);
+        }
+
+        @Test
+        @DisplayName("should leave no remaining bytes after a clean end")
+        void shouldEndCleanly() throws IOException {
+            ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(writeLog("one")));
+            log.position(FramedLog.FILE_HEADER_BYTES);
+            CRC32 crc = new CRC32();
+
+            assertThat(FramedLog.nextFrame(log, MAX_FRAME, crc)).isNotNull();
+            assertThat(FramedLog.nextFrame(log, MAX_FRAME, crc)).isNull();
+            assertThat(log.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("replace() should move a temp file over the target")
+    void shouldReplace() throws IOException {
+        Path target = writeLog("old");
+        Path temp = writeLog(dir.resolve("test.log.tmp"), "new");
+
+        FramedLog.replace(temp, target);
+
+        assertThat(temp).doesNotExist();
+        assertThat(readFrames(target, FramedLog.Stop.END)).containsExactly("new");
+    }
+}
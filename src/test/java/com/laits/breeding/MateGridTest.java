@@ -0,0 +1,91 @@
+package com.laits.breeding;
+
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.util.MateGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for MateGrid spatial mate matching.
+ */
+class MateGridTest {
+
+    private static final double BREEDING_DISTANCE = 5.0;
+
+    @Nested
+    @DisplayName("pairAll()")
+    class PairAll {
+
+        @Test
+        @DisplayName("should pair every eligible couple, not just the first two")
+        void shouldPairAllCouples() {
+            MateGrid<String> grid = new MateGrid<>(BREEDING_DISTANCE);
+            grid.add(AnimalType.COW, "cow1", 0, 64, 0);
+            grid.add(AnimalType.COW, "cow2", 1, 64, 0);
+            grid.add(AnimalType.COW, "cow3", 100, 64, 100);
+            grid.add(AnimalType.COW, "cow4", 102, 64, 100);
+
+            List<MateGrid.Pair<String>> pairs = grid.pairAll(BREEDING_DISTANCE);
+
+            assertThat(pairs).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("should not pair different species")
+        void shouldNotPairDifferentSpecies() {
+            MateGrid<String> grid = new MateGrid<>(BREEDING_DISTANCE);
+            grid.add(AnimalType.COW, "cow", 0, 64, 0);
+            grid.add(AnimalType.PIG, "pig", 1, 64, 0);
+            grid.add("Wolf", "wolf", 1, 64, 1);
+
+            assertThat(grid.pairAll(BREEDING_DISTANCE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not pair animals farther apart than the breeding distance")
+        void shouldNotPairDistantAnimals() {
+            MateGrid<String> grid = new MateGrid<>(BREEDING_DISTANCE);
+            grid.add(AnimalType.COW, "cow1", 0, 64, 0);
+            grid.add(AnimalType.COW, "cow2", 5.1, 64, 0);
+
+            assertThat(grid.pairAll(BREEDING_DISTANCE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should pair across cell boundaries and negative coordinates")
+        void shouldPairAcrossCells() {
+            MateGrid<String> grid = new MateGrid<>(BREEDING_DISTANCE);
+            grid.add(AnimalType.SHEEP, "sheep1", -0.5, 64, -0.5);
+            grid.add(AnimalType.SHEEP, "sheep2", 0.5, 64, 0.5);
+
+            List<MateGrid.Pair<String>> pairs = grid.pairAll(BREEDING_DISTANCE);
+
+            assertThat(pairs).hasSize(1);
+            assertThat(pairs.get(0).midX()).isEqualTo(0.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("findWithin()")
+    class FindWithin {
+
+        @Test
+        @DisplayName("should return matching candidates nearest first")
+        void shouldReturnNearestFirst() {
+            MateGrid<String> grid = new MateGrid<>(BREEDING_DISTANCE);
+            grid.add(AnimalType.COW, "far", 4, 64, 0);
+            grid.add(AnimalType.COW, "near", 1, 64, 0);
+            grid.add(AnimalType.COW, "self", 0, 64, 0);
+
+            List<MateGrid.Entry<String>> found = grid.findWithin(AnimalType.COW, 0, 64, 0,
+                    BREEDING_DISTANCE, name -> !name.equals("self"));
+
+            assertThat(found).extracting(MateGrid.Entry::animal).containsExactly("near", "far");
+        }
+    }
+}
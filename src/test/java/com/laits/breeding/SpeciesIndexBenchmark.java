@@ -0,0 +1,160 @@
+package com.laits.breeding;
+
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.CustomAnimalConfig;
+import com.laits.breeding.models.SpeciesDescriptor;
+import com.laits.breeding.models.SpeciesIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Per-entity species classification: the SpeciesIndex lookup against the linear
+ * equalsIgnoreCase scans it replaced (fromModelAssetId + isBabyVariant, then the
+ * custom animal map), over a 100k-entity world.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkSpeciesIndex}.
+ * The entity mix is mostly built-in adults, some babies and custom animals, a few
+ * unknown models, with varied case as model IDs arrive from assets and commands.
+ */
+public final class SpeciesIndexBenchmark {
+
+    private static final int ENTITIES = 100_000;
+    private static final int[] CUSTOM_COUNTS = {10, 100, 1_000};
+    private static final int ROUNDS = 20;
+
+    private static final AnimalType[] TYPES = AnimalType.values();
+
+    public static void main(String[] args) {
+        System.out.printf("%-8s %12s %12s %10s %12s%n",
+                "customs", "scan ns/ent", "index ns/ent", "speedup", "build us");
+        for (int customCount : CUSTOM_COUNTS) {
+            List<CustomAnimalConfig> customs = customs(customCount);
+            Map<String, CustomAnimalConfig> customMap = new HashMap<>();
+            for (CustomAnimalConfig custom : customs) {
+                customMap.put(custom.getModelAssetId(), custom);
+            }
+            SpeciesIndex index = SpeciesIndex.build(customs);
+            String[] world = world(customs);
+
+            // Warm up both paths
+            scan(world, customMap, 3);
+            lookup(world, index, 3);
+
+            double scanNanos = scan(world, customMap, ROUNDS);
+            double indexNanos = lookup(world, index, ROUNDS);
+            double buildMicros = build(customs);
+            System.out.printf("%-8d %12.1f %12.1f %9.1fx %12.1f%n",
+                    customCount, scanNanos, indexNanos, scanNanos / indexNanos, buildMicros);
+        }
+    }
+
+    private static double scan(String[] world, Map<String, CustomAnimalConfig> customMap, int rounds) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (String modelAssetId : world) {
+                AnimalType type = legacyFromModelAssetId(modelAssetId);
+                if (type != null) {
+                    sink += type.ordinal() + (legacyIsBabyVariant(modelAssetId) ? 1 : 0);
+                } else if (customMap.containsKey(modelAssetId)) {
+                    sink++;
+                }
+            }
+        }
+        double nanos = (System.nanoTime() - start) / ((double) rounds * world.length);
+        consume(sink);
+        return nanos;
+    }
+
+    private static double lookup(String[] world, SpeciesIndex index, int rounds) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            for (String modelAssetId : world) {
+                SpeciesDescriptor species = index.lookup(modelAssetId);
+                if (species != null) {
+                    sink += species.getSpeciesId() + (species.isBaby() ? 1 : 0);
+                }
+            }
+        }
+        double nanos = (System.nanoTime() - start) / ((double) rounds * world.length);
+        consume(sink);
+        return nanos;
+    }
+
+    private static double build(List<CustomAnimalConfig> customs) {
+        int builds = 200;
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < builds; i++) {
+            sink += SpeciesIndex.build(customs).getSpeciesCount();
+        }
+        double micros = (System.nanoTime() - start) / (builds * 1_000.0);
+        consume(sink);
+        return micros;
+    }
+
+    // The scans SpeciesIndex replaced, kept here as the baseline
+    private static AnimalType legacyFromModelAssetId(String modelAssetId) {
+        for (AnimalType type : TYPES) {
+            if (type.getModelAssetId().equalsIgnoreCase(modelAssetId)) {
+                return type;
+            }
+            if (type.getBabyModelAssetId() != null && type.getBabyModelAssetId().equalsIgnoreCase(modelAssetId)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static boolean legacyIsBabyVariant(String modelAssetId) {
+        for (AnimalType type : TYPES) {
+            if (type.getBabyModelAssetId() != null && type.getBabyModelAssetId().equalsIgnoreCase(modelAssetId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<CustomAnimalConfig> customs(int count) {
+        List<CustomAnimalConfig> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = "Modded_Creature_" + i;
+            result.add(new CustomAnimalConfig(id, id, List.of("Plant_Crop_Wheat_Item"), 30, 5,
+                    i % 4 == 0 ? id + "_Baby" : null, id, false, true));
+        }
+        return result;
+    }
+
+    private static String[] world(List<CustomAnimalConfig> customs) {
+        Random random = new Random(ENTITIES);
+        String[] world = new String[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            int roll = random.nextInt(100);
+            AnimalType type = TYPES[random.nextInt(TYPES.length)];
+            String id;
+            if (roll < 70) {
+                id = type.getModelAssetId();
+            } else if (roll < 80 && type.getBabyModelAssetId() != null) {
+                id = type.getBabyModelAssetId();
+            } else if (roll < 95) {
+                id = customs.get(random.nextInt(customs.size())).getModelAssetId();
+            } else {
+                id = "Unknown_Model_" + random.nextInt(50);
+            }
+            world[i] = random.nextInt(4) == 0 ? id.toLowerCase(Locale.ROOT) : id;
+        }
+        return world;
+    }
+
+    private static void consume(long sink) {
+        if (sink == 42) {
+            System.out.print("");  // Keep results live
+        }
+    }
+}
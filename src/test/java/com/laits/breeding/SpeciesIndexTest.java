@@ -0,0 +1,97 @@
+package com.laits.breeding;
+
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.CustomAnimalConfig;
+import com.laits.breeding.models.SpeciesDescriptor;
+import com.laits.breeding.models.SpeciesIndex;
+import com.laits.breeding.util.ConfigManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the case-insensitive species index.
+ */
+class SpeciesIndexTest {
+
+    private static CustomAnimalConfig custom(String modelAssetId, String babyNpcRoleId) {
+        return new CustomAnimalConfig(modelAssetId, modelAssetId, List.of("Food"), 30, 5,
+                babyNpcRoleId, modelAssetId, false, true);
+    }
+
+    @Nested
+    @DisplayName("lookup()")
+    class Lookup {
+
+        @Test
+        @DisplayName("should resolve built-in adult and baby models ignoring case")
+        void shouldResolveBuiltIns() {
+            SpeciesIndex index = SpeciesIndex.builtIn();
+
+            SpeciesDescriptor cow = index.lookup("cOw");
+            SpeciesDescriptor calf = index.lookup("CALF");
+
+            assertThat(cow.getAnimalType()).isEqualTo(AnimalType.COW);
+            assertThat(cow.isBaby()).isFalse();
+            assertThat(calf.getAnimalType()).isEqualTo(AnimalType.COW);
+            assertThat(calf.isBaby()).isTrue();
+            assertThat(calf.getSpeciesId()).isEqualTo(cow.getSpeciesId());
+        }
+
+        @Test
+        @DisplayName("should return null for unknown or null IDs")
+        void shouldReturnNullForUnknown() {
+            assertThat(SpeciesIndex.builtIn().lookup("Unicorn")).isNull();
+            assertThat(SpeciesIndex.builtIn().lookup(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("should give custom animals and their babies the same species ID")
+        void shouldIndexCustomAnimals() {
+            SpeciesIndex index = SpeciesIndex.build(List.of(custom("Wyvern", "Wyvern_Hatchling")));
+
+            SpeciesDescriptor adult = index.lookup("wyvern");
+            SpeciesDescriptor baby = index.lookup("wyvern_hatchling");
+
+            assertThat(adult.getCustomConfig().getModelAssetId()).isEqualTo("Wyvern");
+            assertThat(adult.getSpeciesId()).isGreaterThanOrEqualTo(AnimalType.values().length);
+            assertThat(baby.isBaby()).isTrue();
+            assertThat(baby.getSpeciesId()).isEqualTo(adult.getSpeciesId());
+            assertThat(index.getBySpeciesId(adult.getSpeciesId())).isSameAs(adult);
+        }
+
+        @Test
+        @DisplayName("should let built-in models win over custom animals with the same ID")
+        void shouldPreferBuiltIns() {
+            SpeciesIndex index = SpeciesIndex.build(List.of(custom("cow", null)));
+
+            assertThat(index.lookup("Cow").getAnimalType()).isEqualTo(AnimalType.COW);
+            assertThat(index.lookup("Cow").isCustom()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("ConfigManager integration")
+    class ConfigIntegration {
+
+        @Test
+        @DisplayName("should publish a new index when custom animals change")
+        void shouldRebuildOnChange() {
+            ConfigManager config = new ConfigManager();
+            SpeciesIndex before = config.getSpeciesIndex();
+
+            config.addCustomAnimal("Wyvern", List.of("Food"));
+
+            assertThat(config.getSpeciesIndex()).isNotSameAs(before);
+            assertThat(config.isCustomAnimal("WYVERN")).isTrue();
+
+            config.removeCustomAnimal("Wyvern");
+
+            assertThat(config.isCustomAnimal("Wyvern")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.laits.breeding;
+
+import com.laits.breeding.managers.TamingJournal;
+import com.laits.breeding.managers.TamingManager;
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.TamedAnimalData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Restart recovery time for journaled tamed animals.
+ *
+ * Not a unit test; run with {@code ./gradlew benchmarkTamingJournal}.
+ * Writes 100k tamed animals followed by a tail of position updates (compacting into a
+ * snapshot whenever the journal passes the default threshold), then times a cold
+ * TamingManager.openJournal().
+ */
+public final class TamingJournalBenchmark {
+
+    private static final int ANIMALS = 100_000;
+    private static final int TAIL_MUTATIONS = 50_000;
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("taming-journal-bench");
+        try {
+            write(dir);
+            for (int run = 1; run <= 3; run++) {
+                TamingManager manager = new TamingManager();
+                long start = System.nanoTime();
+                int restored = manager.openJournal(dir);
+                long elapsed = System.nanoTime() - start;
+                manager.closeJournal(10_000);
+                System.out.printf("run %d: restored %d tamed animals in %.1f ms%n", run, restored, elapsed / 1e6);
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void write(Path dir) {
+        Random random = new Random(1);
+        UUID[] owners = new UUID[500];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = UUID.randomUUID();
+        }
+
+        Map<UUID, TamedAnimalData> live = new ConcurrentHashMap<>();
+        TamingJournal journal = new TamingJournal(dir);
+        long start = System.nanoTime();
+        try {
+            journal.start(() -> live);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        UUID[] ids = new UUID[ANIMALS];
+        for (int i = 0; i < ANIMALS; i++) {
+            ids[i] = UUID.randomUUID();
+            TamedAnimalData data = new TamedAnimalData(ids[i], owners[random.nextInt(owners.length)],
+                    "Pet" + i, AnimalType.values()[random.nextInt(AnimalType.values().length)]);
+            data.setLastPosition(random.nextDouble() * 1000, 64, random.nextDouble() * 1000);
+            live.put(ids[i], data);
+            journal.record(TamingJournal.Op.TAME, ids[i], data);
+        }
+        for (int i = 0; i < TAIL_MUTATIONS; i++) {
+            TamedAnimalData data = live.get(ids[random.nextInt(ANIMALS)]);
+            data.setLastPosition(random.nextDouble() * 1000, 64, random.nextDouble() * 1000);
+            journal.record(TamingJournal.Op.POSITION, data.getAnimalUuid(), data);
+        }
+        journal.close(60_000);
+        System.out.printf("wrote %d animals + %d mutations in %d batches, %d compactions (%.1f ms)%n",
+                ANIMALS, TAIL_MUTATIONS, journal.getBatchesWritten(), journal.getCompactions(),
+                (System.nanoTime() - start) / 1e6);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
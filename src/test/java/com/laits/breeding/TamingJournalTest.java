@@ -0,0 +1,231 @@
+package com.laits.breeding;
+
+import com.laits.breeding.managers.TamingJournal;
+import com.laits.breeding.managers.TamingManager;
+import com.laits.breeding.models.AnimalType;
+import com.laits.breeding.models.TamedAnimalData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for journaled tamed-animal persistence and its replay through TamingManager.
+ */
+class TamingJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private UUID owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = UUID.randomUUID();
+    }
+
+    private TamingManager reopen() throws Exception {
+        TamingManager manager = new TamingManager();
+        manager.openJournal(dir);
+        return manager;
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+
+        @Test
+        @DisplayName("should restore tame, rename, untame, despawn and respawn")
+        void shouldRestoreMutations() throws Exception {
+            TamingManager manager = reopen();
+            UUID bessie = UUID.randomUUID();
+            UUID released = UUID.randomUUID();
+            UUID wanderer = UUID.randomUUID();
+            UUID respawned = UUID.randomUUID();
+            UUID respawnedAs = UUID.randomUUID();
+            manager.tameAnimal(bessie, owner, "Cow", AnimalType.COW, "default");
+            manager.tameAnimal(released, owner, "Released", AnimalType.PIG, "default");
+            manager.tameAnimal(wanderer, owner, "Wanderer", AnimalType.COW, "default");
+            manager.tameAnimal(respawned, owner, "Phoenix", AnimalType.PIG, "default");
+
+            manager.renameAnimal(bessie, owner, "Bessie");
+            manager.untameAnimal(released, owner);
+            manager.onTamedAnimalDespawn(wanderer, "nether", 10, 64, -5);
+            manager.markRespawned(respawned, respawnedAs, null);
+            manager.closeJournal(5000);
+
+            TamingManager restored = reopen();
+
+            assertThat(restored.getTamedCount()).isEqualTo(3);
+            assertThat(restored.getTamedData(bessie).getCustomName()).isEqualTo("Bessie");
+            assertThat(restored.isTamed(released)).isFalse();
+            assertThat(restored.isTamed(respawned)).isFalse();
+            assertThat(restored.getTamedData(respawnedAs).getAnimalType()).isEqualTo(AnimalType.PIG);
+            assertThat(restored.getWorldsWithDespawned()).containsExactly("nether");
+            assertThat(restored.getDespawnedAnimalsInRegion("nether", 10, -5, 1))
+                    .extracting(TamedAnimalData::getAnimalUuid)
+                    .containsExactly(wanderer);
+            restored.closeJournal(5000);
+        }
+
+        @Test
+        @DisplayName("should ignore a torn record at the end of the journal")
+        void shouldIgnoreTornTail() throws Exception {
+            TamingManager manager = reopen();
+            UUID first = UUID.randomUUID();
+            manager.tameAnimal(first, owner, "First", AnimalType.COW);
+            manager.closeJournal(5000);
+            manager = reopen();
+            manager.tameAnimal(UUID.randomUUID(), owner, "Second", AnimalType.COW);
+            manager.closeJournal(5000);
+
+            Path journal = dir.resolve("tamed.journal");
+            byte[] bytes = Files.readAllBytes(journal);
+            Files.write(journal, Arrays.copyOf(bytes, bytes.length - 3));
+
+            TamingManager restored = reopen();
+            assertThat(restored.getTamedCount()).isEqualTo(1);
+            assertThat(restored.isTamed(first)).isTrue();
+
+            // New records follow the last intact one
+            UUID third = UUID.randomUUID();
+            restored.tameAnimal(third, owner, "Third", AnimalType.PIG);
+            restored.closeJournal(5000);
+            assertThat(reopen().isTamed(third)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("compaction")
+    class Compaction {
+
+        @Test
+        @DisplayName("should snapshot live state once the journal passes the threshold")
+        void shouldCompact() throws Exception {
+            Map<UUID, TamedAnimalData> live = new ConcurrentHashMap<>();
+            TamingJournal journal = new TamingJournal(dir, 0, 1024);
+            journal.start(() -> live);
+            for (int i = 0; i < 200; i++) {
+                UUID id = UUID.randomUUID();
+                TamedAnimalData data = new TamedAnimalData(id, owner, "Pet" + i, AnimalType.COW);
+                live.put(id, data);
+                journal.record(TamingJournal.Op.TAME, id, data);
+            }
+            assertThat(journal.close(5000)).isTrue();
+
+            assertThat(journal.getCompactions()).isPositive();
+            assertThat(Files.exists(dir.resolve("tamed.snapshot"))).isTrue();
+            assertThat(new TamingJournal(dir).load()).containsOnlyKeys(live.keySet());
+        }
+
+        @Test
+        @DisplayName("should not replay a journal left behind by a crash during compaction")
+        void shouldSkipStaleJournal() throws Exception {
+            TamingManager manager = reopen();
+            UUID released = UUID.randomUUID();
+            manager.tameAnimal(released, owner, "Released", AnimalType.COW);
+            manager.closeJournal(5000);
+            byte[] staleJournal = Files.readAllBytes(dir.resolve("tamed.journal"));
+
+            Map<UUID, TamedAnimalData> live = new ConcurrentHashMap<>(new TamingJournal(dir).load());
+            live.remove(released);
+            TamingJournal journal = new TamingJournal(dir, 0, 1024);
+            journal.start(() -> live);
+            journal.record(TamingJournal.Op.UNTAME, released, null);
+            for (int i = 0; i < 50; i++) {
+                UUID id = UUID.randomUUID();
+                TamedAnimalData data = new TamedAnimalData(id, owner, "Pet" + i, AnimalType.PIG);
+                live.put(id, data);
+                journal.record(TamingJournal.Op.TAME, id, data);
+            }
+            assertThat(journal.close(5000)).isTrue();
+            assertThat(journal.getCompactions()).isPositive();
+
+            // The snapshot was replaced but the crash came before the journal was truncated
+            Files.write(dir.resolve("tamed.journal"), staleJournal);
+
+            assertThat(new TamingJournal(dir).load()).containsOnlyKeys(live.keySet());
+
+            // New records are not appended to the stale journal, where they would be skipped
+            TamingManager restored = reopen();
+            assertThat(restored.isTamed(released)).isFalse();
+            UUID late = UUID.randomUUID();
+            restored.tameAnimal(late, owner, "Late", AnimalType.COW);
+            restored.closeJournal(5000);
+            assertThat(reopen().isTamed(late)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("writer")
+    class Writer {
+
+        @Test
+        @DisplayName("should write the state as it was when recorded")
+        void shouldWriteRecordedState() throws Exception {
+            TamingJournal journal = new TamingJournal(dir, 200, TamingJournal.DEFAULT_COMPACT_BYTES);
+            journal.start(Map::of);
+            UUID id = UUID.randomUUID();
+            TamedAnimalData data = new TamedAnimalData(id, owner, "Bessie", AnimalType.COW);
+
+            journal.record(TamingJournal.Op.TAME, id, data);
+            data.setCustomName("Changed without a record");
+            journal.close(5000);
+
+            assertThat(new TamingJournal(dir).load().get(id).getCustomName()).isEqualTo("Bessie");
+        }
+
+        @Test
+        @DisplayName("should snapshot live state when the queue overflows")
+        void shouldSnapshotOnOverflow() throws Exception {
+            Map<UUID, TamedAnimalData> live = new ConcurrentHashMap<>();
+            TamingJournal journal = new TamingJournal(dir, 200, TamingJournal.DEFAULT_COMPACT_BYTES, 1);
+            journal.start(() -> Map.copyOf(live));
+            for (int i = 0; i < 50; i++) {
+                UUID id = UUID.randomUUID();
+                TamedAnimalData data = new TamedAnimalData(id, owner, "Pet" + i, AnimalType.COW);
+                live.put(id, data);
+                journal.record(TamingJournal.Op.TAME, id, data);
+            }
+            assertThat(journal.close(5000)).isTrue();
+
+            assertThat(journal.getDroppedMutations()).isPositive();
+            assertThat(journal.getCompactions()).isPositive();
+            assertThat(new TamingJournal(dir).load()).containsOnlyKeys(live.keySet());
+        }
+
+        @Test
+        @DisplayName("should stop accepting mutations after a failed write")
+        void shouldStopAfterFailure() throws Exception {
+            TamingJournal journal = new TamingJournal(dir, 0, 1024);
+            journal.start(() -> {
+                throw new IllegalStateException("disk gone");
+            });
+            for (int i = 0; i < 50 && !journal.isFailed(); i++) {
+                UUID id = UUID.randomUUID();
+                journal.record(TamingJournal.Op.TAME, id, new TamedAnimalData(id, owner, "Pet" + i, AnimalType.COW));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!journal.isFailed() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(journal.isFailed()).isTrue();
+
+            UUID late = UUID.randomUUID();
+            journal.record(TamingJournal.Op.TAME, late, new TamedAnimalData(late, owner, "Late", AnimalType.COW));
+
+            assertThat(journal.getPendingCount()).isZero();
+            assertThat(journal.close(5000)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.laits.breeding;
+
+import com.laits.breeding.util.WorldTaskBatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for WorldTaskBatcher batching, ordering, budgets and flushing.
+ */
+class WorldTaskBatcherTest {
+
+    /** Batches handed to the dispatcher, run by the test instead of a world thread. */
+    private List<String> dispatchedWorlds;
+    private List<Runnable> dispatchedBatches;
+    private List<String> ran;
+    private double budgetMs;
+    private WorldTaskBatcher<String> batcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatchedWorlds = new ArrayList<>();
+        dispatchedBatches = new ArrayList<>();
+        ran = new ArrayList<>();
+        budgetMs = 0;
+        batcher = new WorldTaskBatcher<>((world, batch) -> {
+            dispatchedWorlds.add(world);
+            dispatchedBatches.add(batch);
+        }, () -> budgetMs);
+    }
+
+    private Runnable record(String name) {
+        return () -> ran.add(name);
+    }
+
+    private void runDispatched() {
+        List<Runnable> batches = new ArrayList<>(dispatchedBatches);
+        dispatchedBatches.clear();
+        batches.forEach(Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class Flush {
+
+        @Test
+        @DisplayName("should dispatch one batch per world with queued work")
+        void shouldDispatchOneBatchPerWorld() {
+            batcher.submit("overworld", record("a"));
+            batcher.submit("overworld", record("b"));
+            batcher.submit("nether", record("c"));
+
+            batcher.flush();
+
+            assertThat(dispatchedWorlds).containsExactlyInAnyOrder("overworld", "nether");
+            assertThat(batcher.getDispatchedBatches()).isEqualTo(2);
+            assertThat(ran).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not dispatch worlds with nothing queued")
+        void shouldSkipEmptyWorlds() {
+            batcher.flush();
+            batcher.submit("overworld", record("a"));
+            batcher.flush();
+            runDispatched();
+            batcher.flush();
+
+            assertThat(dispatchedWorlds).containsExactly("overworld");
+        }
+
+        @Test
+        @DisplayName("should not dispatch a world again while its batch is in flight")
+        void shouldNotDoubleDispatch() {
+            batcher.submit("overworld", record("a"));
+            batcher.flush();
+            batcher.submit("overworld", record("b"));
+            batcher.flush();
+
+            assertThat(dispatchedWorlds).containsExactly("overworld");
+
+            runDispatched();
+
+            assertThat(ran).containsExactly("a", "b");
+            assertThat(batcher.getPendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should allow a new dispatch after a failed one")
+        void shouldRecoverFromDispatchFailure() {
+            List<String> errors = new ArrayList<>();
+            WorldTaskBatcher<String> failing = new WorldTaskBatcher<>((world, batch) -> {
+                throw new IllegalStateException("world unloaded");
+            }, () -> 0);
+            failing.setErrorLogger(errors::add);
+
+            failing.submit("overworld", record("a"));
+            failing.flush();
+            failing.flush();
+
+            assertThat(errors).hasSize(2);
+            assertThat(failing.getPendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should dispatch again when the world drops a batch without running it")
+        void shouldRedispatchDroppedBatch() {
+            batcher.submit("overworld", record("a"));
+            batcher.flush();
+            dispatchedBatches.clear();  // The world silently drops it
+
+            for (int i = 1; i < WorldTaskBatcher.REDISPATCH_AFTER_FLUSHES; i++) {
+                batcher.flush();
+            }
+            assertThat(dispatchedWorlds).hasSize(1);
+
+            batcher.flush();
+            assertThat(dispatchedWorlds).hasSize(2);
+            runDispatched();
+            assertThat(ran).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("should not dispatch again while a batch is running")
+        void shouldNotRedispatchRunningBatch() {
+            batcher.submit("overworld", () -> {
+                for (int i = 0; i < WorldTaskBatcher.REDISPATCH_AFTER_FLUSHES + 5; i++) {
+                    batcher.submit("overworld", record("nested"));
+                    batcher.flush();
+                }
+            });
+            batcher.flush();
+
+            runDispatched();
+
+            assertThat(dispatchedWorlds).hasSize(1);
+            assertThat(ran).hasSize(WorldTaskBatcher.REDISPATCH_AFTER_FLUSHES + 5);
+        }
+    }
+
+    @Nested
+    @DisplayName("batch execution")
+    class Execution {
+
+        @Test
+        @DisplayName("should run tasks in submission order")
+        void shouldRunInOrder() {
+            for (int i = 0; i < 5; i++) {
+                batcher.submit("overworld", record("t" + i));
+            }
+
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("t0", "t1", "t2", "t3", "t4");
+            assertThat(batcher.getExecutedTasks()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("should run tasks submitted by a running task in the same batch")
+        void shouldJoinNestedSubmissions() {
+            batcher.submit("overworld", () -> {
+                ran.add("respawn check");
+                batcher.submit("overworld", record("respawn"));
+            });
+
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("respawn check", "respawn");
+            assertThat(dispatchedWorlds).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should keep running after a task throws")
+        void shouldIsolateTaskFailures() {
+            List<String> errors = new ArrayList<>();
+            batcher.setErrorLogger(errors::add);
+            batcher.submit("overworld", () -> {
+                throw new IllegalStateException("entity gone");
+            });
+            batcher.submit("overworld", record("after"));
+
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("after");
+            assertThat(errors).hasSize(1);
+            assertThat(errors.get(0)).contains("entity gone");
+        }
+
+        @Test
+        @DisplayName("should carry work past the budget over to the next flush")
+        void shouldCarryOverPastBudget() {
+            budgetMs = 0.001;
+            batcher.submit("overworld", () -> {
+                ran.add("slow");
+                long until = System.nanoTime() + 2_000_000;
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            });
+            batcher.submit("overworld", record("next"));
+
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("slow");
+            assertThat(batcher.getPendingCount()).isEqualTo(1);
+            assertThat(batcher.getCarriedOverTasks()).isEqualTo(1);
+
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("slow", "next");
+        }
+    }
+
+    @Nested
+    @DisplayName("removeWorld() and clear()")
+    class Removal {
+
+        @Test
+        @DisplayName("should drop only the removed world's work")
+        void shouldDropRemovedWorld() {
+            batcher.submit("overworld", record("a"));
+            batcher.submit("nether", record("b"));
+
+            batcher.removeWorld("nether");
+            batcher.flush();
+            runDispatched();
+
+            assertThat(ran).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("should drop all queued work")
+        void shouldClear() {
+            batcher.submit("overworld", record("a"));
+            batcher.submit("nether", record("b"));
+
+            batcher.clear();
+            batcher.flush();
+
+            assertThat(batcher.getPendingCount()).isZero();
+            assertThat(dispatchedWorlds).isEmpty();
+        }
+    }
+}